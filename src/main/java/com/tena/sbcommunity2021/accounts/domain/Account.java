@@ -11,6 +11,8 @@ import java.time.LocalDateTime;
 @Builder @NoArgsConstructor @AllArgsConstructor
 public class Account {
 
+	public static final int DEFAULT_AUTH_LEVEL = 3; // 권한레벨 (3:일반, 7:관리자)
+
 	private Long id;
 
 	private String username;
@@ -2,6 +2,8 @@ package com.tena.sbcommunity2021.accounts.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.tena.sbcommunity2021.global.auth.PasswordHasher;
+import com.tena.sbcommunity2021.global.validation.MaxBytes;
 import lombok.*;
 import org.hibernate.validator.constraints.Length;
 
@@ -26,7 +28,8 @@ public class AccountDto {
 		private String username;
 
 		@NotBlank(message = "로그인 비밀번호를 입력해주세요.")
-		@Length(min = 8, max = 50, message = "비밀번호는 8자 이상이어야 합니다.") //TODO 비밀번호 해싱
+		@Length(min = 8, max = 50, message = "비밀번호는 8자 이상이어야 합니다.") // 저장할 때 해싱 (PasswordHasher)
+		@MaxBytes(value = PasswordHasher.MAX_PASSWORD_BYTES, message = "비밀번호가 너무 깁니다. (영문 72자, 한글 24자 이하)") // BCrypt 는 72바이트 이후를 무시
 		private String password;
 
 		@NotBlank(message = "별명을 입력해주세요.")
@@ -76,4 +79,43 @@ public class AccountDto {
 		private LocalDateTime delDate;
 	}
 
-}
\ No newline at end of file
+	/**
+	 * 회원 가입 시 중복 확인 결과 (아이디, 이메일을 한 번에 조회)
+	 */
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@ToString
+	@Builder
+	public static class Duplication {
+
+		private boolean username; // 이미 사용 중인 아이디
+
+		private boolean email; // 이미 사용 중인 이메일
+
+	}
+
+	/**
+	 * 로그인 시 발급한 인증 토큰 (토큰 모드)
+	 */
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@ToString
+	@Builder
+	public static class Token {
+
+		private String accessToken;
+
+		private String tokenType; // Authorization 헤더의 인증 방식 (Bearer)
+
+		private long expiresIn; // 유효 기간 (초)
+
+		public static Token bearer(String accessToken, long expiresIn) {
+			return new Token(accessToken, "Bearer", expiresIn);
+		}
+
+	}
+
+}
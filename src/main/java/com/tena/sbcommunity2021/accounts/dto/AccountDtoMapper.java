@@ -0,0 +1,25 @@
+package com.tena.sbcommunity2021.accounts.dto;
+
+import com.tena.sbcommunity2021.accounts.domain.Account;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * 회원 DTO <-> 도메인 객체 맵핑 (구현 클래스는 MapStruct 가 컴파일 시점에 생성, 리플렉션 없이 getter/setter 직접 호출)
+ */
+@Mapper(componentModel = "spring")
+public interface AccountDtoMapper {
+
+	/**
+	 * 회원가입 요청 DTO -> 회원 (권한레벨, 등록일시 등은 서비스에서 설정)
+	 */
+	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "authLevel", ignore = true)
+	@Mapping(target = "delStatus", ignore = true)
+	@Mapping(target = "delDate", ignore = true)
+	@Mapping(target = "regDate", ignore = true)
+	Account toAccount(AccountDto.Save saveDto);
+
+	AccountDto.Response toResponse(Account account);
+
+}
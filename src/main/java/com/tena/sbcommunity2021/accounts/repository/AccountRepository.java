@@ -1,7 +1,9 @@
 package com.tena.sbcommunity2021.accounts.repository;
 
 import com.tena.sbcommunity2021.accounts.domain.Account;
+import com.tena.sbcommunity2021.accounts.dto.AccountDto;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.session.ResultHandler;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -10,6 +12,10 @@ import java.util.List;
 @Transactional(readOnly = true)
 public interface AccountRepository {
 
+	/**
+	 * 회원 저장 (생성된 회원 번호는 account 의 id 에 채워짐)
+	 * - 가입일시, 수정일시, 권한레벨을 미리 지정해야 함
+	 */
 	void save(Account account);
 
 	Account findById(Long id);
@@ -20,8 +26,21 @@ public interface AccountRepository {
 
 	boolean existsByEmail(String email);
 
+	/**
+	 * 아이디, 이메일 중복 여부를 한 번에 조회 (회원 가입 유효성 검사용)
+	 */
+	AccountDto.Duplication findDuplication(String username, String email);
+
 	List<Account> findAll();
 
+	void streamAll(ResultHandler<Account> resultHandler);
+
 	Account findByUsername(String username);
 
+	/**
+	 * 비밀번호 변경 (해싱된 값, 수정일시는 변경하지 않음)
+	 */
+	@Transactional
+	void updatePassword(Long id, String password);
+
 }
@@ -2,13 +2,16 @@ package com.tena.sbcommunity2021.accounts.service;
 
 import com.tena.sbcommunity2021.accounts.domain.Account;
 import com.tena.sbcommunity2021.accounts.dto.AccountDto;
+import com.tena.sbcommunity2021.accounts.dto.AccountDtoMapper;
 import com.tena.sbcommunity2021.accounts.repository.AccountRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.apache.ibatis.session.ResultHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Slf4j
@@ -18,25 +21,45 @@ import java.util.List;
 public class AccountService {
 
 	private final AccountRepository accountRepository;
-	private final ModelMapper modelMapper;
+	private final AccountDtoMapper accountDtoMapper;
 
+	/**
+	 * 회원 생성
+	 * - 비밀번호는 해싱된 값을 받음 (해싱 시간 동안 트랜잭션, 커넥션을 잡고 있지 않도록 호출하는 쪽에서 미리 해싱)
+	 */
 	@Transactional
-	public Account createAccount(AccountDto.Save saveDto) {
-		Account account = modelMapper.map(saveDto, Account.class); // DTO to Domain Object
+	public Account createAccount(AccountDto.Save saveDto, String passwordHash) {
+		Account account = accountDtoMapper.toAccount(saveDto); // DTO to Domain Object
+		account.setPassword(passwordHash);
 
-		accountRepository.save(account);
+		final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS); // DB 에 저장되는 값과 같도록 초 단위로 절삭
+		account.setRegDate(now);
+		account.setUpdateDate(now);
+		account.setAuthLevel(Account.DEFAULT_AUTH_LEVEL);
 
-		Account savedAccount = accountRepository.findById(account.getId());
+		accountRepository.save(account); // 회원 번호는 INSERT 결과로 채워지므로 다시 조회하지 않음
 
-		return savedAccount;
+		return account;
 	}
 
 	public List<Account> getAccounts() {
 		return accountRepository.findAll();
 	}
 
+	public void streamAccounts(ResultHandler<Account> resultHandler) {
+		accountRepository.streamAll(resultHandler);
+	}
+
 	public Account getAccountByUsername(String username) {
 		return accountRepository.findByUsername(username);
 	}
 
+	/**
+	 * 비밀번호 변경 (해싱된 값)
+	 */
+	@Transactional
+	public void updatePassword(Long id, String passwordHash) {
+		accountRepository.updatePassword(id, passwordHash);
+	}
+
 }
@@ -22,11 +22,14 @@ public class AccountDtoValidator implements Validator {
 	public void validate(Object target, Errors errors) {
 		AccountDto.Save saveDto = (AccountDto.Save) target;
 
-		if (accountRepository.existsByUsername(saveDto.getUsername())) {
+		// 아이디, 이메일 중복 여부는 한 번의 조회로 확인
+		AccountDto.Duplication duplication = accountRepository.findDuplication(saveDto.getUsername(), saveDto.getEmail());
+
+		if (duplication.isUsername()) {
 			errors.rejectValue("username", "duplicate.username", new Object[]{saveDto.getUsername()}, "이미 사용 중인 아이디입니다.");
 		}
 
-		if (accountRepository.existsByEmail(saveDto.getEmail())) {
+		if (duplication.isEmail()) {
 			errors.rejectValue("email", "duplicate.email", new Object[]{saveDto.getEmail()}, "이미 사용 중인 이메일입니다.");
 		}
 
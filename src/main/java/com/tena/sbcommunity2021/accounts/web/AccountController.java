@@ -1,19 +1,25 @@
 package com.tena.sbcommunity2021.accounts.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tena.sbcommunity2021.accounts.domain.Account;
 import com.tena.sbcommunity2021.accounts.dto.AccountDto;
+import com.tena.sbcommunity2021.accounts.dto.AccountDtoMapper;
 import com.tena.sbcommunity2021.accounts.service.AccountService;
 import com.tena.sbcommunity2021.accounts.validator.AccountDtoValidator;
+import com.tena.sbcommunity2021.global.auth.PasswordHasher;
 import com.tena.sbcommunity2021.global.commons.ResponseData;
+import com.tena.sbcommunity2021.global.commons.ResponseDataStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,8 +30,10 @@ import java.util.stream.Collectors;
 public class AccountController {
 
 	private final AccountService accountService;
-	private final ModelMapper modelMapper;
+	private final AccountDtoMapper accountDtoMapper;
 	private final AccountDtoValidator accountDtoValidator;
+	private final ObjectMapper objectMapper;
+	private final PasswordHasher passwordHasher;
 
 	@InitBinder("saveDto")
 	public void initBinder(WebDataBinder webDataBinder) {
@@ -36,9 +44,11 @@ public class AccountController {
 	@ResponseBody
 	@ResponseStatus(HttpStatus.CREATED)
 	public ResponseData<AccountDto.Response> createAccount(@Valid @ModelAttribute("saveDto") AccountDto.Save saveDto) {
-		Account createdAccount = accountService.createAccount(saveDto);
+		String passwordHash = passwordHasher.hash(saveDto.getPassword()); // 트랜잭션 밖에서 해싱
 
-		final AccountDto.Response response = modelMapper.map(createdAccount, AccountDto.Response.class); // Domain Object to DTO
+		Account createdAccount = accountService.createAccount(saveDto, passwordHash);
+
+		final AccountDto.Response response = accountDtoMapper.toResponse(createdAccount); // Domain Object to DTO
 
 		return ResponseData.of("S-1", "회원가입이 완료되었습니다.", response);
 	}
@@ -49,11 +59,24 @@ public class AccountController {
 		List<Account> accounts = accountService.getAccounts();
 
 		List<AccountDto.Response> body = accounts.stream()
-				.map(account -> modelMapper.map(account, AccountDto.Response.class))
+				.map(accountDtoMapper::toResponse)
 				.collect(Collectors.toList());
-		// List<AccountDto.Response> body = modelMapper.map(accounts, new TypeToken<List<AccountDto.Response>>() {}.getType());
 
 		return ResponseData.of("S-1", "회원 목록 입니다.", body);
 	}
 
+	/**
+	 * 전체 회원 목록을 스트리밍으로 응답 (회원 수와 무관하게 메모리 사용량이 일정)
+	 */
+	@GetMapping("/stream")
+	public void streamAccounts(HttpServletResponse response) throws IOException {
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding("UTF-8");
+
+		try (ResponseDataStream<AccountDto.Response> stream = ResponseDataStream.open(objectMapper, response.getOutputStream(), "S-1", "회원 목록 입니다.")) {
+			accountService.streamAccounts(context -> stream.write(accountDtoMapper.toResponse(context.getResultObject())));
+			stream.complete();
+		}
+	}
+
 }
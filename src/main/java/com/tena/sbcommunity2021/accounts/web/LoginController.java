@@ -4,8 +4,12 @@ import com.tena.sbcommunity2021.accounts.domain.Account;
 import com.tena.sbcommunity2021.accounts.dto.AccountDto;
 import com.tena.sbcommunity2021.accounts.dto.LoginForm;
 import com.tena.sbcommunity2021.accounts.service.AccountService;
+import com.tena.sbcommunity2021.global.auth.AuthTokenService;
+import com.tena.sbcommunity2021.global.auth.Authenticator;
+import com.tena.sbcommunity2021.global.auth.PasswordHasher;
 import com.tena.sbcommunity2021.global.commons.UserAccount;
 import com.tena.sbcommunity2021.global.commons.ResponseData;
+import com.tena.sbcommunity2021.global.errors.exception.CustomException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -13,7 +17,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 
-import javax.servlet.http.HttpSession;
+import javax.servlet.http.HttpServletRequest;
 
 @Slf4j
 @Controller
@@ -21,11 +25,19 @@ import javax.servlet.http.HttpSession;
 public class LoginController {
 
 	private final AccountService accountService;
-	private final UserAccount userAccount;
-
+	private final Authenticator authenticator;
+	private final AuthTokenService authTokenService;
+	private final PasswordHasher passwordHasher;
+
+	/**
+	 * 로그인
+	 * - 토큰 모드(app.auth.mode=token)는 응답 바디로 토큰을 발급 (이후 요청은 Authorization: Bearer {토큰} 헤더로 인증)
+	 * - 저장된 비밀번호가 평문이거나 해싱 비용(app.auth.password.cost)이 바뀐 경우, 입력한 비밀번호로 다시 해싱해서 저장
+	 *   (비밀번호 확인은 끝났으므로 다시 해싱하지 못해도 로그인은 성공, 다음 로그인 때 다시 시도)
+	 */
 	@RequestMapping("/login")
 	@ResponseBody
-	public ResponseData<AccountDto.Response> login(@Validated LoginForm loginForm) {
+	public ResponseData<AccountDto.Token> login(@Validated LoginForm loginForm, UserAccount userAccount, HttpServletRequest request) {
 
 		if (userAccount.isAuthenticated()) {
 			return ResponseData.of("F-3", "이미 로그인 중입니다.");
@@ -37,25 +49,38 @@ public class LoginController {
 			return ResponseData.of("F-1", "존재하지 않는 아이디입니다.");
 		}
 
-		if (!account.getPassword().equals(loginForm.getPassword())) {
+		if (!passwordHasher.matches(loginForm.getPassword(), account.getPassword())) {
 			return ResponseData.of("F-2", "입력한 아이디 또는 비밀번호가 올바르지 않습니다.");
 		}
 
-		userAccount.setAccount(account);
+		if (passwordHasher.needsRehash(account.getPassword())) {
+			rehashPassword(account, loginForm.getPassword());
+		}
+
+		String token = authenticator.login(request, account);
+
+		AccountDto.Token body = token == null ? null : AccountDto.Token.bearer(token, authTokenService.getTtl().getSeconds());
 
-		return ResponseData.of("S-1", String.format("%s님 환영합니다.", account.getNickname()));
+		return ResponseData.of("S-1", String.format("%s님 환영합니다.", account.getNickname()), body);
+	}
+
+	private void rehashPassword(Account account, String rawPassword) {
+		try {
+			accountService.updatePassword(account.getId(), passwordHasher.hash(rawPassword));
+		} catch (CustomException e) {
+			log.warn("비밀번호 재해싱 실패, 다음 로그인 때 다시 시도 (회원 번호 : {}, 원인 : {})", account.getId(), e.getErrorCode());
+		}
 	}
 
 	@RequestMapping("/logout")
 	@ResponseBody
-	public ResponseData<AccountDto.Response> logout(HttpSession httpSession) {
+	public ResponseData<AccountDto.Response> logout(UserAccount userAccount, HttpServletRequest request) {
 
 		if (!userAccount.isAuthenticated()) {
 			return ResponseData.of("S-1", "로그인 상태가 아닙니다.");
 		}
 
-		httpSession.invalidate();
-		//currentUser.setAccount(null);
+		authenticator.logout(request);
 
 		return ResponseData.of("S-2", "로그아웃 되었습니다.");
 	}
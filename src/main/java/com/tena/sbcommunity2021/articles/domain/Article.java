@@ -10,9 +10,12 @@ import java.time.LocalDateTime;
 @ToString
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 public class Article {
 
+	public static final int TITLE_MAX_LENGTH = 100; // 제목 최대 길이 (title CHAR(100))
+	public static final int CONTENT_MAX_BYTES = 65_535; // 본문 최대 크기 (content TEXT, UTF-8 바이트 수)
+
 	private Long id;
 
 	private String title;
@@ -25,6 +28,10 @@ public class Article {
 
 	private Long accountId;
 
+	private long hits; // 조회수 (DB 에 반영된 값, 아직 반영되지 않은 조회수는 ArticleHitCounter 에 누적)
+
+	private long version; // 수정할 때마다 1 증가 (낙관적 잠금)
+
 	public boolean isEditableBy(Long accountId) {
 		return this.accountId.equals(accountId);
 	}
@@ -1,11 +1,21 @@
 package com.tena.sbcommunity2021.articles.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tena.sbcommunity2021.articles.domain.Article;
+import com.tena.sbcommunity2021.global.commons.CursorPage;
+import com.tena.sbcommunity2021.global.errors.ErrorCode;
+import com.tena.sbcommunity2021.global.errors.ErrorResponse;
 import lombok.*;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import static org.springframework.format.annotation.DateTimeFormat.*;
 
@@ -20,6 +30,7 @@ public class ArticleDto {
 	public static class Save {
 
 		@NotBlank(message = "제목을 입력해주세요.")
+		@Size(max = Article.TITLE_MAX_LENGTH, message = "제목은 100자 이하로 입력해주세요.")
 		private String title;
 
 		@NotBlank(message = "내용을 입력해주세요.")
@@ -52,6 +63,297 @@ public class ArticleDto {
 
 		private Long accountId;
 
+		private Long hits;
+
+		private Long version;
+
+	}
+
+	/**
+	 * 게시물 목록용 요약 정보
+	 * - 본문(content) 전체 대신 앞부분 일부(excerpt)만 조회
+	 */
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@ToString
+	@Builder
+	public static class Summary {
+
+		public static final int EXCERPT_LENGTH = 200; // 본문 요약 최대 길이 (ArticleRepository.xml 의 조회 쿼리와 일치해야 함)
+
+		private Long id;
+
+		private String title;
+
+		private String excerpt;
+
+		@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+		private LocalDateTime regDate;
+
+		@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+		private LocalDateTime updateDate;
+
+		private Long accountId;
+
+		@JsonIgnore
+		private long version; // 목록 ETag 생성용 (응답에는 포함하지 않음)
+
+	}
+
+	/**
+	 * 게시물 검색 결과
+	 * - totalCount : 검색어와 관련된 전체 게시물 수
+	 * - articles : 요청한 페이지의 게시물 요약 정보 (관련도 순)
+	 */
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@ToString
+	@Builder
+	public static class SearchResult {
+
+		private String query;
+
+		private long totalCount;
+
+		private int page;
+
+		private int size;
+
+		private List<Summary> articles;
+
+	}
+
+	/**
+	 * 게시물 일괄 처리 결과
+	 * - results : 요청한 순서대로 항목별 처리 결과
+	 */
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@ToString
+	@Builder
+	public static class BulkResult {
+
+		private int requested;
+
+		private int succeeded;
+
+		private int failed;
+
+		private List<BulkItemResult> results;
+
+		public static BulkResult of(List<BulkItemResult> results) {
+			final int succeeded = (int) results.stream().filter(BulkItemResult::isSuccess).count();
+
+			return BulkResult.builder()
+					.requested(results.size())
+					.succeeded(succeeded)
+					.failed(results.size() - succeeded)
+					.results(results)
+					.build();
+		}
+
+	}
+
+	/**
+	 * 게시물 일괄 처리 항목별 결과
+	 * - index : 요청 목록에서의 위치 (0부터 시작)
+	 * - code, message, errors : 실패한 경우의 오류 정보
+	 */
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@ToString
+	@Builder
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	public static class BulkItemResult {
+
+		private int index;
+
+		private Long id;
+
+		private boolean success;
+
+		private String code;
+
+		private String message;
+
+		private List<ErrorResponse.FieldError> errors;
+
+		public static BulkItemResult success(int index, Long id) {
+			return BulkItemResult.builder().index(index).id(id).success(true).build();
+		}
+
+		public static BulkItemResult failure(int index, Long id, ErrorCode errorCode, List<ErrorResponse.FieldError> errors) {
+			return BulkItemResult.builder()
+					.index(index)
+					.id(id)
+					.success(false)
+					.code(errorCode.getCode())
+					.message(errorCode.getMessage())
+					.errors(errors)
+					.build();
+		}
+
+	}
+
+	/**
+	 * 게시물 변경 여부 확인용 정보 (조건부 요청 처리 : ETag, Last-Modified)
+	 * - 본문을 조회하지 않고 304 Not Modified 여부를 판단하기 위해 사용
+	 */
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@ToString
+	@Builder
+	public static class Meta {
+
+		private Long id;
+
+		private LocalDateTime updateDate;
+
+		private Long accountId;
+
+		private long version;
+
+		public static Meta of(Article article) {
+			return Meta.builder()
+					.id(article.getId())
+					.updateDate(article.getUpdateDate())
+					.accountId(article.getAccountId())
+					.version(article.getVersion())
+					.build();
+		}
+
+		public boolean isEditableBy(Long accountId) {
+			return this.accountId != null && this.accountId.equals(accountId);
+		}
+
+		/**
+		 * 강한 ETag : "{게시물 번호}-{버전}"
+		 * - 수정할 때마다 버전이 증가하므로, 같은 초에 여러 번 수정되어도 ETag 가 달라짐
+		 */
+		public String toETag() {
+			return String.format("\"%d-%d\"", id, version);
+		}
+
+		/**
+		 * 약한 ETag : W/"{게시물 번호}-{버전}" (게시물 조회 응답용)
+		 * - 조회 응답에는 조회할 때마다 바뀌는 조회수가 포함되므로, 본문 전체가 같다고 보장하지 않는 약한 ETag 사용
+		 */
+		public String toWeakETag() {
+			return "W/" + toETag();
+		}
+
+		/**
+		 * ETag("{게시물 번호}-{버전}")에서 버전 추출 (If-Match 처리용)
+		 * - 게시물 조회 응답의 약한 ETag 도 같은 버전을 가리키므로 허용
+		 * @return 형식이 다르거나 다른 게시물의 ETag 이면 null
+		 */
+		public static Long parseVersion(Long id, String eTag) {
+			final String prefix = "\"" + id + "-";
+
+			if (eTag != null && eTag.startsWith("W/")) {
+				eTag = eTag.substring(2);
+			}
+
+			if (eTag == null || !eTag.startsWith(prefix) || !eTag.endsWith("\"") || eTag.length() <= prefix.length() + 1) {
+				return null;
+			}
+
+			try {
+				return Long.valueOf(eTag.substring(prefix.length(), eTag.length() - 1));
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+
+		/**
+		 * Last-Modified 로 사용할 수정일시 (epoch milliseconds)
+		 * - DB 에는 초 단위로 저장되므로, 캐시된 게시물과 DB 조회 결과가 같은 값이 되도록 초 단위로 절삭
+		 */
+		public long toLastModified() {
+			return toEpochMilli(updateDate);
+		}
+
+	}
+
+	/**
+	 * 게시물 목록 페이지의 변경 여부 확인용 정보 (조건부 요청 처리 : ETag)
+	 * - 페이지에 포함된 게시물의 건수, 번호 범위, 최종 수정일시, 버전 합계, 다음 페이지 존재 여부를 조합해 생성
+	 * - 수정일시는 초 단위이므로 같은 초에 다시 수정된 경우는 버전 합계로 구분
+	 * - 조건부 요청은 findListMeta 로 조회하고, 조건부 요청이 아니면 조회한 페이지로 생성 (of) 해서 같은 값이 되어야 함
+	 */
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@ToString
+	@Builder
+	public static class ListMeta {
+
+		private long articleCount;
+
+		private Long maxId;
+
+		private Long minId;
+
+		private LocalDateTime lastUpdateDate;
+
+		private long versionSum;
+
+		private boolean hasNext;
+
+		/**
+		 * 조회한 페이지로 생성 (추가 조회 없음)
+		 */
+		public static ListMeta of(CursorPage<Summary> page) {
+			final ListMeta listMeta = new ListMeta();
+			listMeta.articleCount = page.getContent().size();
+			listMeta.hasNext = page.hasNext();
+
+			for (Summary summary : page.getContent()) {
+				listMeta.maxId = listMeta.maxId == null ? summary.getId() : Math.max(listMeta.maxId, summary.getId());
+				listMeta.minId = listMeta.minId == null ? summary.getId() : Math.min(listMeta.minId, summary.getId());
+
+				if (listMeta.lastUpdateDate == null || (summary.getUpdateDate() != null && summary.getUpdateDate().isAfter(listMeta.lastUpdateDate))) {
+					listMeta.lastUpdateDate = summary.getUpdateDate();
+				}
+
+				listMeta.versionSum += summary.getVersion();
+			}
+
+			return listMeta;
+		}
+
+		/**
+		 * 약한 ETag : W/"{건수}-{최대 번호}-{최소 번호}-{최종 수정일시}-{버전 합계}-{다음 페이지 존재 여부}"
+		 */
+		public String toETag() {
+			return String.format("W/\"%d-%d-%d-%d-%d-%d\"",
+					articleCount,
+					maxId == null ? 0 : maxId,
+					minId == null ? 0 : minId,
+					toEpochMilli(lastUpdateDate),
+					versionSum,
+					hasNext ? 1 : 0);
+		}
+
+	}
+
+	private static long toEpochMilli(LocalDateTime dateTime) {
+		if (dateTime == null) {
+			return 0;
+		}
+
+		return dateTime.truncatedTo(ChronoUnit.SECONDS).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
 	}
 
-}
\ No newline at end of file
+}
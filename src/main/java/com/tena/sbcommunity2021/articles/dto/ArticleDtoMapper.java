@@ -0,0 +1,36 @@
+package com.tena.sbcommunity2021.articles.dto;
+
+import com.tena.sbcommunity2021.articles.domain.Article;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+/**
+ * 게시물 DTO <-> 도메인 객체 맵핑 (구현 클래스는 MapStruct 가 컴파일 시점에 생성, 리플렉션 없이 getter/setter 직접 호출)
+ */
+@Mapper(componentModel = "spring")
+public interface ArticleDtoMapper {
+
+	/**
+	 * 작성/수정 요청 DTO -> 게시물 (제목, 내용, 수정일시만 맵핑)
+	 */
+	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "regDate", ignore = true)
+	@Mapping(target = "accountId", ignore = true)
+	@Mapping(target = "hits", ignore = true)
+	@Mapping(target = "version", ignore = true)
+	Article toArticle(ArticleDto.Save saveDto);
+
+	/**
+	 * 기존 게시물에 수정 요청 DTO 의 제목, 내용, 수정일시를 반영
+	 */
+	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "regDate", ignore = true)
+	@Mapping(target = "accountId", ignore = true)
+	@Mapping(target = "hits", ignore = true)
+	@Mapping(target = "version", ignore = true)
+	void updateArticle(ArticleDto.Save saveDto, @MappingTarget Article article);
+
+	ArticleDto.Response toResponse(Article article);
+
+}
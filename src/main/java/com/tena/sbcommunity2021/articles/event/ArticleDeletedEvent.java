@@ -0,0 +1,17 @@
+package com.tena.sbcommunity2021.articles.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 게시물 삭제 이벤트
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ArticleDeletedEvent {
+
+	private final Long id;
+
+}
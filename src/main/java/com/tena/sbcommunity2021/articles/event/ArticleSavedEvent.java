@@ -0,0 +1,18 @@
+package com.tena.sbcommunity2021.articles.event;
+
+import com.tena.sbcommunity2021.articles.domain.Article;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 게시물 작성/수정 이벤트
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ArticleSavedEvent {
+
+	private final Article article;
+
+}
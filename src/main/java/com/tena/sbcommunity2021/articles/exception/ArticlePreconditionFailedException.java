@@ -0,0 +1,12 @@
+package com.tena.sbcommunity2021.articles.exception;
+
+import com.tena.sbcommunity2021.global.errors.ErrorCode;
+import com.tena.sbcommunity2021.global.errors.exception.CustomException;
+
+public class ArticlePreconditionFailedException extends CustomException {
+
+	public ArticlePreconditionFailedException() {
+		super(ErrorCode.ARTICLE_PRECONDITION_FAILED);
+	}
+
+}
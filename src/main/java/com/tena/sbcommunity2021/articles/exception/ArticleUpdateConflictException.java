@@ -0,0 +1,12 @@
+package com.tena.sbcommunity2021.articles.exception;
+
+import com.tena.sbcommunity2021.global.errors.ErrorCode;
+import com.tena.sbcommunity2021.global.errors.exception.CustomException;
+
+public class ArticleUpdateConflictException extends CustomException {
+
+	public ArticleUpdateConflictException() {
+		super(ErrorCode.ARTICLE_UPDATE_CONFLICT);
+	}
+
+}
@@ -1,23 +1,115 @@
 package com.tena.sbcommunity2021.articles.repository;
 
 import com.tena.sbcommunity2021.articles.domain.Article;
+import com.tena.sbcommunity2021.articles.dto.ArticleDto;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Mapper
 public interface ArticleRepository {
 
-	List<Article> findAll();
+	/**
+	 * 커서(Keyset) 기반 게시물 목록 조회
+	 * @param cursor 이전 페이지의 마지막 게시물 번호, 이 번호보다 작은 게시물만 조회 (null 이면 첫 페이지)
+	 * @param limit  최대 조회 건수
+	 */
+	List<Article> findAll(Long cursor, int limit);
+
+	/**
+	 * 커서(Keyset) 기반 게시물 요약 목록 조회 (본문 전체 대신 앞부분 일부만 조회)
+	 * @param cursor 이전 페이지의 마지막 게시물 번호, 이 번호보다 작은 게시물만 조회 (null 이면 첫 페이지)
+	 * @param limit  최대 조회 건수
+	 */
+	List<ArticleDto.Summary> findAllSummaries(Long cursor, int limit);
+
+	/**
+	 * 게시물 번호 목록에 해당하는 게시물 요약 정보 조회 (순서는 보장하지 않음)
+	 */
+	List<ArticleDto.Summary> findSummariesByIds(List<Long> ids);
+
+	/**
+	 * 전체 게시물을 한 건씩 ResultHandler 로 전달 (결과 목록을 메모리에 적재하지 않음)
+	 * - 트랜잭션 안에서 호출해야 함 (핸들러 처리가 끝날 때까지 커넥션과 결과셋이 유지됨)
+	 */
+	void streamAll(ResultHandler<Article> resultHandler);
+
+	/**
+	 * 전체 게시물 요약 정보를 한 건씩 ResultHandler 로 전달
+	 * - 트랜잭션 안에서 호출해야 함
+	 */
+	void streamAllSummaries(ResultHandler<ArticleDto.Summary> resultHandler);
 
 	Optional<Article> findById(Long id);
 
+	/**
+	 * 게시물 변경 여부 확인용 정보 조회 (본문 제외)
+	 */
+	Optional<ArticleDto.Meta> findMetaById(Long id);
+
+	/**
+	 * 커서(Keyset) 기반 게시물 목록 페이지의 변경 여부 확인용 정보 조회
+	 * @param cursor 이전 페이지의 마지막 게시물 번호 (null 이면 첫 페이지)
+	 * @param size   페이지 크기 (건수, 번호 범위, 최종 수정일시는 이 범위로, 다음 페이지 존재 여부는 그 다음 게시물로 확인)
+	 */
+	ArticleDto.ListMeta findListMeta(Long cursor, int size);
+
+	/**
+	 * 게시물 번호 목록에 해당하는 게시물의 변경 여부 확인용 정보(작성자 포함) 조회
+	 */
+	List<ArticleDto.Meta> findMetasByIds(List<Long> ids);
+
+	/**
+	 * 게시물 저장 (생성된 게시물 번호는 article 의 id 에 채워짐)
+	 * - 작성일시, 수정일시를 미리 지정해야 함
+	 */
 	void save(Long accountId, Article article);
 
-	void update(Article article);
+	/**
+	 * 여러 게시물을 INSERT 한 번으로 저장 (생성된 게시물 번호는 각 Article 의 id 에 채워짐)
+	 * - 작성일시, 수정일시, 작성자를 미리 지정해야 함
+	 */
+	void saveAll(List<Article> articles);
+
+	/**
+	 * 게시물 번호를 미리 할당한 게시물들을 INSERT 한 번으로 저장
+	 */
+	void insertAll(List<Article> articles);
+
+	/**
+	 * 게시물 번호 블록 예약 (다음 블록의 시작 번호를 blockSize 만큼 증가)
+	 * - 같은 트랜잭션에서 findNextId 로 예약된 블록의 끝(미포함)을 조회
+	 */
+	void reserveIdBlock(int blockSize);
+
+	long findNextId();
+
+	/**
+	 * 게시물 수정 (제목, 내용은 값이 있는 경우에만 변경)
+	 * - article 의 version 과 DB 의 버전이 같을 때만 수정하고 버전을 1 증가 (낙관적 잠금)
+	 * @return 수정된 게시물 수 (게시물이 존재하지 않거나 버전이 다르면 0)
+	 */
+	int update(Article article);
+
+	/**
+	 * 게시물별 조회수 증가분을 한 번에 반영
+	 * @param hits 게시물 번호 -> 조회수 증가분
+	 */
+	void addHits(Map<Long, Long> hits);
+
+	/**
+	 * @return 삭제된 게시물 수 (게시물이 존재하지 않으면 0)
+	 */
+	int deleteById(Long id);
 
-	void deleteById(Long id);
+	/**
+	 * 게시물 번호 목록 중 해당 작성자의 게시물만 삭제
+	 * @return 삭제된 게시물 수
+	 */
+	int deleteAllByIds(Long accountId, List<Long> ids);
 
 	void deleteAll();
 
@@ -0,0 +1,276 @@
+package com.tena.sbcommunity2021.articles.search;
+
+import com.tena.sbcommunity2021.articles.domain.Article;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 게시물 검색용 메모리 역색인 (Inverted Index)
+ * - 제목, 본문을 2-gram 으로 분리해 용어별 게시물 목록(Postings)을 유지하고, BM25 점수로 검색 결과 정렬
+ * - 읽기(검색)는 동시에, 쓰기(추가/수정/삭제)는 하나씩 처리 (ReentrantReadWriteLock)
+ * - 애플리케이션 인스턴스마다 따로 유지되므로, 다른 인스턴스에서 변경된 게시물은 재구축 전까지 반영되지 않음
+ */
+@Component
+public class ArticleSearchIndex {
+
+	static final int TITLE_BOOST = 3; // 제목에 포함된 용어의 가중치 (본문 대비)
+	static final int MAX_QUERY_LENGTH = 100; // 검색어 최대 길이 (초과분은 무시)
+
+	private static final double K1 = 1.2; // BM25 : 용어 빈도 포화 정도
+	private static final double B = 0.75; // BM25 : 문서 길이 정규화 정도
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private Segment segment = new Segment(); // 현재 검색에 사용 중인 색인
+	private List<Consumer<Segment>> pendingChanges; // 재구축 중 발생한 변경 (재구축이 끝나면 새 색인에 다시 반영), 재구축 중이 아니면 null
+
+	/**
+	 * 게시물을 색인에 추가 (이미 있는 게시물이면 교체)
+	 */
+	public void put(Article article) {
+		final Document document = Document.of(article); // 토큰 분리는 락 밖에서 처리
+
+		write(target -> target.put(document));
+	}
+
+	public void remove(Long id) {
+		write(target -> target.remove(id));
+	}
+
+	/**
+	 * 색인 전체 재구축
+	 * - 새 색인을 따로 만든 후 교체하므로, 재구축 중에도 기존 색인으로 검색 가능
+	 * - 재구축 중에 발생한 변경은 기록해 두었다가 새 색인에 다시 반영 (읽어온 데이터가 그보다 오래된 경우 대비)
+	 * @param loader 전체 게시물을 하나씩 전달받을 Consumer 를 인자로 받아, 게시물을 공급하는 함수
+	 */
+	public void rebuild(Consumer<Consumer<Article>> loader) {
+		lock.writeLock().lock();
+		try {
+			if (pendingChanges != null) {
+				throw new IllegalStateException("검색 색인을 재구축하는 중입니다.");
+			}
+			pendingChanges = new ArrayList<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		final Segment rebuilt = new Segment();
+		try {
+			loader.accept(article -> rebuilt.put(Document.of(article)));
+		} catch (RuntimeException e) {
+			lock.writeLock().lock();
+			try {
+				pendingChanges = null; // 재구축 실패 시 기존 색인 유지
+			} finally {
+				lock.writeLock().unlock();
+			}
+			throw e;
+		}
+
+		lock.writeLock().lock();
+		try {
+			pendingChanges.forEach(change -> change.accept(rebuilt));
+			pendingChanges = null;
+			segment = rebuilt;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 검색어와 관련된 게시물 번호를 점수 순으로 조회
+	 * @param query  검색어 (2-gram 으로 분리한 용어 중 하나라도 포함한 게시물이 대상)
+	 * @param offset 건너뛸 건수
+	 * @param limit  최대 조회 건수
+	 */
+	public Hits search(String query, int offset, int limit) {
+		final Set<String> terms = new LinkedHashSet<>(BigramTokenizer.tokenize(truncate(query)));
+
+		if (terms.isEmpty()) {
+			return new Hits(0, Collections.emptyList());
+		}
+
+		lock.readLock().lock();
+		try {
+			return segment.search(terms, offset, limit);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return segment.documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void write(Consumer<Segment> change) {
+		lock.writeLock().lock();
+		try {
+			change.accept(segment);
+
+			if (pendingChanges != null) {
+				pendingChanges.add(change);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private static String truncate(String query) {
+		if (query == null) {
+			return "";
+		}
+
+		return query.length() > MAX_QUERY_LENGTH ? query.substring(0, MAX_QUERY_LENGTH) : query;
+	}
+
+	/**
+	 * 검색 결과
+	 * - totalCount : 검색어와 관련된 전체 게시물 수
+	 * - ids : 요청한 범위의 게시물 번호 (점수가 높은 순, 같으면 최신 게시물 순)
+	 */
+	@Getter
+	@ToString
+	@RequiredArgsConstructor
+	public static class Hits {
+
+		private final long totalCount;
+
+		private final List<Long> ids;
+
+	}
+
+	/**
+	 * 색인에 저장되는 게시물 정보 (용어별 빈도, 문서 길이)
+	 */
+	@RequiredArgsConstructor
+	private static class Document {
+
+		private final Long id;
+
+		private final Map<String, Integer> termFrequencies;
+
+		private final int length;
+
+		static Document of(Article article) {
+			final Map<String, Integer> termFrequencies = new HashMap<>();
+			int length = 0;
+
+			for (String term : BigramTokenizer.tokenize(article.getTitle())) {
+				termFrequencies.merge(term, TITLE_BOOST, Integer::sum);
+				length += TITLE_BOOST;
+			}
+			for (String term : BigramTokenizer.tokenize(article.getContent())) {
+				termFrequencies.merge(term, 1, Integer::sum);
+				length++;
+			}
+
+			return new Document(article.getId(), termFrequencies, length);
+		}
+
+	}
+
+	/**
+	 * 역색인 자료구조 (락으로 보호되는 범위 안에서만 사용)
+	 */
+	private static class Segment {
+
+		private final Map<String, Map<Long, Integer>> postings = new HashMap<>(); // 용어 -> (게시물 번호 -> 용어 빈도)
+
+		private final Map<Long, Document> documents = new HashMap<>(); // 게시물 번호 -> 색인된 게시물 정보 (수정/삭제 시 기존 용어 제거용)
+
+		private long totalLength; // 전체 문서 길이 합계 (평균 문서 길이 계산용)
+
+		void put(Document document) {
+			remove(document.id);
+
+			document.termFrequencies.forEach((term, frequency) ->
+					postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.id, frequency));
+			documents.put(document.id, document);
+			totalLength += document.length;
+		}
+
+		void remove(Long id) {
+			final Document removed = documents.remove(id);
+
+			if (removed == null) {
+				return;
+			}
+
+			for (String term : removed.termFrequencies.keySet()) {
+				final Map<Long, Integer> postingList = postings.get(term);
+				postingList.remove(id);
+
+				if (postingList.isEmpty()) {
+					postings.remove(term);
+				}
+			}
+			totalLength -= removed.length;
+		}
+
+		Hits search(Set<String> terms, int offset, int limit) {
+			final int documentCount = documents.size();
+
+			if (documentCount == 0) {
+				return new Hits(0, Collections.emptyList());
+			}
+
+			final double averageLength = (double) totalLength / documentCount;
+			final Map<Long, Double> scores = new HashMap<>();
+
+			for (String term : terms) {
+				final Map<Long, Integer> postingList = postings.get(term);
+
+				if (postingList == null) {
+					continue;
+				}
+
+				final int documentFrequency = postingList.size();
+				final double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+				postingList.forEach((id, frequency) -> {
+					final double normalizedLength = 1 - B + B * documents.get(id).length / averageLength;
+					final double score = idf * (frequency * (K1 + 1)) / (frequency + K1 * normalizedLength);
+
+					scores.merge(id, score, Double::sum);
+				});
+			}
+
+			// 점수 상위 offset + limit 건만 힙으로 유지 (전체 정렬 대신)
+			final int topCount = (int) Math.min((long) offset + limit, scores.size());
+			final Comparator<Map.Entry<Long, Double>> ranking = Map.Entry.<Long, Double>comparingByValue()
+					.thenComparing(Map.Entry.comparingByKey()); // 점수가 같으면 최신(번호가 큰) 게시물 우선
+			final PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(Math.max(topCount, 1), ranking);
+
+			for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+				top.offer(entry);
+
+				if (top.size() > topCount) {
+					top.poll(); // 가장 낮은 순위 제거
+				}
+			}
+
+			final List<Map.Entry<Long, Double>> ranked = new ArrayList<>(top);
+			ranked.sort(ranking.reversed());
+
+			final List<Long> ids = ranked.subList(Math.min(offset, ranked.size()), ranked.size()).stream()
+					.map(Map.Entry::getKey)
+					.collect(Collectors.toList());
+
+			return new Hits(scores.size(), ids);
+		}
+
+	}
+
+}
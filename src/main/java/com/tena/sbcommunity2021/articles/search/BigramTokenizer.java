@@ -0,0 +1,54 @@
+package com.tena.sbcommunity2021.articles.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 2-gram(Bigram) 토크나이저
+ * - 한국어는 조사, 어미가 붙어 형태가 바뀌므로 ("게시물을", "게시물에서") 단어 단위 대신 2글자 단위로 분리해 부분 일치 검색
+ * - 문자/숫자가 연속된 구간을 단어로 보고, 각 단어를 2글자씩 겹쳐서 분리 (한 글자 단어는 그대로 사용)
+ * Ex) "스프링 게시판" -> [스프, 프링, 게시, 시판]
+ */
+final class BigramTokenizer {
+
+	private BigramTokenizer() {
+	}
+
+	static List<String> tokenize(String text) {
+		final List<String> tokens = new ArrayList<>();
+
+		if (text == null || text.isEmpty()) {
+			return tokens;
+		}
+
+		final String normalized = text.toLowerCase(Locale.ROOT);
+		final int length = normalized.length();
+
+		int start = 0;
+		while (start < length) {
+			// 단어 시작 위치 탐색
+			while (start < length && !Character.isLetterOrDigit(normalized.charAt(start))) {
+				start++;
+			}
+
+			// 단어 끝 위치 탐색
+			int end = start;
+			while (end < length && Character.isLetterOrDigit(normalized.charAt(end))) {
+				end++;
+			}
+
+			if (end - start == 1) {
+				tokens.add(normalized.substring(start, end));
+			}
+			for (int i = start; i + 2 <= end; i++) {
+				tokens.add(normalized.substring(i, i + 2));
+			}
+
+			start = end;
+		}
+
+		return tokens;
+	}
+
+}
@@ -0,0 +1,185 @@
+package com.tena.sbcommunity2021.articles.service;
+
+import com.tena.sbcommunity2021.articles.domain.Article;
+import com.tena.sbcommunity2021.articles.dto.ArticleDto;
+import com.tena.sbcommunity2021.articles.event.ArticleDeletedEvent;
+import com.tena.sbcommunity2021.articles.event.ArticleSavedEvent;
+import com.tena.sbcommunity2021.articles.repository.ArticleRepository;
+import com.tena.sbcommunity2021.global.errors.ErrorCode;
+import com.tena.sbcommunity2021.global.errors.ErrorResponse;
+import com.tena.sbcommunity2021.global.errors.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.tena.sbcommunity2021.global.configs.CacheConfig.ARTICLE_CACHE;
+
+/**
+ * 게시물 일괄 작성/삭제
+ * - 항목별로 유효성, 권한을 확인해 결과를 리턴하고, 처리 가능한 항목만 모아서 한 번에 저장/삭제
+ * - 처리 가능한 항목들은 하나의 트랜잭션으로 처리 (DB 오류 발생 시 전체 롤백)
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ArticleBulkService {
+
+	public static final int MAX_BULK_SIZE = 1000; // 한 번에 처리 가능한 최대 게시물 수
+	private static final int INSERT_CHUNK_SIZE = 500; // INSERT 한 번에 저장할 최대 게시물 수 (쿼리 크기 제한 고려)
+
+	private final ArticleRepository articleRepository;
+	private final Validator validator;
+	private final CacheManager cacheManager;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ArticleWriteBehind articleWriteBehind;
+	private final ArticleIdAllocator articleIdAllocator;
+
+	public ArticleDto.BulkResult createArticles(Long accountId, List<ArticleDto.Save> saveDtos) {
+		checkBulkSize(saveDtos);
+
+		final ArticleDto.BulkItemResult[] results = new ArticleDto.BulkItemResult[saveDtos.size()];
+		final List<Integer> validIndexes = new ArrayList<>();
+		final List<Article> articles = new ArrayList<>();
+		final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS); // DB 에 저장되는 값과 같도록 초 단위로 절삭
+
+		// 1. 항목별 유효성 검사
+		for (int index = 0; index < saveDtos.size(); index++) {
+			final ArticleDto.Save saveDto = saveDtos.get(index);
+			final List<ErrorResponse.FieldError> errors = validate(saveDto);
+
+			if (!errors.isEmpty()) {
+				results[index] = ArticleDto.BulkItemResult.failure(index, null, ErrorCode.INVALID_INPUT_VALUE, errors);
+				continue;
+			}
+
+			validIndexes.add(index);
+			articles.add(Article.builder()
+					.title(saveDto.getTitle())
+					.content(saveDto.getContent())
+					.regDate(now)
+					.updateDate(now)
+					.accountId(accountId)
+					.build());
+		}
+
+		// 2. 유효한 게시물만 나눠서 저장 (저장 후 재조회하지 않음)
+		for (int from = 0; from < articles.size(); from += INSERT_CHUNK_SIZE) {
+			final List<Article> chunk = articles.subList(from, Math.min(from + INSERT_CHUNK_SIZE, articles.size()));
+
+			if (articleWriteBehind.isEnabled()) { // 쓰기 지연 모드에서는 미리 할당된 번호와 겹치지 않도록 할당기의 번호로 저장
+				chunk.forEach(article -> article.setId(articleIdAllocator.nextId()));
+				articleRepository.insertAll(chunk);
+			} else {
+				articleRepository.saveAll(chunk);
+			}
+		}
+
+		for (int i = 0; i < articles.size(); i++) {
+			final Article article = articles.get(i);
+			final int index = validIndexes.get(i);
+
+			results[index] = ArticleDto.BulkItemResult.success(index, article.getId());
+			eventPublisher.publishEvent(new ArticleSavedEvent(article)); // 검색 색인 반영 (커밋 후)
+		}
+
+		return ArticleDto.BulkResult.of(Arrays.asList(results));
+	}
+
+	public ArticleDto.BulkResult deleteArticles(Long accountId, List<Long> ids) {
+		checkBulkSize(ids);
+		ids.forEach(articleWriteBehind::awaitWritten); // 아직 저장되지 않은 게시물은 저장된 후 삭제
+
+		final Map<Long, ArticleDto.Meta> metas = ids.isEmpty() ? Collections.emptyMap() :
+				articleRepository.findMetasByIds(ids).stream().collect(Collectors.toMap(ArticleDto.Meta::getId, Function.identity()));
+
+		final List<ArticleDto.BulkItemResult> results = new ArrayList<>(ids.size());
+		final Set<Long> deletableIds = new LinkedHashSet<>();
+
+		// 1. 항목별 존재 여부, 권한 확인
+		for (int index = 0; index < ids.size(); index++) {
+			final Long id = ids.get(index);
+			final ArticleDto.Meta meta = metas.get(id);
+
+			if (meta == null) {
+				results.add(ArticleDto.BulkItemResult.failure(index, id, ErrorCode.ARTICLE_NOT_FOUND, null));
+			} else if (!Objects.equals(meta.getAccountId(), accountId)) {
+				results.add(ArticleDto.BulkItemResult.failure(index, id, ErrorCode.FORBIDDEN, null));
+			} else {
+				results.add(ArticleDto.BulkItemResult.success(index, id));
+				deletableIds.add(id);
+			}
+		}
+
+		// 2. 삭제 가능한 게시물만 한 번에 삭제 (작성자 조건을 함께 걸어 확인 후 변경된 경우에도 다른 사람의 게시물은 삭제되지 않음)
+		if (!deletableIds.isEmpty()) {
+			final int deleted = articleRepository.deleteAllByIds(accountId, new ArrayList<>(deletableIds));
+			log.debug("게시물 일괄 삭제 : 요청 {}건, 삭제 {}건", ids.size(), deleted);
+
+			deletableIds.forEach(id -> eventPublisher.publishEvent(new ArticleDeletedEvent(id))); // 검색 색인 반영 (커밋 후)
+			evictAfterCommit(deletableIds);
+		}
+
+		return ArticleDto.BulkResult.of(results);
+	}
+
+	private void checkBulkSize(List<?> items) {
+		if (items.size() > MAX_BULK_SIZE) {
+			throw new CustomException(ErrorCode.ARTICLE_BULK_SIZE_EXCEEDED);
+		}
+	}
+
+	private List<ErrorResponse.FieldError> validate(ArticleDto.Save saveDto) {
+		if (saveDto == null) {
+			return ErrorResponse.FieldError.of("", "null", "게시물 정보를 입력해주세요.");
+		}
+
+		final Set<ConstraintViolation<ArticleDto.Save>> violations = validator.validate(saveDto);
+
+		return violations.stream()
+				.map(violation -> ErrorResponse.FieldError.builder()
+						.field(String.valueOf(violation.getPropertyPath()))
+						.value(String.valueOf(violation.getInvalidValue()))
+						.reason(violation.getMessage())
+						.build())
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * 삭제된 게시물을 트랜잭션 커밋 후 캐시에서 제거 (커밋 전에 제거하면 다른 요청이 삭제 전 게시물을 다시 캐시할 수 있음)
+	 */
+	private void evictAfterCommit(Collection<Long> ids) {
+		final Cache cache = cacheManager.getCache(ARTICLE_CACHE);
+
+		if (cache == null) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			ids.forEach(cache::evict);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				ids.forEach(cache::evict);
+			}
+		});
+	}
+
+}
@@ -0,0 +1,176 @@
+package com.tena.sbcommunity2021.articles.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tena.sbcommunity2021.articles.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시물 조회수 누적기
+ * - 조회할 때마다 UPDATE 하면 인기 게시물 레코드에 락 경합이 몰리므로, 메모리에 누적한 후 주기적으로 한 번에 반영
+ * - 게시물별 LongAdder 를 사용해 동시에 조회수를 올려도 경합이 거의 없음
+ * - 애플리케이션 종료 시 남은 조회수를 모두 반영 (비정상 종료 시에는 마지막 반영 이후의 조회수가 유실될 수 있음)
+ * - 캐시된 게시물의 조회수는 바꾸지 않고, 게시물을 DB 에서 조회한 이후의 조회수를 따로 누적해서 응답할 때 더함
+ *   (캐시 항목을 다시 쓰면 만료 시간이 늘어나 다른 서버에서 수정된 내용이 반영되지 않으므로)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleHitCounter {
+
+	private static final int FLUSH_BATCH_SIZE = 500; // UPDATE 한 번에 반영할 최대 게시물 수
+	private static final Duration HITS_SINCE_LOAD_TTL = Duration.ofHours(1); // 게시물 캐시의 만료 시간(spring.cache.caffeine.spec)보다 길어야 함
+	private static final long HITS_SINCE_LOAD_MAX_SIZE = 100_000;
+
+	private final ConcurrentHashMap<Long, PendingHits> pendingHits = new ConcurrentHashMap<>(); // 게시물 번호 -> 아직 반영되지 않은 조회수
+
+	private List<PendingHits> removedHits = new ArrayList<>(); // 지난 반영 때 맵에서 제거한 누적기 (제거 직후에 올라간 조회수를 다음 반영 때 함께 꺼냄)
+
+	private final Cache<Long, LongAdder> hitsSinceLoad = Caffeine.newBuilder()
+			.expireAfterAccess(HITS_SINCE_LOAD_TTL)
+			.maximumSize(HITS_SINCE_LOAD_MAX_SIZE)
+			.build(); // 게시물 번호 -> 게시물을 DB 에서 조회한 이후의 조회수 (DB 에 반영해도 유지)
+
+	private final ArticleRepository articleRepository;
+
+	public void increment(Long id) {
+		pendingHits.computeIfAbsent(id, PendingHits::new).adder.increment();
+		hitsSinceLoad.get(id, key -> new LongAdder()).increment();
+	}
+
+	/**
+	 * 게시물을 DB 에서 조회했을 때 호출 (조회한 게시물의 조회수에 포함되지 않은, 아직 반영되지 않은 조회수부터 다시 누적)
+	 */
+	public void loaded(Long id) {
+		final LongAdder hits = new LongAdder();
+		hits.add(getPendingHits(id));
+
+		hitsSinceLoad.put(id, hits);
+	}
+
+	/**
+	 * 게시물을 DB 에서 조회한 이후의 조회수 (조회한 게시물의 조회수에 더하면 현재 조회수)
+	 */
+	public long getHitsSinceLoad(Long id) {
+		final LongAdder hits = hitsSinceLoad.getIfPresent(id);
+
+		return hits == null ? 0 : hits.sum();
+	}
+
+	/**
+	 * 아직 DB 에 반영되지 않은 조회수
+	 */
+	public long getPendingHits(Long id) {
+		final PendingHits hits = pendingHits.get(id);
+
+		return hits == null ? 0 : hits.undrained();
+	}
+
+	/**
+	 * 누적된 조회수를 DB 에 반영
+	 * - 캐시된 게시물은 제거하거나 바꾸지 않음 (반영한 조회수는 getHitsSinceLoad 에 남아 있음)
+	 * - 반영에 실패하면 다음 주기에 다시 반영하도록 누적값을 되돌림
+	 */
+	@Scheduled(fixedDelayString = "${app.articles.hits.flush-interval:5000}")
+	public synchronized void flush() {
+		final Map<Long, Long> hits = drain();
+
+		if (hits.isEmpty()) {
+			return;
+		}
+
+		final List<Long> ids = new ArrayList<>(hits.keySet());
+
+		for (int from = 0; from < ids.size(); from += FLUSH_BATCH_SIZE) {
+			final Map<Long, Long> batch = new HashMap<>();
+			ids.subList(from, Math.min(from + FLUSH_BATCH_SIZE, ids.size())).forEach(id -> batch.put(id, hits.get(id)));
+
+			try {
+				articleRepository.addHits(batch);
+			} catch (RuntimeException e) {
+				log.warn("게시물 조회수 반영 실패, 다음 주기에 다시 반영 : {}건", batch.size(), e);
+				batch.forEach((id, count) -> pendingHits.computeIfAbsent(id, PendingHits::new).adder.add(count));
+			}
+		}
+
+		log.debug("게시물 조회수 반영 : {}건", hits.size());
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	/**
+	 * 지난 반영 이후 누적된 조회수를 꺼냄
+	 * - 누적기를 0 으로 되돌리지 않고 지금까지 꺼낸 값을 기록해 그 차이만 꺼냄 (sumThenReset 은 합산과 초기화 사이에 올라간 조회수가 유실될 수 있음)
+	 * - 한 주기 동안 조회가 없던 누적기만 맵에서 제거하고, 제거하기 직전에 누적기를 꺼낸 조회가 있을 수 있으므로 다음 반영 때 한 번 더 확인
+	 */
+	private Map<Long, Long> drain() {
+		final Map<Long, Long> hits = new HashMap<>();
+
+		removedHits.forEach(removed -> removed.drainTo(hits));
+
+		final List<PendingHits> removedNow = new ArrayList<>();
+
+		pendingHits.forEach((id, pending) -> {
+			if (!pending.drainTo(hits) && pendingHits.remove(id, pending)) {
+				removedNow.add(pending);
+			}
+		});
+
+		removedHits = removedNow;
+
+		return hits;
+	}
+
+	/**
+	 * 게시물별 조회수 누적기
+	 * - adder 는 계속 증가하고, 반영할 때마다 꺼낸 값(drained)과의 차이만 꺼냄
+	 */
+	@RequiredArgsConstructor
+	private static class PendingHits {
+
+		private final Long id;
+
+		private final LongAdder adder = new LongAdder();
+
+		private volatile long drained; // 지금까지 꺼낸 조회수 (반영 스레드에서만 변경)
+
+		long undrained() {
+			return adder.sum() - drained;
+		}
+
+		/**
+		 * 지난번 이후 늘어난 조회수를 꺼내서 hits 에 더함
+		 * @return 늘어난 조회수가 있으면 true
+		 */
+		boolean drainTo(Map<Long, Long> hits) {
+			final long sum = adder.sum();
+			final long count = sum - drained;
+
+			if (count <= 0) {
+				return false;
+			}
+
+			drained = sum;
+			hits.merge(id, count, Long::sum);
+
+			return true;
+		}
+
+	}
+
+}
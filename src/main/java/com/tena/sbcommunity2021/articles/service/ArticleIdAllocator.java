@@ -0,0 +1,61 @@
+package com.tena.sbcommunity2021.articles.service;
+
+import com.tena.sbcommunity2021.articles.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시물 번호 할당기 (Hi/Lo)
+ * - INSERT 전에 게시물 번호가 필요한 경우(쓰기 지연 모드) 사용
+ * - DB 에서 번호 블록(id-block-size 개)을 한 번에 예약하고, 블록을 다 쓸 때까지는 메모리에서 할당
+ * - 블록은 이미 저장된 가장 큰 게시물 번호 이후부터 예약하므로 AUTO_INCREMENT 로 저장된 게시물과 겹치지 않음
+ *   (단, 예약한 블록을 쓰는 동안에는 모든 게시물 저장이 이 할당기를 거쳐야 함)
+ * - 애플리케이션이 재시작되면 쓰지 않은 번호는 버려짐 (번호에 빈 구간이 생길 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleIdAllocator {
+
+	private final ArticleRepository articleRepository;
+	private final PlatformTransactionManager transactionManager;
+
+	@Value("${app.articles.write-behind.id-block-size:100}")
+	private int blockSize;
+
+	private long nextId; // 다음에 할당할 번호
+	private long limit; // 현재 블록의 끝 (미포함)
+
+	public synchronized long nextId() {
+		if (nextId >= limit) {
+			reserveBlock();
+		}
+
+		return nextId++;
+	}
+
+	/**
+	 * 새 번호 블록 예약
+	 * - 요청 처리 중인 트랜잭션과 무관하게 바로 커밋 (REQUIRES_NEW), 예약 테이블의 행 잠금은 이 짧은 트랜잭션 동안만 유지
+	 */
+	private void reserveBlock() {
+		final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		final Long end = transactionTemplate.execute(status -> {
+			articleRepository.reserveIdBlock(blockSize);
+			return articleRepository.findNextId();
+		});
+
+		limit = end;
+		nextId = end - blockSize;
+
+		log.debug("게시물 번호 블록 예약 : {} ~ {}", nextId, limit - 1);
+	}
+
+}
@@ -0,0 +1,97 @@
+package com.tena.sbcommunity2021.articles.service;
+
+import com.tena.sbcommunity2021.articles.dto.ArticleDto;
+import com.tena.sbcommunity2021.articles.event.ArticleDeletedEvent;
+import com.tena.sbcommunity2021.articles.event.ArticleSavedEvent;
+import com.tena.sbcommunity2021.articles.repository.ArticleRepository;
+import com.tena.sbcommunity2021.articles.search.ArticleSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.tena.sbcommunity2021.articles.service.ArticleService.MAX_PAGE_SIZE;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleSearchService {
+
+	private final ArticleSearchIndex articleSearchIndex;
+	private final ArticleRepository articleRepository;
+
+	/**
+	 * 게시물 검색
+	 * - 검색 색인에서 점수 순으로 게시물 번호를 찾은 후, 해당 페이지의 게시물 요약 정보만 조회
+	 * @param page 페이지 번호 (1부터 시작, 시작 위치가 int 범위를 넘지 않도록 제한)
+	 */
+	@Transactional(readOnly = true)
+	public ArticleDto.SearchResult search(String query, int page, int size) {
+		final int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+		final int pageNumber = Math.min(Math.max(page, 1), Integer.MAX_VALUE / pageSize); // 너무 큰 페이지 번호는 빈 페이지 (시작 위치 계산 시 오버플로 방지)
+
+		final ArticleSearchIndex.Hits hits = articleSearchIndex.search(query, (pageNumber - 1) * pageSize, pageSize);
+
+		return ArticleDto.SearchResult.builder()
+				.query(query)
+				.totalCount(hits.getTotalCount())
+				.page(pageNumber)
+				.size(pageSize)
+				.articles(findSummaries(hits.getIds()))
+				.build();
+	}
+
+	/**
+	 * 검색 색인 전체 재구축 (애플리케이션 구동 시)
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void rebuildIndex() {
+		final long startedAt = System.currentTimeMillis();
+
+		articleSearchIndex.rebuild(indexer -> articleRepository.streamAll(context -> indexer.accept(context.getResultObject())));
+
+		log.info("게시물 검색 색인 재구축 완료 : {}건, {}ms", articleSearchIndex.size(), System.currentTimeMillis() - startedAt);
+	}
+
+	/**
+	 * 게시물 작성/수정 내용을 검색 색인에 반영 (트랜잭션 커밋 후)
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onArticleSaved(ArticleSavedEvent event) {
+		articleSearchIndex.put(event.getArticle());
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onArticleDeleted(ArticleDeletedEvent event) {
+		articleSearchIndex.remove(event.getId());
+	}
+
+	/**
+	 * 게시물 번호 목록 순서대로 요약 정보 조회 (색인 반영 전에 삭제된 게시물은 제외)
+	 */
+	private List<ArticleDto.Summary> findSummaries(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		final Map<Long, ArticleDto.Summary> summaries = articleRepository.findSummariesByIds(ids).stream()
+				.collect(Collectors.toMap(ArticleDto.Summary::getId, Function.identity()));
+
+		return ids.stream()
+				.map(summaries::get)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+	}
+
+}
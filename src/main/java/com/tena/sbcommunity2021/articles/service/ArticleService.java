@@ -2,16 +2,37 @@ package com.tena.sbcommunity2021.articles.service;
 
 import com.tena.sbcommunity2021.articles.domain.Article;
 import com.tena.sbcommunity2021.articles.dto.ArticleDto;
+import com.tena.sbcommunity2021.articles.dto.ArticleDtoMapper;
+import com.tena.sbcommunity2021.articles.event.ArticleDeletedEvent;
+import com.tena.sbcommunity2021.articles.event.ArticleSavedEvent;
 import com.tena.sbcommunity2021.articles.exception.ArticleNotCreatedException;
 import com.tena.sbcommunity2021.articles.exception.ArticleNotFoundException;
+import com.tena.sbcommunity2021.articles.exception.ArticlePreconditionFailedException;
+import com.tena.sbcommunity2021.articles.exception.ArticleUpdateConflictException;
 import com.tena.sbcommunity2021.articles.repository.ArticleRepository;
+import com.tena.sbcommunity2021.global.commons.CursorPage;
+import com.tena.sbcommunity2021.global.commons.RequestIdentityMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.apache.ibatis.session.ResultHandler;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
+
+import static com.tena.sbcommunity2021.global.configs.CacheConfig.ARTICLE_CACHE;
 
 @Slf4j
 @Service
@@ -19,44 +40,258 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ArticleService {
 
+	public static final int MAX_PAGE_SIZE = 100; // 한 페이지에 조회 가능한 최대 게시물 수
+
 	private final ArticleRepository articleRepository;
-	private final ModelMapper modelMapper;
+	private final ArticleDtoMapper articleDtoMapper;
+	private final CacheManager cacheManager;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ArticleHitCounter articleHitCounter;
+	private final ArticleWriteBehind articleWriteBehind;
+	private final PlatformTransactionManager transactionManager;
+
+	@Transactional(readOnly = true)
+	public CursorPage<ArticleDto.Summary> getArticles(Long cursor, int size) {
+		final int pageSize = toPageSize(size);
 
+		List<ArticleDto.Summary> articles = articleRepository.findAllSummaries(cursor, pageSize + 1); // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+
+		return CursorPage.of(articles, pageSize, ArticleDto.Summary::getId);
+	}
+
+	/**
+	 * 게시물 목록 페이지의 변경 여부 확인용 정보 조회 (조건부 요청 처리용)
+	 * - getArticles 와 같은 범위(다음 페이지 존재 여부 포함)를 대상으로 함
+	 */
 	@Transactional(readOnly = true)
-	public List<Article> getArticles() {
-		return articleRepository.findAll();
+	public ArticleDto.ListMeta getArticlesMeta(Long cursor, int size) {
+		return articleRepository.findListMeta(cursor, toPageSize(size));
+	}
+
+	/**
+	 * 전체 게시물 요약 정보를 한 건씩 resultHandler 로 전달
+	 * - 핸들러가 모든 게시물을 처리할 때까지 트랜잭션(커넥션)이 유지됨
+	 */
+	@Transactional(readOnly = true)
+	public void streamArticles(ResultHandler<ArticleDto.Summary> resultHandler) {
+		articleRepository.streamAllSummaries(resultHandler);
+	}
+
+	/**
+	 * 게시물 변경 여부 확인용 정보 조회 (조건부 요청 처리, 권한 체크, 수정 기준 버전 확인용)
+	 * - 캐시된 게시물이 있으면 DB 를 조회하지 않음
+	 * - 본문(TEXT)은 조회하지 않고, 조회 결과는 요청이 끝날 때까지 재사용
+	 * - 게시물이 존재하지 않으면 빈 Optional 리턴
+	 */
+	@Transactional(readOnly = true)
+	public Optional<ArticleDto.Meta> findArticleMeta(Long id) {
+		final Article cached = findCachedArticle(id);
+
+		if (cached != null) {
+			return Optional.of(ArticleDto.Meta.of(cached));
+		}
+
+		return Optional.ofNullable(RequestIdentityMap.computeIfAbsent(ArticleDto.Meta.class, id, () -> articleRepository.findMetaById(id).orElse(null)));
 	}
 
+	/**
+	 * 게시물 조회 (캐시 적용)
+	 * - 같은 게시물에 대한 동시 요청은 한 번만 DB 를 조회 (sync = true)
+	 * - 캐시된 객체가 그대로 반환되므로 호출하는 쪽에서 수정하지 않아야 함
+	 * - 캐시를 사용하지 않는 경우에도 같은 요청 안에서는 한 번만 DB 를 조회
+	 */
+	@Cacheable(cacheNames = ARTICLE_CACHE, key = "#id", sync = true)
 	@Transactional(readOnly = true)
 	public Article getArticle(Long id) {
-		return articleRepository.findById(id).orElseThrow(ArticleNotFoundException::new);
+		final Article pending = articleWriteBehind.getPending(id); // 쓰기 지연 모드에서 아직 저장되지 않은 게시물
+
+		if (pending != null) {
+			return pending;
+		}
+
+		return RequestIdentityMap.computeIfAbsent(Article.class, id, () -> loadArticle(id));
+	}
+
+	/**
+	 * DB 에서 게시물 조회 (조회한 게시물의 조회수를 기준으로 이후의 조회수를 다시 누적)
+	 */
+	private Article loadArticle(Long id) {
+		final Article article = articleRepository.findById(id).orElseThrow(ArticleNotFoundException::new);
+		articleHitCounter.loaded(id);
+
+		return article;
+	}
+
+	/**
+	 * 게시물 조회수 증가 (메모리에 누적 후 주기적으로 DB 에 반영)
+	 * @return 게시물을 DB 에서 조회한 이후의 조회수를 포함한 현재 조회수 (캐시된 게시물의 조회수는 바꾸지 않음)
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public long increaseHits(Article article) {
+		articleHitCounter.increment(article.getId());
+
+		return article.getHits() + articleHitCounter.getHitsSinceLoad(article.getId());
+	}
+
+	/**
+	 * 게시물 조회수 증가 (게시물을 조회하지 않는 304 응답용)
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void increaseHits(Long id) {
+		articleHitCounter.increment(id);
 	}
 
+	/**
+	 * 게시물 작성
+	 * - 쓰기 지연 모드에서는 번호만 할당해 저장 큐에 넣고 바로 리턴 (저장은 저장 스레드에서 일괄 처리)
+	 * - 트랜잭션은 바로 저장할 때만 시작 (쓰기 지연 모드에서는 요청 스레드가 커넥션을 가져오지 않음)
+	 */
+	@CachePut(cacheNames = ARTICLE_CACHE, key = "#result.id")
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public Article createArticle(Long accountId, ArticleDto.Save saveDto) {
 
-		Article article = modelMapper.map(saveDto, Article.class); // 도메인 객체로 변환
+		Article article = articleDtoMapper.toArticle(saveDto); // 도메인 객체로 변환
+
+		final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS); // DB 에 저장되는 값과 같도록 초 단위로 절삭
+		article.setRegDate(now);
+		article.setUpdateDate(now);
+		article.setAccountId(accountId);
+
+		if (articleWriteBehind.isEnabled()) {
+			return articleWriteBehind.submit(article); // 저장 및 검색 색인 반영은 저장 스레드에서 처리
+		}
+
+		return new TransactionTemplate(transactionManager).execute(status -> {
+			articleRepository.save(accountId, article); // 게시물 저장 (게시물 번호는 INSERT 결과로 채워지므로 다시 조회하지 않음)
 
-		articleRepository.save(accountId, article); // 게시물 저장
+			if (article.getId() == null) {
+				throw new ArticleNotCreatedException();
+			}
 
-		return articleRepository.findById(article.getId()).orElseThrow(ArticleNotCreatedException::new); // 저장한 게시물 조회
+			eventPublisher.publishEvent(new ArticleSavedEvent(article)); // 검색 색인 반영 (커밋 후)
+
+			return article;
+		});
 	}
 
-	public Article updateArticle(Long id, ArticleDto.Save saveDto) {
+	/**
+	 * 게시물 수정 (낙관적 잠금)
+	 * - 기존 게시물을 먼저 조회하지 않고, 버전이 같을 때만 수정하는 UPDATE 한 번으로 처리 (행 잠금을 유지하지 않음)
+	 * - 기준 버전은 If-Match 로 받은 버전, 없으면 캐시된 게시물(권한 체크 시 조회됨)의 버전
+	 * - 수정된 행이 없으면 게시물이 없거나(404), 그 사이 다른 요청이 먼저 수정한 것(If-Match 가 있으면 412, 없으면 409)
+	 * - 버전이 달라 수정하지 못하면 캐시된 게시물을 제거 (캐시가 오래된 경우 다시 요청할 때 DB 의 버전을 기준으로 수정)
+	 * - 리턴할 게시물은 캐시된 게시물에 변경 내용을 반영해 만들고, 캐시에 없을 때만 다시 조회
+	 * @param expectedVersion If-Match 로 받은 버전 (없으면 null)
+	 */
+	@CachePut(cacheNames = ARTICLE_CACHE, key = "#id")
+	public Article updateArticle(Long id, ArticleDto.Save saveDto, Long expectedVersion) {
+
+		articleWriteBehind.awaitWritten(id); // 아직 저장되지 않은 게시물은 저장된 후 수정
+
+		final Article cached = findCachedArticle(id);
+		final long version = expectedVersion != null ? expectedVersion : findCurrentVersion(id);
+
+		Article changes = articleDtoMapper.toArticle(saveDto);
+		changes.setId(id);
+		changes.setUpdateDate(toUpdateDate(saveDto));
+		changes.setVersion(version);
+
+		if (articleRepository.update(changes) == 0) { // 게시물 업데이트
+			if (!articleRepository.existsById(id)) {
+				throw new ArticleNotFoundException();
+			}
+
+			evictCachedArticle(id); // 예외가 발생하면 @CachePut 이 실행되지 않으므로 직접 제거
+
+			throw expectedVersion != null ? new ArticlePreconditionFailedException() : new ArticleUpdateConflictException();
+		}
 
-		Article article = getArticle(id); // 기존 게시물 조회
+		final Article article;
 
-		modelMapper.map(saveDto, article); // 기존값 변경
+		if (cached != null && cached.getVersion() == version) { // 캐시된 게시물이 수정 전 버전과 같을 때만 재사용
+			article = cached.toBuilder().build(); // 캐시된 객체는 다른 요청과 공유되므로 복사본을 변경
+			articleDtoMapper.updateArticle(saveDto, article); // 기존값 변경
+			article.setUpdateDate(changes.getUpdateDate());
+			article.setVersion(version + 1);
+		} else {
+			article = loadArticle(id);
+		}
 
-		articleRepository.update(article); // 게시물 업데이트
+		RequestIdentityMap.put(Article.class, id, article); // 같은 요청에서 다시 조회하면 수정된 게시물 리턴
+		RequestIdentityMap.evict(ArticleDto.Meta.class, id);
+
+		eventPublisher.publishEvent(new ArticleSavedEvent(article)); // 검색 색인 반영 (커밋 후)
 
 		return article;
 	}
 
+	@CacheEvict(cacheNames = ARTICLE_CACHE, key = "#id")
 	public void deleteArticle(Long id) {
 
-		Article article = getArticle(id);
+		articleWriteBehind.awaitWritten(id); // 아직 저장되지 않은 게시물은 저장된 후 삭제
+
+		if (articleRepository.deleteById(id) == 0) { // 삭제된 행이 없으면 존재하지 않는 게시물
+			throw new ArticleNotFoundException();
+		}
+
+		RequestIdentityMap.evict(Article.class, id);
+		RequestIdentityMap.evict(ArticleDto.Meta.class, id);
+
+		eventPublisher.publishEvent(new ArticleDeletedEvent(id)); // 검색 색인 반영 (커밋 후)
+	}
+
+	/**
+	 * 이미 조회된 게시물 리턴 (DB 는 조회하지 않음)
+	 * - 저장 대기 중인 게시물, 현재 요청에서 조회한 게시물, 캐시된 게시물 순으로 확인
+	 * @return 어디에도 없으면 null
+	 */
+	private Article findCachedArticle(Long id) {
+		final Article pending = articleWriteBehind.getPending(id);
+
+		if (pending != null) {
+			return pending;
+		}
+
+		final Article loaded = RequestIdentityMap.get(Article.class, id);
+
+		if (loaded != null) {
+			return loaded;
+		}
+
+		final Cache cache = cacheManager.getCache(ARTICLE_CACHE);
+
+		return cache == null ? null : cache.get(id, Article.class);
+	}
+
+	/**
+	 * 캐시된 게시물과 현재 요청에서 조회한 게시물 제거 (DB 와 버전이 달라진 경우)
+	 */
+	private void evictCachedArticle(Long id) {
+		final Cache cache = cacheManager.getCache(ARTICLE_CACHE);
+
+		if (cache != null) {
+			cache.evict(id);
+		}
+
+		RequestIdentityMap.evict(Article.class, id);
+		RequestIdentityMap.evict(ArticleDto.Meta.class, id);
+	}
+
+	/**
+	 * 수정 기준이 될 현재 버전 (권한 체크 시 조회한 변경 여부 확인용 정보 재사용)
+	 */
+	private long findCurrentVersion(Long id) {
+		return findArticleMeta(id).orElseThrow(ArticleNotFoundException::new).getVersion();
+	}
+
+	private LocalDateTime toUpdateDate(ArticleDto.Save saveDto) {
+		final LocalDateTime updateDate = saveDto.getUpdateDate() == null ? LocalDateTime.now() : saveDto.getUpdateDate();
+
+		return updateDate.truncatedTo(ChronoUnit.SECONDS); // DB 에 저장되는 값과 같도록 초 단위로 절삭
+	}
 
-		articleRepository.deleteById(id);
+	private int toPageSize(int size) {
+		return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
 	}
 
 }
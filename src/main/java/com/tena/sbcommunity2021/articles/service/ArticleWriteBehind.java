@@ -0,0 +1,340 @@
+package com.tena.sbcommunity2021.articles.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tena.sbcommunity2021.articles.domain.Article;
+import com.tena.sbcommunity2021.articles.event.ArticleSavedEvent;
+import com.tena.sbcommunity2021.articles.repository.ArticleRepository;
+import com.tena.sbcommunity2021.global.errors.ErrorCode;
+import com.tena.sbcommunity2021.global.errors.exception.CustomException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 게시물 쓰기 지연 (Write-Behind, app.articles.write-behind.enabled=true 일 때만 동작)
+ * - 게시물 작성 요청은 번호를 할당해 큐에 넣고 바로 응답하고, 별도 스레드(article-writer)가 큐에 쌓인 게시물을 모아 트랜잭션 한 번으로 저장
+ * - 큐가 가득 차면 작성 요청을 거절 (503), 요청 스레드가 DB 커밋을 기다리며 쌓이지 않도록 함
+ * - 접수한 후에는 실패를 알릴 수 없으므로 테이블 제약 조건(NOT NULL, 길이)은 접수할 때 확인하고, 그래도 저장하지 못한 게시물은 dead-letter 파일에 보관
+ * - 저장 대기 중인 게시물은 getPending 으로 조회할 수 있으므로, 작성한 게시물을 바로 조회해도 보임 (목록, 검색에는 저장된 후 반영)
+ * - 애플리케이션 종료 시 큐에 남은 게시물을 모두 저장한 후 종료 (shutdown-timeout 까지 기다리고, 그때까지 저장하지 못한 게시물은 dead-letter 파일에 보관)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleWriteBehind {
+
+	private static final long RETRY_BACKOFF_MILLIS = 100; // 저장 실패 시 첫 재시도 대기 시간 (실패할 때마다 2배)
+	private static final long MAX_RETRY_BACKOFF_MILLIS = 5000;
+	private static final long AWAIT_WRITTEN_TIMEOUT_MILLIS = 10000; // 저장 대기 중인 게시물을 수정/삭제할 때 저장될 때까지 기다리는 최대 시간
+
+	private final ArticleRepository articleRepository;
+	private final ArticleIdAllocator articleIdAllocator;
+	private final PlatformTransactionManager transactionManager;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ObjectMapper objectMapper;
+
+	@Value("${app.articles.write-behind.enabled:false}")
+	private boolean enabled;
+
+	@Value("${app.articles.write-behind.queue-capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${app.articles.write-behind.batch-size:500}")
+	private int batchSize;
+
+	@Value("${app.articles.write-behind.shutdown-timeout:30000}")
+	private long shutdownTimeout;
+
+	@Value("${app.articles.write-behind.dead-letter-file:logs/article-dead-letter.jsonl}")
+	private String deadLetterFile;
+
+	private final ConcurrentHashMap<Long, Article> pendingArticles = new ConcurrentHashMap<>(); // 게시물 번호 -> 저장 대기 중인 게시물
+	private final Object lock = new Object(); // 작성 요청 접수 여부, 저장 완료 알림용
+
+	private BlockingQueue<Article> queue;
+	private Thread writer;
+	private volatile boolean accepting;
+	private volatile long shutdownDeadline = Long.MAX_VALUE;
+
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		accepting = true;
+
+		writer = new Thread(this::writeLoop, "article-writer");
+		writer.start();
+
+		log.info("게시물 쓰기 지연 모드 시작 (큐 크기 : {}, 일괄 저장 단위 : {})", queueCapacity, batchSize);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 게시물 작성 요청 접수
+	 * - 게시물 번호를 할당하고 큐에 넣은 후 바로 리턴 (저장은 article-writer 스레드가 처리)
+	 * @throws CustomException 테이블 제약 조건을 위반하면 INVALID_INPUT_VALUE (400), 큐가 가득 찼거나 종료 중이면 ARTICLE_WRITE_QUEUE_FULL (503)
+	 */
+	public Article submit(Article article) {
+		validate(article);
+
+		article.setId(articleIdAllocator.nextId());
+		pendingArticles.put(article.getId(), article); // 큐에 넣기 전에 등록해야 저장되기 전에도 조회 가능
+
+		synchronized (lock) {
+			if (accepting && queue.offer(article)) {
+				return article;
+			}
+		}
+
+		pendingArticles.remove(article.getId());
+		throw new CustomException(ErrorCode.ARTICLE_WRITE_QUEUE_FULL);
+	}
+
+	/**
+	 * 저장 대기 중인 게시물 (없으면 null)
+	 */
+	public Article getPending(Long id) {
+		return pendingArticles.get(id);
+	}
+
+	/**
+	 * 저장 대기 중인 게시물이면 저장될 때까지 대기 (수정, 삭제 전에 호출)
+	 * @throws CustomException 제한 시간 안에 저장되지 않으면 ARTICLE_WRITE_PENDING (503)
+	 */
+	public void awaitWritten(Long id) {
+		if (!pendingArticles.containsKey(id)) {
+			return;
+		}
+
+		final long deadline = System.currentTimeMillis() + AWAIT_WRITTEN_TIMEOUT_MILLIS;
+
+		synchronized (lock) {
+			while (pendingArticles.containsKey(id)) {
+				final long remaining = deadline - System.currentTimeMillis();
+
+				if (remaining <= 0) {
+					throw new CustomException(ErrorCode.ARTICLE_WRITE_PENDING);
+				}
+
+				try {
+					lock.wait(remaining);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new CustomException(ErrorCode.ARTICLE_WRITE_PENDING);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 종료 시 새 작성 요청은 거절하고, 큐에 남은 게시물을 모두 저장할 때까지 대기
+	 * - 저장 스레드가 시간 안에 끝나지 않으면 (저장 중 멈춘 경우) 남은 게시물을 dead-letter 파일에 보관
+	 */
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		if (writer == null) {
+			return;
+		}
+
+		synchronized (lock) {
+			accepting = false;
+		}
+
+		shutdownDeadline = System.currentTimeMillis() + shutdownTimeout;
+		writer.join(shutdownTimeout);
+
+		if (writer.isAlive()) {
+			writer.interrupt();
+
+			final List<Article> remaining = new ArrayList<>(pendingArticles.values());
+			deadLetter(remaining, new TimeoutException("게시물 쓰기 지연 종료 시간 초과"));
+			markWritten(remaining);
+		} else {
+			log.info("게시물 쓰기 지연 모드 종료");
+		}
+	}
+
+	private void writeLoop() {
+		while (accepting || !queue.isEmpty()) {
+			if (System.currentTimeMillis() > shutdownDeadline) { // 종료 시간 초과, 남은 게시물은 저장하지 않고 보관
+				final List<Article> remaining = new ArrayList<>();
+				queue.drainTo(remaining);
+				deadLetter(remaining, new TimeoutException("게시물 쓰기 지연 종료 시간 초과"));
+				markWritten(remaining);
+				return;
+			}
+
+			final Article first;
+
+			try {
+				first = queue.poll(1, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				continue; // 종료 중이면 남은 게시물을 저장한 후 종료
+			}
+
+			if (first == null) {
+				continue;
+			}
+
+			final List<Article> batch = new ArrayList<>(batchSize);
+			batch.add(first);
+			queue.drainTo(batch, batchSize - 1);
+
+			write(batch);
+		}
+	}
+
+	/**
+	 * 게시물 일괄 저장
+	 * - 제약 조건 위반 등 데이터 문제로 실패하면 한 건씩 저장해서 문제가 있는 게시물만 제외 (dead-letter 파일에 보관)
+	 * - 그 외(DB 연결 실패 등)는 저장될 때까지 간격을 늘려가며 재시도 (종료 중이면 shutdown-timeout 까지만, 이후에는 dead-letter 파일에 보관)
+	 */
+	private void write(List<Article> batch) {
+		long backoff = RETRY_BACKOFF_MILLIS;
+
+		while (true) {
+			try {
+				insert(batch);
+				markWritten(batch);
+				return;
+			} catch (DataIntegrityViolationException e) {
+				if (batch.size() == 1) {
+					deadLetter(batch, e);
+					markWritten(batch);
+					return;
+				}
+
+				log.warn("게시물 일괄 저장 실패, 한 건씩 다시 저장 : {}건", batch.size(), e);
+				batch.forEach(article -> write(List.of(article)));
+				return;
+			} catch (RuntimeException e) {
+				if (System.currentTimeMillis() + backoff > shutdownDeadline) {
+					deadLetter(batch, e);
+					markWritten(batch);
+					return;
+				}
+
+				log.warn("게시물 일괄 저장 실패, {}ms 후 다시 시도 : {}건", backoff, batch.size(), e);
+				sleep(backoff);
+				backoff = Math.min(backoff * 2, MAX_RETRY_BACKOFF_MILLIS);
+			}
+		}
+	}
+
+	/**
+	 * 게시물 저장 및 검색 색인 반영 이벤트 발행 (커밋 후 반영)
+	 */
+	private void insert(List<Article> articles) {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			articleRepository.insertAll(articles);
+			articles.forEach(article -> eventPublisher.publishEvent(new ArticleSavedEvent(article)));
+		});
+	}
+
+	/**
+	 * 저장 대기 목록에서 제거하고 대기 중인 수정/삭제 요청에 알림 (저장했거나 dead-letter 파일에 보관한 게시물)
+	 */
+	private void markWritten(List<Article> articles) {
+		synchronized (lock) {
+			articles.forEach(article -> pendingArticles.remove(article.getId()));
+			lock.notifyAll();
+		}
+	}
+
+	/**
+	 * 저장하지 못한 게시물을 dead-letter 파일에 한 줄(JSON)씩 추가
+	 * - 작성 요청에는 이미 성공으로 응답했으므로 버리지 않고 보관 (번호가 미리 할당되어 있으므로 다시 저장해도 같은 게시물이 중복 저장되지 않음)
+	 * - 파일에도 기록하지 못하면 게시물 내용을 에러 로그로 남김
+	 */
+	private synchronized void deadLetter(List<Article> articles, Exception cause) {
+		if (articles.isEmpty()) {
+			return;
+		}
+
+		final Path path = Paths.get(deadLetterFile);
+
+		try {
+			final List<String> lines = new ArrayList<>(articles.size());
+
+			for (Article article : articles) {
+				lines.add(objectMapper.writeValueAsString(new DeadLetter(LocalDateTime.now(), cause.toString(), article)));
+			}
+
+			if (path.getParent() != null) {
+				Files.createDirectories(path.getParent());
+			}
+
+			Files.write(path, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+			log.error("게시물 저장 실패, dead-letter 파일에 보관 : {}건 ({})", articles.size(), path.toAbsolutePath(), cause);
+		} catch (IOException | RuntimeException e) {
+			log.error("게시물 저장 실패, dead-letter 파일({}) 기록도 실패 (원인 : {}) : {}", path.toAbsolutePath(), cause, articles, e);
+		}
+	}
+
+	private void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			// 종료 중이면 shutdownDeadline 으로 재시도 여부를 판단
+		}
+	}
+
+	/**
+	 * 접수한 게시물이 저장할 때 테이블 제약 조건(NOT NULL, 길이)을 위반하지 않는지 확인
+	 */
+	private static void validate(Article article) {
+		final String title = article.getTitle();
+		final String content = article.getContent();
+
+		if (title == null || title.codePointCount(0, title.length()) > Article.TITLE_MAX_LENGTH
+				|| content == null || content.getBytes(StandardCharsets.UTF_8).length > Article.CONTENT_MAX_BYTES
+				|| article.getAccountId() == null || article.getRegDate() == null || article.getUpdateDate() == null) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+		}
+	}
+
+	/**
+	 * dead-letter 파일의 한 줄 (실패 일시, 원인, 게시물)
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	static class DeadLetter {
+
+		private final LocalDateTime failedAt;
+
+		private final String cause;
+
+		private final Article article;
+
+	}
+
+}
@@ -1,20 +1,34 @@
 package com.tena.sbcommunity2021.articles.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tena.sbcommunity2021.articles.domain.Article;
 import com.tena.sbcommunity2021.articles.dto.ArticleDto;
+import com.tena.sbcommunity2021.articles.dto.ArticleDtoMapper;
+import com.tena.sbcommunity2021.articles.exception.ArticlePreconditionFailedException;
+import com.tena.sbcommunity2021.articles.service.ArticleBulkService;
+import com.tena.sbcommunity2021.articles.service.ArticleSearchService;
 import com.tena.sbcommunity2021.articles.service.ArticleService;
+import com.tena.sbcommunity2021.global.auth.LoginRequired;
+import com.tena.sbcommunity2021.global.auth.OwnerOnly;
+import com.tena.sbcommunity2021.global.commons.CursorPage;
 import com.tena.sbcommunity2021.global.commons.ResponseData;
+import com.tena.sbcommunity2021.global.commons.ResponseDataStream;
 import com.tena.sbcommunity2021.global.commons.UserAccount;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @Slf4j
 @Controller
@@ -23,53 +37,150 @@ import java.util.stream.Collectors;
 public class ArticleController {
 
 	private final ArticleService articleService;
-	private final ModelMapper modelMapper;
-	private final UserAccount userAccount;
+	private final ArticleSearchService articleSearchService;
+	private final ArticleBulkService articleBulkService;
+	private final ArticleDtoMapper articleDtoMapper;
+	private final ObjectMapper objectMapper;
 
 	@GetMapping
 	@ResponseBody
-	public ResponseData<List<ArticleDto.Response>> getArticles() {
-		List<Article> articles = articleService.getArticles();
+	public ResponseData<List<ArticleDto.Summary>> getArticles(@RequestParam(value = "cursor", required = false) Long cursor,
+	                                                          @RequestParam(value = "size", defaultValue = "20") int size,
+	                                                          ServletWebRequest webRequest) {
+		if (isConditionalRequest(webRequest)) {
+			ArticleDto.ListMeta listMeta = articleService.getArticlesMeta(cursor, size); // 목록을 조회하기 전에 변경 여부부터 확인
 
-		List<ArticleDto.Response> body = articles.stream()
-				.map(article -> modelMapper.map(article, ArticleDto.Response.class))
-				.collect(Collectors.toList());
-		// List<ArticleDto.Response> body = modelMapper.map(articles, new TypeToken<List<ArticleDto.Response>>() {}.getType());
+			if (checkNotModified(webRequest, listMeta.toETag(), -1)) {
+				return null; // 304 Not Modified : 목록 조회와 응답 직렬화를 생략
+			}
+		}
 
-		return ResponseData.of("S-1", "게시물 목록입니다.", body);
+		CursorPage<ArticleDto.Summary> articles = articleService.getArticles(cursor, size); // 목록은 요약 정보만 조회 (본문 전체는 단건 조회에서만)
+
+		if (!isConditionalRequest(webRequest)) { // 조건부 요청이 아니면 변경 여부 확인용 조회 없이, 조회한 목록으로 ETag 만 추가
+			checkNotModified(webRequest, ArticleDto.ListMeta.of(articles).toETag(), -1);
+		}
+
+		return ResponseData.of("S-1", "게시물 목록입니다.", articles.getContent(), articles.getNextCursor());
+	}
+
+	/**
+	 * 전체 게시물 요약 목록을 스트리밍으로 응답
+	 * - 조회 결과를 한 건씩 바로 응답 스트림에 기록하므로, 게시물 수와 무관하게 메모리 사용량이 일정
+	 */
+	@GetMapping("/stream")
+	public void streamArticles(HttpServletResponse response) throws IOException {
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding("UTF-8");
+
+		try (ResponseDataStream<ArticleDto.Summary> stream = ResponseDataStream.open(objectMapper, response.getOutputStream(), "S-1", "게시물 목록입니다.")) {
+			articleService.streamArticles(context -> stream.write(context.getResultObject()));
+			stream.complete();
+		}
+	}
+
+	/**
+	 * 게시물 검색 (제목, 본문 대상 / 관련도 순)
+	 */
+	@GetMapping("/search")
+	@ResponseBody
+	public ResponseData<ArticleDto.SearchResult> searchArticles(@RequestParam("q") String query,
+	                                                            @RequestParam(value = "page", defaultValue = "1") int page,
+	                                                            @RequestParam(value = "size", defaultValue = "20") int size) {
+		ArticleDto.SearchResult body = articleSearchService.search(query, page, size);
+
+		return ResponseData.of("S-1", String.format("'%s' 검색 결과입니다.", query), body);
 	}
 
+	/**
+	 * 게시물 조회
+	 * - 응답의 조회수는 조회할 때마다 바뀌므로 약한 ETag 사용 (304 응답도 조회수에 포함)
+	 */
 	@GetMapping("/{id}")
 	@ResponseBody
-	public ResponseData<ArticleDto.Response> getArticle(@PathVariable("id") Long id) {
+	public ResponseData<ArticleDto.Response> getArticle(@PathVariable("id") Long id, ServletWebRequest webRequest) {
+		if (isConditionalRequest(webRequest)) {
+			Optional<ArticleDto.Meta> meta = articleService.findArticleMeta(id); // 본문을 조회하기 전에 변경 여부부터 확인
+
+			if (meta.isPresent() && checkNotModified(webRequest, meta.get().toWeakETag(), meta.get().toLastModified())) {
+				articleService.increaseHits(id);
+
+				return null; // 304 Not Modified : 게시물 조회와 응답 직렬화를 생략
+			}
+		}
+
 		Article article = articleService.getArticle(id);
 
-		ArticleDto.Response body = modelMapper.map(article, ArticleDto.Response.class);
+		if (!isConditionalRequest(webRequest)) { // 조건부 요청이 아니면 변경 여부 확인용 조회 없이, 조회한 게시물로 ETag, Last-Modified 만 추가
+			final ArticleDto.Meta meta = ArticleDto.Meta.of(article);
+			checkNotModified(webRequest, meta.toWeakETag(), meta.toLastModified());
+		}
+
+		ArticleDto.Response body = articleDtoMapper.toResponse(article);
+		body.setHits(articleService.increaseHits(article)); // 이번 조회를 포함한 조회수
 
 		return ResponseData.of("S-1", String.format("%d번 게시물입니다.", id), body);
 	}
 
+	@LoginRequired
 	@RequestMapping("/new")
 	@ResponseBody
 	@ResponseStatus(HttpStatus.CREATED)
-	public ResponseData<ArticleDto.Response> createArticle(@Valid ArticleDto.Save saveDto) {
+	public ResponseData<ArticleDto.Response> createArticle(@Valid ArticleDto.Save saveDto, UserAccount userAccount) {
 		Article article = articleService.createArticle(userAccount.getAccountId(), saveDto);
 
-		ArticleDto.Response body = modelMapper.map(article, ArticleDto.Response.class);
+		ArticleDto.Response body = articleDtoMapper.toResponse(article);
 
 		return ResponseData.of("S-1", "게시물이 작성되었습니다.", body);
 	}
 
+	/**
+	 * 게시물 일괄 작성 (JSON 배열)
+	 * - 항목별 작성 결과와 유효성 검사 오류를 요청 순서대로 리턴
+	 */
+	@LoginRequired
+	@PostMapping("/bulk/new")
+	@ResponseBody
+	public ResponseData<ArticleDto.BulkResult> createArticles(@RequestBody List<ArticleDto.Save> saveDtos, UserAccount userAccount) {
+		ArticleDto.BulkResult body = articleBulkService.createArticles(userAccount.getAccountId(), saveDtos);
+
+		return ResponseData.of("S-1", String.format("게시물 %d건 중 %d건이 작성되었습니다.", body.getRequested(), body.getSucceeded()), body);
+	}
+
+	/**
+	 * 게시물 수정
+	 * - If-Match 에 게시물 조회 시 받은 ETag 를 지정하면, 그 사이 게시물이 수정된 경우 412 응답
+	 * - 응답의 ETag 는 수정된 게시물의 ETag (이어서 수정할 때 If-Match 로 사용)
+	 */
+	@OwnerOnly
 	@RequestMapping("/{id}/edit")
 	@ResponseBody
-	public ResponseData<ArticleDto.Response> updateArticle(@PathVariable("id") Long id, @Valid ArticleDto.Save saveDto) {
-		Article article = articleService.updateArticle(id, saveDto);
+	public ResponseData<ArticleDto.Response> updateArticle(@PathVariable("id") Long id, @Valid ArticleDto.Save saveDto,
+	                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+	                                                       HttpServletResponse response) {
+		Article article = articleService.updateArticle(id, saveDto, toExpectedVersion(id, ifMatch));
+
+		response.setHeader(HttpHeaders.ETAG, ArticleDto.Meta.of(article).toETag());
 
-		ArticleDto.Response body = modelMapper.map(article, ArticleDto.Response.class);
+		ArticleDto.Response body = articleDtoMapper.toResponse(article);
 
 		return ResponseData.of("S-1", String.format("%d번 게시물을 수정하였습니다.", id), body);
 	}
 
+	/**
+	 * 게시물 일괄 삭제 (게시물 번호 JSON 배열)
+	 * - 본인이 작성한 게시물만 삭제하고, 항목별 삭제 결과를 요청 순서대로 리턴
+	 */
+	@LoginRequired
+	@PostMapping("/bulk/delete")
+	@ResponseBody
+	public ResponseData<ArticleDto.BulkResult> deleteArticles(@RequestBody List<Long> ids, UserAccount userAccount) {
+		ArticleDto.BulkResult body = articleBulkService.deleteArticles(userAccount.getAccountId(), ids);
+
+		return ResponseData.of("S-1", String.format("게시물 %d건 중 %d건을 삭제하였습니다.", body.getRequested(), body.getSucceeded()), body);
+	}
+
+	@OwnerOnly
 	@GetMapping("/{id}/delete")
 	@ResponseBody
 	public ResponseData<Object> deleteArticle(@PathVariable("id") Long id) {
@@ -78,4 +189,43 @@ public class ArticleController {
 		return ResponseData.of("S-1", String.format("%d번 게시물을 삭제하였습니다.", id));
 	}
 
+	/**
+	 * If-Match 헤더에서 수정 기준이 될 게시물 버전 추출
+	 * - 헤더가 없거나 "*" 이면 null (현재 버전 기준으로 수정)
+	 * - 이 게시물의 ETag 하나가 아니면(다른 게시물, 여러 개 지정) 412 응답 (게시물 조회 응답의 약한 ETag 는 허용)
+	 */
+	private Long toExpectedVersion(Long id, String ifMatch) {
+		if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+			return null;
+		}
+
+		final Long version = ArticleDto.Meta.parseVersion(id, ifMatch.trim());
+
+		if (version == null) {
+			throw new ArticlePreconditionFailedException();
+		}
+
+		return version;
+	}
+
+	/**
+	 * 조건부 요청(If-None-Match, If-Modified-Since) 여부
+	 */
+	private boolean isConditionalRequest(ServletWebRequest webRequest) {
+		return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+	}
+
+	/**
+	 * 조건부 요청(If-None-Match, If-Modified-Since) 처리
+	 * - 응답에 ETag, Last-Modified 헤더를 추가하고, 변경되지 않았으면 304 상태로 설정
+	 * - Cache-Control: no-cache 로 클라이언트가 매번 재검증하도록 함 (Last-Modified 기반 추정 캐싱 방지)
+	 * @param lastModified 수정일시 (epoch milliseconds), 사용하지 않으면 -1
+	 * @return 변경되지 않았으면 true
+	 */
+	private boolean checkNotModified(ServletWebRequest webRequest, String eTag, long lastModified) {
+		webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+
+		return webRequest.checkNotModified(eTag, lastModified);
+	}
+
 }
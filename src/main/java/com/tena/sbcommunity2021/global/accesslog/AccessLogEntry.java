@@ -0,0 +1,103 @@
+package com.tena.sbcommunity2021.global.accesslog;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * 접근 로그 한 건 (저널에 기록되는 값, AccessLogReader 로 읽은 값)
+ * - 문자열 필드는 값이 없으면 빈 문자열
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class AccessLogEntry {
+
+	private final long timestamp; // 요청 완료 시각 (epoch ms)
+
+	private final long durationMicros;
+
+	private final int status;
+
+	@Builder.Default
+	private final String method = "";
+
+	@Builder.Default
+	private final String uri = "";
+
+	@Builder.Default
+	private final String query = ""; // 민감한 파라미터는 마스킹된 쿼리스트링
+
+	@Builder.Default
+	private final String handler = ""; // Ex. ArticleController.getArticle
+
+	@Builder.Default
+	private final String clientIp = "";
+
+	@Builder.Default
+	private final String exception = ""; // 핸들러 밖으로 전달된 예외 클래스 이름
+
+	/**
+	 * JSON 한 줄로 변환 (AccessLogReader 출력 형식)
+	 */
+	public String toJson() {
+		final StringBuilder json = new StringBuilder(128 + uri.length() + query.length());
+
+		json.append("{\"time\":\"").append(Instant.ofEpochMilli(timestamp)).append('"')
+				.append(",\"durationMicros\":").append(durationMicros)
+				.append(",\"status\":").append(status);
+		appendField(json, "method", method);
+		appendField(json, "uri", uri);
+		appendField(json, "query", query);
+		appendField(json, "handler", handler);
+		appendField(json, "clientIp", clientIp);
+		appendField(json, "exception", exception);
+
+		return json.append('}').toString();
+	}
+
+	private static void appendField(StringBuilder json, String name, String value) {
+		if (value.isEmpty()) {
+			return;
+		}
+
+		json.append(",\"").append(name).append("\":\"");
+
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+
+			switch (c) {
+				case '"':
+					json.append("\\\"");
+					break;
+				case '\\':
+					json.append("\\\\");
+					break;
+				case '\n':
+					json.append("\\n");
+					break;
+				case '\r':
+					json.append("\\r");
+					break;
+				case '\t':
+					json.append("\\t");
+					break;
+				default:
+					if (c < 0x20) {
+						json.append(String.format("\\u%04x", (int) c));
+					} else {
+						json.append(c);
+					}
+			}
+		}
+
+		json.append('"');
+	}
+
+}
@@ -0,0 +1,198 @@
+package com.tena.sbcommunity2021.global.accesslog;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * 접근 로그 저널 (메모리 맵 파일, 기록 스레드 전용)
+ * - 파일을 file-size 크기로 미리 만들어 메모리에 맵핑하고, 레코드를 순서대로 이어서 기록 (write 시스템 콜 없음)
+ * - 다음 레코드가 들어갈 공간이 없으면 새 파일로 교체하고, 파일이 max-files 개를 넘으면 오래된 파일부터 삭제
+ *
+ * 파일 형식 (big-endian)
+ * - 파일 헤더 (16 byte) : magic("SBAL", int) | version(short) | reserved(short) | 생성 시각(epoch ms, long)
+ * - 레코드 : 길이(int, 이후 바이트 수) | 완료 시각(long) | 처리 시간(μs, long) | 상태 코드(short)
+ *           | method, uri, query, handler, clientIp, exception 문자열 (각각 바이트 수(unsigned short) + UTF-8)
+ * - 길이가 0 이면 기록된 데이터의 끝 (레코드 내용을 먼저 쓰고 길이를 마지막에 쓰므로, 기록 중에 중단되어도 읽는 쪽은 그 앞까지만 읽음)
+ */
+@Slf4j
+public class AccessLogJournal implements Closeable {
+
+	public static final int MAGIC = 0x5342414C; // "SBAL"
+	public static final short VERSION = 1;
+	public static final int FILE_HEADER_SIZE = 16;
+	public static final String FILE_PREFIX = "access-";
+	public static final String FILE_SUFFIX = ".journal";
+
+	static final int MIN_FILE_SIZE = 64 * 1024;
+	static final int MAX_FIELD_LENGTH = 2048; // 문자열 필드 최대 길이 (초과하면 잘라서 기록, UTF-8 로 최대 6KB)
+
+	private static final int RECORD_FIXED_SIZE = 8 + 8 + 2;
+	private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+	private final Path directory;
+	private final int fileSize;
+	private final int maxFiles;
+
+	private Path currentFile;
+	private MappedByteBuffer buffer;
+
+	public AccessLogJournal(Path directory, long fileSize, int maxFiles) throws IOException {
+		this.directory = directory;
+		this.fileSize = (int) Math.min(Math.max(fileSize, MIN_FILE_SIZE), Integer.MAX_VALUE);
+		this.maxFiles = Math.max(maxFiles, 1);
+
+		Files.createDirectories(directory);
+		rotate();
+	}
+
+	public Path getCurrentFile() {
+		return currentFile;
+	}
+
+	/**
+	 * 레코드 기록 (공간이 부족하면 새 파일로 교체 후 기록)
+	 */
+	public void append(AccessLogEntry entry) {
+		final byte[][] fields = {
+				encode(entry.getMethod()),
+				encode(entry.getUri()),
+				encode(entry.getQuery()),
+				encode(entry.getHandler()),
+				encode(entry.getClientIp()),
+				encode(entry.getException())
+		};
+
+		int length = RECORD_FIXED_SIZE;
+
+		for (byte[] field : fields) {
+			length += 2 + field.length;
+		}
+
+		if (buffer.remaining() < 4 + length) {
+			try {
+				rotate();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		final int start = buffer.position();
+		buffer.position(start + 4);
+		buffer.putLong(entry.getTimestamp());
+		buffer.putLong(entry.getDurationMicros());
+		buffer.putShort((short) entry.getStatus());
+
+		for (byte[] field : fields) {
+			buffer.putShort((short) field.length);
+			buffer.put(field);
+		}
+
+		buffer.putInt(start, length); // 길이는 마지막에 기록
+	}
+
+	/**
+	 * 새 파일 생성 후 맵핑 (이전 파일은 디스크에 반영)
+	 */
+	private void rotate() throws IOException {
+		if (buffer != null) {
+			buffer.force();
+		}
+
+		final Path file = createFile();
+
+		try (FileChannel channel = FileChannel.open(file, READ, WRITE)) {
+			buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize); // 맵핑은 채널을 닫아도 유지됨 (새로 늘어난 영역은 0으로 채워짐)
+		}
+
+		buffer.putInt(MAGIC);
+		buffer.putShort(VERSION);
+		buffer.putShort((short) 0);
+		buffer.putLong(System.currentTimeMillis());
+
+		if (currentFile != null) {
+			log.debug("접근 로그 파일 교체 : {} -> {}", currentFile.getFileName(), file.getFileName());
+		}
+		currentFile = file;
+
+		deleteOldFiles();
+	}
+
+	private Path createFile() throws IOException {
+		final String timestamp = LocalDateTime.now().format(FILE_NAME_FORMAT);
+
+		for (int suffix = 0; ; suffix++) {
+			final Path file = directory.resolve(String.format("%s%s-%03d%s", FILE_PREFIX, timestamp, suffix, FILE_SUFFIX));
+
+			try {
+				try (FileChannel channel = FileChannel.open(file, CREATE_NEW, WRITE)) {
+					channel.truncate(0);
+				}
+				return file;
+			} catch (FileAlreadyExistsException e) {
+				// 같은 시각(ms)에 만든 파일이 있으면 다음 번호로 다시 시도
+			}
+		}
+	}
+
+	private void deleteOldFiles() throws IOException {
+		final List<Path> files = listFiles(directory);
+
+		for (int i = 0; i < files.size() - maxFiles; i++) {
+			Files.deleteIfExists(files.get(i));
+		}
+	}
+
+	/**
+	 * 디렉토리의 저널 파일 목록 (생성 시각 순, 파일 이름에 생성 시각이 포함되어 있으므로 이름 순)
+	 */
+	public static List<Path> listFiles(Path directory) throws IOException {
+		final List<Path> files = new ArrayList<>();
+
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+			stream.forEach(files::add);
+		}
+
+		Collections.sort(files);
+		return files;
+	}
+
+	private static byte[] encode(String value) {
+		if (value == null || value.isEmpty()) {
+			return new byte[0];
+		}
+
+		if (value.length() > MAX_FIELD_LENGTH) {
+			value = value.substring(0, MAX_FIELD_LENGTH);
+		}
+
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public void close() {
+		if (buffer != null) {
+			buffer.force();
+			buffer = null; // 맵핑은 GC 시점에 해제됨
+		}
+	}
+
+}
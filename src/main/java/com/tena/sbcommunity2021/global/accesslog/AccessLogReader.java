@@ -0,0 +1,121 @@
+package com.tena.sbcommunity2021.global.accesslog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * 접근 로그 저널 판독기 (AccessLogJournal 형식)
+ * - 스프링 없이 실행할 수 있도록 JDK 클래스만 사용
+ * - 사용법 : java -cp target/classes com.tena.sbcommunity2021.global.accesslog.AccessLogReader [파일 또는 디렉토리...]
+ *   (인자가 없으면 logs/access, 디렉토리는 안의 저널 파일을 생성 시각 순으로 읽음)
+ * - 한 줄에 레코드 하나씩 JSON 으로 출력
+ */
+public final class AccessLogReader {
+
+	private AccessLogReader() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		final String[] paths = args.length == 0 ? new String[]{"logs/access"} : args;
+
+		for (String path : paths) {
+			for (Path file : resolve(Paths.get(path))) {
+				read(file, entry -> System.out.println(entry.toJson()));
+			}
+		}
+	}
+
+	/**
+	 * 디렉토리면 안의 저널 파일 목록, 파일이면 그 파일
+	 */
+	public static List<Path> resolve(Path path) throws IOException {
+		if (Files.isDirectory(path)) {
+			return AccessLogJournal.listFiles(path);
+		}
+
+		final List<Path> files = new ArrayList<>();
+		files.add(path);
+		return files;
+	}
+
+	/**
+	 * 저널 파일 하나의 레코드를 순서대로 전달
+	 * @return 읽은 레코드 수
+	 * @throws IOException 저널 파일 형식이 아닌 경우
+	 */
+	public static int read(Path file, Consumer<AccessLogEntry> consumer) throws IOException {
+		final MappedByteBuffer buffer;
+
+		try (FileChannel channel = FileChannel.open(file, READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+
+		if (buffer.remaining() < AccessLogJournal.FILE_HEADER_SIZE || buffer.getInt() != AccessLogJournal.MAGIC) {
+			throw new IOException("접근 로그 저널 파일이 아닙니다 : " + file);
+		}
+
+		final short version = buffer.getShort();
+
+		if (version != AccessLogJournal.VERSION) {
+			throw new IOException("지원하지 않는 저널 버전입니다 : " + version + " (" + file + ")");
+		}
+
+		buffer.position(AccessLogJournal.FILE_HEADER_SIZE);
+		int count = 0;
+
+		while (buffer.remaining() >= 4) {
+			final int length = buffer.getInt();
+
+			if (length <= 0 || length > buffer.remaining()) { // 기록된 데이터의 끝
+				break;
+			}
+
+			final ByteBuffer record = buffer.slice();
+			record.limit(length);
+			buffer.position(buffer.position() + length);
+
+			consumer.accept(decode(record));
+			count++;
+		}
+
+		return count;
+	}
+
+	private static AccessLogEntry decode(ByteBuffer record) {
+		return AccessLogEntry.builder()
+				.timestamp(record.getLong())
+				.durationMicros(record.getLong())
+				.status(record.getShort())
+				.method(readString(record))
+				.uri(readString(record))
+				.query(readString(record))
+				.handler(readString(record))
+				.clientIp(readString(record))
+				.exception(readString(record))
+				.build();
+	}
+
+	private static String readString(ByteBuffer record) {
+		final int length = record.getShort() & 0xFFFF;
+
+		if (length == 0) {
+			return "";
+		}
+
+		final byte[] bytes = new byte[length];
+		record.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.tena.sbcommunity2021.global.accesslog;
+
+/**
+ * 접근 로그 링 버퍼의 슬롯 (재사용되는 가변 객체)
+ * - 요청 스레드는 값(참조)만 채우고, 문자열 가공(마스킹, 핸들러 이름)과 인코딩은 기록 스레드가 처리
+ */
+final class AccessLogRecord {
+
+	long timestamp; // 요청 완료 시각 (epoch ms)
+	long durationNanos;
+	int status;
+	String method;
+	String uri;
+	String queryString; // 마스킹 전 원본
+	Object handler;
+	String clientIp;
+	Class<?> exception;
+
+	/**
+	 * 기록 후 참조 해제 (슬롯이 다시 사용될 때까지 요청 객체의 값을 붙잡고 있지 않도록)
+	 */
+	void clear() {
+		method = null;
+		uri = null;
+		queryString = null;
+		handler = null;
+		clientIp = null;
+		exception = null;
+	}
+
+}
@@ -0,0 +1,115 @@
+package com.tena.sbcommunity2021.global.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 접근 로그 링 버퍼 (다중 생산자, 단일 소비자, 잠금 없음)
+ * - 슬롯을 미리 할당해 두고 재사용하므로 요청마다 객체를 생성하지 않음
+ * - 생산자(요청 스레드)는 CAS 로 시퀀스를 할당받아 슬롯을 채운 후 발행(publish), 소비자(기록 스레드)는 발행된 순서대로 읽음
+ * - 버퍼가 가득 차면 기다리지 않고 버림 (dropped 로 집계), 요청 처리가 로그 기록 때문에 지연되지 않도록 함
+ */
+final class AccessLogRingBuffer {
+
+	private final AccessLogRecord[] slots;
+	private final AtomicLongArray published; // 슬롯별로 마지막에 발행된 시퀀스
+	private final int mask;
+
+	private final AtomicLong claimed = new AtomicLong(); // 다음에 할당할 시퀀스
+	private final AtomicLong consumed = new AtomicLong(); // 다음에 읽을 시퀀스 (소비자만 변경)
+	private final LongAdder dropped = new LongAdder();
+
+	AccessLogRingBuffer(int requestedCapacity) {
+		final int capacity = capacityFor(requestedCapacity);
+
+		this.slots = new AccessLogRecord[capacity];
+		this.published = new AtomicLongArray(capacity);
+		this.mask = capacity - 1;
+
+		for (int i = 0; i < capacity; i++) {
+			slots[i] = new AccessLogRecord();
+			published.set(i, -1);
+		}
+	}
+
+	/**
+	 * 2의 거듭제곱으로 올림 (시퀀스 -> 슬롯 위치를 나머지 연산 대신 비트 연산으로 계산)
+	 */
+	static int capacityFor(int requestedCapacity) {
+		if (requestedCapacity <= 1) {
+			return 2;
+		}
+
+		return Integer.highestOneBit(requestedCapacity - 1) << 1;
+	}
+
+	int capacity() {
+		return slots.length;
+	}
+
+	/**
+	 * 슬롯 할당
+	 * @return 할당된 시퀀스, 버퍼가 가득 차면 -1
+	 */
+	long claim() {
+		long sequence;
+
+		do {
+			sequence = claimed.get();
+
+			if (sequence - consumed.get() >= slots.length) {
+				dropped.increment();
+				return -1;
+			}
+		} while (!claimed.compareAndSet(sequence, sequence + 1));
+
+		return sequence;
+	}
+
+	AccessLogRecord get(long sequence) {
+		return slots[(int) sequence & mask];
+	}
+
+	/**
+	 * 슬롯을 다 채운 후 호출 (이후 소비자가 읽을 수 있음)
+	 */
+	void publish(long sequence) {
+		published.lazySet((int) sequence & mask, sequence);
+	}
+
+	/**
+	 * 발행된 레코드를 순서대로 처리 (소비자 스레드 전용)
+	 * - 앞 순서의 레코드가 아직 발행되지 않았으면 거기서 멈춤
+	 * @return 처리한 레코드 수
+	 */
+	int drain(Consumer<AccessLogRecord> handler) {
+		long sequence = consumed.get();
+		int count = 0;
+
+		while (published.get((int) sequence & mask) == sequence) {
+			final AccessLogRecord record = slots[(int) sequence & mask];
+
+			try {
+				handler.accept(record);
+			} finally {
+				record.clear();
+				consumed.lazySet(++sequence); // 처리가 끝난 후에 슬롯 반환
+			}
+
+			count++;
+		}
+
+		return count;
+	}
+
+	boolean isEmpty() {
+		return consumed.get() == claimed.get();
+	}
+
+	long getDropped() {
+		return dropped.sum();
+	}
+
+}
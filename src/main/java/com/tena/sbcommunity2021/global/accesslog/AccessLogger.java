@@ -0,0 +1,268 @@
+package com.tena.sbcommunity2021.global.accesslog;
+
+import com.tena.sbcommunity2021.global.commons.utils.ClientIpHelper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.method.HandlerMethod;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 접근 로그 (app.access-log)
+ * - 요청 스레드는 링 버퍼 슬롯에 요청 정보(참조)만 채우고 바로 리턴 (문자열 생성, 파일 기록 없음)
+ * - 기록 스레드(access-log-writer)가 버퍼를 비우면서 민감한 파라미터를 마스킹하고 메모리 맵 저널 파일(AccessLogJournal)에 기록
+ * - 정상 응답은 sample-rate 비율만큼만 기록, 오류 응답(4xx, 5xx)과 예외는 항상 기록
+ * - 버퍼가 가득 차면 버리고 app.access-log.dropped 로 집계 (저널 파일은 AccessLogReader 로 확인)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessLogger {
+
+	public static final String WRITTEN_COUNTER = "app.access-log.written";
+	public static final String DROPPED_COUNTER = "app.access-log.dropped";
+
+	static final String MASK = "*****";
+
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1); // 버퍼가 비었을 때 기록 스레드 대기 시간
+	private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${app.access-log.enabled:true}")
+	private boolean enabled;
+
+	@Value("${app.access-log.directory:logs/access}")
+	private String directory;
+
+	@Value("${app.access-log.file-size:64MB}")
+	private DataSize fileSize;
+
+	@Value("${app.access-log.max-files:10}")
+	private int maxFiles;
+
+	@Value("${app.access-log.buffer-size:8192}")
+	private int bufferSize;
+
+	@Value("${app.access-log.sample-rate:1.0}")
+	private double sampleRate; // 정상 응답 기록 비율 (0.0 ~ 1.0)
+
+	@Value("${app.trusted-proxies:0}")
+	private int trustedProxies; // 앞단 프록시 수 (클라이언트 IP 확인용)
+
+	@Value("${app.access-log.masked-parameters:password,pass,pwd}")
+	private String[] maskedParameters; // 이름에 포함되어 있으면 값을 마스킹할 파라미터 (대소문자 무시)
+
+	private final LongAdder written = new LongAdder();
+
+	private AccessLogRingBuffer ringBuffer;
+	private AccessLogJournal journal;
+	private Thread writer;
+	private volatile boolean running;
+
+	@PostConstruct
+	public void start() {
+		for (int i = 0; i < maskedParameters.length; i++) {
+			maskedParameters[i] = maskedParameters[i].trim().toLowerCase(Locale.ROOT);
+		}
+
+		if (!enabled) {
+			return;
+		}
+
+		try {
+			journal = new AccessLogJournal(Paths.get(directory), fileSize.toBytes(), maxFiles);
+		} catch (IOException e) {
+			log.warn("접근 로그 파일을 만들 수 없어 접근 로그를 기록하지 않습니다 (directory : {})", directory, e);
+			return;
+		}
+
+		ringBuffer = new AccessLogRingBuffer(bufferSize);
+		running = true;
+
+		writer = new Thread(this::writeLoop, "access-log-writer");
+		writer.setDaemon(true);
+		writer.start();
+
+		FunctionCounter.builder(WRITTEN_COUNTER, written, LongAdder::sum)
+				.description("접근 로그 기록 건수")
+				.register(meterRegistry);
+		FunctionCounter.builder(DROPPED_COUNTER, ringBuffer, AccessLogRingBuffer::getDropped)
+				.description("버퍼가 가득 차서 버린 접근 로그 건수")
+				.register(meterRegistry);
+
+		log.info("접근 로그 기록 시작 (파일 : {}, 버퍼 크기 : {}, 기록 비율 : {})", journal.getCurrentFile(), ringBuffer.capacity(), sampleRate);
+	}
+
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * 요청 완료 시 호출 (CommonInterceptor.afterCompletion)
+	 * @param startNanos 요청 처리 시작 시각 (System.nanoTime)
+	 */
+	public void record(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex, long startNanos) {
+		if (!running) {
+			return;
+		}
+
+		final int status = response.getStatus();
+
+		if (ex == null && status < 400 && sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+			return;
+		}
+
+		final long sequence = ringBuffer.claim();
+
+		if (sequence < 0) { // 버퍼가 가득 참
+			return;
+		}
+
+		final AccessLogRecord record = ringBuffer.get(sequence);
+		record.timestamp = System.currentTimeMillis();
+		record.durationNanos = System.nanoTime() - startNanos;
+		record.status = status;
+		record.method = request.getMethod();
+		record.uri = request.getRequestURI();
+		record.queryString = request.getQueryString();
+		record.handler = handler;
+		record.clientIp = ClientIpHelper.getClientIp(request, trustedProxies); // 클라이언트가 보낸 X-FORWARDED-FOR 값을 그대로 기록하지 않음
+		record.exception = ex == null ? null : ex.getClass();
+
+		ringBuffer.publish(sequence);
+	}
+
+	/**
+	 * 민감한 파라미터 여부 (이름에 masked-parameters 중 하나가 포함되어 있으면 민감한 파라미터)
+	 */
+	public boolean isSensitiveParameter(String name) {
+		final String lowerCaseName = name.toLowerCase(Locale.ROOT);
+
+		for (String maskedParameter : maskedParameters) {
+			if (lowerCaseName.contains(maskedParameter)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * 쿼리스트링의 민감한 파라미터 값을 마스킹 (Ex. username=user1&password=1234 -> username=user1&password=*****)
+	 */
+	String maskQueryString(String queryString) {
+		if (queryString == null || queryString.isEmpty()) {
+			return "";
+		}
+
+		final StringBuilder masked = new StringBuilder(queryString.length());
+		int start = 0;
+
+		while (start <= queryString.length()) {
+			int end = queryString.indexOf('&', start);
+
+			if (end < 0) {
+				end = queryString.length();
+			}
+
+			final int equals = queryString.indexOf('=', start);
+			final String name = queryString.substring(start, equals < 0 || equals > end ? end : equals);
+
+			if (masked.length() > 0) {
+				masked.append('&');
+			}
+
+			if (equals >= 0 && equals < end && isSensitiveParameter(name)) {
+				masked.append(name).append('=').append(MASK);
+			} else {
+				masked.append(queryString, start, end);
+			}
+
+			start = end + 1;
+		}
+
+		return masked.toString();
+	}
+
+	private void writeLoop() {
+		while (running || !ringBuffer.isEmpty()) {
+			int count = 0;
+
+			try {
+				count = ringBuffer.drain(this::write);
+			} catch (RuntimeException e) {
+				log.warn("접근 로그 기록 실패", e);
+			}
+
+			if (count == 0) {
+				LockSupport.parkNanos(IDLE_PARK_NANOS);
+			}
+		}
+
+		journal.close();
+	}
+
+	private void write(AccessLogRecord record) {
+		journal.append(toEntry(record));
+		written.increment();
+	}
+
+	AccessLogEntry toEntry(AccessLogRecord record) {
+		return AccessLogEntry.builder()
+				.timestamp(record.timestamp)
+				.durationMicros(TimeUnit.NANOSECONDS.toMicros(record.durationNanos))
+				.status(record.status)
+				.method(nullToEmpty(record.method))
+				.uri(nullToEmpty(record.uri))
+				.query(maskQueryString(record.queryString))
+				.handler(handlerName(record.handler))
+				.clientIp(nullToEmpty(record.clientIp))
+				.exception(record.exception == null ? "" : record.exception.getName())
+				.build();
+	}
+
+	private static String nullToEmpty(String value) {
+		return value == null ? "" : value;
+	}
+
+	private static String handlerName(Object handler) {
+		if (handler instanceof HandlerMethod) {
+			final HandlerMethod handlerMethod = (HandlerMethod) handler;
+			return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+		}
+
+		return handler == null ? "" : handler.getClass().getSimpleName();
+	}
+
+	/**
+	 * 종료 시 버퍼에 남은 로그를 모두 기록한 후 파일을 닫음
+	 */
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		if (writer == null) {
+			return;
+		}
+
+		running = false;
+		LockSupport.unpark(writer);
+		writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+		writer = null;
+	}
+
+}
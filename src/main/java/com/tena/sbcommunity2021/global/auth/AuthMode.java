@@ -0,0 +1,11 @@
+package com.tena.sbcommunity2021.global.auth;
+
+/**
+ * 인증 방식 (app.auth.mode)
+ */
+public enum AuthMode {
+
+	SESSION, // 로그인한 사용자를 HttpSession 에 보관 (여러 서버로 확장하려면 고정 세션 필요)
+	TOKEN // 로그인 시 서명된 토큰을 발급하고, 요청마다 Authorization 헤더의 토큰을 검증 (서버에 상태를 두지 않음)
+
+}
@@ -0,0 +1,171 @@
+package com.tena.sbcommunity2021.global.auth;
+
+import com.tena.sbcommunity2021.global.commons.UserAccount;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명된 인증 토큰 발급, 검증 (토큰 모드)
+ * - 토큰 : base64url(버전, 회원 번호, 권한레벨, 만료일시) + "." + base64url(HMAC-SHA256 서명)
+ * - 검증은 서명과 만료일시만 확인하므로 DB, 세션을 조회하지 않음 (같은 secret 을 쓰는 서버라면 어느 서버에서나 검증)
+ * - 로그아웃한 토큰은 만료될 때까지 메모리의 거부 목록에 보관 (서버마다 따로 보관)
+ */
+@Component
+public class AuthTokenService {
+
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final byte VERSION = 1;
+	private static final int PAYLOAD_LENGTH = 1 + Long.BYTES + Integer.BYTES + Long.BYTES;
+	private static final int MIN_SECRET_LENGTH = 32; // HMAC-SHA256 키는 32바이트 이상
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	@Value("${app.auth.token.secret:}")
+	private String secret; // 비어 있으면 구동할 때마다 임의로 생성 (재시작하면 발급한 토큰이 모두 무효)
+
+	@Value("${app.auth.token.ttl:1h}")
+	private Duration ttl; // 토큰 유효 기간
+
+	private final Map<String, Long> revoked = new ConcurrentHashMap<>(); // 서명 -> 만료일시 (epoch seconds)
+
+	private boolean generatedSecret;
+	private SecretKeySpec key;
+	private ThreadLocal<Mac> macs; // Mac 은 스레드에 안전하지 않으므로 스레드마다 생성해서 재사용
+
+	@PostConstruct
+	public void init() {
+		final byte[] secretBytes;
+
+		if (secret == null || secret.isBlank()) {
+			secretBytes = new byte[MIN_SECRET_LENGTH];
+			new SecureRandom().nextBytes(secretBytes);
+			generatedSecret = true;
+		} else {
+			secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+
+			if (secretBytes.length < MIN_SECRET_LENGTH) {
+				throw new IllegalStateException(String.format("app.auth.token.secret 은 %d바이트 이상이어야 합니다.", MIN_SECRET_LENGTH));
+			}
+		}
+
+		key = new SecretKeySpec(secretBytes, ALGORITHM);
+		macs = ThreadLocal.withInitial(this::newMac);
+	}
+
+	/**
+	 * 토큰 발급
+	 */
+	public String issue(UserAccount userAccount) {
+		final ByteBuffer payload = ByteBuffer.allocate(PAYLOAD_LENGTH)
+				.put(VERSION)
+				.putLong(userAccount.getAccountId())
+				.putInt(userAccount.getAuthLevel())
+				.putLong(now() + ttl.getSeconds());
+
+		return ENCODER.encodeToString(payload.array()) + "." + ENCODER.encodeToString(sign(payload.array()));
+	}
+
+	/**
+	 * 토큰 검증
+	 * @return 토큰의 사용자, 형식이 다르거나 서명이 맞지 않거나 만료(로그아웃 포함)되었으면 null
+	 */
+	public UserAccount verify(String token) {
+		final int dot = token == null ? -1 : token.indexOf('.');
+
+		if (dot <= 0) {
+			return null;
+		}
+
+		final byte[] payload;
+		final byte[] signature;
+
+		try {
+			payload = DECODER.decode(token.substring(0, dot));
+			signature = DECODER.decode(token.substring(dot + 1));
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+
+		if (payload.length != PAYLOAD_LENGTH || payload[0] != VERSION || !MessageDigest.isEqual(sign(payload), signature)) {
+			return null;
+		}
+
+		final ByteBuffer buffer = ByteBuffer.wrap(payload, 1, PAYLOAD_LENGTH - 1);
+		final long accountId = buffer.getLong();
+		final int authLevel = buffer.getInt();
+		final long expiresAt = buffer.getLong();
+
+		if (expiresAt <= now() || (!revoked.isEmpty() && revoked.containsKey(token.substring(dot + 1)))) {
+			return null;
+		}
+
+		return UserAccount.of(accountId, authLevel);
+	}
+
+	/**
+	 * 토큰 폐기 (로그아웃)
+	 * - 만료될 때까지 거부 목록에 보관하고, 이미 만료된 항목은 이때 정리
+	 * @return 유효한 토큰이었으면 true
+	 */
+	public boolean revoke(String token) {
+		if (verify(token) == null) {
+			return false;
+		}
+
+		final long now = now();
+		revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+		final ByteBuffer payload = ByteBuffer.wrap(DECODER.decode(token.substring(0, token.indexOf('.'))));
+		revoked.put(token.substring(token.indexOf('.') + 1), payload.getLong(1 + Long.BYTES + Integer.BYTES));
+
+		return true;
+	}
+
+	/**
+	 * secret 을 지정하지 않아 임의로 생성한 키를 사용 중인지 여부
+	 */
+	public boolean isGeneratedSecret() {
+		return generatedSecret;
+	}
+
+	public Duration getTtl() {
+		return ttl;
+	}
+
+	int getRevokedCount() {
+		return revoked.size();
+	}
+
+	private byte[] sign(byte[] payload) {
+		return macs.get().doFinal(payload);
+	}
+
+	private Mac newMac() {
+		try {
+			final Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(key);
+			return mac;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static long now() {
+		return System.currentTimeMillis() / 1000;
+	}
+
+}
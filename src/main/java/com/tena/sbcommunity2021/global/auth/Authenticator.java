@@ -0,0 +1,122 @@
+package com.tena.sbcommunity2021.global.auth;
+
+import com.tena.sbcommunity2021.accounts.domain.Account;
+import com.tena.sbcommunity2021.global.commons.UserAccount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+/**
+ * 현재 요청의 사용자 확인, 로그인/로그아웃 처리 (app.auth.mode)
+ * - 세션 모드 : 로그인한 사용자를 세션에 보관 (세션이 없는 요청은 세션을 만들지 않음)
+ * - 토큰 모드 : Authorization: Bearer {토큰} 헤더의 서명만 검증 (DB, 세션을 조회하지 않음)
+ * - 확인한 사용자는 요청 속성에 보관해서, 같은 요청에서는 한 번만 확인 (권한 체크, 핸들러 파라미터)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class Authenticator {
+
+	public static final String SESSION_ATTRIBUTE = UserAccount.class.getName(); // 세션 모드에서 로그인한 사용자를 보관하는 세션 속성
+	static final String REQUEST_ATTRIBUTE = Authenticator.class.getName() + ".userAccount";
+
+	private static final String BEARER_PREFIX = "Bearer ";
+
+	private final AuthTokenService authTokenService;
+
+	@Value("${app.auth.mode:session}")
+	private AuthMode mode;
+
+	@PostConstruct
+	public void init() {
+		if (mode == AuthMode.TOKEN && authTokenService.isGeneratedSecret()) {
+			log.warn("app.auth.token.secret 이 지정되지 않아 임의의 키로 토큰을 서명합니다 (재시작하면 발급한 토큰이 모두 무효, 서버마다 키가 다름)");
+		}
+	}
+
+	public AuthMode getMode() {
+		return mode;
+	}
+
+	/**
+	 * 현재 요청의 사용자
+	 * @return 로그인하지 않았거나 토큰이 유효하지 않으면 UserAccount.ANONYMOUS
+	 */
+	public UserAccount getUserAccount(HttpServletRequest request) {
+		final Object resolved = request.getAttribute(REQUEST_ATTRIBUTE);
+
+		if (resolved instanceof UserAccount) {
+			return (UserAccount) resolved;
+		}
+
+		final UserAccount userAccount = mode == AuthMode.TOKEN ? fromToken(request) : fromSession(request);
+		request.setAttribute(REQUEST_ATTRIBUTE, userAccount);
+
+		return userAccount;
+	}
+
+	/**
+	 * 로그인 처리 (아이디, 비밀번호는 확인된 상태)
+	 * @return 토큰 모드면 발급한 토큰, 세션 모드면 null
+	 */
+	public String login(HttpServletRequest request, Account account) {
+		final UserAccount userAccount = UserAccount.of(account);
+		request.setAttribute(REQUEST_ATTRIBUTE, userAccount);
+
+		if (mode == AuthMode.TOKEN) {
+			return authTokenService.issue(userAccount);
+		}
+
+		request.getSession().setAttribute(SESSION_ATTRIBUTE, userAccount);
+		return null;
+	}
+
+	/**
+	 * 로그아웃 처리 (세션 모드는 세션 삭제, 토큰 모드는 토큰을 만료될 때까지 거부)
+	 */
+	public void logout(HttpServletRequest request) {
+		request.removeAttribute(REQUEST_ATTRIBUTE);
+
+		if (mode == AuthMode.TOKEN) {
+			authTokenService.revoke(getBearerToken(request));
+			return;
+		}
+
+		final HttpSession session = request.getSession(false);
+
+		if (session != null) {
+			session.invalidate();
+		}
+	}
+
+	private UserAccount fromToken(HttpServletRequest request) {
+		final String token = getBearerToken(request);
+		final UserAccount userAccount = token == null ? null : authTokenService.verify(token);
+
+		return userAccount == null ? UserAccount.ANONYMOUS : userAccount;
+	}
+
+	private UserAccount fromSession(HttpServletRequest request) {
+		final HttpSession session = request.getSession(false);
+		final Object userAccount = session == null ? null : session.getAttribute(SESSION_ATTRIBUTE);
+
+		return userAccount instanceof UserAccount ? (UserAccount) userAccount : UserAccount.ANONYMOUS;
+	}
+
+	private static String getBearerToken(HttpServletRequest request) {
+		final String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+		if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+			return null;
+		}
+
+		return authorization.substring(BEARER_PREFIX.length()).trim();
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.tena.sbcommunity2021.global.auth;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 핸들러 메서드별 접근 권한
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class AuthorizationRule {
+
+	public static final AuthorizationRule PUBLIC = new AuthorizationRule(false, null);
+	public static final AuthorizationRule LOGIN_REQUIRED = new AuthorizationRule(true, null);
+
+	private final boolean loginRequired;
+
+	private final String ownerIdVariable; // 작성자 확인이 필요하면 게시물 번호를 담은 경로 변수 이름, 아니면 null
+
+	public static AuthorizationRule ownerOnly(String idVariable) {
+		return new AuthorizationRule(true, idVariable);
+	}
+
+	public boolean isOwnerOnly() {
+		return ownerIdVariable != null;
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.tena.sbcommunity2021.global.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 핸들러 메서드별 접근 권한표
+ * - 애플리케이션 구동 시 모든 핸들러 메서드의 @LoginRequired, @OwnerOnly 를 읽어서 한 번만 생성
+ * - 요청마다 URI 를 경로 패턴과 비교하지 않고, 요청과 맵핑된 핸들러 메서드로 권한을 바로 조회
+ *   (URI 와 핸들러의 맵핑은 HandlerMapping 이 미리 파싱해 둔 PathPattern 으로 이미 처리됨)
+ */
+@Slf4j
+@Component
+public class AuthorizationTable implements ApplicationListener<ContextRefreshedEvent> {
+
+	private final Map<Method, AuthorizationRule> rules = new ConcurrentHashMap<>();
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		event.getApplicationContext().getBeansOfType(RequestMappingHandlerMapping.class).values()
+				.forEach(handlerMapping -> handlerMapping.getHandlerMethods().forEach(this::register));
+	}
+
+	private void register(RequestMappingInfo mappingInfo, HandlerMethod handlerMethod) {
+		final AuthorizationRule rule = getRule(handlerMethod);
+
+		if (rule != AuthorizationRule.PUBLIC) {
+			log.info("접근 권한 : {} {} -> {}", mappingInfo, handlerMethod.getShortLogMessage(), rule);
+		}
+	}
+
+	/**
+	 * 핸들러 메서드의 접근 권한 (구동 시 등록되지 않은 핸들러는 처음 요청될 때 한 번만 생성)
+	 */
+	public AuthorizationRule getRule(HandlerMethod handlerMethod) {
+		return rules.computeIfAbsent(handlerMethod.getMethod(), method -> createRule(handlerMethod));
+	}
+
+	private static AuthorizationRule createRule(HandlerMethod handlerMethod) {
+		final OwnerOnly ownerOnly = handlerMethod.getMethodAnnotation(OwnerOnly.class);
+
+		if (ownerOnly != null) {
+			return AuthorizationRule.ownerOnly(ownerOnly.idVariable());
+		}
+
+		if (handlerMethod.hasMethodAnnotation(LoginRequired.class)
+				|| AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), LoginRequired.class)) {
+			return AuthorizationRule.LOGIN_REQUIRED;
+		}
+
+		return AuthorizationRule.PUBLIC;
+	}
+
+}
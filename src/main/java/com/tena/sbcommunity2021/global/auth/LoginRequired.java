@@ -0,0 +1,18 @@
+package com.tena.sbcommunity2021.global.auth;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 로그인한 사용자만 요청 가능 (로그인하지 않았으면 401)
+ * - 핸들러 메서드 또는 컨트롤러 클래스(모든 핸들러 메서드)에 지정
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginRequired {
+
+}
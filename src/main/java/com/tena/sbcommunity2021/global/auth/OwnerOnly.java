@@ -0,0 +1,23 @@
+package com.tena.sbcommunity2021.global.auth;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 게시물 작성자만 요청 가능 (로그인하지 않았으면 401, 작성자가 아니면 403, 게시물이 없으면 404)
+ * - 로그인 여부도 함께 확인하므로 @LoginRequired 를 따로 지정하지 않아도 됨
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OwnerOnly {
+
+	/**
+	 * 게시물 번호를 담은 경로 변수 이름
+	 */
+	String idVariable() default "id";
+
+}
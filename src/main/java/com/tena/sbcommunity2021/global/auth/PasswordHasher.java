@@ -0,0 +1,168 @@
+package com.tena.sbcommunity2021.global.auth;
+
+import com.tena.sbcommunity2021.global.errors.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static com.tena.sbcommunity2021.global.errors.ErrorCode.ACCOUNT_PASSWORD_HASHING_BUSY;
+
+/**
+ * 비밀번호 해싱, 확인 (BCrypt, app.auth.password)
+ * - 해싱은 전용 스레드(password-hasher) threads 개에서만 실행 (로그인이 몰려도 다른 요청이 CPU 를 확보할 수 있도록)
+ * - 대기 중인 작업이 queue-capacity 를 넘거나 timeout 안에 끝나지 않으면 503 응답 (요청 스레드가 무한정 쌓이지 않음)
+ * - 저장된 해시의 비용이 설정(cost)과 다르거나 평문으로 저장된 비밀번호는 needsRehash 가 true (로그인할 때 다시 해싱)
+ * - 비용은 PasswordHasherBenchmark 로 서버에서 목표 시간에 맞는 값을 확인해서 설정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHasher {
+
+	public static final int MIN_COST = 4;
+	public static final int MAX_COST = 31;
+	public static final int MAX_PASSWORD_BYTES = 72; // BCrypt 가 사용하는 비밀번호 최대 길이 (UTF-8 바이트 수, 이후는 무시)
+
+	private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$\\d\\d\\$[./A-Za-z0-9]{53}$");
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${app.auth.password.cost:10}")
+	private int cost; // 비용 (해싱 반복 횟수 2^cost, 1 늘릴 때마다 해싱 시간이 2배)
+
+	@Value("${app.auth.password.threads:2}")
+	private int threads;
+
+	@Value("${app.auth.password.queue-capacity:64}")
+	private int queueCapacity;
+
+	@Value("${app.auth.password.timeout:5s}")
+	private Duration timeout;
+
+	private ThreadPoolExecutor executor;
+
+	@PostConstruct
+	public void start() {
+		if (cost < MIN_COST || cost > MAX_COST) {
+			throw new IllegalStateException(String.format("app.auth.password.cost 는 %d ~ %d 사이여야 합니다.", MIN_COST, MAX_COST));
+		}
+
+		final AtomicInteger threadNumber = new AtomicInteger();
+
+		executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+			final Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		new ExecutorServiceMetrics(executor, "password-hasher", Tags.empty()).bindTo(meterRegistry); // executor.queued, executor.active 등
+	}
+
+	@PreDestroy
+	public void stop() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 비밀번호 해싱 (설정된 비용으로 새 salt 생성)
+	 */
+	public String hash(String rawPassword) {
+		return execute(() -> BCrypt.hashpw(rawPassword, BCrypt.gensalt(cost)));
+	}
+
+	/**
+	 * 비밀번호 확인
+	 * - BCrypt 해시가 아니면 평문으로 저장된 비밀번호로 보고 그대로 비교 (해싱 도입 전에 가입한 회원)
+	 */
+	public boolean matches(String rawPassword, String storedPassword) {
+		if (rawPassword == null || storedPassword == null) {
+			return false;
+		}
+
+		if (!isHashed(storedPassword)) {
+			return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8), storedPassword.getBytes(StandardCharsets.UTF_8));
+		}
+
+		return execute(() -> BCrypt.checkpw(rawPassword, storedPassword));
+	}
+
+	/**
+	 * 다시 해싱해야 하는지 여부 (평문이거나, 해시의 비용이 설정과 다른 경우)
+	 */
+	public boolean needsRehash(String storedPassword) {
+		return !isHashed(storedPassword) || costOf(storedPassword) != cost;
+	}
+
+	public int getCost() {
+		return cost;
+	}
+
+	ThreadPoolExecutor getExecutor() {
+		return executor;
+	}
+
+	static boolean isHashed(String storedPassword) {
+		return storedPassword != null && BCRYPT_PATTERN.matcher(storedPassword).matches();
+	}
+
+	static int costOf(String hash) {
+		return Integer.parseInt(hash.substring(hash.indexOf('$', 1) + 1, hash.indexOf('$', 1) + 3)); // $2a$10$... -> 10
+	}
+
+	/**
+	 * 목표 시간 안에 해싱할 수 있는 가장 큰 비용 (현재 서버에서 측정)
+	 * - 비용을 MIN_COST 부터 하나씩 올리면서 목표 시간을 넘을 때까지 측정 (비용이 1 늘면 시간이 2배이므로 전체 측정 시간은 목표 시간의 약 2배)
+	 */
+	public static int calibrateCost(Duration target) {
+		BCrypt.hashpw("warm-up", BCrypt.gensalt(MIN_COST)); // 클래스 로딩, JIT 영향 제외
+
+		for (int cost = MIN_COST; cost <= MAX_COST; cost++) {
+			final long startNanos = System.nanoTime();
+			BCrypt.hashpw("calibration", BCrypt.gensalt(cost));
+
+			if (System.nanoTime() - startNanos > target.toNanos()) {
+				return Math.max(cost - 1, MIN_COST);
+			}
+		}
+
+		return MAX_COST;
+	}
+
+	private <T> T execute(Callable<T> task) {
+		final Future<T> future;
+
+		try {
+			future = executor.submit(task);
+		} catch (RejectedExecutionException e) {
+			log.warn("비밀번호 해싱 대기열이 가득 참 (대기 : {}, 처리 중 : {})", executor.getQueue().size(), executor.getActiveCount());
+			throw new CustomException(ACCOUNT_PASSWORD_HASHING_BUSY);
+		}
+
+		try {
+			return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			throw new CustomException(ACCOUNT_PASSWORD_HASHING_BUSY);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.tena.sbcommunity2021.global.auth;
+
+import com.tena.sbcommunity2021.global.commons.UserAccount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * 핸들러 메서드의 UserAccount 파라미터에 현재 요청의 사용자를 전달 (세션 범위 빈과 프록시 없이 요청에서 바로 확인)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserAccountArgumentResolver implements HandlerMethodArgumentResolver {
+
+	private final Authenticator authenticator;
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return parameter.getParameterType() == UserAccount.class;
+	}
+
+	@Override
+	public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+	                              NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+		return authenticator.getUserAccount(webRequest.getNativeRequest(HttpServletRequest.class));
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.tena.sbcommunity2021.global.commons;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 커서(Keyset) 기반 페이지
+ * - content : 현재 페이지의 데이터
+ * - nextCursor : 다음 페이지 조회 시 사용할 커서 값, 마지막 페이지인 경우 null
+ */
+@ToString
+@Getter
+public class CursorPage<T> {
+
+	private final List<T> content;
+
+	private final Long nextCursor;
+
+	private CursorPage(List<T> content, Long nextCursor) {
+		this.content = content;
+		this.nextCursor = nextCursor;
+	}
+
+	/**
+	 * 페이지 크기보다 1건 더 조회한 결과로 커서 페이지 생성
+	 * Ex)
+	 * @param fetched         size + 1 건을 조회한 결과 (size 건을 초과하면 다음 페이지가 존재)
+	 * @param size            페이지 크기
+	 * @param cursorExtractor 각 항목에서 커서 값을 추출하는 함수 (Ex. Article::getId)
+	 */
+	public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, Long> cursorExtractor) {
+		if (fetched.size() <= size) {
+			return new CursorPage<>(fetched, null); // 마지막 페이지
+		}
+
+		final List<T> content = fetched.subList(0, size);
+		final Long nextCursor = cursorExtractor.apply(content.get(size - 1));
+
+		return new CursorPage<>(content, nextCursor);
+	}
+
+	public <R> CursorPage<R> map(Function<T, R> mapper) {
+		return new CursorPage<>(content.stream().map(mapper).collect(Collectors.toList()), nextCursor);
+	}
+
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+
+}
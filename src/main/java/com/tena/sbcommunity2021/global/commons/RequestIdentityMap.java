@@ -0,0 +1,87 @@
+package com.tena.sbcommunity2021.global.commons;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 요청 범위 엔티티 캐시 (Identity Map)
+ * - 한 요청 안에서 같은 엔티티를 여러 번 조회하지 않도록, 조회한 엔티티를 요청 속성(Request Attribute)에 보관
+ * - 인터셉터, 서비스 등 같은 요청을 처리하는 곳이라면 어디서든 공유되고, 요청이 끝나면 함께 제거됨
+ * - 요청 밖(스케줄러, 이벤트 리스너 등)에서는 보관하지 않고 매번 조회
+ */
+public class RequestIdentityMap {
+
+	private static final String ATTRIBUTE_NAME = RequestIdentityMap.class.getName();
+
+	/**
+	 * 요청 범위에 보관된 엔티티 리턴, 없으면 loader 로 조회해서 보관
+	 * - loader 가 null 을 리턴하면 보관하지 않음
+	 */
+	public static <T> T computeIfAbsent(Class<T> type, Object id, Supplier<T> loader) {
+		final T found = get(type, id);
+
+		if (found != null) {
+			return found;
+		}
+
+		final T loaded = loader.get();
+		put(type, id, loaded);
+
+		return loaded;
+	}
+
+	/**
+	 * 요청 범위에 보관된 엔티티 리턴 (조회하지 않음)
+	 * @return 보관된 엔티티가 없거나 요청 밖이면 null
+	 */
+	public static <T> T get(Class<T> type, Object id) {
+		final Map<Class<?>, Map<Object, Object>> entities = getEntities(false);
+
+		if (entities == null || !entities.containsKey(type)) {
+			return null;
+		}
+
+		return type.cast(entities.get(type).get(id));
+	}
+
+	public static void put(Class<?> type, Object id, Object entity) {
+		final Map<Class<?>, Map<Object, Object>> entities = getEntities(true);
+
+		if (entities == null || entity == null) {
+			return;
+		}
+
+		entities.computeIfAbsent(type, key -> new HashMap<>()).put(id, entity);
+	}
+
+	public static void evict(Class<?> type, Object id) {
+		final Map<Class<?>, Map<Object, Object>> entities = getEntities(false);
+
+		if (entities != null && entities.containsKey(type)) {
+			entities.get(type).remove(id);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<Class<?>, Map<Object, Object>> getEntities(boolean create) {
+		final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+		if (requestAttributes == null) {
+			return null;
+		}
+
+		Map<Class<?>, Map<Object, Object>> entities = (Map<Class<?>, Map<Object, Object>>) requestAttributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+
+		if (entities == null && create) {
+			entities = new HashMap<>();
+			requestAttributes.setAttribute(ATTRIBUTE_NAME, entities, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		return entities;
+	}
+
+}
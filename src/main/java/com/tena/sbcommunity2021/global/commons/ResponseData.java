@@ -1,5 +1,6 @@
 package com.tena.sbcommunity2021.global.commons;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
@@ -14,6 +15,9 @@ public class ResponseData<T> {
 
 	private T body;
 
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Long nextCursor; // 커서 기반 목록 조회 시 다음 페이지 커서 (마지막 페이지이면 응답에서 제외)
+
 	public boolean isSuccess() {
 		return resultCode.startsWith("S-");
 	}
@@ -23,16 +27,21 @@ public class ResponseData<T> {
 	}
 
 	@Builder
-	private ResponseData(String resultCode, String message, T body) {
+	private ResponseData(String resultCode, String message, T body, Long nextCursor) {
 		this.resultCode = resultCode;
 		this.message = message;
 		this.body = body;
+		this.nextCursor = nextCursor;
 	}
 
 	public static <T> ResponseData<T> of(String resultCode, String message, T body) {
 		return ResponseData.<T>builder().resultCode(resultCode).message(message).body(body).build(); // return new ResultData<>(resultCode, message, body);
 	}
 
+	public static <T> ResponseData<T> of(String resultCode, String message, T body, Long nextCursor) {
+		return ResponseData.<T>builder().resultCode(resultCode).message(message).body(body).nextCursor(nextCursor).build();
+	}
+
 	public static <T> ResponseData<T> of(String resultCode, String message) {
 		return ResponseData.<T>builder().resultCode(resultCode).message(message).build(); // return of(resultCode, message, null);
 	}
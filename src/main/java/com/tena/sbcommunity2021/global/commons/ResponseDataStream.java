@@ -0,0 +1,89 @@
+package com.tena.sbcommunity2021.global.commons;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * ResponseData 형태의 JSON 응답을 스트리밍으로 출력
+ * - 전체 목록을 메모리에 올리지 않고, 항목을 하나씩 응답 스트림에 바로 기록
+ * - 출력 형식은 ResponseData 직렬화 결과와 동일 : {"resultCode", "message", "body": [...], "success", "fail"}
+ *
+ * 사용법 :
+ * try (ResponseDataStream<ArticleDto.Response> stream = ResponseDataStream.open(objectMapper, outputStream, "S-1", "게시물 목록입니다.")) {
+ *     articleService.streamArticles(context -> stream.write(...));
+ *     stream.complete();
+ * }
+ * ※ 참고: 중간에 예외가 발생하면 complete() 가 호출되지 않으므로, 클라이언트는 끝맺음이 없는 JSON 을 받게 되어 실패를 인지할 수 있음
+ */
+public class ResponseDataStream<T> implements Closeable {
+
+	private static final int FLUSH_INTERVAL = 100; // 항목 100건마다 클라이언트로 flush
+
+	private final JsonGenerator generator;
+	private final ObjectWriter writer;
+	private final boolean success;
+	private long count;
+
+	private ResponseDataStream(JsonGenerator generator, ObjectWriter writer, String resultCode) {
+		this.generator = generator;
+		this.writer = writer;
+		this.success = resultCode.startsWith("S-");
+	}
+
+	public static <T> ResponseDataStream<T> open(ObjectMapper objectMapper, OutputStream outputStream, String resultCode, String message) throws IOException {
+		final JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)
+				.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT); // 실패 시 close() 에서 JSON 을 임의로 닫지 않도록 함
+		final ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE); // 항목마다 flush 하지 않음
+
+		generator.writeStartObject();
+		generator.writeStringField("resultCode", resultCode);
+		generator.writeStringField("message", message);
+		generator.writeArrayFieldStart("body");
+		generator.flush(); // 조회가 끝나기 전에 응답 헤더와 첫 바이트 전송
+
+		return new ResponseDataStream<>(generator, writer, resultCode);
+	}
+
+	/**
+	 * 항목 하나를 body 배열에 기록
+	 */
+	public void write(T item) {
+		try {
+			writer.writeValue(generator, item);
+
+			if (++count % FLUSH_INTERVAL == 0) {
+				generator.flush();
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e); // ResultHandler 에서 호출되므로 unchecked 예외로 전환
+		}
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * body 배열과 ResponseData 객체를 닫음 (모든 항목을 정상적으로 기록한 경우에만 호출)
+	 */
+	public void complete() throws IOException {
+		generator.writeEndArray();
+		generator.writeBooleanField("success", success);
+		generator.writeBooleanField("fail", !success);
+		generator.writeEndObject();
+	}
+
+	@Override
+	public void close() throws IOException {
+		generator.close();
+	}
+
+}
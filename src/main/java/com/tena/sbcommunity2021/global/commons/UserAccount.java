@@ -3,21 +3,37 @@ package com.tena.sbcommunity2021.global.commons;
 import com.tena.sbcommunity2021.accounts.domain.Account;
 import lombok.*;
 
+import java.io.Serializable;
+
+/**
+ * 현재 요청의 사용자 (로그인하지 않았으면 ANONYMOUS)
+ * - 세션 모드는 세션에, 토큰 모드는 서명된 토큰에 회원 번호와 권한레벨만 담음 (회원 정보 전체를 보관하지 않음)
+ * - 핸들러 메서드의 UserAccount 파라미터로 받음 (UserAccountArgumentResolver)
+ */
 @Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
 @ToString
-public class UserAccount {
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserAccount implements Serializable {
 
-	private Account account;
+	private static final long serialVersionUID = 1L;
 
-	public boolean isAuthenticated() {
-		return this.account != null;
+	public static final UserAccount ANONYMOUS = new UserAccount(null, 0);
+
+	private final Long accountId;
+
+	private final int authLevel;
+
+	public static UserAccount of(Account account) {
+		return new UserAccount(account.getId(), account.getAuthLevel());
+	}
+
+	public static UserAccount of(Long accountId, int authLevel) {
+		return accountId == null ? ANONYMOUS : new UserAccount(accountId, authLevel);
 	}
 
-	public Long getAccountId() {
-		return this.account != null ? this.account.getId() : null;
+	public boolean isAuthenticated() {
+		return this.accountId != null;
 	}
 
 }
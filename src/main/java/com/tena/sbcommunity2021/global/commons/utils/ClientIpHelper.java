@@ -0,0 +1,26 @@
+package com.tena.sbcommunity2021.global.commons.utils;
+
+import javax.servlet.http.HttpServletRequest;
+
+public class ClientIpHelper {
+
+	/**
+	 * 클라이언트 IP (요청 수 제한 키, 접근 로그)
+	 * - trustedProxies 가 0 이면 접속한 주소 (server.forward-headers-strategy 로 Tomcat 이 헤더를 처리하는 경우도 이 값이 클라이언트 IP)
+	 * - N 이면 X-FORWARDED-FOR 헤더의 오른쪽에서 N 번째 주소 (가장 바깥 프록시가 추가한 주소)
+	 *   클라이언트가 보낸 헤더 값은 그 왼쪽에 남으므로, 임의의 주소를 보내도 다른 클라이언트로 취급되지 않음
+	 * @param trustedProxies 앞단 프록시(로드밸런서) 수 (app.trusted-proxies)
+	 */
+	public static String getClientIp(HttpServletRequest request, int trustedProxies) {
+		final String forwardedFor = trustedProxies > 0 ? request.getHeader("X-FORWARDED-FOR") : null;
+
+		if (forwardedFor == null || forwardedFor.isEmpty()) {
+			return request.getRemoteAddr();
+		}
+
+		final String[] addresses = forwardedFor.split(",");
+
+		return addresses[Math.max(addresses.length - trustedProxies, 0)].trim(); // 주소가 프록시 수보다 적으면 가장 왼쪽 주소
+	}
+
+}
@@ -9,6 +9,8 @@ import java.util.Map;
 
 public class URLHelper {
 
+	private static final PathMatcher PATH_MATCHER = new AntPathMatcher(); // 스레드 안전, 파싱한 패턴을 캐시하므로 공유해서 사용
+
 	/**
 	 * Context Path 가 제거된 Request URI 리턴
 	 */
@@ -43,11 +45,9 @@ public class URLHelper {
 	 * @return Request URI 경로패턴이 patterns 중에 하나라도 일치하면 true 리턴, 하나도 일치하지 않으면 false
 	 */
 	public static boolean hasPathPattern(String requestUri, String... patterns) {
-		PathMatcher pathMatcher = new AntPathMatcher(); // AntPathMatcher 활용
-
 		//경로가 패턴과 일치하는지 체크
 		for (String pattern : patterns) {
-			boolean result = pathMatcher.match(pattern, requestUri);
+			boolean result = PATH_MATCHER.match(pattern, requestUri);
 			if (result) {
 				return true; //하나라도 일치하면 true 리턴
 			}
@@ -63,12 +63,12 @@ public class URLHelper {
 	}
 
 	/**
-	 * 특정 Path Variable 값을 String 형태로 리턴
+	 * 특정 Path Variable 값을 String 형태로 리턴 (존재하지 않으면 null)
 	 */
 	public static String getPathVariable(HttpServletRequest request, String pathVariableName) {
 		Map<String, String> pathVariables = getPathVariables(request);
 
-		return pathVariables.get(pathVariableName);
+		return pathVariables != null ? pathVariables.get(pathVariableName) : null;
 	}
 
 	/**
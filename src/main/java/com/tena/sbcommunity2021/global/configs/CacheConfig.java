@@ -0,0 +1,19 @@
+package com.tena.sbcommunity2021.global.configs;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 캐시 설정
+ * - 캐시 구현체(Caffeine)와 용량, 만료 시간은 application.yml 의 spring.cache 항목에서 설정
+ * - 캐시 어드바이스를 트랜잭션 어드바이스(LOWEST_PRECEDENCE)보다 바깥에 두어, 트랜잭션이 커밋된 후에 캐시를 갱신/제거
+ *   (커밋 전에 갱신하면 롤백된 데이터가 캐시에 남거나, 제거 직후 다른 요청이 커밋 전 데이터를 다시 캐시할 수 있음)
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+	public static final String ARTICLE_CACHE = "article"; // 게시물 단건 조회 캐시 (key : 게시물 번호)
+
+}
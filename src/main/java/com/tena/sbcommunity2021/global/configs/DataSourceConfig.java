@@ -0,0 +1,73 @@
+package com.tena.sbcommunity2021.global.configs;
+
+import com.tena.sbcommunity2021.global.datasource.ReadWriteRoutingDataSource;
+import com.tena.sbcommunity2021.global.datasource.RoutingDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리 설정 (app.datasource.routing.enabled=true 인 경우만 적용)
+ * - 주 DB : spring.datasource (커넥션 풀 설정은 spring.datasource.hikari)
+ * - 복제 DB : app.datasource.routing.replicas
+ * - 커넥션 풀 지표는 풀 이름(primary, replica-1, ...)별로 수집 (Ex. /actuator/metrics/hikaricp.connections.active?tag=pool:replica-1)
+ * - 설정하지 않으면 Spring Boot 기본 DataSource(spring.datasource) 하나만 사용
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class DataSourceConfig {
+
+	@Bean
+	@ConfigurationProperties(prefix = "spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+		final HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+
+		return dataSource;
+	}
+
+	@Bean
+	public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+	                                                    RoutingDataSourceProperties routingProperties,
+	                                                    ObjectProvider<MeterRegistry> meterRegistry) {
+		final List<DataSource> replicas = new ArrayList<>();
+
+		for (int i = 0; i < routingProperties.getReplicas().size(); i++) {
+			final HikariDataSource replica = routingProperties.getReplicas().get(i).initializeDataSourceBuilder().type(HikariDataSource.class).build();
+			replica.setPoolName(ReadWriteRoutingDataSource.replicaKey(i));
+			replica.setReadOnly(true);
+			replicas.add(replica);
+		}
+
+		// 커넥션 풀별 지표 등록 (주 DB 는 빈으로 등록되므로 Spring Boot 가 등록)
+		meterRegistry.ifAvailable(registry -> replicas.forEach(replica ->
+				((HikariDataSource) replica).setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry))));
+
+		return new ReadWriteRoutingDataSource(primaryDataSource, replicas, routingProperties.getLoadBalance());
+	}
+
+	/**
+	 * 애플리케이션에서 사용하는 DataSource (MyBatis, 트랜잭션 매니저, DB 초기화 스크립트)
+	 * - 첫 SQL 실행 시점에 커넥션을 가져와야 트랜잭션의 읽기 전용 여부로 라우팅할 수 있음
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+
+}
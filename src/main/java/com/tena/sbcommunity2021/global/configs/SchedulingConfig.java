@@ -0,0 +1,14 @@
+package com.tena.sbcommunity2021.global.configs;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * - @Scheduled 메서드 실행 (Ex. 게시물 조회수 주기적 반영)
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+public class SchedulingConfig {
+
+}
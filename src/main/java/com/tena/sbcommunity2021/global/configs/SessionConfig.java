@@ -0,0 +1,33 @@
+package com.tena.sbcommunity2021.global.configs;
+
+import com.tena.sbcommunity2021.global.session.JdbcSessionRepository;
+import com.tena.sbcommunity2021.global.session.SessionRecordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+import java.time.Duration;
+
+/**
+ * DB 세션 저장소 설정 (app.session.store=jdbc 인 경우만 적용)
+ * - HttpSession 을 Spring Session 필터(SessionRepositoryFilter)가 감싸서 JdbcSessionRepository 에 보관 (세션 쿠키 이름 : SESSION)
+ * - 설정하지 않으면 서블릿 컨테이너(Tomcat)의 메모리 세션 사용
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "app.session", name = "store", havingValue = "jdbc")
+@EnableSpringHttpSession
+public class SessionConfig {
+
+	@Bean
+	public JdbcSessionRepository sessionRepository(SessionRecordRepository sessionRecordRepository,
+	                                               @Value("${server.servlet.session.timeout:30m}") Duration timeout,
+	                                               @Value("${app.session.jdbc.touch-interval:60s}") Duration touchInterval,
+	                                               @Value("${app.session.jdbc.cache-ttl:10s}") Duration cacheTtl,
+	                                               @Value("${app.session.jdbc.cache-size:10000}") long cacheSize,
+	                                               @Value("${app.session.jdbc.cleanup-batch-size:500}") int cleanupBatchSize) {
+		return new JdbcSessionRepository(sessionRecordRepository, timeout, touchInterval, cacheTtl, cacheSize, cleanupBatchSize);
+	}
+
+}
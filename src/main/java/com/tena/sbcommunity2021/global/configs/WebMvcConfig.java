@@ -1,18 +1,28 @@
 package com.tena.sbcommunity2021.global.configs;
 
+import com.tena.sbcommunity2021.global.auth.UserAccountArgumentResolver;
 import com.tena.sbcommunity2021.global.interceptors.AuthenticationInterceptor;
 import com.tena.sbcommunity2021.global.interceptors.CommonInterceptor;
+import com.tena.sbcommunity2021.global.interceptors.RateLimitInterceptor;
+import com.tena.sbcommunity2021.global.ratelimit.RateLimitRule;
+import com.tena.sbcommunity2021.global.ratelimit.RateLimiter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
 	private final CommonInterceptor commonInterceptor;
 	private final AuthenticationInterceptor authenticationInterceptor;
+	private final RateLimitInterceptor rateLimitInterceptor;
+	private final RateLimiter rateLimiter;
+	private final UserAccountArgumentResolver userAccountArgumentResolver;
 
 	@Override
 	public void addInterceptors(InterceptorRegistry registry) {
@@ -21,10 +31,19 @@ public class WebMvcConfig implements WebMvcConfigurer {
 				.excludePathPatterns("/resource/**") // 제외 경로 패턴
 				.excludePathPatterns("/error");
 
-		registry.addInterceptor(authenticationInterceptor)
-				.addPathPatterns("/**/new") // 생성
-				.addPathPatterns("/**/edit") // 수정
-				.addPathPatterns("/**/delete"); // 삭제
+		if (rateLimiter.isEnabled()) { // 권한 확인보다 먼저 (로그인하지 않은 요청도 제한), 거절된 요청도 CommonInterceptor 가 지표, 접근 로그로 기록
+			registry.addInterceptor(rateLimitInterceptor)
+					.addPathPatterns(rateLimiter.getRules().stream().map(RateLimitRule::getPath).distinct().toArray(String[]::new));
+		}
+
+		registry.addInterceptor(authenticationInterceptor) // 접근 권한은 경로 패턴 대신 핸들러 메서드의 @LoginRequired, @OwnerOnly 로 확인
+				.excludePathPatterns("/resource/**")
+				.excludePathPatterns("/error");
+	}
+
+	@Override
+	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+		resolvers.add(userAccountArgumentResolver); // 핸들러 메서드의 UserAccount 파라미터 (현재 요청의 사용자)
 	}
 
 }
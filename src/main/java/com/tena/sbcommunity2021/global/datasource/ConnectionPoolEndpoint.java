@@ -0,0 +1,72 @@
+package com.tena.sbcommunity2021.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 커넥션 풀 상태 확인 (/actuator/connections)
+ * - pools : 커넥션 풀(primary, replica-1, ...)별 사용 중(active), 유휴(idle), 대기 중인 요청(pending), 전체, 최대 커넥션 수
+ * - open : 반납되지 않은 커넥션 (핸들러, 마지막 실행 구문, 점유 시간)
+ * - leaks : 최근 누수 의심 보고
+ * - holdTimes : 핸들러별 커넥션 점유 시간
+ * - 획득 대기 시간 분포는 /actuator/metrics/hikaricp.connections.acquire 에서 확인
+ */
+@Component
+@Endpoint(id = "connections")
+@RequiredArgsConstructor
+public class ConnectionPoolEndpoint {
+
+	private final List<DataSource> dataSources;
+	private final ConnectionUsageTracker tracker;
+
+	@ReadOperation
+	public Map<String, Object> connections() {
+		final Map<String, Object> result = new LinkedHashMap<>();
+		result.put("pools", pools());
+		result.put("open", tracker.getOpenLeases());
+		result.put("leaks", tracker.getLeakReports());
+		result.put("holdTimes", tracker.getHoldTimes());
+
+		return result;
+	}
+
+	private List<Map<String, Object>> pools() {
+		return dataSources.stream()
+				.flatMap(dataSource -> dataSource instanceof ReadWriteRoutingDataSource // 읽기/쓰기 분리 : 복제 DB 커넥션 풀은 빈이 아니므로 라우팅 대상에서 조회
+						? ((ReadWriteRoutingDataSource) dataSource).getResolvedDataSources().values().stream()
+						: Stream.of(dataSource))
+				.map(dataSource -> DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class))
+				.filter(Objects::nonNull)
+				.distinct()
+				.map(hikari -> {
+					final Map<String, Object> pool = new LinkedHashMap<>();
+					pool.put("name", hikari.getPoolName());
+					pool.put("max", hikari.getMaximumPoolSize());
+
+					final HikariPoolMXBean mxBean = hikari.getHikariPoolMXBean();
+					if (mxBean != null) { // 아직 커넥션 풀이 시작되지 않았으면 null
+						pool.put("active", mxBean.getActiveConnections());
+						pool.put("idle", mxBean.getIdleConnections());
+						pool.put("pending", mxBean.getThreadsAwaitingConnection());
+						pool.put("total", mxBean.getTotalConnections());
+					}
+
+					return pool;
+				})
+				.collect(Collectors.toList());
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.tena.sbcommunity2021.global.datasource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 커넥션 사용 추적 DataSource
+ * - 가져온 커넥션을 프록시로 감싸서, 반납(close) 시점에 ConnectionUsageTracker 에 알림
+ */
+public class ConnectionTrackingDataSource extends DelegatingDataSource {
+
+	private final ObjectProvider<ConnectionUsageTracker> tracker; // 추적기는 커넥션을 처음 가져올 때 조회 (DataSource 보다 늦게 생성될 수 있음)
+
+	public ConnectionTrackingDataSource(DataSource targetDataSource, ObjectProvider<ConnectionUsageTracker> tracker) {
+		super(targetDataSource);
+		this.tracker = tracker;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return track(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return track(super.getConnection(username, password));
+	}
+
+	private Connection track(Connection connection) {
+		final ConnectionUsageTracker usageTracker = tracker.getIfAvailable();
+
+		if (usageTracker == null) {
+			return connection;
+		}
+
+		final ConnectionUsageTracker.Lease lease = usageTracker.acquire();
+
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+			if ("close".equals(method.getName())) {
+				usageTracker.release(lease);
+			} else if ("equals".equals(method.getName())) {
+				return proxy == args[0];
+			} else if ("hashCode".equals(method.getName())) {
+				return System.identityHashCode(proxy);
+			}
+
+			try {
+				return method.invoke(connection, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		});
+	}
+
+}
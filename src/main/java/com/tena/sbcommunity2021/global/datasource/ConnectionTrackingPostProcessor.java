@@ -0,0 +1,31 @@
+package com.tena.sbcommunity2021.global.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션에서 사용하는 DataSource(빈 이름 dataSource)를 ConnectionTrackingDataSource 로 감쌈
+ * - 읽기/쓰기 분리를 사용하는 경우에도 주 DB, 복제 DB 커넥션 풀을 모두 거치는 최상위 DataSource 에만 적용
+ */
+@Component
+@RequiredArgsConstructor
+public class ConnectionTrackingPostProcessor implements BeanPostProcessor {
+
+	private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+	private final ObjectProvider<ConnectionUsageTracker> tracker;
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource && !(bean instanceof ConnectionTrackingDataSource)) {
+			return new ConnectionTrackingDataSource((DataSource) bean, tracker);
+		}
+
+		return bean;
+	}
+
+}
@@ -0,0 +1,253 @@
+package com.tena.sbcommunity2021.global.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * DB 커넥션 사용 추적기
+ * - 커넥션을 가져온 시점부터 반납(close)할 때까지의 점유 시간을 요청을 처리한 핸들러 메서드별로 기록 (app.db.connection.hold)
+ * - 커넥션마다 마지막으로 실행한 MyBatis 구문(Ex. ArticleRepository.findById)을 기록해, 오래 반납되지 않는 커넥션(누수 의심)을 구문 이름으로 보고
+ * - 요청 밖(스케줄러, 저장 스레드 등)에서 가져온 커넥션은 핸들러를 "none" 으로 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConnectionUsageTracker {
+
+	public static final String HOLD_TIMER = "app.db.connection.hold";
+	public static final String NO_HANDLER = "none";
+
+	private static final int MAX_LEAK_REPORTS = 100; // 보관할 최근 누수 의심 보고 수
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${app.datasource.leak-detection.threshold:10000}")
+	private long leakThreshold; // 이 시간(ms) 이상 반납되지 않으면 누수 의심
+
+	private final AtomicLong sequence = new AtomicLong();
+	private final Map<Long, Lease> leases = new ConcurrentHashMap<>(); // 반납되지 않은 커넥션
+	private final ThreadLocal<Deque<Lease>> threadLeases = ThreadLocal.withInitial(ConcurrentLinkedDeque::new); // 다른 스레드에서 반납해도 제거할 수 있도록 동시성 Deque
+	private final ThreadLocal<String> currentStatement = new ThreadLocal<>();
+	private final Deque<LeakReport> leakReports = new ArrayDeque<>();
+
+	/**
+	 * 커넥션을 가져올 때 호출
+	 */
+	public Lease acquire() {
+		final Deque<Lease> owner = threadLeases.get();
+		final Lease lease = new Lease(sequence.incrementAndGet(), Thread.currentThread().getName(), currentHandler(), currentStatement.get(), owner);
+
+		leases.put(lease.getId(), lease);
+		owner.push(lease);
+
+		return lease;
+	}
+
+	/**
+	 * 커넥션을 반납할 때 호출 (점유 시간 기록)
+	 * - 가져온 스레드와 다른 스레드에서 반납해도 가져온 스레드의 목록에서 제거
+	 */
+	public void release(Lease lease) {
+		if (leases.remove(lease.getId()) == null) {
+			return; // 이미 반납됨
+		}
+
+		lease.owner.remove(lease);
+
+		final long heldNanos = System.nanoTime() - lease.startNanos;
+		holdTimer(lease.getHandler()).record(heldNanos, TimeUnit.NANOSECONDS);
+
+		if (lease.reported) {
+			log.warn("누수 의심 커넥션 반납 : {}ms, handler={}, statement={}", TimeUnit.NANOSECONDS.toMillis(heldNanos), lease.getHandler(), lease.getLastStatement());
+		}
+	}
+
+	/**
+	 * MyBatis 구문 실행 시작 (현재 스레드가 사용 중인 커넥션에 구문 이름 기록)
+	 * - 트랜잭션 밖에서는 구문 실행 중에 커넥션을 가져오므로, 커넥션을 가져올 때도 현재 구문을 기록
+	 */
+	public void beginStatement(String statementId) {
+		currentStatement.set(statementId);
+
+		final Lease lease = threadLeases.get().peek();
+
+		if (lease != null) {
+			lease.lastStatement = statementId;
+		}
+	}
+
+	public void endStatement() {
+		currentStatement.remove();
+	}
+
+	/**
+	 * 누수 의심 커넥션 확인 (threshold 이상 반납되지 않은 커넥션, 커넥션당 한 번만 보고)
+	 */
+	@Scheduled(fixedDelayString = "${app.datasource.leak-detection.check-interval:5000}")
+	public void detectLeaks() {
+		final long now = System.nanoTime();
+
+		leases.values().stream()
+				.filter(lease -> !lease.reported && TimeUnit.NANOSECONDS.toMillis(now - lease.startNanos) >= leakThreshold)
+				.forEach(lease -> {
+					lease.reported = true;
+
+					final LeakReport report = new LeakReport(lease, TimeUnit.NANOSECONDS.toMillis(now - lease.startNanos));
+					log.warn("커넥션 누수 의심 : {}ms 동안 반납되지 않음, handler={}, statement={}, thread={}",
+							report.getHeldMillis(), report.getHandler(), report.getStatement(), report.getThread());
+
+					synchronized (leakReports) {
+						if (leakReports.size() == MAX_LEAK_REPORTS) {
+							leakReports.removeLast();
+						}
+						leakReports.addFirst(report);
+					}
+				});
+	}
+
+	/**
+	 * 반납되지 않은 커넥션 (오래 점유한 순)
+	 */
+	public List<Map<String, Object>> getOpenLeases() {
+		final long now = System.nanoTime();
+
+		return leases.values().stream()
+				.sorted(Comparator.comparingLong(lease -> lease.startNanos))
+				.map(lease -> Map.<String, Object>of(
+						"handler", lease.getHandler(),
+						"statement", String.valueOf(lease.getLastStatement()),
+						"thread", lease.getThread(),
+						"acquiredAt", lease.getAcquiredAt().toString(),
+						"heldMillis", TimeUnit.NANOSECONDS.toMillis(now - lease.startNanos)))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * 최근 누수 의심 보고 (최근 순)
+	 */
+	public List<LeakReport> getLeakReports() {
+		synchronized (leakReports) {
+			return new ArrayList<>(leakReports);
+		}
+	}
+
+	/**
+	 * 핸들러별 커넥션 점유 시간 (점유 시간 합계가 큰 순)
+	 */
+	public List<Map<String, Object>> getHoldTimes() {
+		return meterRegistry.find(HOLD_TIMER).timers().stream()
+				.sorted(Comparator.comparingDouble((Timer timer) -> timer.totalTime(TimeUnit.MILLISECONDS)).reversed())
+				.map(timer -> Map.<String, Object>of(
+						"handler", String.valueOf(timer.getId().getTag("handler")),
+						"count", timer.count(),
+						"totalMillis", timer.totalTime(TimeUnit.MILLISECONDS),
+						"maxMillis", timer.max(TimeUnit.MILLISECONDS)))
+				.collect(Collectors.toList());
+	}
+
+	private Timer holdTimer(String handler) {
+		return Timer.builder(HOLD_TIMER)
+				.description("커넥션을 가져온 후 반납할 때까지의 시간")
+				.tag("handler", handler)
+				.publishPercentileHistogram()
+				.maximumExpectedValue(Duration.ofSeconds(30))
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 현재 요청을 처리하는 핸들러 메서드 (Ex. ArticleController.getArticle)
+	 */
+	private static String currentHandler() {
+		final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes == null) {
+			return NO_HANDLER;
+		}
+
+		final Object handler = attributes.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+		if (!(handler instanceof HandlerMethod)) {
+			return NO_HANDLER;
+		}
+
+		final HandlerMethod handlerMethod = (HandlerMethod) handler;
+
+		return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+	}
+
+	/**
+	 * 사용 중인 커넥션 정보
+	 */
+	@Getter
+	public static class Lease {
+
+		private final long id;
+		private final String thread;
+		private final String handler;
+		private final Instant acquiredAt = Instant.now();
+		private final long startNanos = System.nanoTime();
+		private volatile String lastStatement;
+		private volatile boolean reported;
+
+		@Getter(AccessLevel.NONE)
+		private final Deque<Lease> owner; // 가져온 스레드의 사용 중인 커넥션 목록
+
+		private Lease(long id, String thread, String handler, String lastStatement, Deque<Lease> owner) {
+			this.id = id;
+			this.thread = thread;
+			this.handler = handler;
+			this.lastStatement = lastStatement;
+			this.owner = owner;
+		}
+
+	}
+
+	/**
+	 * 누수 의심 보고
+	 */
+	@Getter
+	public static class LeakReport {
+
+		private final Instant detectedAt = Instant.now();
+		private final String handler;
+		private final String statement;
+		private final String thread;
+		private final Instant acquiredAt;
+		private final long heldMillis;
+
+		private LeakReport(Lease lease, long heldMillis) {
+			this.handler = lease.getHandler();
+			this.statement = lease.getLastStatement();
+			this.thread = lease.getThread();
+			this.acquiredAt = lease.getAcquiredAt();
+			this.heldMillis = heldMillis;
+		}
+
+	}
+
+}
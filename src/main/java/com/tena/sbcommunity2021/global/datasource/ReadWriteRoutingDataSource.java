@@ -0,0 +1,110 @@
+package com.tena.sbcommunity2021.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ * - 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제 DB 중 하나로, 그 외(쓰기 트랜잭션, 트랜잭션 없음)는 주 DB 로 연결
+ * - 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않으므로, 반드시 LazyConnectionDataSourceProxy 로 감싸서
+ *   첫 SQL 실행 시점에 커넥션을 가져오도록 해야 함
+ * - 복제 DB 가 없으면 모두 주 DB 로 연결
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+	public static final String PRIMARY = "primary";
+	public static final String REPLICA_PREFIX = "replica-";
+
+	private final List<DataSource> replicas;
+	private final RoutingDataSourceProperties.LoadBalance loadBalance;
+
+	private final AtomicInteger nextReplica = new AtomicInteger();
+
+	public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, RoutingDataSourceProperties.LoadBalance loadBalance) {
+		this.replicas = List.copyOf(replicas);
+		this.loadBalance = loadBalance;
+
+		final Map<Object, Object> targetDataSources = new HashMap<>();
+		targetDataSources.put(PRIMARY, primary);
+		IntStream.range(0, this.replicas.size()).forEach(i -> targetDataSources.put(replicaKey(i), this.replicas.get(i)));
+
+		setTargetDataSources(targetDataSources);
+		setDefaultTargetDataSource(primary);
+		setLenientFallback(false);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || replicas.isEmpty()) {
+			return PRIMARY;
+		}
+
+		final String key = replicaKey(selectReplica());
+		log.trace("읽기 전용 트랜잭션 : {} 로 연결", key);
+
+		return key;
+	}
+
+	private int selectReplica() {
+		if (replicas.size() == 1) {
+			return 0;
+		}
+
+		final int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+
+		if (loadBalance == RoutingDataSourceProperties.LoadBalance.ROUND_ROBIN) {
+			return start;
+		}
+
+		// 사용 중인 커넥션이 가장 적은 복제 DB (같으면 라운드 로빈 순서로 먼저인 복제 DB)
+		return IntStream.range(0, replicas.size())
+				.map(offset -> (start + offset) % replicas.size())
+				.boxed()
+				.min(Comparator.comparingInt(i -> activeConnections(replicas.get(i))))
+				.orElse(start);
+	}
+
+	private static int activeConnections(DataSource dataSource) {
+		if (!(dataSource instanceof HikariDataSource)) {
+			return 0;
+		}
+
+		final HikariPoolMXBean pool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+
+		return pool == null ? 0 : pool.getActiveConnections(); // 아직 커넥션 풀이 시작되지 않았으면 null
+	}
+
+	public static String replicaKey(int index) {
+		return REPLICA_PREFIX + (index + 1);
+	}
+
+	/**
+	 * 복제 DB 커넥션 풀 종료 (빈 소멸 시 호출, 주 DB 는 별도 빈으로 관리)
+	 */
+	@Override
+	public void close() {
+		replicas.stream()
+				.filter(Closeable.class::isInstance)
+				.forEach(dataSource -> {
+					try {
+						((Closeable) dataSource).close();
+					} catch (Exception e) {
+						log.warn("커넥션 풀 종료 실패", e);
+					}
+				});
+	}
+
+}
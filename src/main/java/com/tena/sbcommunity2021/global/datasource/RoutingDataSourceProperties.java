@@ -0,0 +1,31 @@
+package com.tena.sbcommunity2021.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리 설정 (app.datasource.routing)
+ * - 주 DB(primary)는 spring.datasource 설정을 그대로 사용하고, 복제 DB(replica)만 추가로 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class RoutingDataSourceProperties {
+
+	private boolean enabled;
+
+	private LoadBalance loadBalance = LoadBalance.ROUND_ROBIN;
+
+	private List<DataSourceProperties> replicas = new ArrayList<>(); // url, username, password, driver-class-name
+
+	public enum LoadBalance {
+		ROUND_ROBIN, // 순서대로 돌아가며 선택
+		LEAST_CONNECTIONS // 사용 중인 커넥션이 가장 적은 복제 DB 선택
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.tena.sbcommunity2021.global.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * MyBatis 구문별 실행 통계 확인 (/actuator/statements)
+ * - statements : 구문별 실행 건수, 실행 시간(합계, 평균, 최대, 백분위수), 행 수 (실행 시간 합계가 큰 순)
+ * - slow : 최근 느린 구문 보고 (SQL, 바인딩된 파라미터)
+ * - 실행 시간 분포는 /actuator/prometheus 의 app_db_statement_seconds 에서도 확인
+ */
+@Component
+@Endpoint(id = "statements")
+@RequiredArgsConstructor
+public class StatementStatisticsEndpoint {
+
+	private final StatementTimingInterceptor statementTimingInterceptor;
+
+	@ReadOperation
+	public Map<String, Object> statements() {
+		final Map<String, Object> result = new LinkedHashMap<>();
+		result.put("statements", statementTimingInterceptor.getStatistics());
+		result.put("slow", statementTimingInterceptor.getSlowReports());
+
+		return result;
+	}
+
+}
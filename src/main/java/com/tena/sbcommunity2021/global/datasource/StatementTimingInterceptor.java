@@ -0,0 +1,291 @@
+package com.tena.sbcommunity2021.global.datasource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * MyBatis 구문별 실행 시간 측정 (MyBatis 자동 설정이 Interceptor 빈을 플러그인으로 등록)
+ * - app.db.statement : 구문(Ex. ArticleRepository.findById)별 실행 시간 분포, app.db.statement.rows : 조회/변경된 행 수
+ * - 실행 시간이 threshold 이상이면 SQL 과 바인딩된 파라미터를 로그로 남기고 최근 보고에 보관 (민감한 파라미터는 마스킹)
+ * - 집계 결과는 /actuator/statements 에서 확인 (JDBC 디버그 로그를 켜지 않고 느린 구문 확인)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Intercepts({
+		@Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+		@Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+		@Signature(type = Executor.class, method = "queryCursor", args = {MappedStatement.class, Object.class, RowBounds.class})
+})
+public class StatementTimingInterceptor implements Interceptor {
+
+	public static final String STATEMENT_TIMER = "app.db.statement";
+	public static final String ROWS_SUMMARY = "app.db.statement.rows";
+
+	static final String MASK = "*****";
+
+	private static final int MAX_SLOW_REPORTS = 100; // 보관할 최근 느린 구문 보고 수
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${app.datasource.slow-statement.threshold:500}")
+	private long threshold; // 이 시간(ms) 이상 걸린 구문을 보고
+
+	@Value("${app.datasource.slow-statement.masked-parameters:password,pass,pwd}")
+	private String[] maskedParameters; // 이름에 포함되어 있으면 값을 마스킹할 파라미터 (대소문자 무시)
+
+	private final Map<String, StatementMeters> statementMeters = new ConcurrentHashMap<>(); // 구문 ID -> 지표
+	private final Deque<SlowStatementReport> slowReports = new ArrayDeque<>();
+
+	@Override
+	public Object intercept(Invocation invocation) throws Throwable {
+		final MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+		final long startNanos = System.nanoTime();
+
+		final Object result = invocation.proceed(); // 실패한 실행은 측정하지 않음 (예외 로그로 확인)
+
+		final long elapsedNanos = System.nanoTime() - startNanos;
+		final long rows = rows(result);
+		final StatementMeters meters = getMeters(mappedStatement.getId());
+
+		meters.timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+		if (rows >= 0) {
+			meters.rows.record(rows);
+		}
+
+		if (TimeUnit.NANOSECONDS.toMillis(elapsedNanos) >= threshold) {
+			reportSlowStatement(mappedStatement, invocation.getArgs()[1], elapsedNanos, rows);
+		}
+
+		return result;
+	}
+
+	/**
+	 * 조회된 행 수 (목록) 또는 변경된 행 수 (update, insert, delete), 커서는 알 수 없으므로 -1
+	 */
+	private static long rows(Object result) {
+		if (result instanceof Collection) {
+			return ((Collection<?>) result).size();
+		}
+
+		if (result instanceof Integer) {
+			return (Integer) result;
+		}
+
+		return -1;
+	}
+
+	StatementMeters getMeters(String statementId) {
+		final StatementMeters meters = statementMeters.get(statementId);
+
+		if (meters != null) {
+			return meters;
+		}
+
+		return statementMeters.computeIfAbsent(statementId, StatementMeters::new);
+	}
+
+	private void reportSlowStatement(MappedStatement mappedStatement, Object parameterObject, long elapsedNanos, long rows) {
+		final BoundSql boundSql = mappedStatement.getBoundSql(parameterObject);
+		final SlowStatementReport report = new SlowStatementReport(
+				shortName(mappedStatement.getId()),
+				TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+				rows,
+				boundSql.getSql().replaceAll("\\s+", " ").trim(),
+				parameters(mappedStatement.getConfiguration(), boundSql, parameterObject));
+
+		log.warn("느린 구문 : {}ms, statement={}, rows={}, sql=[{}], parameters={}",
+				report.getElapsedMillis(), report.getStatement(), report.getRows(), report.getSql(), report.getParameters());
+
+		synchronized (slowReports) {
+			if (slowReports.size() == MAX_SLOW_REPORTS) {
+				slowReports.removeLast();
+			}
+			slowReports.addFirst(report);
+		}
+	}
+
+	/**
+	 * 바인딩된 파라미터 (SQL 의 ? 순서, MyBatis DefaultParameterHandler 와 같은 방법으로 값을 조회)
+	 */
+	private String parameters(Configuration configuration, BoundSql boundSql, Object parameterObject) {
+		final StringJoiner parameters = new StringJoiner(", ", "[", "]");
+		MetaObject metaObject = null;
+
+		for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+			if (parameterMapping.getMode() == ParameterMode.OUT) {
+				continue;
+			}
+
+			final String property = parameterMapping.getProperty();
+			final Object value;
+
+			if (isSensitiveParameter(property)) {
+				value = MASK;
+			} else if (boundSql.hasAdditionalParameter(property)) { // <foreach>, <bind> 로 만들어진 파라미터
+				value = boundSql.getAdditionalParameter(property);
+			} else if (parameterObject == null) {
+				value = null;
+			} else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass())) { // 단일 값 파라미터
+				value = parameterObject;
+			} else {
+				if (metaObject == null) {
+					metaObject = configuration.newMetaObject(parameterObject);
+				}
+				value = metaObject.getValue(property);
+			}
+
+			parameters.add(property + "=" + value);
+		}
+
+		return parameters.toString();
+	}
+
+	boolean isSensitiveParameter(String property) {
+		final String lowerCaseProperty = property.toLowerCase(Locale.ROOT);
+
+		for (String maskedParameter : maskedParameters) {
+			if (lowerCaseProperty.contains(maskedParameter.trim().toLowerCase(Locale.ROOT))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * 구문 ID 의 짧은 이름 (Ex. com.tena.sbcommunity2021.articles.repository.ArticleRepository.findById -> ArticleRepository.findById)
+	 */
+	static String shortName(String statementId) {
+		final int methodDot = statementId.lastIndexOf('.');
+		final int typeDot = methodDot > 0 ? statementId.lastIndexOf('.', methodDot - 1) : -1;
+
+		return statementId.substring(typeDot + 1);
+	}
+
+	/**
+	 * 최근 느린 구문 보고 (최근 순)
+	 */
+	public List<SlowStatementReport> getSlowReports() {
+		synchronized (slowReports) {
+			return new ArrayList<>(slowReports);
+		}
+	}
+
+	/**
+	 * 구문별 실행 시간, 행 수 (실행 시간 합계가 큰 순)
+	 */
+	public List<Map<String, Object>> getStatistics() {
+		return statementMeters.values().stream()
+				.sorted(Comparator.comparingDouble((StatementMeters meters) -> meters.timer.totalTime(TimeUnit.MILLISECONDS)).reversed())
+				.map(StatementMeters::toMap)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * 구문 하나의 지표 (구문마다 처음 실행될 때 한 번만 생성)
+	 */
+	final class StatementMeters {
+
+		private final String statement;
+		private final Timer timer;
+		private final DistributionSummary rows;
+
+		private StatementMeters(String statementId) {
+			this.statement = shortName(statementId);
+			this.timer = Timer.builder(STATEMENT_TIMER)
+					.description("MyBatis 구문 실행 시간")
+					.tag("statement", statement)
+					.register(meterRegistry);
+			this.rows = DistributionSummary.builder(ROWS_SUMMARY)
+					.description("MyBatis 구문이 조회/변경한 행 수")
+					.tag("statement", statement)
+					.register(meterRegistry);
+		}
+
+		Timer getTimer() {
+			return timer;
+		}
+
+		DistributionSummary getRows() {
+			return rows;
+		}
+
+		private Map<String, Object> toMap() {
+			final Map<String, Object> result = new LinkedHashMap<>();
+			result.put("statement", statement);
+			result.put("count", timer.count());
+			result.put("totalMillis", timer.totalTime(TimeUnit.MILLISECONDS));
+			result.put("meanMillis", timer.mean(TimeUnit.MILLISECONDS));
+			result.put("maxMillis", timer.max(TimeUnit.MILLISECONDS));
+
+			for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) { // management.metrics.distribution.percentiles 설정이 있는 경우
+				result.put("p" + Math.round(percentile.percentile() * 100) + "Millis", percentile.value(TimeUnit.MILLISECONDS));
+			}
+
+			result.put("totalRows", (long) rows.totalAmount());
+			result.put("meanRows", rows.mean());
+			result.put("maxRows", (long) rows.max());
+
+			return result;
+		}
+
+	}
+
+	@Getter
+	public static class SlowStatementReport {
+
+		private final String statement;
+		private final long elapsedMillis;
+		private final long rows;
+		private final String sql;
+		private final String parameters;
+		private final String reportedAt;
+
+		private SlowStatementReport(String statement, long elapsedMillis, long rows, String sql, String parameters) {
+			this.statement = statement;
+			this.elapsedMillis = elapsedMillis;
+			this.rows = rows;
+			this.sql = sql;
+			this.parameters = parameters;
+			this.reportedAt = Instant.now().toString();
+		}
+
+	}
+
+}
@@ -0,0 +1,41 @@
+package com.tena.sbcommunity2021.global.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+/**
+ * MyBatis 구문 실행 추적 (MyBatis 자동 설정이 Interceptor 빈을 플러그인으로 등록)
+ * - 실행하는 구문 이름(Ex. com.tena.sbcommunity2021.articles.repository.ArticleRepository.findById)을 ConnectionUsageTracker 에 기록
+ */
+@Component
+@RequiredArgsConstructor
+@Intercepts({
+		@Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+		@Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+		@Signature(type = Executor.class, method = "queryCursor", args = {MappedStatement.class, Object.class, RowBounds.class})
+})
+public class StatementTrackingInterceptor implements Interceptor {
+
+	private final ConnectionUsageTracker tracker;
+
+	@Override
+	public Object intercept(Invocation invocation) throws Throwable {
+		final MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+		tracker.beginStatement(mappedStatement.getId());
+
+		try {
+			return invocation.proceed();
+		} finally {
+			tracker.endStatement();
+		}
+	}
+
+}
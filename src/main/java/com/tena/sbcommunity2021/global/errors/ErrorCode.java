@@ -22,12 +22,23 @@ public enum ErrorCode {
 	// 405 Method Not Allowed : 허용되지 않은 Request Method 호출
 	METHOD_NOT_ALLOWED("C-405", "허용되지 않은 메서드입니다.", HttpStatus.METHOD_NOT_ALLOWED),
 
+	// 429 Too Many Requests : 요청 수 제한(app.rate-limit) 초과
+	TOO_MANY_REQUESTS("C-429", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
+
 	// 500 Internal Server Error : 서버 에러
 	INTERNAL_SERVER_ERROR("C-500", "내부 서버 오류입니다. 관리자에게 문의해 주세요.", HttpStatus.INTERNAL_SERVER_ERROR),
 
+	/* Account */
+	ACCOUNT_PASSWORD_HASHING_BUSY("U-001", "로그인, 회원가입 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+
 	/* Article */
 	ARTICLE_NOT_FOUND("A-001", "게시물이 존재하지 않습니다.", HttpStatus.NOT_FOUND),
-	ARTICLE_NOT_CREATED("A-002", "게시물 작성 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+	ARTICLE_NOT_CREATED("A-002", "게시물 작성 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+	ARTICLE_BULK_SIZE_EXCEEDED("A-003", "한 번에 처리할 수 있는 게시물 수를 초과했습니다.", HttpStatus.BAD_REQUEST),
+	ARTICLE_UPDATE_CONFLICT("A-004", "다른 사용자가 먼저 게시물을 수정했습니다. 게시물을 다시 조회한 후 수정해주세요.", HttpStatus.CONFLICT),
+	ARTICLE_PRECONDITION_FAILED("A-005", "게시물이 요청한 버전(If-Match)과 다릅니다. 게시물을 다시 조회한 후 수정해주세요.", HttpStatus.PRECONDITION_FAILED),
+	ARTICLE_WRITE_QUEUE_FULL("A-006", "게시물 작성 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+	ARTICLE_WRITE_PENDING("A-007", "게시물을 아직 저장하는 중입니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 
 	private final String code;
 	private final String message;
@@ -1,14 +1,19 @@
 package com.tena.sbcommunity2021.global.errors;
 
 import com.tena.sbcommunity2021.global.errors.exception.CustomException;
+import com.tena.sbcommunity2021.global.errors.exception.TooManyRequestsException;
+import com.tena.sbcommunity2021.global.metrics.HandlerMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import javax.validation.ConstraintViolationException;
@@ -21,49 +26,76 @@ public class ErrorExceptionController {
 	protected ResponseEntity<ErrorResponse> handleCustomException(final CustomException e) {
 		log.error("handleCustomException", e);
 		log.error("errorCode : {}", e.getErrorCode());
-		return ErrorResponse.toResponseEntity(e.getErrorCode());
+		return ErrorResponse.toResponseEntity(recordErrorCode(e.getErrorCode()));
+	}
+
+	/**
+	 * 요청 수 제한 초과 (다시 요청할 수 있을 때까지의 시간을 Retry-After 헤더로 응답)
+	 * - 대량 요청마다 로그가 쌓이지 않도록 DEBUG 레벨로만 기록 (건수는 app.rate-limit.rejected, app.http.handler.errors 지표로 확인)
+	 */
+	@ExceptionHandler(TooManyRequestsException.class)
+	protected ResponseEntity<ErrorResponse> handleTooManyRequestsException(final TooManyRequestsException e) {
+		log.debug("handleTooManyRequestsException : retryAfter={}s", e.getRetryAfterSeconds());
+
+		final HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+
+		return ErrorResponse.toResponseEntity(recordErrorCode(e.getErrorCode()), headers);
 	}
 
 	@ExceptionHandler(ConstraintViolationException.class)
 	protected ResponseEntity<ErrorResponse> handleConstraintViolationException(final ConstraintViolationException e) {
 		log.error("handleConstraintViolationException", e);
-		return ErrorResponse.toResponseEntity(ErrorCode.INVALID_INPUT_VALUE, e);
+		return ErrorResponse.toResponseEntity(recordErrorCode(ErrorCode.INVALID_INPUT_VALUE), e);
 	}
 
 	@ExceptionHandler(BindException.class)
 	protected ResponseEntity<ErrorResponse> handleBindException(final BindException e) {
 		log.error("handleBindException", e);
-		return ErrorResponse.toResponseEntity(ErrorCode.INVALID_INPUT_VALUE, e.getBindingResult());
+		return ErrorResponse.toResponseEntity(recordErrorCode(ErrorCode.INVALID_INPUT_VALUE), e.getBindingResult());
 	}
 
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	protected ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(final MethodArgumentNotValidException e) {
 		log.error("handleMethodArgumentNotValidException", e);
-		return ErrorResponse.toResponseEntity(ErrorCode.INVALID_INPUT_VALUE, e.getBindingResult());
+		return ErrorResponse.toResponseEntity(recordErrorCode(ErrorCode.INVALID_INPUT_VALUE), e.getBindingResult());
 	}
 
 	@ExceptionHandler(MethodArgumentTypeMismatchException.class)
 	protected ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(final MethodArgumentTypeMismatchException e) {
 		log.error("handleMethodArgumentTypeMismatchException", e);
-		return ErrorResponse.toResponseEntity(ErrorCode.INVALID_TYPE_VALUE, e);
+		return ErrorResponse.toResponseEntity(recordErrorCode(ErrorCode.INVALID_TYPE_VALUE), e);
 	}
 
 	@ExceptionHandler(HttpRequestMethodNotSupportedException.class)
 	protected ResponseEntity<ErrorResponse> handleHttpRequestMethodNotSupportedException(final HttpRequestMethodNotSupportedException e) {
 		log.error("handleHttpRequestMethodNotSupportedException", e);
-		return ErrorResponse.toResponseEntity(ErrorCode.METHOD_NOT_ALLOWED);
+		return ErrorResponse.toResponseEntity(recordErrorCode(ErrorCode.METHOD_NOT_ALLOWED));
 	}
 
 	@ExceptionHandler(DataIntegrityViolationException.class)
 	protected ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
 		log.error(e.getMessage());
-		return ErrorResponse.toResponseEntity(ErrorCode.INVALID_INPUT_VALUE);
+		return ErrorResponse.toResponseEntity(recordErrorCode(ErrorCode.INVALID_INPUT_VALUE));
 	}
 
 	@ExceptionHandler(Exception.class)
 	protected ResponseEntity<ErrorResponse> handleException(final Exception e) {
 		log.error("handleException", e);
-		return ErrorResponse.toResponseEntity(ErrorCode.INTERNAL_SERVER_ERROR);
+		return ErrorResponse.toResponseEntity(recordErrorCode(ErrorCode.INTERNAL_SERVER_ERROR));
+	}
+
+	/**
+	 * 핸들러 메서드별 오류 건수(HandlerMetrics)를 ErrorCode 로 집계할 수 있도록 요청 속성에 남김
+	 */
+	private static ErrorCode recordErrorCode(ErrorCode errorCode) {
+		final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes != null) {
+			attributes.setAttribute(HandlerMetrics.ERROR_CODE_ATTRIBUTE, errorCode, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		return errorCode;
 	}
 
-}
\ No newline at end of file
+}
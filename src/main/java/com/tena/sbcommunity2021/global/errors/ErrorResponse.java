@@ -2,6 +2,7 @@ package com.tena.sbcommunity2021.global.errors;
 
 import lombok.Builder;
 import lombok.Getter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
@@ -46,6 +47,13 @@ public class ErrorResponse {
         return ResponseEntity.status(errorCode.getStatus()).body(response);
     }
 
+    public static ResponseEntity<ErrorResponse> toResponseEntity(final ErrorCode errorCode, final HttpHeaders headers) {
+        final ErrorResponse response = ErrorResponse.builder()
+                .errorCode(errorCode).build();
+
+        return ResponseEntity.status(errorCode.getStatus()).headers(headers).body(response);
+    }
+
     public static ResponseEntity<ErrorResponse> toResponseEntity(final ErrorCode errorCode, final List<FieldError> errors) {
         final ErrorResponse response = ErrorResponse.builder()
                 .errorCode(errorCode).errors(errors).build();
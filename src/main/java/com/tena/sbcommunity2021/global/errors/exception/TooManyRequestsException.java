@@ -0,0 +1,19 @@
+package com.tena.sbcommunity2021.global.errors.exception;
+
+import com.tena.sbcommunity2021.global.errors.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 요청 수 제한 초과 (429 응답, Retry-After 헤더)
+ */
+@Getter
+public class TooManyRequestsException extends CustomException {
+
+	private final long retryAfterSeconds; // 다시 요청할 수 있을 때까지의 시간 (초)
+
+	public TooManyRequestsException(long retryAfterSeconds) {
+		super(ErrorCode.TOO_MANY_REQUESTS);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+}
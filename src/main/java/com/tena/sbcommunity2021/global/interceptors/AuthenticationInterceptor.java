@@ -1,13 +1,18 @@
 package com.tena.sbcommunity2021.global.interceptors;
 
-import com.tena.sbcommunity2021.articles.domain.Article;
+import com.tena.sbcommunity2021.articles.dto.ArticleDto;
+import com.tena.sbcommunity2021.articles.exception.ArticleNotFoundException;
 import com.tena.sbcommunity2021.articles.service.ArticleService;
+import com.tena.sbcommunity2021.global.auth.Authenticator;
+import com.tena.sbcommunity2021.global.auth.AuthorizationRule;
+import com.tena.sbcommunity2021.global.auth.AuthorizationTable;
 import com.tena.sbcommunity2021.global.commons.UserAccount;
 import com.tena.sbcommunity2021.global.commons.utils.URLHelper;
 import com.tena.sbcommunity2021.global.errors.exception.CustomException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 import javax.servlet.http.HttpServletRequest;
@@ -21,20 +26,36 @@ import static com.tena.sbcommunity2021.global.errors.ErrorCode.UNAUTHORIZED;
 @RequiredArgsConstructor
 public class AuthenticationInterceptor implements HandlerInterceptor {
 
-	private final UserAccount userAccount;
+	private final Authenticator authenticator;
 	private final ArticleService articleService;
+	private final AuthorizationTable authorizationTable;
 
+	/**
+	 * 핸들러 메서드에 지정된 접근 권한(@LoginRequired, @OwnerOnly) 확인
+	 * - 일괄 삭제처럼 게시물 번호가 경로에 없는 요청은 로그인 여부만 확인하고, 서비스에서 항목별로 권한 체크
+	 */
 	@Override
 	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+		if (!(handler instanceof HandlerMethod)) {
+			return true; // 정적 리소스 등
+		}
+
+		final AuthorizationRule rule = authorizationTable.getRule((HandlerMethod) handler);
+
+		if (!rule.isLoginRequired()) {
+			return true;
+		}
+
 		log.info("AuthenticationInterceptor.preHandle");
 
+		final UserAccount userAccount = authenticator.getUserAccount(request);
+
 		checkUserAuthenticated(userAccount); // 로그인 여부 체크
 
-		if (URLHelper.hasPathPattern(request, "/**/edit", "/**/delete")) {
-			final String requestUri = URLHelper.getRequestUri(request);
-			final Long id = Long.valueOf(URLHelper.getPathVariable(request, "id"));
+		if (rule.isOwnerOnly()) {
+			final String id = URLHelper.getPathVariable(request, rule.getOwnerIdVariable());
 
-			checkUserCanEdit(requestUri, id); // 권한 체크
+			checkUserCanEdit(userAccount, Long.valueOf(id)); // 권한 체크
 		}
 
 		return true;
@@ -48,15 +69,14 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
 		}
 	}
 
-	private void checkUserCanEdit(final String requestUri, final Long id) {
+	private void checkUserCanEdit(final UserAccount userAccount, final Long id) {
 		log.info("AuthenticationInterceptor.checkUserCanEdit");
 
-		if (requestUri.startsWith("/articles")) { // 게시물 관련된 수정/삭제 요청
-			Article article = articleService.getArticle(id);
+		// 본문 없이 작성자만 확인 (조회 결과는 같은 요청의 수정/삭제 처리에서 재사용)
+		ArticleDto.Meta meta = articleService.findArticleMeta(id).orElseThrow(ArticleNotFoundException::new);
 
-			if (!article.isEditableBy(userAccount.getAccountId())) {
-				throw new CustomException(FORBIDDEN);
-			}
+		if (!meta.isEditableBy(userAccount.getAccountId())) {
+			throw new CustomException(FORBIDDEN);
 		}
 	}
 
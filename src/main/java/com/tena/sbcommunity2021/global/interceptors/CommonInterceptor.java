@@ -1,92 +1,89 @@
 package com.tena.sbcommunity2021.global.interceptors;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.tena.sbcommunity2021.global.accesslog.AccessLogger;
+import com.tena.sbcommunity2021.global.metrics.HandlerMetrics;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
-import org.springframework.web.servlet.ModelAndView;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.util.Enumeration;
 
+/**
+ * 요청 처리 시간 측정, 핸들러 메서드별 지표 및 접근 로그 기록
+ * - 요청마다 남기는 로그는 AccessLogger 가 별도 스레드에서 저널 파일에 기록 (요청 스레드에서는 문자열을 만들지 않음)
+ * - 디버그 로그는 DEBUG 레벨이 활성화된 경우에만 파라미터 문자열을 생성
+ */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class CommonInterceptor implements HandlerInterceptor {
 
+	static final String START_NANOS_ATTRIBUTE = CommonInterceptor.class.getName() + ".startNanos";
+
+	private final AccessLogger accessLogger;
+	private final HandlerMetrics handlerMetrics;
+
 	// 요청(Request)과 맵핑된 Handler 실행 전 처리사항
 	@Override
 	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-		log.debug("requestURI: {}", request.getRequestURI());
-		log.debug("contextPath: {}", request.getContextPath());
+		request.setAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
 
-		if (handler instanceof HandlerMethod) {
+		if (log.isDebugEnabled() && handler instanceof HandlerMethod) {
 			HandlerMethod handlerMethod = (HandlerMethod) handler;
-			log.info("[preHandle][{}][{}{}][{}][{}]", request.getMethod(), request.getRequestURI(), getParameters(request), handlerMethod.getBeanType().getSimpleName(), handlerMethod.getMethod().getName());
+			log.debug("[preHandle][{}][{}{}][{}][{}]", request.getMethod(), request.getRequestURI(), getParameters(request), handlerMethod.getBeanType().getSimpleName(), handlerMethod.getMethod().getName());
 		}
 
 		return true;
 	}
 
-	// View 렌더링 전 처리사항
-	@Override
-	public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) throws Exception {
-		log.info("[postHandle][{}][{}{}]", request.getMethod(), request.getRequestURI(), getParameters(request));
-	}
-
 	// View 렌더링 후 처리사항, 클라이언트에 최종적인 응답(Response) 전달
 	@Override
 	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
+		final Object startAttribute = request.getAttribute(START_NANOS_ATTRIBUTE);
+		final long startNanos = startAttribute instanceof Long ? (Long) startAttribute : System.nanoTime();
+
+		handlerMetrics.record(request, handler, ex, startNanos);
+		accessLogger.record(request, response, handler, ex, startNanos);
+
 		if (ex != null) { // ※ 참고: 만약 @ExceptionHandler 를 통해 ex 를 처리하고 있다면 null 이 잡힘. 즉 예외가 여기까지 넘어오지 않음
-			ex.printStackTrace();
-			log.info("[afterCompletion][{}][{}{}][exception: {}]", request.getMethod(), request.getRequestURI(), getParameters(request), ex.getClass().getSimpleName());
+			log.warn("[afterCompletion][{}][{}][exception: {}]", request.getMethod(), request.getRequestURI(), ex.getClass().getSimpleName());
 		}
 	}
 
-	// 파라미터를 쿼리스트링 형태로 리턴
-	private String getParameters(HttpServletRequest request) {
-		StringBuffer posted = new StringBuffer();
-		Enumeration<?> parameterNames = request.getParameterNames();
+	// 파라미터를 쿼리스트링 형태로 리턴 (디버그 로그용)
+	@VisibleForTesting // 성능 측정(CommonInterceptorBenchmark)
+	String getParameters(HttpServletRequest request) {
+		final Enumeration<String> parameterNames = request.getParameterNames();
 
-		if (parameterNames != null) {
-			posted.append("?");
+		if (parameterNames == null || !parameterNames.hasMoreElements()) {
+			return "";
 		}
 
+		final StringBuilder posted = new StringBuilder(64).append('?');
+
 		while (parameterNames.hasMoreElements()) {
 			if (posted.length() > 1) {
-				posted.append("&");
+				posted.append('&');
 			}
 
-			String parameterName = (String) parameterNames.nextElement();
+			final String parameterName = parameterNames.nextElement();
 
-			posted.append(parameterName + "=");
+			posted.append(parameterName).append('=');
 
 			// 패스워드와 같은 민감한 값들 별표로
-			if (parameterName.contains("password") || parameterName.contains("pass") || parameterName.contains("pwd")) {
+			if (accessLogger.isSensitiveParameter(parameterName)) {
 				posted.append("*****");
 			} else {
 				posted.append(request.getParameter(parameterName));
 			}
 		}
 
-		String ipAddr = getRemoteAddr(request);
-
-		if (ipAddr != null && !ipAddr.equals("")) {
-			posted.append("&_psip=" + ipAddr);
-		}
 		return posted.toString();
 	}
 
-	// 클라이언트 IP 주소 리턴
-	private String getRemoteAddr(HttpServletRequest request) {
-		String ipFromHeader = request.getHeader("X-FORWARDED-FOR");
-
-		if (ipFromHeader != null && ipFromHeader.length() > 0) {
-			log.debug("ip from proxy - X-FORWARDED-FOR : " + ipFromHeader);
-			return ipFromHeader;
-		}
-
-		return request.getRemoteAddr();
-	}
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package com.tena.sbcommunity2021.global.interceptors;
+
+import com.tena.sbcommunity2021.global.ratelimit.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * 요청 수 제한 중 항목 단위(ITEM) 규칙 확인 (일괄 요청의 JSON 배열 본문을 읽은 후, 항목 수만큼 차감하고 넘으면 핸들러 실행 전에 429 응답)
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class RateLimitBodyAdvice extends RequestBodyAdviceAdapter {
+
+	private final RateLimiter rateLimiter;
+
+	@Override
+	public boolean supports(MethodParameter methodParameter, Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return rateLimiter.hasItemRules() && Collection.class.isAssignableFrom(methodParameter.getParameterType());
+	}
+
+	@Override
+	public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+	                            Class<? extends HttpMessageConverter<?>> converterType) {
+		if (body instanceof Collection) { // inputMessage 는 감싼 객체이므로 현재 요청은 RequestContextHolder 에서 조회
+			rateLimiter.checkItems(((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest(), ((Collection<?>) body).size());
+		}
+
+		return body;
+	}
+
+}
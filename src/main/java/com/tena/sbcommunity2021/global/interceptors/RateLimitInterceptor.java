@@ -0,0 +1,27 @@
+package com.tena.sbcommunity2021.global.interceptors;
+
+import com.tena.sbcommunity2021.global.ratelimit.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 요청 수 제한 (app.rate-limit.rules 의 경로에만 등록, 제한을 넘으면 핸들러 실행 전에 429 응답)
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+	private final RateLimiter rateLimiter;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+		rateLimiter.check(request);
+
+		return true;
+	}
+
+}
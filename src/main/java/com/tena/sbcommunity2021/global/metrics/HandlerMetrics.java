@@ -0,0 +1,122 @@
+package com.tena.sbcommunity2021.global.metrics;
+
+import com.tena.sbcommunity2021.global.errors.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 핸들러 메서드별 요청 처리 지표 (/actuator/prometheus, /actuator/metrics)
+ * - app.http.handler.requests : 처리 시간 분포 (Timer, 건수로 처리량 확인), 백분위수/히스토그램은 management.metrics.distribution 설정을 따름
+ * - app.http.handler.errors : ErrorCode 별 오류 건수 (ErrorExceptionController 가 요청 속성에 남긴 ErrorCode 로 집계)
+ * - 지표는 구동 시 핸들러마다 한 번만 생성하고, 요청마다 지표를 조회할 때는 태그 객체를 만들지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class HandlerMetrics implements ApplicationListener<ContextRefreshedEvent> {
+
+	public static final String REQUEST_TIMER = "app.http.handler.requests";
+	public static final String ERROR_COUNTER = "app.http.handler.errors";
+	public static final String ERROR_CODE_ATTRIBUTE = HandlerMetrics.class.getName() + ".errorCode";
+
+	private final MeterRegistry meterRegistry;
+
+	private final Map<Method, HandlerMeters> handlerMeters = new ConcurrentHashMap<>();
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		event.getApplicationContext().getBeansOfType(RequestMappingHandlerMapping.class).values()
+				.forEach(handlerMapping -> handlerMapping.getHandlerMethods().values().forEach(this::getMeters));
+	}
+
+	/**
+	 * 요청 완료 시 호출 (CommonInterceptor.afterCompletion)
+	 * @param startNanos 요청 처리 시작 시각 (System.nanoTime)
+	 */
+	public void record(HttpServletRequest request, Object handler, Exception ex, long startNanos) {
+		if (!(handler instanceof HandlerMethod)) {
+			return;
+		}
+
+		final HandlerMeters meters = getMeters((HandlerMethod) handler);
+		meters.timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+		final Object errorCode = request.getAttribute(ERROR_CODE_ATTRIBUTE);
+
+		if (errorCode instanceof ErrorCode) {
+			meters.errorCounter((ErrorCode) errorCode).increment();
+		} else if (ex != null) { // 처리되지 않고 넘어온 예외
+			meters.errorCounter(ErrorCode.INTERNAL_SERVER_ERROR).increment();
+		}
+	}
+
+	/**
+	 * 핸들러 메서드의 지표 (구동 시 등록되지 않은 핸들러는 처음 요청될 때 한 번만 생성)
+	 */
+	HandlerMeters getMeters(HandlerMethod handlerMethod) {
+		final HandlerMeters meters = handlerMeters.get(handlerMethod.getMethod());
+
+		if (meters != null) {
+			return meters;
+		}
+
+		return handlerMeters.computeIfAbsent(handlerMethod.getMethod(),
+				method -> new HandlerMeters(handlerMethod.getBeanType().getSimpleName() + "." + method.getName()));
+	}
+
+	/**
+	 * 핸들러 하나의 지표
+	 * - 오류 건수는 ErrorCode 마다 처음 발생할 때 생성 (발생한 적 없는 오류 코드는 노출하지 않음)
+	 */
+	final class HandlerMeters {
+
+		private final String handler;
+		private final Timer timer;
+		private final AtomicReferenceArray<Counter> errorCounters = new AtomicReferenceArray<>(ErrorCode.values().length);
+
+		private HandlerMeters(String handler) {
+			this.handler = handler;
+			this.timer = Timer.builder(REQUEST_TIMER)
+					.description("핸들러 메서드별 요청 처리 시간")
+					.tag("handler", handler)
+					.register(meterRegistry);
+		}
+
+		Timer getTimer() {
+			return timer;
+		}
+
+		Counter errorCounter(ErrorCode errorCode) {
+			final Counter counter = errorCounters.get(errorCode.ordinal());
+
+			if (counter != null) {
+				return counter;
+			}
+
+			final Counter created = Counter.builder(ERROR_COUNTER)
+					.description("핸들러 메서드별 오류 응답 건수")
+					.tag("handler", handler)
+					.tag("code", errorCode.name())
+					.tag("status", String.valueOf(errorCode.getStatus().value()))
+					.register(meterRegistry); // 같은 이름, 태그면 레지스트리가 같은 Counter 를 리턴
+
+			errorCounters.lazySet(errorCode.ordinal(), created);
+			return created;
+		}
+
+	}
+
+}
@@ -0,0 +1,53 @@
+package com.tena.sbcommunity2021.global.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 수 제한 설정 (app.rate-limit)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+	private boolean enabled;
+
+	private long maxKeys = 100_000; // 규칙별로 메모리에 보관할 최대 키(IP, 회원 번호) 수
+
+	private List<Rule> rules = new ArrayList<>();
+
+	@Getter
+	@Setter
+	public static class Rule {
+
+		private String name; // 지표 태그, 로그에 사용
+
+		private String path; // 경로 패턴 (AntPathMatcher)
+
+		private KeyType key = KeyType.IP;
+
+		private Unit unit = Unit.REQUEST;
+
+		private int limit; // period 동안 허용할 요청 수 (한 번에 몰아서 보낼 수 있는 최대 요청 수)
+
+		private Duration period;
+
+	}
+
+	public enum KeyType {
+		IP, // 클라이언트 IP
+		ACCOUNT // 로그인한 회원 번호 (로그인하지 않았으면 클라이언트 IP)
+	}
+
+	public enum Unit {
+		REQUEST, // 요청 하나에 1건 (핸들러 실행 전에 확인)
+		ITEM // 요청 본문(JSON 배열)의 항목 수만큼 (본문을 읽은 후에 확인)
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.tena.sbcommunity2021.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 수 제한 규칙 하나의 키별 토큰 버킷 (GCRA : Generic Cell Rate Algorithm)
+ * - 키마다 "버킷이 다시 가득 차는 시각(TAT)" 하나만 AtomicLong 으로 보관하고 CAS 로 갱신 (락, 타이머 없음)
+ * - 요청마다 TAT 를 emissionInterval(period / limit) 만큼 늦추고, TAT 가 현재 시각 + period 를 넘으면 거절
+ * - limit 개까지는 한 번에 허용하고, 그 이후는 emissionInterval 마다 하나씩 허용 (토큰 버킷과 같은 동작)
+ * - 키는 period 동안 요청이 없으면 삭제 (그 시점이면 버킷이 가득 찬 상태이므로 삭제해도 결과가 같음), 최대 maxKeys 개
+ */
+public class RateLimitRule {
+
+	@Getter
+	private final String name;
+
+	@Getter
+	private final String path;
+
+	@Getter
+	private final RateLimitProperties.KeyType keyType;
+
+	@Getter
+	private final RateLimitProperties.Unit unit;
+
+	private final long periodNanos;
+	private final long emissionIntervalNanos;
+	private final Cache<Object, AtomicLong> buckets; // 키(IP 문자열, 회원 번호) -> TAT (System.nanoTime 기준)
+
+	public RateLimitRule(String name, String path, RateLimitProperties.KeyType keyType, RateLimitProperties.Unit unit, int limit, Duration period, long maxKeys) {
+		if (limit <= 0 || period == null || period.isNegative() || period.isZero()) {
+			throw new IllegalArgumentException(String.format("app.rate-limit.rules[%s] 의 limit, period 는 0 보다 커야 합니다.", name));
+		}
+
+		this.name = name;
+		this.path = path;
+		this.keyType = keyType;
+		this.unit = unit;
+		this.periodNanos = period.toNanos();
+		this.emissionIntervalNanos = periodNanos / limit;
+		this.buckets = Caffeine.newBuilder()
+				.maximumSize(maxKeys)
+				.expireAfterAccess(period)
+				.build();
+	}
+
+	/**
+	 * 요청 하나를 허용할지 확인
+	 * @param nowNanos 현재 시각 (System.nanoTime)
+	 * @return 허용하면 0, 거절하면 다시 요청할 수 있을 때까지의 시간 (ns)
+	 */
+	public long tryAcquire(Object key, long nowNanos) {
+		return tryAcquire(key, nowNanos, 1);
+	}
+
+	/**
+	 * permits 건을 한 번에 허용할지 확인 (일부만 허용하지 않음, limit 보다 많으면 항상 거절)
+	 * @param nowNanos 현재 시각 (System.nanoTime)
+	 * @return 허용하면 0, 거절하면 다시 요청할 수 있을 때까지의 시간 (ns)
+	 */
+	public long tryAcquire(Object key, long nowNanos, int permits) {
+		final AtomicLong bucket = buckets.get(key, k -> new AtomicLong(nowNanos));
+
+		while (true) {
+			final long tat = bucket.get();
+			final long newTat = (tat - nowNanos > 0 ? tat : nowNanos) + emissionIntervalNanos * permits; // nanoTime 은 음수일 수 있으므로 차이로 비교
+			final long waitNanos = newTat - nowNanos - periodNanos;
+
+			if (waitNanos > 0) {
+				return waitNanos; // 거절한 요청은 버킷을 바꾸지 않음
+			}
+
+			if (bucket.compareAndSet(tat, newTat)) {
+				return 0;
+			}
+		}
+	}
+
+	/**
+	 * 메모리에 보관 중인 키 수 (추정치)
+	 */
+	public long getKeyCount() {
+		return buckets.estimatedSize();
+	}
+
+}
@@ -0,0 +1,126 @@
+package com.tena.sbcommunity2021.global.ratelimit;
+
+import com.tena.sbcommunity2021.global.auth.Authenticator;
+import com.tena.sbcommunity2021.global.commons.UserAccount;
+import com.tena.sbcommunity2021.global.commons.utils.ClientIpHelper;
+import com.tena.sbcommunity2021.global.commons.utils.URLHelper;
+import com.tena.sbcommunity2021.global.errors.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 수 제한 (app.rate-limit)
+ * - 규칙(경로 패턴)마다 클라이언트 IP 또는 회원 번호별로 period 동안 limit 건까지 허용, 넘으면 429 응답 (Retry-After 헤더)
+ * - 요청 수(REQUEST)는 RateLimitInterceptor 가, 일괄 요청 본문의 항목 수(ITEM)는 RateLimitBodyAdvice 가 확인
+ * - 서버마다 따로 계산하므로 여러 서버면 전체 허용량은 서버 수만큼 늘어남
+ * - app.rate-limit.rejected : 규칙별 거절 건수, app.rate-limit.keys : 규칙별 보관 중인 키 수
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimiter {
+
+	public static final String REJECTED_COUNTER = "app.rate-limit.rejected";
+	public static final String KEYS_GAUGE = "app.rate-limit.keys";
+
+	private final Authenticator authenticator;
+	private final boolean enabled;
+	private final int trustedProxies;
+	private final List<RateLimitRule> rules = new ArrayList<>();
+	private final List<Counter> rejectedCounters = new ArrayList<>(); // rules 와 같은 순서
+
+	public RateLimiter(RateLimitProperties properties, Authenticator authenticator, MeterRegistry meterRegistry,
+	                   @Value("${app.trusted-proxies:0}") int trustedProxies) {
+		this.authenticator = authenticator;
+		this.enabled = properties.isEnabled();
+		this.trustedProxies = trustedProxies;
+
+		for (RateLimitProperties.Rule rule : properties.getRules()) {
+			final RateLimitRule rateLimitRule = new RateLimitRule(rule.getName(), rule.getPath(), rule.getKey(), rule.getUnit(), rule.getLimit(), rule.getPeriod(), properties.getMaxKeys());
+
+			rules.add(rateLimitRule);
+			rejectedCounters.add(Counter.builder(REJECTED_COUNTER).tag("rule", rule.getName()).register(meterRegistry));
+			Gauge.builder(KEYS_GAUGE, rateLimitRule, RateLimitRule::getKeyCount).tag("rule", rule.getName()).register(meterRegistry);
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled && !rules.isEmpty();
+	}
+
+	/**
+	 * 항목 단위(ITEM) 규칙이 있는지 (없으면 요청 본문을 확인하지 않음)
+	 */
+	public boolean hasItemRules() {
+		return isEnabled() && rules.stream().anyMatch(rule -> rule.getUnit() == RateLimitProperties.Unit.ITEM);
+	}
+
+	public List<RateLimitRule> getRules() {
+		return Collections.unmodifiableList(rules);
+	}
+
+	/**
+	 * 요청 경로에 해당하는 요청 단위(REQUEST) 규칙 확인
+	 * @throws TooManyRequestsException 하나라도 제한을 넘은 경우
+	 */
+	public void check(HttpServletRequest request) {
+		check(request, RateLimitProperties.Unit.REQUEST, 1);
+	}
+
+	/**
+	 * 요청 경로에 해당하는 항목 단위(ITEM) 규칙 확인 (요청 본문의 항목 수만큼 차감)
+	 * @throws TooManyRequestsException 하나라도 제한을 넘은 경우
+	 */
+	public void checkItems(HttpServletRequest request, int items) {
+		if (items > 0) {
+			check(request, RateLimitProperties.Unit.ITEM, items);
+		}
+	}
+
+	private void check(HttpServletRequest request, RateLimitProperties.Unit unit, int permits) {
+		final String requestUri = URLHelper.getRequestUri(request);
+		final long nowNanos = System.nanoTime();
+
+		for (int i = 0; i < rules.size(); i++) {
+			final RateLimitRule rule = rules.get(i);
+
+			if (rule.getUnit() != unit || !URLHelper.hasPathPattern(requestUri, rule.getPath())) {
+				continue;
+			}
+
+			final Object key = getKey(request, rule.getKeyType());
+			final long waitNanos = rule.tryAcquire(key, nowNanos, permits);
+
+			if (waitNanos > 0) {
+				rejectedCounters.get(i).increment();
+				log.debug("요청 수 제한 초과 (규칙 : {}, 키 : {})", rule.getName(), key);
+
+				throw new TooManyRequestsException(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1))); // 초 단위 올림
+			}
+		}
+	}
+
+	private Object getKey(HttpServletRequest request, RateLimitProperties.KeyType keyType) {
+		if (keyType == RateLimitProperties.KeyType.ACCOUNT) {
+			final UserAccount userAccount = authenticator.getUserAccount(request);
+
+			if (userAccount.isAuthenticated()) {
+				return userAccount.getAccountId(); // Long (IP 문자열과 겹치지 않음)
+			}
+		}
+
+		return ClientIpHelper.getClientIp(request, trustedProxies);
+	}
+
+}
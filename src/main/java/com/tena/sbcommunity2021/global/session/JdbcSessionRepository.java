@@ -0,0 +1,305 @@
+package com.tena.sbcommunity2021.global.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tena.sbcommunity2021.global.auth.Authenticator;
+import com.tena.sbcommunity2021.global.commons.UserAccount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import java.io.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DB(http_session 테이블)에 세션을 보관하는 세션 저장소 (app.session.store=jdbc)
+ * - 여러 서버가 같은 DB 를 사용하므로 고정 세션(sticky session) 없이 어느 서버에서나 같은 세션 사용
+ * - 로그인한 사용자는 회원 번호, 권한레벨 컬럼으로 보관하고, 그 밖의 속성만 Java 직렬화 (없으면 null)
+ * - 속성이 바뀐 경우에만 저장하고, 접근일시는 touch-interval 이 지난 경우에만 갱신 (요청마다 쓰지 않음)
+ * - 확인한 세션은 cache-ttl 동안 서버 메모리에 보관 (다른 서버의 로그아웃은 최대 cache-ttl 후에 반영)
+ * - 저장할 때 수정된 행이 없으면 다른 서버에서 삭제(로그아웃, 만료 정리)된 세션이므로, 다시 저장하지 않고 보관한 세션도 제거
+ * - 만료된 세션은 주기적으로 cleanup-batch-size 건씩 나눠서 삭제
+ * - 속성 객체를 setAttribute 없이 변경하면 저장되지 않음 (변경 후 다시 setAttribute 해야 함)
+ */
+@Slf4j
+public class JdbcSessionRepository implements SessionRepository<JdbcSessionRepository.JdbcSession> {
+
+	private final SessionRecordRepository sessionRecordRepository;
+	private final Duration defaultMaxInactiveInterval;
+	private final long touchIntervalMillis;
+	private final int cleanupBatchSize;
+	private final Cache<String, SessionRecord> validatedSessions; // 세션 ID -> 최근 확인(저장)한 세션
+
+	public JdbcSessionRepository(SessionRecordRepository sessionRecordRepository, Duration defaultMaxInactiveInterval,
+	                             Duration touchInterval, Duration cacheTtl, long cacheSize, int cleanupBatchSize) {
+		this.sessionRecordRepository = sessionRecordRepository;
+		this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+		this.touchIntervalMillis = touchInterval.toMillis();
+		this.cleanupBatchSize = cleanupBatchSize;
+		this.validatedSessions = Caffeine.newBuilder()
+				.maximumSize(cacheSize)
+				.expireAfterWrite(cacheTtl)
+				.build();
+	}
+
+	@Override
+	public JdbcSession createSession() {
+		final MapSession session = new MapSession();
+		session.setMaxInactiveInterval(defaultMaxInactiveInterval);
+
+		return new JdbcSession(session, true, 0);
+	}
+
+	@Override
+	public void save(JdbcSession session) {
+		final SessionRecord record = toRecord(session);
+
+		final int updated;
+
+		if (session.isNew) {
+			sessionRecordRepository.save(record);
+			updated = 1;
+		} else if (session.changed) {
+			updated = sessionRecordRepository.update(session.originalId, record);
+
+			if (!session.originalId.equals(session.getId())) { // 세션 ID 변경
+				validatedSessions.invalidate(session.originalId);
+			}
+		} else if (record.getLastAccessTime() - session.savedLastAccessTime >= touchIntervalMillis) {
+			updated = sessionRecordRepository.updateLastAccessTime(record.getSessionId(), record.getLastAccessTime(), record.getExpiryTime());
+		} else {
+			return; // 바뀐 내용이 없음
+		}
+
+		if (updated == 0) { // 다른 서버에서 삭제된 세션 (다시 저장하면 로그아웃한 세션이 되살아나므로 저장하지 않음)
+			log.debug("이미 삭제된 세션, 저장하지 않음 : {}", session.originalId);
+			validatedSessions.invalidate(session.originalId);
+			validatedSessions.invalidate(session.getId());
+			return;
+		}
+
+		session.saved(record.getLastAccessTime());
+		validatedSessions.put(record.getSessionId(), record);
+	}
+
+	@Override
+	public JdbcSession findById(String id) {
+		final long now = System.currentTimeMillis();
+		SessionRecord record = validatedSessions.getIfPresent(id);
+
+		if (record != null && record.isExpired(now)) { // 다른 서버에서 접근일시를 갱신했을 수 있으므로 DB 에서 다시 확인
+			validatedSessions.invalidate(id);
+			record = null;
+		}
+
+		if (record == null) {
+			record = sessionRecordRepository.findById(id).orElse(null);
+
+			if (record == null) {
+				return null;
+			}
+
+			if (record.isExpired(now)) {
+				deleteById(id);
+				return null;
+			}
+
+			validatedSessions.put(id, record);
+		}
+
+		return toSession(record);
+	}
+
+	@Override
+	public void deleteById(String id) {
+		sessionRecordRepository.deleteById(id);
+		validatedSessions.invalidate(id);
+	}
+
+	/**
+	 * 만료된 세션 정리 (여러 서버에서 동시에 실행되어도 같은 결과)
+	 * @return 삭제된 세션 수
+	 */
+	@Scheduled(fixedDelayString = "${app.session.jdbc.cleanup-interval:60000}")
+	public int deleteExpiredSessions() {
+		final long now = System.currentTimeMillis();
+		int total = 0;
+		int deleted;
+
+		do {
+			deleted = sessionRecordRepository.deleteExpired(now, cleanupBatchSize);
+			total += deleted;
+		} while (deleted == cleanupBatchSize);
+
+		if (total > 0) {
+			log.debug("만료된 세션 {}건 삭제", total);
+		}
+
+		return total;
+	}
+
+	private SessionRecord toRecord(JdbcSession session) {
+		final Map<String, Object> attributes = new HashMap<>();
+		UserAccount userAccount = null;
+
+		for (String name : session.getAttributeNames()) {
+			final Object value = session.getAttribute(name);
+
+			if (Authenticator.SESSION_ATTRIBUTE.equals(name) && value instanceof UserAccount) {
+				userAccount = (UserAccount) value;
+			} else {
+				attributes.put(name, value);
+			}
+		}
+
+		final long lastAccessTime = session.getLastAccessedTime().toEpochMilli();
+		final long maxInactiveSeconds = session.getMaxInactiveInterval().getSeconds();
+
+		return SessionRecord.builder()
+				.sessionId(session.getId())
+				.creationTime(session.getCreationTime().toEpochMilli())
+				.lastAccessTime(lastAccessTime)
+				.maxInactiveInterval((int) maxInactiveSeconds)
+				.expiryTime(maxInactiveSeconds < 0 ? Long.MAX_VALUE : lastAccessTime + maxInactiveSeconds * 1000)
+				.accountId(userAccount == null ? null : userAccount.getAccountId())
+				.authLevel(userAccount == null ? null : userAccount.getAuthLevel())
+				.attributes(attributes.isEmpty() ? null : serialize(attributes))
+				.build();
+	}
+
+	private static JdbcSession toSession(SessionRecord record) {
+		final MapSession session = new MapSession(record.getSessionId());
+		session.setCreationTime(Instant.ofEpochMilli(record.getCreationTime()));
+		session.setLastAccessedTime(Instant.ofEpochMilli(record.getLastAccessTime()));
+		session.setMaxInactiveInterval(Duration.ofSeconds(record.getMaxInactiveInterval()));
+
+		if (record.getAttributes() != null) {
+			deserialize(record.getAttributes()).forEach(session::setAttribute);
+		}
+
+		if (record.getAccountId() != null) {
+			session.setAttribute(Authenticator.SESSION_ATTRIBUTE, UserAccount.of(record.getAccountId(), record.getAuthLevel() == null ? 0 : record.getAuthLevel()));
+		}
+
+		return new JdbcSession(session, false, record.getLastAccessTime());
+	}
+
+	private static byte[] serialize(Map<String, Object> attributes) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(attributes);
+		} catch (IOException e) {
+			throw new IllegalStateException("세션 속성을 직렬화할 수 없습니다. (속성 : " + attributes.keySet() + ")", e);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> deserialize(byte[] attributes) {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(attributes))) {
+			return (Map<String, Object>) in.readObject();
+		} catch (IOException | ClassNotFoundException e) {
+			throw new IllegalStateException("세션 속성을 읽을 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * 변경 여부를 기록하는 세션 (속성, 최대 비활성 시간, 세션 ID 가 바뀌면 변경)
+	 */
+	public static final class JdbcSession implements Session {
+
+		private final MapSession delegate;
+		private boolean isNew;
+		private boolean changed;
+		private String originalId; // 저장되어 있는 세션 ID
+		private long savedLastAccessTime; // 저장되어 있는 마지막 접근일시
+
+		private JdbcSession(MapSession delegate, boolean isNew, long savedLastAccessTime) {
+			this.delegate = delegate;
+			this.isNew = isNew;
+			this.originalId = delegate.getId();
+			this.savedLastAccessTime = savedLastAccessTime;
+		}
+
+		private void saved(long lastAccessTime) {
+			this.isNew = false;
+			this.changed = false;
+			this.originalId = delegate.getId();
+			this.savedLastAccessTime = lastAccessTime;
+		}
+
+		@Override
+		public String getId() {
+			return delegate.getId();
+		}
+
+		@Override
+		public String changeSessionId() {
+			changed = true;
+			return delegate.changeSessionId();
+		}
+
+		@Override
+		public <T> T getAttribute(String attributeName) {
+			return delegate.getAttribute(attributeName);
+		}
+
+		@Override
+		public Set<String> getAttributeNames() {
+			return delegate.getAttributeNames();
+		}
+
+		@Override
+		public void setAttribute(String attributeName, Object attributeValue) {
+			changed = true;
+			delegate.setAttribute(attributeName, attributeValue);
+		}
+
+		@Override
+		public void removeAttribute(String attributeName) {
+			changed = changed || delegate.getAttribute(attributeName) != null;
+			delegate.removeAttribute(attributeName);
+		}
+
+		@Override
+		public Instant getCreationTime() {
+			return delegate.getCreationTime();
+		}
+
+		@Override
+		public void setLastAccessedTime(Instant lastAccessedTime) {
+			delegate.setLastAccessedTime(lastAccessedTime);
+		}
+
+		@Override
+		public Instant getLastAccessedTime() {
+			return delegate.getLastAccessedTime();
+		}
+
+		@Override
+		public void setMaxInactiveInterval(Duration interval) {
+			changed = changed || !interval.equals(delegate.getMaxInactiveInterval());
+			delegate.setMaxInactiveInterval(interval);
+		}
+
+		@Override
+		public Duration getMaxInactiveInterval() {
+			return delegate.getMaxInactiveInterval();
+		}
+
+		@Override
+		public boolean isExpired() {
+			return delegate.isExpired();
+		}
+
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.tena.sbcommunity2021.global.session;
+
+import lombok.*;
+
+/**
+ * 세션 테이블(http_session)의 행
+ * - 로그인한 사용자는 회원 번호, 권한레벨 컬럼에 보관하고, 그 밖의 속성만 직렬화해서 attributes 에 보관 (없으면 null)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(exclude = "attributes")
+@Builder(toBuilder = true)
+public class SessionRecord {
+
+	private String sessionId;
+
+	private long creationTime; // epoch milliseconds
+
+	private long lastAccessTime; // epoch milliseconds
+
+	private int maxInactiveInterval; // 초, 음수면 만료되지 않음
+
+	private long expiryTime; // epoch milliseconds
+
+	private Long accountId;
+
+	private Integer authLevel;
+
+	private byte[] attributes;
+
+	public boolean isExpired(long now) {
+		return expiryTime <= now;
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.tena.sbcommunity2021.global.session;
+
+import org.apache.ibatis.annotations.Mapper;
+
+import java.util.Optional;
+
+@Mapper
+public interface SessionRecordRepository {
+
+	Optional<SessionRecord> findById(String sessionId);
+
+	void save(SessionRecord session);
+
+	/**
+	 * 세션 전체 수정 (속성, 최대 비활성 시간이 바뀐 경우)
+	 * @param originalId 저장되어 있는 세션 ID (세션 ID 가 바뀐 경우 이전 ID)
+	 */
+	int update(String originalId, SessionRecord session);
+
+	/**
+	 * 마지막 접근일시, 만료일시만 수정 (속성이 바뀌지 않은 경우)
+	 */
+	int updateLastAccessTime(String sessionId, long lastAccessTime, long expiryTime);
+
+	int deleteById(String sessionId);
+
+	/**
+	 * 만료된 세션 삭제 (한 번에 최대 limit 건, 잠금을 짧게 유지)
+	 * @return 삭제된 세션 수
+	 */
+	int deleteExpired(long now, int limit);
+
+}
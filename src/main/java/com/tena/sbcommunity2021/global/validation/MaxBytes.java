@@ -0,0 +1,25 @@
+package com.tena.sbcommunity2021.global.validation;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.*;
+
+/**
+ * 문자열의 UTF-8 인코딩 크기(바이트 수) 제한 (null 은 통과)
+ * - 글자 수가 아니라 바이트 수로 제한해야 하는 값에 사용 (Ex. BCrypt 는 비밀번호의 72바이트 이후를 무시)
+ */
+@Documented
+@Constraint(validatedBy = MaxBytesValidator.class)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MaxBytes {
+
+	int value();
+
+	String message() default "{value}바이트 이하로 입력해주세요.";
+
+	Class<?>[] groups() default {};
+
+	Class<? extends Payload>[] payload() default {};
+
+}
@@ -0,0 +1,21 @@
+package com.tena.sbcommunity2021.global.validation;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import java.nio.charset.StandardCharsets;
+
+public class MaxBytesValidator implements ConstraintValidator<MaxBytes, CharSequence> {
+
+	private int maxBytes;
+
+	@Override
+	public void initialize(MaxBytes constraintAnnotation) {
+		this.maxBytes = constraintAnnotation.value();
+	}
+
+	@Override
+	public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+		return value == null || value.toString().getBytes(StandardCharsets.UTF_8).length <= maxBytes;
+	}
+
+}
@@ -62,6 +62,19 @@ WHERE accountId = 0;
 -- # 게시물 테이블의 작성자 칼럼 FK 설정
 ALTER TABLE article ADD FOREIGN KEY (`accountId`) REFERENCES `account`(`id`);
 
+-- # 게시물 테이블에 조회수 칼럼 추가
+ALTER TABLE article ADD COLUMN hits INT(10) UNSIGNED NOT NULL DEFAULT 0 AFTER accountId;
+
+-- # 게시물 테이블에 버전 칼럼 추가 (수정 시 낙관적 잠금)
+ALTER TABLE article ADD COLUMN version INT(10) UNSIGNED NOT NULL DEFAULT 0 AFTER hits;
+
+-- # 게시물 번호 블록 할당용 테이블 (쓰기 지연 모드에서 INSERT 전에 게시물 번호를 미리 할당, 행은 하나만 사용)
+CREATE TABLE article_id_sequence
+(
+    nextId INT(10) UNSIGNED NOT NULL COMMENT '다음에 할당할 블록의 시작 번호'
+);
+INSERT INTO article_id_sequence SET nextId = 1;
+
 -- # 게시물 테이블 확인
 -- DESC article;
 -- SELECT * FROM article;
\ No newline at end of file
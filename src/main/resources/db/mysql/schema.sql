@@ -34,4 +34,19 @@ CREATE TABLE `account`
     email        CHAR(50) UNIQUE     NOT NULL, -- Unique Index
     delStatus    TINYINT(1) UNSIGNED NOT NULL DEFAULT 0 COMMENT '탈퇴여부(0:탈퇴전, 1:탈퇴)',
     delDate      DATETIME COMMENT '탈퇴일자'
-);
\ No newline at end of file
+);
+
+-- # 세션 테이블 생성 (app.session.store=jdbc 인 경우 사용)
+DROP TABLE IF EXISTS http_session;
+CREATE TABLE http_session
+(
+    sessionId           CHAR(36)             NOT NULL PRIMARY KEY,
+    creationTime        BIGINT               NOT NULL COMMENT '생성일시 (epoch milliseconds)',
+    lastAccessTime      BIGINT               NOT NULL COMMENT '마지막 접근일시 (epoch milliseconds)',
+    maxInactiveInterval INT                  NOT NULL COMMENT '최대 비활성 시간 (초, 음수면 만료되지 않음)',
+    expiryTime          BIGINT               NOT NULL COMMENT '만료일시 (epoch milliseconds)',
+    accountId           INT(10) UNSIGNED COMMENT '로그인한 회원 번호',
+    authLevel           SMALLINT(2) UNSIGNED COMMENT '로그인한 회원 권한레벨',
+    attributes          BLOB COMMENT '그 밖의 세션 속성 (Java 직렬화)'
+);
+CREATE INDEX http_session_expiryTime ON http_session (expiryTime); -- 만료된 세션 정리
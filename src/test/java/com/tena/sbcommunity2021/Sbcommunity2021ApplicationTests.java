@@ -2,8 +2,10 @@ package com.tena.sbcommunity2021;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
 @SpringBootTest
+@ActiveProfiles("test") // 내장 DB(H2)로 구동 확인 (MySQL 없이 빌드)
 class Sbcommunity2021ApplicationTests {
 
 	@Test
@@ -0,0 +1,67 @@
+package com.tena.sbcommunity2021.accounts.web;
+
+import com.tena.sbcommunity2021.test.IntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpSession;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 회원 요청별 실행 구문 수 확인 (구문 수가 늘어나면 실패)
+ */
+public class AccountStatementBudgetTest extends IntegrationTest {
+
+	private final MockHttpSession session = new MockHttpSession();
+
+	@Test
+	@DisplayName("회원 가입 - 아이디, 이메일 중복 확인 1개 + INSERT 1개 (저장 후 다시 조회하지 않음)")
+	void createAccount() throws Exception {
+		final List<String> statements = statementCounter.record(this::requestCreateAccount);
+
+		assertThat(statements).containsExactly("AccountRepository.findDuplication", "AccountRepository.save");
+	}
+
+	@Test
+	@DisplayName("회원 가입 - 중복된 아이디, 이메일은 중복 확인 1개로 모두 검출")
+	void createAccount_duplicate() throws Exception {
+		requestCreateAccount();
+
+		statementCounter.expectAtMost(1, () -> mockMvc.perform(post("/accounts/new")
+				.param("username", "budget")
+				.param("password", "password1234")
+				.param("name", "name")
+				.param("nickname", "nickname")
+				.param("mobileNumber", "010-0000-0000")
+				.param("email", "budget@test.com"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("errors.length()").value(2)));
+	}
+
+	@Test
+	@DisplayName("로그인 - 회원 조회 1개")
+	void login() throws Exception {
+		requestCreateAccount();
+
+		statementCounter.expectAtMost(1, () -> mockMvc.perform(post("/login").session(session)
+				.param("username", "budget")
+				.param("password", "password1234"))
+				.andExpect(jsonPath("resultCode").value("S-1")));
+	}
+
+	private Object requestCreateAccount() throws Exception {
+		return mockMvc.perform(post("/accounts/new")
+				.param("username", "budget")
+				.param("password", "password1234")
+				.param("name", "name")
+				.param("nickname", "nickname")
+				.param("mobileNumber", "010-0000-0000")
+				.param("email", "budget@test.com"))
+				.andExpect(status().isCreated());
+	}
+
+}
@@ -0,0 +1,130 @@
+package com.tena.sbcommunity2021.accounts.web;
+
+import com.tena.sbcommunity2021.accounts.domain.Account;
+import com.tena.sbcommunity2021.accounts.repository.AccountRepository;
+import com.tena.sbcommunity2021.global.auth.PasswordHasher;
+import com.tena.sbcommunity2021.global.errors.ErrorCode;
+import com.tena.sbcommunity2021.global.errors.exception.CustomException;
+import com.tena.sbcommunity2021.test.IntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 비밀번호 해싱 (회원 가입 시 해싱, 로그인 시 평문이거나 비용이 바뀐 해시는 다시 해싱)
+ */
+public class PasswordHashingTest extends IntegrationTest {
+
+	@Autowired
+	AccountRepository accountRepository;
+
+	@SpyBean
+	PasswordHasher passwordHasher;
+
+	@Test
+	@DisplayName("회원 가입하면 비밀번호를 해싱해서 저장하고, 같은 비밀번호로 로그인")
+	void createAccount_login() throws Exception {
+		mockMvc.perform(post("/accounts/new")
+				.param("username", "hashing")
+				.param("password", "password1234")
+				.param("name", "name")
+				.param("nickname", "nickname")
+				.param("mobileNumber", "010-0000-0000")
+				.param("email", "hashing@test.com"))
+				.andExpect(status().isCreated());
+
+		assertThat(accountRepository.findByUsername("hashing").getPassword()).startsWith("$2a$04$").isNotEqualTo("password1234");
+
+		login("hashing", "password1234").andExpect(jsonPath("resultCode").value("S-1"));
+		login("hashing", "password12345").andExpect(jsonPath("resultCode").value("F-2"));
+	}
+
+	@Test
+	@DisplayName("평문으로 저장된 비밀번호는 로그인할 때 해싱해서 다시 저장")
+	void login_legacyPlainText() throws Exception {
+		saveAccount("legacy", "password1234");
+
+		final List<String> statements = statementCounter.record(() -> login("legacy", "password1234")
+				.andExpect(jsonPath("resultCode").value("S-1")));
+
+		assertThat(statements).containsExactly("AccountRepository.findByUsername", "AccountRepository.updatePassword");
+		assertThat(BCrypt.checkpw("password1234", accountRepository.findByUsername("legacy").getPassword())).isTrue();
+	}
+
+	@Test
+	@DisplayName("해싱 비용이 설정과 다른 해시는 로그인할 때 설정된 비용으로 다시 해싱")
+	void login_costChanged() throws Exception {
+		saveAccount("rehash", BCrypt.hashpw("password1234", BCrypt.gensalt(5)));
+
+		login("rehash", "password1234").andExpect(jsonPath("resultCode").value("S-1"));
+
+		final String rehashed = accountRepository.findByUsername("rehash").getPassword();
+		assertThat(rehashed).startsWith("$2a$04$");
+		assertThat(BCrypt.checkpw("password1234", rehashed)).isTrue();
+	}
+
+	@Test
+	@DisplayName("다시 해싱할 때 해싱 대기열이 가득 차도 비밀번호 확인은 끝났으므로 로그인 성공 (저장된 비밀번호는 그대로)")
+	void login_rehashBusy() throws Exception {
+		saveAccount("busy", "password1234");
+		doThrow(new CustomException(ErrorCode.ACCOUNT_PASSWORD_HASHING_BUSY)).when(passwordHasher).hash(any());
+
+		login("busy", "password1234")
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("resultCode").value("S-1"));
+
+		assertThat(accountRepository.findByUsername("busy").getPassword()).isEqualTo("password1234");
+	}
+
+	@Test
+	@DisplayName("BCrypt 가 무시하는 72바이트를 넘는 비밀번호로는 가입할 수 없음 (한글 25자 = 75바이트)")
+	void createAccount_passwordTooManyBytes() throws Exception {
+		mockMvc.perform(post("/accounts/new")
+				.param("username", "hashing")
+				.param("password", "가".repeat(25))
+				.param("name", "name")
+				.param("nickname", "nickname")
+				.param("mobileNumber", "010-0000-0000")
+				.param("email", "hashing@test.com"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("errors[0].field").value("password"));
+
+		assertThat(accountRepository.findByUsername("hashing")).isNull();
+	}
+
+	private ResultActions login(String username, String password) throws Exception {
+		return mockMvc.perform(post("/login")
+				.param("username", username)
+				.param("password", password));
+	}
+
+	private void saveAccount(String username, String password) {
+		final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+		accountRepository.save(Account.builder()
+				.username(username)
+				.password(password)
+				.name("name")
+				.nickname("nickname")
+				.mobileNumber("010-0000-0000")
+				.email(username + "@test.com")
+				.authLevel(Account.DEFAULT_AUTH_LEVEL)
+				.regDate(now)
+				.updateDate(now)
+				.build());
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.tena.sbcommunity2021.articles.dto;
+
+import com.tena.sbcommunity2021.articles.domain.Article;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleDtoMapperTest {
+
+	private final ArticleDtoMapper articleDtoMapper = new ArticleDtoMapperImpl();
+
+	private final LocalDateTime regDate = LocalDateTime.of(2021, 11, 11, 11, 11);
+	private final LocalDateTime updateDate = LocalDateTime.of(2021, 12, 12, 12, 12);
+
+	@Test
+	@DisplayName("작성 요청 DTO -> 게시물 : 제목, 내용, 수정일시만 맵핑")
+	void toArticle() {
+		final ArticleDto.Save saveDto = ArticleDto.Save.builder().title("제목").content("내용").updateDate(updateDate).build();
+
+		final Article article = articleDtoMapper.toArticle(saveDto);
+
+		assertThat(article.getTitle()).isEqualTo("제목");
+		assertThat(article.getContent()).isEqualTo("내용");
+		assertThat(article.getUpdateDate()).isEqualTo(updateDate);
+		assertThat(article.getId()).isNull();
+		assertThat(article.getRegDate()).isNull();
+		assertThat(article.getAccountId()).isNull();
+	}
+
+	@Test
+	@DisplayName("수정 요청 DTO 를 기존 게시물에 반영 : 같은 객체를 변경하고, 번호, 작성자, 작성일시, 조회수, 버전은 유지")
+	void updateArticle() {
+		final Article article = Article.builder().id(1L).title("제목").content("내용").regDate(regDate).updateDate(regDate).accountId(2L).hits(3).version(4).build();
+		final ArticleDto.Save saveDto = ArticleDto.Save.builder().title("수정된 제목").content("수정된 내용").updateDate(updateDate).build();
+
+		articleDtoMapper.updateArticle(saveDto, article);
+
+		assertThat(article.getTitle()).isEqualTo("수정된 제목");
+		assertThat(article.getContent()).isEqualTo("수정된 내용");
+		assertThat(article.getUpdateDate()).isEqualTo(updateDate);
+		assertThat(article.getId()).isEqualTo(1L);
+		assertThat(article.getRegDate()).isEqualTo(regDate);
+		assertThat(article.getAccountId()).isEqualTo(2L);
+		assertThat(article.getHits()).isEqualTo(3);
+		assertThat(article.getVersion()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("게시물 -> 응답 DTO : 모든 필드 맵핑")
+	void toResponse() {
+		final Article article = Article.builder().id(1L).title("제목").content("내용").regDate(regDate).updateDate(updateDate).accountId(2L).hits(3).version(4).build();
+
+		final ArticleDto.Response response = articleDtoMapper.toResponse(article);
+
+		assertThat(response).usingRecursiveComparison().isEqualTo(article);
+	}
+
+}
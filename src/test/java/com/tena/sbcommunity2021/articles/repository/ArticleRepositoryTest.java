@@ -2,6 +2,7 @@ package com.tena.sbcommunity2021.articles.repository;
 
 import com.tena.sbcommunity2021.articles.domain.Article;
 import com.tena.sbcommunity2021.articles.dto.ArticleDto;
+import com.tena.sbcommunity2021.global.commons.CursorPage;
 import com.tena.sbcommunity2021.test.RepositoryTest;
 import lombok.extern.slf4j.Slf4j;
 import org.assertj.core.util.Lists;
@@ -12,8 +13,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,9 +37,11 @@ class ArticleRepositoryTest extends RepositoryTest {
         final Article build = Article.builder()
                 .title("제목111")
                 .content("내용111")
+                .regDate(LocalDateTime.now())
+                .updateDate(LocalDateTime.now())
                 .build();
 
-        articleRepository.save(build); // 저장
+        articleRepository.save(1L, build); // 저장
         existingArticle = articleRepository.findById(build.getId()).get(); // 조회
 
         log.info("existingArticle : {}", existingArticle);
@@ -59,12 +65,14 @@ class ArticleRepositoryTest extends RepositoryTest {
         Article build = Article.builder()
                 .title("제목222")
                 .content(null) // NOT NULL 칼럼에 값 누락
+                .regDate(LocalDateTime.now())
+                .updateDate(LocalDateTime.now())
                 .build();
 
         // then
         DataAccessException e = assertThrows(DataAccessException.class, () -> {
             // when
-            articleRepository.save(build);
+            articleRepository.save(1L, build);
         });
 
         assertEquals(DataIntegrityViolationException.class, e.getClass());
@@ -85,9 +93,12 @@ class ArticleRepositoryTest extends RepositoryTest {
     @DisplayName("게시물 삭제 테스트")
     void deleteById() {
         // when
-        articleRepository.deleteById(existingArticle.getId());
+        final int deleted = articleRepository.deleteById(existingArticle.getId());
 
         // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(articleRepository.deleteById(existingArticle.getId())).isZero(); // 이미 삭제된 게시물
+
         final boolean existsById = articleRepository.existsById(existingArticle.getId());
         assertThat(existsById).isFalse();
 
@@ -110,9 +121,10 @@ class ArticleRepositoryTest extends RepositoryTest {
         modelMapper.map(dto, existingArticle);
 
         // when
-        articleRepository.update(existingArticle);
+        final int updated = articleRepository.update(existingArticle);
 
         // then
+        assertThat(updated).isEqualTo(1);
         final Article found = articleRepository.findById(existingArticle.getId()).get();
 
         assertEquals(existingArticle.getId(), found.getId());
@@ -123,6 +135,42 @@ class ArticleRepositoryTest extends RepositoryTest {
         assertNotEquals(found.getRegDate(), found.getUpdateDate());
     }
 
+    @Test
+    @DisplayName("게시물 업데이트 테스트 / 버전이 다르면 수정하지 않고, 수정하면 버전 1 증가")
+    void update_withVersion() {
+        // given
+        final Article stale = existingArticle.toBuilder().title("제목333").version(existingArticle.getVersion() + 1).build();
+
+        // when
+        final int notUpdated = articleRepository.update(stale); // 다른 버전 기준으로 수정
+        final int updated = articleRepository.update(existingArticle.toBuilder().title("제목222").build()); // 현재 버전 기준으로 수정
+
+        // then
+        assertThat(notUpdated).isZero();
+        assertThat(updated).isEqualTo(1);
+
+        final Article found = articleRepository.findById(existingArticle.getId()).get();
+        assertEquals("제목222", found.getTitle());
+        assertThat(found.getVersion()).isEqualTo(existingArticle.getVersion() + 1);
+        assertThat(articleRepository.findMetaById(existingArticle.getId()).get().toETag())
+                .isEqualTo(String.format("\"%d-%d\"", found.getId(), found.getVersion()));
+    }
+
+    @Test
+    @DisplayName("목록 변경 여부 조회 테스트 / 같은 초에 다시 수정해도 ETag 가 달라지고, 조회한 목록으로 만든 ETag 와 같음")
+    void findListMeta_changesOnEditInSameSecond() {
+        // given
+        final String before = articleRepository.findListMeta(null, 20).toETag();
+
+        // when
+        articleRepository.update(existingArticle.toBuilder().title("제목222").build()); // 수정일시는 그대로 (같은 초에 수정)
+
+        // then
+        final ArticleDto.ListMeta after = articleRepository.findListMeta(null, 20);
+        assertThat(after.toETag()).isNotEqualTo(before);
+        assertThat(after.toETag()).isEqualTo(ArticleDto.ListMeta.of(CursorPage.of(articleRepository.findAllSummaries(null, 21), 20, ArticleDto.Summary::getId)).toETag());
+    }
+
     @Test
     @DisplayName("전체 게시물 조회 테스트")
     void findAll() {
@@ -130,17 +178,171 @@ class ArticleRepositoryTest extends RepositoryTest {
         final Article build = Article.builder()
                 .title("제목222")
                 .content("내용222")
+                .regDate(LocalDateTime.now())
+                .updateDate(LocalDateTime.now())
                 .build();
-        articleRepository.save(build);
+        articleRepository.save(1L, build);
 
         // when
-        final List<Article> articles = articleRepository.findAll();
+        final List<Article> articles = articleRepository.findAll(null, Integer.MAX_VALUE);
 
         // then
         assertTrue(articles.contains(build)); // Article -> @EqualsAndHashCode(of = {"id"})
 
     }
 
+    @Test
+    @DisplayName("커서 기반 게시물 목록 조회 테스트 / 커서보다 작은 번호의 게시물을 번호 역순으로 limit 건 조회")
+    void findAll_withCursor() {
+        // given
+        articleRepository.deleteAll();
+
+        final List<Article> saved = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            final Article build = Article.builder()
+                    .title("제목" + i)
+                    .content("내용" + i)
+                    .regDate(LocalDateTime.now())
+                    .updateDate(LocalDateTime.now())
+                    .build();
+            articleRepository.save(1L, build);
+            saved.add(build);
+        }
+
+        // when
+        final List<Article> firstPage = articleRepository.findAll(null, 2);
+        final List<Article> secondPage = articleRepository.findAll(firstPage.get(1).getId(), 2);
+        final List<Article> lastPage = articleRepository.findAll(secondPage.get(1).getId(), 2);
+
+        // then
+        assertThat(firstPage).containsExactly(saved.get(4), saved.get(3));
+        assertThat(secondPage).containsExactly(saved.get(2), saved.get(1));
+        assertThat(lastPage).containsExactly(saved.get(0));
+    }
+
+    @Test
+    @DisplayName("게시물 요약 목록 조회 테스트 / 본문은 EXCERPT_LENGTH 길이까지만 조회")
+    void findAllSummaries() {
+        // given
+        articleRepository.deleteAll();
+
+        final String longContent = "가".repeat(ArticleDto.Summary.EXCERPT_LENGTH * 10);
+        final Article build = Article.builder()
+                .title("긴 게시물")
+                .content(longContent)
+                .regDate(LocalDateTime.now())
+                .updateDate(LocalDateTime.now())
+                .build();
+        articleRepository.save(1L, build);
+
+        // when
+        final List<ArticleDto.Summary> summaries = articleRepository.findAllSummaries(null, 10);
+
+        // then
+        assertThat(summaries).hasSize(1);
+        final ArticleDto.Summary summary = summaries.get(0);
+        assertThat(summary.getId()).isEqualTo(build.getId());
+        assertThat(summary.getTitle()).isEqualTo(build.getTitle());
+        assertThat(summary.getExcerpt()).isEqualTo(longContent.substring(0, ArticleDto.Summary.EXCERPT_LENGTH));
+        assertThat(summary.getAccountId()).isEqualTo(1L);
+        assertThat(summary.getRegDate()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("게시물 번호 목록으로 요약 정보 조회 테스트")
+    void findSummariesByIds() {
+        // given
+        final Article other = Article.builder().title("제목2").content("내용2").regDate(LocalDateTime.now()).updateDate(LocalDateTime.now()).build();
+        articleRepository.save(1L, other);
+
+        // when
+        final List<ArticleDto.Summary> summaries = articleRepository.findSummariesByIds(List.of(existingArticle.getId(), other.getId(), (long) Integer.MAX_VALUE));
+
+        // then
+        assertThat(summaries).extracting(ArticleDto.Summary::getId).containsExactlyInAnyOrder(existingArticle.getId(), other.getId());
+    }
+
+    @Test
+    @DisplayName("게시물 조회수 일괄 반영 테스트 / 게시물별 증가분만큼 조회수 증가")
+    void addHits() {
+        // given
+        final Article other = Article.builder().title("제목2").content("내용2").regDate(LocalDateTime.now()).updateDate(LocalDateTime.now()).build();
+        articleRepository.save(1L, other);
+
+        // when
+        articleRepository.addHits(Map.of(existingArticle.getId(), 3L, other.getId(), 5L));
+        articleRepository.addHits(Map.of(existingArticle.getId(), 1L));
+
+        // then
+        assertThat(articleRepository.findById(existingArticle.getId()).orElseThrow().getHits()).isEqualTo(4);
+        assertThat(articleRepository.findById(other.getId()).orElseThrow().getHits()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("게시물 일괄 저장 테스트 / INSERT 한 번으로 저장하고 생성된 게시물 번호를 순서대로 채움")
+    void saveAll() {
+        // given
+        final LocalDateTime now = LocalDateTime.now().withNano(0);
+        final List<Article> articles = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            articles.add(Article.builder().title("제목" + i).content("내용" + i).regDate(now).updateDate(now).accountId(1L).build());
+        }
+
+        // when
+        articleRepository.saveAll(articles);
+
+        // then
+        assertThat(articles).allMatch(article -> article.getId() != null);
+        for (Article article : articles) {
+            final Article found = articleRepository.findById(article.getId()).orElseThrow();
+            assertThat(found.getTitle()).isEqualTo(article.getTitle());
+            assertThat(found.getRegDate()).isEqualTo(now);
+        }
+    }
+
+    @Test
+    @DisplayName("게시물 번호 블록 예약 후 지정한 번호로 일괄 저장 테스트 / 이미 저장된 게시물 번호 이후부터 예약")
+    void reserveIdBlock_insertAll() {
+        // given
+        articleRepository.reserveIdBlock(10);
+        final long end = articleRepository.findNextId();
+        final long start = end - 10;
+        assertThat(start).isGreaterThan(existingArticle.getId()); // 기존 게시물 번호와 겹치지 않음
+
+        final LocalDateTime now = LocalDateTime.now().withNano(0);
+        final List<Article> articles = List.of(
+                Article.builder().id(start).title("제목1").content("내용1").regDate(now).updateDate(now).accountId(1L).build(),
+                Article.builder().id(start + 1).title("제목2").content("내용2").regDate(now).updateDate(now).accountId(1L).build());
+
+        // when
+        articleRepository.insertAll(articles);
+
+        // then
+        assertThat(articleRepository.findById(start)).get().extracting(Article::getTitle).isEqualTo("제목1");
+        assertThat(articleRepository.findById(start + 1)).get().extracting(Article::getTitle).isEqualTo("제목2");
+
+        articleRepository.reserveIdBlock(10);
+        assertThat(articleRepository.findNextId()).isEqualTo(end + 10); // 다음 블록은 이어서 예약
+    }
+
+    @Test
+    @DisplayName("게시물 일괄 삭제 테스트 / 해당 작성자의 게시물만 삭제")
+    void deleteAllByIds() {
+        // given
+        final Article others = Article.builder().title("제목2").content("내용2").regDate(LocalDateTime.now()).updateDate(LocalDateTime.now()).build();
+        articleRepository.save(2L, others); // 다른 작성자의 게시물
+
+        // when
+        final int deleted = articleRepository.deleteAllByIds(1L, List.of(existingArticle.getId(), others.getId()));
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertFalse(articleRepository.existsById(existingArticle.getId()));
+        assertTrue(articleRepository.existsById(others.getId()));
+        assertThat(articleRepository.findMetasByIds(List.of(existingArticle.getId(), others.getId())))
+                .extracting(ArticleDto.Meta::getAccountId).containsExactly(2L);
+    }
+
     @Test
     @DisplayName("[참고] 조회 결과로 Collection 을 리턴할 경우 데이터가 없으면 빈 컬렉션을 리턴")
     void findAll_return_EmptyCollection() {
@@ -148,7 +350,7 @@ class ArticleRepositoryTest extends RepositoryTest {
         articleRepository.deleteAll();
 
         // when
-        final List<Article> articles = articleRepository.findAll();
+        final List<Article> articles = articleRepository.findAll(null, Integer.MAX_VALUE);
 
         // then
         assertTrue(articles.isEmpty());
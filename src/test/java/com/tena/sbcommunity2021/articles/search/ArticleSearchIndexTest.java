@@ -0,0 +1,129 @@
+package com.tena.sbcommunity2021.articles.search;
+
+import com.tena.sbcommunity2021.articles.domain.Article;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleSearchIndexTest {
+
+	private ArticleSearchIndex articleSearchIndex;
+
+	@BeforeEach
+	void setUp() {
+		articleSearchIndex = new ArticleSearchIndex();
+	}
+
+	@Test
+	@DisplayName("2-gram 분리 - 문자/숫자가 연속된 구간을 2글자씩 겹쳐서 분리, 한 글자 단어는 그대로 사용")
+	void tokenize() {
+		assertThat(BigramTokenizer.tokenize("스프링 게시판!")).containsExactly("스프", "프링", "게시", "시판");
+		assertThat(BigramTokenizer.tokenize("Spring 3")).containsExactly("sp", "pr", "ri", "in", "ng", "3");
+		assertThat(BigramTokenizer.tokenize("  ")).isEmpty();
+		assertThat(BigramTokenizer.tokenize(null)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("검색 - 조사가 붙은 형태도 검색되며, 제목에 포함된 게시물이 본문에만 포함된 게시물보다 먼저 조회")
+	void search_ranking() {
+		//given
+		articleSearchIndex.put(article(1L, "자유 게시판 공지", "스프링 부트 게시물을 작성하는 방법"));
+		articleSearchIndex.put(article(2L, "스프링 부트 입문", "설정 방법 정리"));
+		articleSearchIndex.put(article(3L, "점심 메뉴", "오늘은 국밥"));
+
+		//when
+		final ArticleSearchIndex.Hits hits = articleSearchIndex.search("스프링부트", 0, 10);
+
+		//then
+		assertThat(hits.getTotalCount()).isEqualTo(2);
+		assertThat(hits.getIds()).containsExactly(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("검색 - 관련 게시물이 없거나 검색어가 비어있으면 빈 결과")
+	void search_noHits() {
+		//given
+		articleSearchIndex.put(article(1L, "제목", "내용"));
+
+		//when, then
+		assertThat(articleSearchIndex.search("국밥", 0, 10).getIds()).isEmpty();
+		assertThat(articleSearchIndex.search(" ", 0, 10).getTotalCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("검색 - offset, limit 범위의 결과만 조회, 점수가 같으면 최신 게시물 우선")
+	void search_paging() {
+		//given
+		for (long id = 1; id <= 5; id++) {
+			articleSearchIndex.put(article(id, "게시물", "내용"));
+		}
+
+		//when
+		final ArticleSearchIndex.Hits firstPage = articleSearchIndex.search("게시물", 0, 2);
+		final ArticleSearchIndex.Hits lastPage = articleSearchIndex.search("게시물", 4, 2);
+		final ArticleSearchIndex.Hits outOfRange = articleSearchIndex.search("게시물", 10, 2);
+
+		//then
+		assertThat(firstPage.getTotalCount()).isEqualTo(5);
+		assertThat(firstPage.getIds()).containsExactly(5L, 4L);
+		assertThat(lastPage.getIds()).containsExactly(1L);
+		assertThat(outOfRange.getIds()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("수정/삭제 - 수정하면 기존 용어는 더 이상 검색되지 않고, 삭제하면 검색 결과에서 제외")
+	void put_replaces_and_remove() {
+		//given
+		articleSearchIndex.put(article(1L, "스프링", "내용"));
+
+		//when
+		articleSearchIndex.put(article(1L, "국밥", "내용"));
+
+		//then
+		assertThat(articleSearchIndex.search("스프링", 0, 10).getIds()).isEmpty();
+		assertThat(articleSearchIndex.search("국밥", 0, 10).getIds()).containsExactly(1L);
+
+		//when
+		articleSearchIndex.remove(1L);
+
+		//then
+		assertThat(articleSearchIndex.search("국밥", 0, 10).getIds()).isEmpty();
+		assertThat(articleSearchIndex.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("재구축 - 재구축 중에 발생한 변경은 새 색인에도 반영")
+	void rebuild_replaysChangesDuringRebuild() {
+		//given
+		articleSearchIndex.put(article(1L, "기존 게시물", "내용"));
+
+		//when
+		articleSearchIndex.rebuild(indexer -> {
+			// 재구축 시점에 읽어온 데이터 (오래된 데이터)
+			List.of(article(1L, "기존 게시물", "내용"), article(2L, "삭제될 게시물", "내용")).forEach(indexer);
+
+			// 재구축 중에 발생한 변경
+			articleSearchIndex.put(article(1L, "수정된 게시물", "내용"));
+			articleSearchIndex.remove(2L);
+			articleSearchIndex.put(article(3L, "새 게시물", "내용"));
+
+			assertThat(articleSearchIndex.search("수정", 0, 10).getIds()).containsExactly(1L); // 재구축 중에도 기존 색인으로 검색 가능
+		});
+
+		//then
+		assertThat(articleSearchIndex.size()).isEqualTo(2);
+		assertThat(articleSearchIndex.search("기존", 0, 10).getIds()).isEmpty();
+		assertThat(articleSearchIndex.search("수정", 0, 10).getIds()).containsExactly(1L);
+		assertThat(articleSearchIndex.search("삭제", 0, 10).getIds()).isEmpty();
+		assertThat(articleSearchIndex.search("새", 0, 10).getIds()).containsExactly(3L);
+	}
+
+	private Article article(Long id, String title, String content) {
+		return Article.builder().id(id).title(title).content(content).build();
+	}
+
+}
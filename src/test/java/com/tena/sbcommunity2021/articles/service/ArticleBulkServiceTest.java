@@ -0,0 +1,163 @@
+package com.tena.sbcommunity2021.articles.service;
+
+import com.tena.sbcommunity2021.articles.domain.Article;
+import com.tena.sbcommunity2021.articles.dto.ArticleDto;
+import com.tena.sbcommunity2021.articles.event.ArticleDeletedEvent;
+import com.tena.sbcommunity2021.articles.event.ArticleSavedEvent;
+import com.tena.sbcommunity2021.articles.repository.ArticleRepository;
+import com.tena.sbcommunity2021.global.errors.ErrorCode;
+import com.tena.sbcommunity2021.global.errors.exception.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.validation.Validation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.tena.sbcommunity2021.global.configs.CacheConfig.ARTICLE_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleBulkServiceTest {
+
+	@Mock
+	private ArticleRepository articleRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private ArticleWriteBehind articleWriteBehind;
+
+	@Mock
+	private ArticleIdAllocator articleIdAllocator;
+
+	private CacheManager cacheManager;
+
+	private ArticleBulkService articleBulkService;
+
+	@BeforeEach
+	void setUp() {
+		cacheManager = new ConcurrentMapCacheManager(ARTICLE_CACHE);
+		articleBulkService = new ArticleBulkService(articleRepository, Validation.buildDefaultValidatorFactory().getValidator(), cacheManager, eventPublisher, articleWriteBehind, articleIdAllocator);
+	}
+
+	@Test
+	@DisplayName("게시물 일괄 작성 - 유효한 항목만 저장하고, 항목별 결과를 요청 순서대로 리턴")
+	void createArticles() {
+		//given
+		final List<ArticleDto.Save> saveDtos = List.of(
+				ArticleDto.Save.builder().title("제목1").content("내용1").build(),
+				ArticleDto.Save.builder().title("").content("내용2").build(), // 제목 누락
+				ArticleDto.Save.builder().title("제목3").content("내용3").build());
+
+		final AtomicLong sequence = new AtomicLong(100);
+		doAnswer(invocation -> {
+			final List<Article> articles = invocation.getArgument(0);
+			articles.forEach(article -> article.setId(sequence.incrementAndGet()));
+			return null;
+		}).when(articleRepository).saveAll(anyList());
+
+		//when
+		final ArticleDto.BulkResult result = articleBulkService.createArticles(1L, saveDtos);
+
+		//then
+		verify(articleRepository, times(1)).saveAll(argThat(articles -> articles.size() == 2));
+		verify(articleRepository, never()).findById(any());
+		verify(eventPublisher, times(2)).publishEvent(any(ArticleSavedEvent.class));
+
+		assertThat(result.getRequested()).isEqualTo(3);
+		assertThat(result.getSucceeded()).isEqualTo(2);
+		assertThat(result.getFailed()).isEqualTo(1);
+		assertThat(result.getResults()).extracting(ArticleDto.BulkItemResult::getId).containsExactly(101L, null, 102L);
+		assertThat(result.getResults().get(1).getCode()).isEqualTo(ErrorCode.INVALID_INPUT_VALUE.getCode());
+		assertThat(result.getResults().get(1).getErrors()).extracting("field").containsExactly("title");
+	}
+
+	@Test
+	@DisplayName("게시물 일괄 작성 - INSERT 한 번에 저장할 수 있는 수를 넘으면 나눠서 저장")
+	void createArticles_chunked() {
+		//given
+		final List<ArticleDto.Save> saveDtos = new ArrayList<>();
+		for (int i = 0; i < 501; i++) {
+			saveDtos.add(ArticleDto.Save.builder().title("제목").content("내용").build());
+		}
+
+		//when
+		articleBulkService.createArticles(1L, saveDtos);
+
+		//then
+		verify(articleRepository, times(1)).saveAll(argThat(articles -> articles.size() == 500));
+		verify(articleRepository, times(1)).saveAll(argThat(articles -> articles.size() == 1));
+	}
+
+	@Test
+	@DisplayName("게시물 일괄 작성 - 쓰기 지연 모드에서는 할당기의 번호로 저장")
+	void createArticles_writeBehind() {
+		//given
+		when(articleWriteBehind.isEnabled()).thenReturn(true);
+		when(articleIdAllocator.nextId()).thenReturn(201L, 202L);
+
+		final List<ArticleDto.Save> saveDtos = List.of(
+				ArticleDto.Save.builder().title("제목1").content("내용1").build(),
+				ArticleDto.Save.builder().title("제목2").content("내용2").build());
+
+		//when
+		final ArticleDto.BulkResult result = articleBulkService.createArticles(1L, saveDtos);
+
+		//then
+		verify(articleRepository, never()).saveAll(anyList());
+		verify(articleRepository, times(1)).insertAll(anyList());
+		assertThat(result.getResults()).extracting(ArticleDto.BulkItemResult::getId).containsExactly(201L, 202L);
+	}
+
+	@Test
+	@DisplayName("게시물 일괄 작성 - 최대 개수를 초과하면 예외 발생")
+	void createArticles_sizeExceeded() {
+		//given
+		final List<ArticleDto.Save> saveDtos = Collections.nCopies(ArticleBulkService.MAX_BULK_SIZE + 1, ArticleDto.Save.builder().title("제목").content("내용").build());
+
+		//when
+		final CustomException e = assertThrows(CustomException.class, () -> articleBulkService.createArticles(1L, saveDtos));
+
+		//then
+		assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ARTICLE_BULK_SIZE_EXCEEDED);
+		verifyNoInteractions(articleRepository);
+	}
+
+	@Test
+	@DisplayName("게시물 일괄 삭제 - 본인 게시물만 삭제하고, 없는 게시물과 다른 사람의 게시물은 실패로 리턴")
+	void deleteArticles() {
+		//given
+		when(articleRepository.findMetasByIds(anyList())).thenReturn(List.of(
+				ArticleDto.Meta.builder().id(1L).accountId(1L).build(),
+				ArticleDto.Meta.builder().id(2L).accountId(2L).build()));
+		when(articleRepository.deleteAllByIds(eq(1L), anyList())).thenReturn(1);
+		cacheManager.getCache(ARTICLE_CACHE).put(1L, "캐시된 게시물");
+
+		//when
+		final ArticleDto.BulkResult result = articleBulkService.deleteArticles(1L, List.of(1L, 2L, 3L));
+
+		//then
+		verify(articleRepository, times(1)).deleteAllByIds(1L, List.of(1L));
+		verify(eventPublisher, times(1)).publishEvent(any(ArticleDeletedEvent.class));
+
+		assertThat(result.getSucceeded()).isEqualTo(1);
+		assertThat(result.getResults()).extracting(ArticleDto.BulkItemResult::getCode)
+				.containsExactly(null, ErrorCode.FORBIDDEN.getCode(), ErrorCode.ARTICLE_NOT_FOUND.getCode());
+		assertThat(cacheManager.getCache(ARTICLE_CACHE).get(1L)).isNull(); // 트랜잭션 밖에서 호출한 경우 바로 제거
+	}
+
+}
@@ -0,0 +1,145 @@
+package com.tena.sbcommunity2021.articles.service;
+
+import com.tena.sbcommunity2021.articles.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleHitCounterTest {
+
+	@Mock
+	private ArticleRepository articleRepository;
+
+	private ArticleHitCounter articleHitCounter;
+
+	@BeforeEach
+	void setUp() {
+		articleHitCounter = new ArticleHitCounter(articleRepository);
+	}
+
+	@Test
+	@DisplayName("조회수 누적 - 여러 스레드에서 동시에 올려도 유실 없이 누적되고, 한 번의 UPDATE 로 반영")
+	void increment_concurrently_and_flush() throws Exception {
+		//given
+		final int threads = 8;
+		final int incrementsPerThread = 10_000;
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		final CountDownLatch done = new CountDownLatch(threads);
+
+		//when
+		for (int i = 0; i < threads; i++) {
+			executor.execute(() -> {
+				for (int j = 0; j < incrementsPerThread; j++) {
+					articleHitCounter.increment(1L);
+				}
+				articleHitCounter.increment(2L);
+				done.countDown();
+			});
+		}
+		done.await(10, TimeUnit.SECONDS);
+		executor.shutdown();
+
+		assertThat(articleHitCounter.getPendingHits(1L)).isEqualTo((long) threads * incrementsPerThread);
+
+		articleHitCounter.flush();
+
+		//then
+		verify(articleRepository, times(1)).addHits(Map.of(1L, (long) threads * incrementsPerThread, 2L, (long) threads));
+		assertThat(articleHitCounter.getPendingHits(1L)).isZero();
+	}
+
+	@Test
+	@DisplayName("조회수 반영 - 반영한 조회수도 게시물을 다시 조회하기 전까지는 조회 이후의 조회수에 남음, 누적된 조회수가 없으면 UPDATE 하지 않음")
+	void flush_keepsHitsSinceLoad_and_skipsWhenEmpty() {
+		//given
+		articleHitCounter.increment(1L);
+		articleHitCounter.loaded(1L); // 반영 전 조회수 1 은 조회한 게시물에 포함되지 않음
+		articleHitCounter.increment(1L);
+		articleHitCounter.increment(1L);
+
+		//when
+		articleHitCounter.flush();
+		articleHitCounter.flush(); // 누적된 조회수 없음
+
+		//then
+		verify(articleRepository, times(1)).addHits(anyMap());
+		assertThat(articleHitCounter.getPendingHits(1L)).isZero();
+		assertThat(articleHitCounter.getHitsSinceLoad(1L)).isEqualTo(3);
+
+		articleHitCounter.loaded(1L); // 반영된 조회수를 포함해서 다시 조회
+		assertThat(articleHitCounter.getHitsSinceLoad(1L)).isZero();
+		assertThat(articleHitCounter.getHitsSinceLoad(2L)).isZero();
+	}
+
+	@Test
+	@DisplayName("조회수 반영 - 반영하는 중에 올라간 조회수도 유실 없이 이후 반영 때 함께 반영")
+	void flush_whileIncrementing_losesNothing() throws Exception {
+		//given
+		final AtomicLong flushed = new AtomicLong();
+		doAnswer(invocation -> {
+			invocation.<Map<Long, Long>>getArgument(0).values().forEach(flushed::addAndGet);
+			return null;
+		}).when(articleRepository).addHits(anyMap());
+
+		final int threads = 4;
+		final int incrementsPerThread = 500_000;
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		final CountDownLatch done = new CountDownLatch(threads);
+
+		//when
+		for (int i = 0; i < threads; i++) {
+			executor.execute(() -> {
+				for (int j = 0; j < incrementsPerThread; j++) {
+					articleHitCounter.increment(1L);
+				}
+				done.countDown();
+			});
+		}
+		while (!done.await(10, TimeUnit.MILLISECONDS)) {
+			articleHitCounter.flush();
+		}
+		executor.shutdown();
+
+		articleHitCounter.flush();
+		articleHitCounter.flush(); // 마지막 반영 때 떼어낸 누적기 확인
+
+		//then
+		assertThat(flushed.get()).isEqualTo((long) threads * incrementsPerThread);
+	}
+
+	@Test
+	@DisplayName("조회수 반영 실패 - 누적값을 되돌려 다음 반영 시 함께 반영")
+	void flush_fail_retriesNextTime() {
+		//given
+		doThrow(new RuntimeException("DB 오류")).doNothing().when(articleRepository).addHits(anyMap());
+		articleHitCounter.increment(1L);
+		articleHitCounter.flush(); // 실패
+
+		//when
+		articleHitCounter.increment(1L);
+		articleHitCounter.flushOnShutdown();
+
+		//then
+		@SuppressWarnings("unchecked")
+		final ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+		verify(articleRepository, times(2)).addHits(captor.capture());
+		assertThat(captor.getValue()).isEqualTo(Map.of(1L, 2L));
+	}
+
+}
@@ -0,0 +1,193 @@
+package com.tena.sbcommunity2021.articles.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.tena.sbcommunity2021.articles.domain.Article;
+import com.tena.sbcommunity2021.articles.dto.ArticleDto;
+import com.tena.sbcommunity2021.articles.dto.ArticleDtoMapper;
+import com.tena.sbcommunity2021.articles.exception.ArticleNotFoundException;
+import com.tena.sbcommunity2021.articles.exception.ArticleUpdateConflictException;
+import com.tena.sbcommunity2021.articles.repository.ArticleRepository;
+import com.tena.sbcommunity2021.global.configs.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static com.tena.sbcommunity2021.global.configs.CacheConfig.ARTICLE_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 게시물 캐시 테스트
+ * - ArticleService 와 캐시 설정만 올려서 캐시 적용 여부 확인 (Repository 는 Mock)
+ */
+@SpringBootTest(classes = {ArticleService.class, CacheConfig.class}, properties = {
+		"spring.cache.type=caffeine",
+		"spring.cache.cache-names=" + ARTICLE_CACHE,
+		"spring.cache.caffeine.spec=maximumSize=100,recordStats"
+})
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+class ArticleServiceCacheTest {
+
+	@Autowired
+	private ArticleService articleService;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@MockBean
+	private ArticleRepository articleRepository;
+
+	@MockBean
+	private ArticleDtoMapper articleDtoMapper;
+
+	@MockBean
+	private ArticleHitCounter articleHitCounter;
+
+	@MockBean
+	private ArticleWriteBehind articleWriteBehind;
+
+	@MockBean
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeEach
+	void setUp() {
+		cacheManager.getCache(ARTICLE_CACHE).clear();
+	}
+
+	@Test
+	@DisplayName("게시물 조회 - 같은 게시물을 다시 조회하면 DB 를 조회하지 않고 캐시된 게시물 리턴")
+	void getArticle_cached() {
+		//given
+		final Article article = Article.builder().id(1L).title("제목").content("내용").build();
+		when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+
+		//when
+		final Article first = articleService.getArticle(1L);
+		final Article second = articleService.getArticle(1L);
+
+		//then
+		verify(articleRepository, times(1)).findById(1L);
+		assertThat(second).isSameAs(first);
+		assertThat(nativeCache().stats().hitCount()).isEqualTo(1);
+		assertThat(nativeCache().stats().missCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("게시물 조회 - 존재하지 않는 게시물은 캐시하지 않음")
+	void getArticle_notFound_notCached() {
+		//given
+		when(articleRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+		//when
+		assertThrows(ArticleNotFoundException.class, () -> articleService.getArticle(1L));
+		assertThrows(ArticleNotFoundException.class, () -> articleService.getArticle(1L));
+
+		//then
+		verify(articleRepository, times(2)).findById(1L);
+		assertThat(nativeCache().estimatedSize()).isZero();
+	}
+
+	@Test
+	@DisplayName("게시물 작성 - 작성한 게시물을 캐시에 저장")
+	void createArticle_putsCache() {
+		//given
+		final ArticleDto.Save saveDto = ArticleDto.Save.builder().title("제목").content("내용").build();
+		final Article article = Article.builder().title("제목").content("내용").build();
+		when(articleDtoMapper.toArticle(any())).thenReturn(article);
+		doAnswer(invocation -> {
+			invocation.<Article>getArgument(1).setId(1L); // 생성된 게시물 번호
+			return null;
+		}).when(articleRepository).save(anyLong(), any(Article.class));
+
+		//when
+		final Article created = articleService.createArticle(1L, saveDto);
+		final Article found = articleService.getArticle(1L);
+
+		//then
+		verify(articleRepository, never()).findById(1L); // 작성 후 재조회 없음 (이후 조회는 캐시)
+		assertThat(found).isSameAs(created);
+	}
+
+	@Test
+	@DisplayName("게시물 수정 - 수정된 게시물로 캐시 갱신")
+	void updateArticle_refreshesCache() {
+		//given
+		when(articleRepository.findById(1L)).thenReturn(Optional.of(Article.builder().id(1L).title("제목").content("내용").build()));
+		when(articleDtoMapper.toArticle(any())).thenReturn(new Article());
+		when(articleRepository.update(any())).thenReturn(1);
+
+		final Article cached = articleService.getArticle(1L); // 캐시 적재
+
+		//when
+		final Article updated = articleService.updateArticle(1L, ArticleDto.Save.builder().title("수정된 제목").content("수정된 내용").build(), null);
+		final Article found = articleService.getArticle(1L);
+
+		//then
+		verify(articleRepository, times(1)).findById(1L); // 최초 조회만 (수정 시에는 캐시된 게시물 사용)
+		assertThat(found).isSameAs(updated);
+		assertThat(found).isNotSameAs(cached);
+	}
+
+	@Test
+	@DisplayName("게시물 수정 - 캐시된 게시물의 버전이 DB 와 달라 충돌하면 캐시에서 제거하고, 다시 수정하면 DB 의 버전으로 수정")
+	void updateArticle_staleCache_evicted() {
+		//given
+		when(articleRepository.findById(1L)).thenReturn(Optional.of(Article.builder().id(1L).title("제목").content("내용").version(0L).build()));
+		when(articleRepository.findMetaById(1L)).thenReturn(Optional.of(ArticleDto.Meta.builder().id(1L).version(1L).build())); // 다른 서버에서 수정됨
+		when(articleRepository.existsById(1L)).thenReturn(true);
+		when(articleDtoMapper.toArticle(any())).thenAnswer(invocation -> new Article());
+		when(articleRepository.update(argThat(article -> article != null && article.getVersion() == 0L))).thenReturn(0);
+		when(articleRepository.update(argThat(article -> article != null && article.getVersion() == 1L))).thenReturn(1);
+
+		articleService.getArticle(1L); // 캐시 적재 (버전 0)
+		final ArticleDto.Save saveDto = ArticleDto.Save.builder().title("수정된 제목").content("수정된 내용").build();
+
+		//when
+		assertThrows(ArticleUpdateConflictException.class, () -> articleService.updateArticle(1L, saveDto, null));
+
+		//then
+		assertThat(cacheManager.getCache(ARTICLE_CACHE).get(1L)).isNull();
+
+		articleService.updateArticle(1L, saveDto, null); // 다시 요청하면 DB 의 버전(1)으로 수정
+		verify(articleRepository).findMetaById(1L);
+	}
+
+	@Test
+	@DisplayName("게시물 삭제 - 삭제된 게시물은 캐시에서 제거")
+	void deleteArticle_evictsCache() {
+		//given
+		when(articleRepository.findById(1L))
+				.thenReturn(Optional.of(Article.builder().id(1L).title("제목").content("내용").build()))
+				.thenReturn(Optional.empty());
+		when(articleRepository.deleteById(1L)).thenReturn(1);
+
+		articleService.getArticle(1L); // 캐시 적재
+
+		//when
+		articleService.deleteArticle(1L);
+
+		//then
+		assertThat(cacheManager.getCache(ARTICLE_CACHE).get(1L)).isNull();
+		assertThrows(ArticleNotFoundException.class, () -> articleService.getArticle(1L));
+	}
+
+	@SuppressWarnings("unchecked")
+	private Cache<Object, Object> nativeCache() {
+		return ((CaffeineCache) cacheManager.getCache(ARTICLE_CACHE)).getNativeCache();
+	}
+
+}
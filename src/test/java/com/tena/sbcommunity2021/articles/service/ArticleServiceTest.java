@@ -2,7 +2,11 @@ package com.tena.sbcommunity2021.articles.service;
 
 import com.tena.sbcommunity2021.articles.domain.Article;
 import com.tena.sbcommunity2021.articles.dto.ArticleDto;
+import com.tena.sbcommunity2021.articles.dto.ArticleDtoMapper;
+import com.tena.sbcommunity2021.articles.event.ArticleDeletedEvent;
 import com.tena.sbcommunity2021.articles.exception.ArticleNotFoundException;
+import com.tena.sbcommunity2021.articles.exception.ArticlePreconditionFailedException;
+import com.tena.sbcommunity2021.articles.exception.ArticleUpdateConflictException;
 import com.tena.sbcommunity2021.articles.repository.ArticleRepository;
 import com.tena.sbcommunity2021.global.errors.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
@@ -13,17 +17,28 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import static com.tena.sbcommunity2021.global.configs.CacheConfig.ARTICLE_CACHE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @Slf4j
@@ -37,7 +52,22 @@ class ArticleServiceTest {
 	private ArticleRepository articleRepository;
 
 	@Mock
-	private ModelMapper modelMapper;
+	private ArticleDtoMapper articleDtoMapper;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private CacheManager cacheManager;
+
+	@Mock
+	private ArticleHitCounter articleHitCounter;
+
+	@Mock
+	private ArticleWriteBehind articleWriteBehind;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
 
 	@BeforeEach
 	void setUp() {
@@ -54,64 +84,96 @@ class ArticleServiceTest {
 				.build();
 
 		// DTO 를 도메인 객체로 맵핑 시
-		final LocalDateTime regDate = LocalDateTime.of(2021, 11, 11, 11, 11);
-		final Article savedArticle = Article.builder()
-				.id(1L)
+		final Article article = Article.builder()
 				.title(saveDto.getTitle())
 				.content(saveDto.getContent())
-				.regDate(regDate)
-				.updateDate(regDate)
 				.build();
-		doReturn(savedArticle).when(modelMapper).map(saveDto, Article.class);
+		doReturn(article).when(articleDtoMapper).toArticle(saveDto);
 
-		// 작성된 게시물 조회
-		doReturn(Optional.of(savedArticle)).when(articleRepository).findById(anyLong());
+		// 게시물 저장 시 생성된 게시물 번호가 채워짐
+		doAnswer(invocation -> {
+			invocation.<Article>getArgument(1).setId(1L);
+			return null;
+		}).when(articleRepository).save(anyLong(), any(Article.class));
 
 		//when
-		final Article result = articleService.createArticle(saveDto); // 게시물 작성
+		final Article result = articleService.createArticle(1L, saveDto); // 게시물 작성
 
 		//then
 		// 메서드 호출 횟수 검증
-		verify(modelMapper, times(1)).map(saveDto, Article.class); // DTO 를 도메인 객체로 맵핑, 1회
-		verify(articleRepository, times(1)).save(any(Article.class)); // 게시물 저장, 1회
-		verify(articleRepository, times(1)).findById(anyLong()); // 작성된 게시물 조회, 1회
-//		verify(articleRepository, atLeastOnce()).findById(anyLong()); // 최소 1회 호출
-//		verify(articleRepository, atLeast(1)).findById(anyLong()); // 최소 1회 호출, atLeast(1) == atLeastOnce()
+		verify(articleDtoMapper, times(1)).toArticle(saveDto); // DTO 를 도메인 객체로 맵핑, 1회
+		verify(articleRepository, times(1)).save(anyLong(), any(Article.class)); // 게시물 저장, 1회
+		verify(articleRepository, never()).findById(anyLong()); // 작성된 게시물은 다시 조회하지 않음
 
 		//for increasing code coverage
 		// 리턴값 검증
+		assertThat(result).isSameAs(article);
 		assertThat(result.getTitle()).isEqualTo(saveDto.getTitle());
 		assertThat(result.getContent()).isEqualTo(saveDto.getContent());
-		assertThat(result.getId()).isNotNull();
+		assertThat(result.getId()).isEqualTo(1L);
+		assertThat(result.getAccountId()).isEqualTo(1L);
 		assertThat(result.getRegDate()).isNotNull();
 		assertThat(result.getUpdateDate()).isNotNull();
 		assertThat(result.getRegDate()).isEqualTo(result.getUpdateDate());
+		assertThat(result.getRegDate().getNano()).isZero(); // DB 에 저장되는 값과 같도록 초 단위로 절삭
 
 		log.info("result {}", result);
-		log.info("savedArticle {}", savedArticle);
-		log.info("isSameHashCode : {}", result.hashCode() == savedArticle.hashCode());
-		log.info("result.title {}", result.getTitle());
-		log.info("result.content {}", result.getContent());
-		log.info("result.id {}", result.getId());
-		log.info("result.regDate {}", result.getRegDate());
-		log.info("result.updateDate {}", result.getUpdateDate());
+	}
+
+	@Test
+	@DisplayName("게시물 작성 - 쓰기 지연 모드에서는 저장하지 않고 저장 큐에 넣은 후 리턴")
+	void createArticle_writeBehind() {
+		//given
+		final ArticleDto.Save saveDto = ArticleDto.Save.builder().title("제목111").content("내용111").build();
+		doReturn(Article.builder().title(saveDto.getTitle()).content(saveDto.getContent()).build()).when(articleDtoMapper).toArticle(saveDto);
+
+		when(articleWriteBehind.isEnabled()).thenReturn(true);
+		when(articleWriteBehind.submit(any(Article.class))).thenAnswer(invocation -> {
+			final Article article = invocation.getArgument(0);
+			article.setId(1L); // 할당된 게시물 번호
+			return article;
+		});
+
+		//when
+		final Article result = articleService.createArticle(1L, saveDto);
 
+		//then
+		verify(articleRepository, never()).save(anyLong(), any(Article.class)); // 저장은 저장 스레드에서
+		verifyNoInteractions(eventPublisher); // 검색 색인 반영도 저장된 후
+		assertThat(result.getId()).isEqualTo(1L);
+		assertThat(result.getAccountId()).isEqualTo(1L);
+		assertThat(result.getRegDate()).isNotNull();
+	}
+
+	@Test
+	@DisplayName("게시물 조회 - 저장 대기 중인 게시물은 DB 를 조회하지 않고 리턴")
+	void getArticle_pending() {
+		//given
+		final Article pending = Article.builder().id(1L).title("제목").content("내용").build();
+		when(articleWriteBehind.getPending(1L)).thenReturn(pending);
+
+		//when
+		final Article result = articleService.getArticle(1L);
+
+		//then
+		verify(articleRepository, never()).findById(anyLong());
+		assertThat(result).isSameAs(pending);
 	}
 
 	@Test
 	@DisplayName("전체 게시물 조회")
 	void getArticles() {
 		//given
-		final Article existing1 = mock(Article.class);
-		final Article existing2 = mock(Article.class);
+		final ArticleDto.Summary existing1 = mock(ArticleDto.Summary.class);
+		final ArticleDto.Summary existing2 = mock(ArticleDto.Summary.class);
 
-		when(articleRepository.findAll()).thenReturn(List.of(existing1, existing2));
+		when(articleRepository.findAllSummaries(any(), anyInt())).thenReturn(List.of(existing1, existing2));
 
 		//when
-		final List<Article> articles = articleService.getArticles();
+		final List<ArticleDto.Summary> articles = articleService.getArticles(null, 20).getContent();
 
 		//then
-		verify(articleRepository, atLeastOnce()).findAll();
+		verify(articleRepository, atLeastOnce()).findAllSummaries(any(), anyInt());
 		assertThat(articles).isNotEmpty();
 		assertThat(articles.size()).isEqualTo(2);
 	}
@@ -120,13 +182,13 @@ class ArticleServiceTest {
 	@DisplayName("전체 게시물 조회 - 게시물이 하나도 존재하지 않을 경우")
 	void getArticles_returnEmptyList() {
 		//given
-		when(articleRepository.findAll()).thenReturn(Collections.emptyList());
+		when(articleRepository.findAllSummaries(any(), anyInt())).thenReturn(Collections.emptyList());
 
 		//when
-		final List<Article> articles = articleService.getArticles();
+		final List<ArticleDto.Summary> articles = articleService.getArticles(null, 20).getContent();
 
 		//then
-		verify(articleRepository, atLeastOnce()).findAll();
+		verify(articleRepository, atLeastOnce()).findAllSummaries(any(), anyInt());
 		assertThat(articles).isEmpty();
 	}
 
@@ -146,6 +208,7 @@ class ArticleServiceTest {
 
 		//then
 		verify(articleRepository, atLeastOnce()).findById(anyLong());
+		verify(articleHitCounter).loaded(anyLong()); // 조회한 게시물 기준으로 이후의 조회수를 다시 누적
 		assertThat(result.getTitle()).isEqualTo(existing.getTitle());
 		assertThat(result.getContent()).isEqualTo(existing.getContent());
 
@@ -171,26 +234,63 @@ class ArticleServiceTest {
 	}
 
 	@Test
-	@DisplayName("게시물 삭제")
+	@DisplayName("게시물 조회 - 같은 요청 안에서는 한 번만 조회 (권한 체크 후 다시 조회해도 DB 조회 없음)")
+	void getArticle_oncePerRequest() {
+		//given
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		when(articleRepository.findMetaById(1L)).thenReturn(Optional.of(ArticleDto.Meta.builder().id(1L).accountId(1L).build()));
+		when(articleRepository.findById(1L)).thenReturn(Optional.of(Article.builder().id(1L).title("제목").content("내용").build()));
+
+		try {
+			//when
+			articleService.findArticleMeta(1L); // 권한 체크
+			articleService.findArticleMeta(1L);
+			final Article first = articleService.getArticle(1L);
+			final Article second = articleService.getArticle(1L);
+
+			//then
+			verify(articleRepository, times(1)).findMetaById(1L);
+			verify(articleRepository, times(1)).findById(1L);
+			assertThat(second).isSameAs(first);
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+	}
+
+	@Test
+	@DisplayName("게시물 삭제 - 기존 게시물을 조회하지 않고 바로 삭제")
 	void deleteArticle() {
 		//given
-		final Article existing = mock(Article.class);
-		when(existing.getId()).thenReturn(1L);
-		when(articleRepository.findById(anyLong())).thenReturn(Optional.of(existing));
+		when(articleRepository.deleteById(anyLong())).thenReturn(1);
+
+		//when
+		articleService.deleteArticle(1L);
+
+		//then
+		verify(articleRepository, never()).findById(anyLong()); // 게시물 조회 없음
+		verify(articleRepository, times(1)).deleteById(1L); // 게시물 삭제
+		verify(eventPublisher, times(1)).publishEvent(any(ArticleDeletedEvent.class));
+	}
+
+	@Test
+	@DisplayName("게시물 삭제 - 삭제된 행이 없으면 ArticleNotFoundException 발생")
+	void deleteArticle_notFound() {
+		//given
+		when(articleRepository.deleteById(anyLong())).thenReturn(0);
 
 		//when
-		articleService.deleteArticle(anyLong());
+		final ArticleNotFoundException e = assertThrows(ArticleNotFoundException.class, () -> articleService.deleteArticle(1L));
 
 		//then
-		verify(articleRepository, atLeastOnce()).findById(anyLong()); // 게시물 조회
-		verify(articleRepository, atLeastOnce()).deleteById(anyLong()); // 게시물 삭제
+		assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ARTICLE_NOT_FOUND);
+		verifyNoInteractions(eventPublisher);
 	}
 
 	@Test
-	@DisplayName("게시물 수정")
+	@DisplayName("게시물 수정 - 캐시된 게시물에 변경 내용을 반영해 리턴 (기존 게시물 조회 없음)")
 	void updateArticle() {
 		//given
-		// 기존 게시물
+		// 기존 게시물 (권한 체크 시 조회되어 캐시에 있음)
 		final LocalDateTime regDate = LocalDateTime.of(2021, 11, 11, 11, 11);
 		final Article existing = Article.builder()
 				.id(1L)
@@ -198,10 +298,11 @@ class ArticleServiceTest {
 				.content("내용111")
 				.regDate(regDate)
 				.updateDate(regDate)
+				.accountId(1L)
 				.build();
-
-		// 기존 게시물 조회
-		doReturn(Optional.of(existing)).when(articleRepository).findById(anyLong());
+		final Cache cache = new ConcurrentMapCache(ARTICLE_CACHE);
+		cache.put(1L, existing);
+		when(cacheManager.getCache(ARTICLE_CACHE)).thenReturn(cache);
 
 		// 업데이트 할 데이터를 담은 게시물 DTO
 		final ArticleDto.Save saveDto = ArticleDto.Save.builder()
@@ -210,102 +311,125 @@ class ArticleServiceTest {
 				.updateDate(LocalDateTime.of(2021, 12, 12, 12, 12))
 				.build();
 
-		// 기존값 변경
+		// DTO 를 변경 내용으로 맵핑 시
+		doReturn(Article.builder().title(saveDto.getTitle()).content(saveDto.getContent()).build()).when(articleDtoMapper).toArticle(saveDto);
+		when(articleRepository.update(any())).thenReturn(1);
+
+		// 캐시된 게시물의 복사본에 기존값 변경
 		doAnswer(invocation -> {
-			existing.setTitle(saveDto.getTitle());
-			existing.setContent(saveDto.getContent());
-			existing.setUpdateDate(saveDto.getUpdateDate());
+			final Article copied = invocation.getArgument(1);
+			copied.setTitle(saveDto.getTitle());
+			copied.setContent(saveDto.getContent());
+			copied.setUpdateDate(saveDto.getUpdateDate());
 			return null;
-		}).when(modelMapper).map(saveDto, existing);
-
+		}).when(articleDtoMapper).updateArticle(eq(saveDto), any(Article.class));
 
 		//when
-		final Article result = articleService.updateArticle(anyLong(), saveDto); // 게시물 수정
+		final Article result = articleService.updateArticle(1L, saveDto, null); // 게시물 수정
 
 		//then
 		// 메서드 호출 횟수 검증
-		verify(articleRepository, times(1)).findById(anyLong()); // 기존 게시물 조회, 1회
-		verify(modelMapper, times(1)).map(saveDto, existing); // DTO 로 기존 게시물 변경, 1회
-		verify(articleRepository, atLeastOnce()).update(any()); // 게시물 업데이트, 1회
+		verify(articleRepository, never()).findById(anyLong()); // 기존 게시물 조회 없음
+		verify(articleRepository, times(1)).update(argThat(changes -> changes.getId().equals(1L))); // 게시물 업데이트, 1회
 
 		//for increasing code coverage
 		// 리턴값 검증
 		assertThat(result.getTitle()).isEqualTo(saveDto.getTitle());
 		assertThat(result.getContent()).isEqualTo(saveDto.getContent());
-		assertThat(result.getTitle()).isEqualTo(existing.getTitle());
-		assertThat(result.getContent()).isEqualTo(existing.getContent());
-		assertThat(result.getRegDate()).isEqualTo(existing.getRegDate());
-		assertThat(result.getUpdateDate()).isEqualTo(existing.getUpdateDate());
+		assertThat(result.getRegDate()).isEqualTo(regDate);
+		assertThat(result.getUpdateDate()).isEqualTo(saveDto.getUpdateDate());
 		assertNotEquals(result.getRegDate(), result.getUpdateDate());
 
-		assertThat(result).isSameAs(existing);
-		assertThat(result.hashCode()).isEqualTo(existing.hashCode());
+		assertThat(result.getVersion()).isEqualTo(existing.getVersion() + 1); // 수정할 때마다 버전 증가
+
+		assertThat(result).isNotSameAs(existing); // 캐시된 객체는 변경하지 않음
+		assertThat(existing.getTitle()).isEqualTo("제목111");
 
 		log.info("result {}", result);
 		log.info("existing {}", existing);
-		log.info("isSameHashCode : {}", result.hashCode() == existing.hashCode());
-		log.info("result.title {}", result.getTitle());
-		log.info("result.content {}", result.getContent());
-		log.info("result.id {}", result.getId());
-		log.info("result.regDate {}", result.getRegDate());
-		log.info("result.updateDate {}", result.getUpdateDate());
+	}
+
+	@Test
+	@DisplayName("게시물 수정 - 캐시에 없으면 버전만 조회해서 수정하고, 수정 후 한 번 조회해서 리턴")
+	void updateArticle_notCached() {
+		//given
+		when(cacheManager.getCache(ARTICLE_CACHE)).thenReturn(new ConcurrentMapCache(ARTICLE_CACHE));
+		when(articleRepository.findMetaById(1L)).thenReturn(Optional.of(ArticleDto.Meta.builder().id(1L).version(3L).build()));
+
+		final ArticleDto.Save saveDto = ArticleDto.Save.builder().title("제목222").content("내용222").build();
+		doReturn(new Article()).when(articleDtoMapper).toArticle(saveDto);
+		when(articleRepository.update(any())).thenReturn(1);
+
+		final Article updated = mock(Article.class); // 수정된 게시물
+		when(articleRepository.findById(anyLong())).thenReturn(Optional.of(updated));
 
+		//when
+		final Article result = articleService.updateArticle(1L, saveDto, null);
+
+		//then
+		verify(articleRepository, times(1)).update(argThat(changes -> changes.getVersion() == 3L)); // 조회한 버전 기준으로 게시물 업데이트, 1회
+		verify(articleRepository, times(1)).findById(1L); // 수정된 게시물 조회, 1회
+		assertThat(result).isSameAs(updated);
 	}
 
 	@Test
-	@DisplayName("게시물 수정")
-	void updateArticle__modelmapper를_사용할때_setter없이_단위테스트를_해야한다면_목킹이번거로움() {
+	@DisplayName("게시물 수정 - 수정된 행이 없고 게시물도 없으면 ArticleNotFoundException 발생")
+	void updateArticle_notFound() {
 		//given
-		final Article existing = mock(Article.class); // 기존 게시물
-		final LocalDateTime regDate = LocalDateTime.of(2021, 11, 11, 11, 11);
-		when(existing.getRegDate()).thenReturn(regDate);
+		final ArticleDto.Save saveDto = ArticleDto.Save.builder().title("제목222").content("내용222").build();
+		doReturn(new Article()).when(articleDtoMapper).toArticle(saveDto);
+		when(articleRepository.update(any())).thenReturn(0);
+		when(articleRepository.existsById(1L)).thenReturn(false);
 
-		when(articleRepository.findById(anyLong())).thenReturn(Optional.of(existing)); // 기존 게시물 조회 시
+		//when
+		final ArticleNotFoundException e = assertThrows(ArticleNotFoundException.class, () -> articleService.updateArticle(1L, saveDto, 0L));
 
-		final ArticleDto.Save saveDto = mock(ArticleDto.Save.class); // 업데이트 할 데이터를 담은 게시물 DTO
-		final LocalDateTime updateDate = LocalDateTime.of(2021, 12, 12, 12, 12);
-		when(saveDto.getUpdateDate()).thenReturn(updateDate);
-		when(saveDto.getTitle()).thenReturn("제목222");
-		when(saveDto.getContent()).thenReturn("내용222");
+		//then
+		verify(articleRepository, never()).findById(anyLong());
+		verifyNoInteractions(eventPublisher);
+		assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ARTICLE_NOT_FOUND);
+	}
 
-		doAnswer(invocation -> {
-			doReturn(saveDto.getTitle()).when(existing).getTitle();
-			doReturn(saveDto.getContent()).when(existing).getContent();
-			doReturn(saveDto.getUpdateDate()).when(existing).getUpdateDate();
-			return null;
-		}).when(modelMapper).map(saveDto, existing);
+	@Test
+	@DisplayName("게시물 수정 - 캐시된 버전으로 수정하는 사이 다른 요청이 먼저 수정했으면 ArticleUpdateConflictException(409) 발생")
+	void updateArticle_conflict() {
+		//given
+		final Cache cache = new ConcurrentMapCache(ARTICLE_CACHE);
+		cache.put(1L, Article.builder().id(1L).title("제목111").content("내용111").version(2L).build());
+		when(cacheManager.getCache(ARTICLE_CACHE)).thenReturn(cache);
 
+		final ArticleDto.Save saveDto = ArticleDto.Save.builder().title("제목222").content("내용222").build();
+		doReturn(new Article()).when(articleDtoMapper).toArticle(saveDto);
+		when(articleRepository.update(any())).thenReturn(0); // 버전이 달라 수정되지 않음
+		when(articleRepository.existsById(1L)).thenReturn(true);
 
 		//when
-		final Article result = articleService.updateArticle(anyLong(), saveDto);
+		final ArticleUpdateConflictException e = assertThrows(ArticleUpdateConflictException.class, () -> articleService.updateArticle(1L, saveDto, null));
 
 		//then
-		// 메서드 호출 횟수 검증
-		verify(articleRepository, times(1)).findById(anyLong()); // 기존 게시물 조회, 1회
-		verify(modelMapper, times(1)).map(saveDto, existing); // DTO 로 기존 게시물 변경, 1회
-		verify(articleRepository, atLeastOnce()).update(any()); // 게시물 업데이트, 1회
+		verify(articleRepository, times(1)).update(argThat(changes -> changes.getVersion() == 2L)); // 캐시된 버전 기준
+		verifyNoInteractions(eventPublisher);
+		assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ARTICLE_UPDATE_CONFLICT);
+		assertThat(e.getErrorCode().getStatus()).isEqualTo(HttpStatus.CONFLICT);
+	}
 
-		//for increasing code coverage
-		// 리턴값 검증
-		assertThat(result.getTitle()).isEqualTo(saveDto.getTitle());
-		assertThat(result.getContent()).isEqualTo(saveDto.getContent());
-		assertThat(result.getTitle()).isEqualTo(existing.getTitle());
-		assertThat(result.getContent()).isEqualTo(existing.getContent());
-		assertThat(result.getRegDate()).isEqualTo(existing.getRegDate());
-		assertThat(result.getUpdateDate()).isEqualTo(existing.getUpdateDate());
-		assertNotEquals(result.getRegDate(), result.getUpdateDate());
+	@Test
+	@DisplayName("게시물 수정 - If-Match 로 받은 버전이 현재 버전과 다르면 ArticlePreconditionFailedException(412) 발생")
+	void updateArticle_preconditionFailed() {
+		//given
+		final ArticleDto.Save saveDto = ArticleDto.Save.builder().title("제목222").content("내용222").build();
+		doReturn(new Article()).when(articleDtoMapper).toArticle(saveDto);
+		when(articleRepository.update(any())).thenReturn(0);
+		when(articleRepository.existsById(1L)).thenReturn(true);
 
-		assertThat(result).isSameAs(existing);
-		assertThat(result.hashCode()).isEqualTo(existing.hashCode());
+		//when
+		final ArticlePreconditionFailedException e = assertThrows(ArticlePreconditionFailedException.class, () -> articleService.updateArticle(1L, saveDto, 1L));
 
-		log.info("result {}", result);
-		log.info("existing {}", existing);
-		log.info("isSameHashCode : {}", result.hashCode() == existing.hashCode());
-		log.info("result.title {}", result.getTitle());
-		log.info("result.content {}", result.getContent());
-		log.info("result.id {}", result.getId());
-		log.info("result.regDate {}", result.getRegDate());
-		log.info("result.updateDate {}", result.getUpdateDate());
+		//then
+		verify(articleRepository, times(1)).update(argThat(changes -> changes.getVersion() == 1L)); // If-Match 로 받은 버전 기준
+		verify(articleRepository, never()).findMetaById(anyLong());
+		assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ARTICLE_PRECONDITION_FAILED);
+		assertThat(e.getErrorCode().getStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
 	}
 
-}
\ No newline at end of file
+}
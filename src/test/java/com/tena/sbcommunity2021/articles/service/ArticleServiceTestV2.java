@@ -2,13 +2,14 @@ package com.tena.sbcommunity2021.articles.service;
 
 import com.tena.sbcommunity2021.articles.domain.Article;
 import com.tena.sbcommunity2021.articles.dto.ArticleDto;
+import com.tena.sbcommunity2021.articles.dto.ArticleDtoMapper;
+import com.tena.sbcommunity2021.articles.dto.ArticleDtoMapperImpl;
 import com.tena.sbcommunity2021.articles.exception.ArticleNotCreatedException;
 import com.tena.sbcommunity2021.articles.exception.ArticleNotFoundException;
 import com.tena.sbcommunity2021.articles.repository.ArticleRepository;
 import com.tena.sbcommunity2021.global.errors.ErrorCode;
 import com.tena.sbcommunity2021.global.errors.exception.CustomException;
 import lombok.extern.slf4j.Slf4j;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,20 +19,23 @@ import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.OngoingStubbing;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.NameTokenizers;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import static com.tena.sbcommunity2021.global.configs.CacheConfig.ARTICLE_CACHE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
-import static org.modelmapper.config.Configuration.AccessLevel.PRIVATE;
 
 @Slf4j
 @ExtendWith(MockitoExtension.class)
@@ -44,15 +48,22 @@ class ArticleServiceTestV2 {
 	private ArticleRepository articleRepository;
 
 	@Spy
-	private ModelMapper modelMapper;
-
-	@BeforeEach
-	void setUp() {
-		modelMapper.getConfiguration()
-				.setDestinationNameTokenizer(NameTokenizers.UNDERSCORE)
-				.setSourceNameTokenizer(NameTokenizers.UNDERSCORE)
-				.setFieldMatchingEnabled(true).setFieldAccessLevel(PRIVATE);
-	}
+	private ArticleDtoMapper articleDtoMapper = new ArticleDtoMapperImpl();
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private CacheManager cacheManager;
+
+	@Mock
+	private ArticleHitCounter articleHitCounter;
+
+	@Mock
+	private ArticleWriteBehind articleWriteBehind;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
 
 	@Test
 	@DisplayName("게시물 작성 - 정상 플로우")
@@ -64,32 +75,20 @@ class ArticleServiceTestV2 {
 				.content("내용111")
 				.build();
 
-		// 작성된 게시물 조회 시 리턴할 객체
-		final LocalDateTime regDate = LocalDateTime.now();
-		final Article savedArticle = Article.builder()
-				.title(saveDto.getTitle())
-				.content(saveDto.getContent())
-				.id(1L)
-				.regDate(regDate)
-				.updateDate(regDate)
-				.build();
-
-		// DTO 를 도메인 객체로 맵핑 시
-		doReturn(savedArticle).when(modelMapper).map(saveDto, Article.class);
-
-		// 작성된 게시물 조회 시
-		doReturn(Optional.of(savedArticle)).when(articleRepository).findById(anyLong());
+		// 게시물 저장 시 생성된 게시물 번호가 채워짐
+		doAnswer(invocation -> {
+			invocation.<Article>getArgument(1).setId(1L);
+			return null;
+		}).when(articleRepository).save(anyLong(), any(Article.class));
 
 		//when
-		final Article result = articleService.createArticle(saveDto); // 게시물 작성
+		final Article result = articleService.createArticle(1L, saveDto); // 게시물 작성
 
 		//then
 		// 메서드 호출 횟수 검증
-		verify(modelMapper, times(1)).map(saveDto, Article.class); // DTO 를 도메인 객체로 맵핑, 1회
-		verify(articleRepository, times(1)).save(any(Article.class)); // 게시물 저장, 1회
-		verify(articleRepository, times(1)).findById(anyLong()); // 작성된 게시물 조회, 1회
-//		verify(articleRepository, atLeastOnce()).findById(anyLong()); // 최소 1회 호출
-//		verify(articleRepository, atLeast(1)).findById(anyLong()); // 최소 1회 호출, atLeast(1) == atLeastOnce()
+		verify(articleDtoMapper, times(1)).toArticle(saveDto); // DTO 를 도메인 객체로 맵핑, 1회
+		verify(articleRepository, times(1)).save(anyLong(), any(Article.class)); // 게시물 저장, 1회
+		verify(articleRepository, never()).findById(anyLong()); // 작성된 게시물은 다시 조회하지 않음
 
 		//for increasing code coverage
 		// 리턴값 검증
@@ -101,8 +100,6 @@ class ArticleServiceTestV2 {
 		assertThat(result.getRegDate()).isEqualTo(result.getUpdateDate());
 
 		log.info("result {}", result);
-		log.info("savedArticle {}", savedArticle);
-		log.info("isSameHashCode : {}", result.hashCode() == savedArticle.hashCode());
 		log.info("result.title {}", result.getTitle());
 		log.info("result.content {}", result.getContent());
 		log.info("result.id {}", result.getId());
@@ -121,29 +118,17 @@ class ArticleServiceTestV2 {
 				.content("내용111")
 				.build();
 
-		final LocalDateTime regDate = LocalDateTime.now();
-		final Article savedArticle = Article.builder()
-				.title(saveDto.getTitle())
-				.content(saveDto.getContent())
-				.id(1L)
-				.regDate(regDate)
-				.updateDate(regDate)
-				.build();
-
-		// DTO 를 도메인 객체로 맵핑 시
-		doReturn(savedArticle).doCallRealMethod().when(modelMapper).map(saveDto, Article.class);
-
-		// 작성된 게시물 조회 시 ArticleNotCreatedException 발생
-		doThrow(new ArticleNotCreatedException()).when(articleRepository).findById(any());
+		// 게시물 저장 후 생성된 게시물 번호가 채워지지 않음 (저장 시 아무 동작도 하지 않음)
 
 		//when
 		final ArticleNotCreatedException e = assertThrows(ArticleNotCreatedException.class, () -> {
-			articleService.createArticle(saveDto); // 게시물 작성
+			articleService.createArticle(1L, saveDto); // 게시물 작성
 		});
 
 		//then
 		// 메서드 호출 횟수 검증
-		verify(articleRepository, times(1)).findById(any()); // 작성된 게시물 조회, 1회
+		verify(articleRepository, times(1)).save(anyLong(), any(Article.class)); // 게시물 저장, 1회
+		verifyNoInteractions(eventPublisher);
 
 		//for increasing code coverage
 		// 리턴값 검증
@@ -156,16 +141,16 @@ class ArticleServiceTestV2 {
 	@DisplayName("전체 게시물 조회")
 	void getArticles() {
 		//given
-		final Article existing1 = mock(Article.class);
-		final Article existing2 = mock(Article.class);
+		final ArticleDto.Summary existing1 = mock(ArticleDto.Summary.class);
+		final ArticleDto.Summary existing2 = mock(ArticleDto.Summary.class);
 
-		when(articleRepository.findAll()).thenReturn(List.of(existing1, existing2));
+		when(articleRepository.findAllSummaries(any(), anyInt())).thenReturn(List.of(existing1, existing2));
 
 		//when
-		final List<Article> articles = articleService.getArticles();
+		final List<ArticleDto.Summary> articles = articleService.getArticles(null, 20).getContent();
 
 		//then
-		verify(articleRepository, atLeastOnce()).findAll();
+		verify(articleRepository, atLeastOnce()).findAllSummaries(any(), anyInt());
 		assertThat(articles).isNotEmpty();
 		assertThat(articles.size()).isEqualTo(2);
 	}
@@ -174,13 +159,13 @@ class ArticleServiceTestV2 {
 	@DisplayName("전체 게시물 조회 - 게시물이 하나도 존재하지 않을 경우")
 	void getArticles_returnEmptyList() {
 		//given
-		when(articleRepository.findAll()).thenReturn(Collections.emptyList());
+		when(articleRepository.findAllSummaries(any(), anyInt())).thenReturn(Collections.emptyList());
 
 		//when
-		final List<Article> articles = articleService.getArticles();
+		final List<ArticleDto.Summary> articles = articleService.getArticles(null, 20).getContent();
 
 		//then
-		verify(articleRepository, atLeastOnce()).findAll();
+		verify(articleRepository, atLeastOnce()).findAllSummaries(any(), anyInt());
 		assertThat(articles).isEmpty();
 	}
 
@@ -228,58 +213,56 @@ class ArticleServiceTestV2 {
 	@DisplayName("게시물 삭제")
 	void deleteArticle() {
 		//given
-		final Article existing = mock(Article.class);
-		when(existing.getId()).thenReturn(1L);
-		when(articleRepository.findById(anyLong())).thenReturn(Optional.of(existing));
+		when(articleRepository.deleteById(anyLong())).thenReturn(1);
 
 		//when
-		articleService.deleteArticle(anyLong());
+		articleService.deleteArticle(1L);
 
 		//then
-		verify(articleRepository, atLeastOnce()).findById(anyLong()); // 게시물 조회
-		verify(articleRepository, atLeastOnce()).deleteById(anyLong()); // 게시물 삭제
+		verify(articleRepository, never()).findById(anyLong()); // 게시물 조회 없음
+		verify(articleRepository, times(1)).deleteById(1L); // 게시물 삭제
 	}
 
 	@Test
 	@DisplayName("게시물 수정")
 	void updateArticle() {
 		//given
-		// 기존 게시물
+		// 기존 게시물 (권한 체크 시 조회되어 캐시에 있음)
 		final LocalDateTime regDate = LocalDateTime.of(2021, 11, 11, 11, 11);
-		final Article existing = Article.builder().title("제목111").content("내용111").regDate(regDate).updateDate(regDate).build();
+		final Article existing = Article.builder().id(1L).title("제목111").content("내용111").regDate(regDate).updateDate(regDate).accountId(1L).build();
+		final Cache cache = new ConcurrentMapCache(ARTICLE_CACHE);
+		cache.put(1L, existing);
+		when(cacheManager.getCache(ARTICLE_CACHE)).thenReturn(cache);
 
 		// 업데이트 할 데이터를 담은 게시물 DTO
 		final LocalDateTime updateDate = LocalDateTime.of(2021, 12, 12, 12, 12);
 		final ArticleDto.Save saveDto = ArticleDto.Save.builder().title("제목222").content("내용222").updateDate(updateDate).build();
 
-		doCallRealMethod().when(modelMapper).map(saveDto, existing);
-		when(articleRepository.findById(anyLong())).thenReturn(Optional.of(existing)); // 기존 게시물 조회 시
+		when(articleRepository.update(any())).thenReturn(1); // 게시물 업데이트 시 1건 수정
 
 		//when
-		final Article result = articleService.updateArticle(anyLong(), saveDto);
+		final Article result = articleService.updateArticle(1L, saveDto, null);
 
 		//then
 		// 메서드 호출 횟수 검증
-		verify(articleRepository, times(1)).findById(anyLong()); // 기존 게시물 조회, 1회
-		verify(modelMapper, times(1)).map(saveDto, existing); // DTO 로 기존 게시물 변경, 1회
-		verify(articleRepository, atLeastOnce()).update(any()); // 게시물 업데이트, 1회
+		verify(articleRepository, never()).findById(anyLong()); // 기존 게시물 조회 없음
+		verify(articleRepository, times(1)).update(any()); // 게시물 업데이트, 1회
 
 		//for increasing code coverage
 		// 리턴값 검증
+		assertThat(result.getId()).isEqualTo(existing.getId());
 		assertThat(result.getTitle()).isEqualTo(saveDto.getTitle());
 		assertThat(result.getContent()).isEqualTo(saveDto.getContent());
-		assertThat(result.getTitle()).isEqualTo(existing.getTitle());
-		assertThat(result.getContent()).isEqualTo(existing.getContent());
 		assertThat(result.getRegDate()).isEqualTo(existing.getRegDate());
-		assertThat(result.getUpdateDate()).isEqualTo(existing.getUpdateDate());
+		assertThat(result.getUpdateDate()).isEqualTo(updateDate);
+		assertThat(result.getAccountId()).isEqualTo(existing.getAccountId());
 		assertNotEquals(result.getRegDate(), result.getUpdateDate());
 
-		assertThat(result).isSameAs(existing);
-		assertThat(result.hashCode()).isEqualTo(existing.hashCode());
+		assertThat(result).isNotSameAs(existing); // 캐시된 객체는 변경하지 않음
+		assertThat(existing.getTitle()).isEqualTo("제목111");
 
 		log.info("result {}", result);
 		log.info("existing {}", existing);
-		log.info("isSameHashCode : {}", result.hashCode() == existing.hashCode());
 		log.info("result.title {}", result.getTitle());
 		log.info("result.content {}", result.getContent());
 		log.info("result.id {}", result.getId());
@@ -289,4 +272,4 @@ class ArticleServiceTestV2 {
 	}
 
 
-}
\ No newline at end of file
+}
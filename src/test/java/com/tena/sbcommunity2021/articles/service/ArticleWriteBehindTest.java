@@ -0,0 +1,235 @@
+package com.tena.sbcommunity2021.articles.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tena.sbcommunity2021.articles.domain.Article;
+import com.tena.sbcommunity2021.articles.event.ArticleSavedEvent;
+import com.tena.sbcommunity2021.articles.repository.ArticleRepository;
+import com.tena.sbcommunity2021.global.errors.ErrorCode;
+import com.tena.sbcommunity2021.global.errors.exception.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ArticleWriteBehindTest {
+
+	@Mock
+	private ArticleRepository articleRepository;
+
+	@Mock
+	private ArticleIdAllocator articleIdAllocator;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@TempDir
+	Path tempDir;
+
+	private ArticleWriteBehind articleWriteBehind;
+
+	@BeforeEach
+	void setUp() {
+		final AtomicLong sequence = new AtomicLong();
+		when(articleIdAllocator.nextId()).thenAnswer(invocation -> sequence.incrementAndGet());
+
+		articleWriteBehind = new ArticleWriteBehind(articleRepository, articleIdAllocator, transactionManager, eventPublisher, new ObjectMapper().findAndRegisterModules());
+		ReflectionTestUtils.setField(articleWriteBehind, "enabled", true);
+		ReflectionTestUtils.setField(articleWriteBehind, "queueCapacity", 1);
+		ReflectionTestUtils.setField(articleWriteBehind, "batchSize", 500);
+		ReflectionTestUtils.setField(articleWriteBehind, "shutdownTimeout", 5000L);
+		ReflectionTestUtils.setField(articleWriteBehind, "deadLetterFile", deadLetterFile().toString());
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		articleWriteBehind.shutdown();
+	}
+
+	@Test
+	@DisplayName("작성 요청 - 번호를 할당해 바로 리턴하고, 저장되기 전에도 조회 가능, 저장 스레드가 저장")
+	void submit() {
+		//given
+		final CountDownLatch release = new CountDownLatch(1);
+		blockInsert(new CountDownLatch(1), release);
+		articleWriteBehind.start();
+
+		//when
+		final Article submitted = articleWriteBehind.submit(article("제목"));
+
+		//then
+		assertThat(submitted.getId()).isEqualTo(1L);
+		assertThat(articleWriteBehind.getPending(1L)).isSameAs(submitted); // 저장 전
+
+		release.countDown();
+		articleWriteBehind.awaitWritten(1L);
+
+		assertThat(articleWriteBehind.getPending(1L)).isNull(); // 저장 후
+		verify(articleRepository, times(1)).insertAll(List.of(submitted));
+		verify(eventPublisher, times(1)).publishEvent(any(ArticleSavedEvent.class));
+	}
+
+	@Test
+	@DisplayName("작성 요청 - 큐가 가득 차면 ARTICLE_WRITE_QUEUE_FULL(503) 예외 발생, 조회 대상에서도 제외")
+	void submit_queueFull() throws InterruptedException {
+		//given
+		final CountDownLatch writing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		blockInsert(writing, release);
+		articleWriteBehind.start();
+
+		articleWriteBehind.submit(article("저장 중"));
+		assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue(); // 저장 스레드가 첫 게시물 저장 중
+		articleWriteBehind.submit(article("대기 중")); // 큐 크기 1
+
+		//when
+		final CustomException e = assertThrows(CustomException.class, () -> articleWriteBehind.submit(article("거절")));
+
+		//then
+		assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ARTICLE_WRITE_QUEUE_FULL);
+		assertThat(articleWriteBehind.getPending(3L)).isNull();
+
+		release.countDown();
+	}
+
+	@Test
+	@DisplayName("작성 요청 - 테이블 제약 조건(길이, NOT NULL)을 위반하면 접수하지 않고 INVALID_INPUT_VALUE(400) 예외 발생")
+	void submit_invalid() {
+		//given
+		articleWriteBehind.start();
+
+		//when
+		final CustomException tooLong = assertThrows(CustomException.class, () -> articleWriteBehind.submit(article("가".repeat(Article.TITLE_MAX_LENGTH + 1))));
+		final CustomException noContent = assertThrows(CustomException.class, () -> articleWriteBehind.submit(Article.builder().title("내용 없음").accountId(1L).build()));
+
+		//then
+		assertThat(tooLong.getErrorCode()).isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+		assertThat(noContent.getErrorCode()).isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+		verify(articleIdAllocator, never()).nextId();
+		assertThat(articleWriteBehind.submit(article("가".repeat(Article.TITLE_MAX_LENGTH))).getId()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("저장 실패 - 데이터 문제로 일괄 저장이 실패하면 한 건씩 저장해서 문제가 있는 게시물만 제외하고 dead-letter 파일에 보관")
+	void write_dataIntegrityViolation() throws IOException {
+		//given
+		ReflectionTestUtils.setField(articleWriteBehind, "queueCapacity", 10);
+		doAnswer(invocation -> {
+			final List<Article> articles = invocation.getArgument(0);
+			if (articles.stream().anyMatch(article -> article.getAccountId() == 999L)) {
+				throw new DataIntegrityViolationException("존재하지 않는 작성자 (FK)");
+			}
+			return null;
+		}).when(articleRepository).insertAll(anyList());
+
+		final Article valid = article("제목");
+		final Article invalid = article("탈퇴한 회원의 게시물");
+		invalid.setAccountId(999L);
+
+		//when
+		articleWriteBehind.start();
+		articleWriteBehind.submit(valid);
+		articleWriteBehind.submit(invalid);
+
+		articleWriteBehind.awaitWritten(valid.getId());
+		articleWriteBehind.awaitWritten(invalid.getId());
+
+		//then
+		// 함께 저장되든 따로 저장되든, 정상 게시물은 한 번만 저장 성공
+		verify(articleRepository, times(1)).insertAll(List.of(valid));
+		assertThat(articleWriteBehind.getPending(invalid.getId())).isNull();
+		verify(eventPublisher, times(1)).publishEvent(any(ArticleSavedEvent.class));
+
+		final List<String> deadLetters = Files.readAllLines(deadLetterFile(), StandardCharsets.UTF_8);
+		assertThat(deadLetters).hasSize(1);
+		assertThat(deadLetters.get(0)).contains("\"id\":" + invalid.getId(), "탈퇴한 회원의 게시물", "DataIntegrityViolationException");
+	}
+
+	@Test
+	@DisplayName("종료 시간 초과 - 저장하지 못한 게시물은 버리지 않고 dead-letter 파일에 보관")
+	void shutdown_timeout_deadLetters() throws Exception {
+		//given
+		ReflectionTestUtils.setField(articleWriteBehind, "queueCapacity", 10);
+		ReflectionTestUtils.setField(articleWriteBehind, "shutdownTimeout", 300L);
+		doThrow(new IllegalStateException("DB 연결 실패")).when(articleRepository).insertAll(anyList());
+		articleWriteBehind.start();
+		final Article first = articleWriteBehind.submit(article("제목1"));
+		final Article second = articleWriteBehind.submit(article("제목2"));
+
+		//when
+		articleWriteBehind.shutdown();
+
+		//then
+		assertThat(articleWriteBehind.getPending(first.getId())).isNull();
+		assertThat(articleWriteBehind.getPending(second.getId())).isNull();
+		final String deadLetters = Files.readString(deadLetterFile(), StandardCharsets.UTF_8);
+		assertThat(deadLetters).contains("제목1", "제목2");
+	}
+
+	@Test
+	@DisplayName("종료 - 새 작성 요청은 거절하고, 큐에 남은 게시물은 모두 저장한 후 종료")
+	void shutdown_flushesQueue() throws InterruptedException {
+		//given
+		ReflectionTestUtils.setField(articleWriteBehind, "queueCapacity", 10);
+		articleWriteBehind.start();
+		articleWriteBehind.submit(article("제목1"));
+		articleWriteBehind.submit(article("제목2"));
+
+		//when
+		articleWriteBehind.shutdown();
+
+		//then
+		assertThat(articleWriteBehind.getPending(1L)).isNull();
+		assertThat(articleWriteBehind.getPending(2L)).isNull();
+		verify(articleRepository, atLeastOnce()).insertAll(anyList());
+		assertThrows(CustomException.class, () -> articleWriteBehind.submit(article("종료 후")));
+	}
+
+	private void blockInsert(CountDownLatch writing, CountDownLatch release) {
+		doAnswer(invocation -> {
+			writing.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(articleRepository).insertAll(anyList());
+	}
+
+	private Article article(String title) {
+		final LocalDateTime now = LocalDateTime.now();
+
+		return Article.builder().title(title).content("내용").accountId(1L).regDate(now).updateDate(now).build();
+	}
+
+	private Path deadLetterFile() {
+		return tempDir.resolve("article-dead-letter.jsonl");
+	}
+
+}
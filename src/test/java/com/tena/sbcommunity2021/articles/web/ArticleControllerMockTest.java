@@ -5,8 +5,14 @@ import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tena.sbcommunity2021.articles.domain.Article;
 import com.tena.sbcommunity2021.articles.dto.ArticleDto;
+import com.tena.sbcommunity2021.articles.dto.ArticleDtoMapper;
+import com.tena.sbcommunity2021.articles.dto.ArticleDtoMapperImpl;
 import com.tena.sbcommunity2021.articles.exception.ArticleNotFoundException;
 import com.tena.sbcommunity2021.articles.service.ArticleService;
+import com.tena.sbcommunity2021.global.auth.Authenticator;
+import com.tena.sbcommunity2021.global.auth.UserAccountArgumentResolver;
+import com.tena.sbcommunity2021.global.commons.CursorPage;
+import com.tena.sbcommunity2021.global.commons.UserAccount;
 import com.tena.sbcommunity2021.global.errors.ErrorCode;
 import com.tena.sbcommunity2021.global.errors.ErrorExceptionController;
 import lombok.extern.slf4j.Slf4j;
@@ -18,9 +24,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.NameTokenizers;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -30,6 +35,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static io.florianlopes.spring.test.web.servlet.request.MockMvcRequestBuilderUtils.postForm;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -53,22 +59,25 @@ class ArticleControllerMockTest {
 	private ArticleService articleService;
 
 	@Spy
-	private ModelMapper modelMapper;
+	private ArticleDtoMapper articleDtoMapper = new ArticleDtoMapperImpl();
+
+	@Mock
+	private Authenticator authenticator;
 
 	private MockMvc mockMvc;
 	private ObjectMapper objectMapper;
 
 	@BeforeEach
 	void setUp() {
+		lenient().when(authenticator.getUserAccount(any())).thenReturn(UserAccount.of(1L, 3)); // 로그인한 사용자 (작성 요청의 UserAccount 파라미터)
+
 		mockMvc = MockMvcBuilders.standaloneSetup(articleController)
 				.setControllerAdvice(new ErrorExceptionController())
+				.setCustomArgumentResolvers(new UserAccountArgumentResolver(authenticator))
 				.build();
 		objectMapper = new ObjectMapper()
 				.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
 				.configure(MapperFeature.DEFAULT_VIEW_INCLUSION, true);
-		modelMapper.getConfiguration()
-				.setDestinationNameTokenizer(NameTokenizers.UNDERSCORE)
-				.setSourceNameTokenizer(NameTokenizers.UNDERSCORE);
 	}
 
 	@Test
@@ -88,13 +97,13 @@ class ArticleControllerMockTest {
 		doReturn(regDate).when(article).getRegDate();
 		doReturn(regDate).when(article).getUpdateDate();
 
-		when(articleService.createArticle(any())).thenReturn(article);
+		when(articleService.createArticle(any(), any())).thenReturn(article);
 
 		//when
 		final ResultActions resultActions = requestCreateArticle(dto);
 
 		//then
-		verify(articleService, times(1)).createArticle(any());
+		verify(articleService, times(1)).createArticle(any(), any());
 		resultActions
 				.andExpect(status().isCreated()) // 201
 				.andExpect(content().string(containsString("게시물이 작성되었습니다.")))
@@ -117,13 +126,13 @@ class ArticleControllerMockTest {
 				.content("내용")
 				.build();
 
-		when(articleService.createArticle(any())).thenThrow(DataIntegrityViolationException.class);
+		when(articleService.createArticle(any(), any())).thenThrow(DataIntegrityViolationException.class);
 
 		//when
 		final ResultActions resultActions = requestCreateArticle(dto);
 
 		//then
-		verify(articleService, times(1)).createArticle(any());
+		verify(articleService, times(1)).createArticle(any(), any());
 
 		resultActions
 				.andExpect(status().isBadRequest()) // 400
@@ -149,7 +158,7 @@ class ArticleControllerMockTest {
 		final ResultActions resultActions = requestCreateArticle(dto);
 
 		//then
-		verify(articleService, times(0)).createArticle(any());
+		verify(articleService, times(0)).createArticle(any(), any());
 
 		resultActions
 				.andExpect(status().isBadRequest()) // 400
@@ -217,31 +226,76 @@ class ArticleControllerMockTest {
 				.andExpect(jsonPath("errors").isEmpty());
 	}
 
+	@Test
+	@DisplayName("게시물 조회 요청/응답 - 304, If-None-Match 가 현재 ETag 와 같으면 게시물을 조회하지 않고 조회수만 증가")
+	void getArticle_304() throws Exception {
+		//given
+		final ArticleDto.Meta meta = ArticleDto.Meta.builder().id(1L).updateDate(LocalDateTime.of(2021, 11, 11, 11, 11)).build();
+		when(articleService.findArticleMeta(anyLong())).thenReturn(Optional.of(meta));
+
+		//when
+		final ResultActions resultActions = mockMvc.perform(get("/articles/{id}", 1L)
+						.header(HttpHeaders.IF_NONE_MATCH, meta.toWeakETag()))
+				.andDo(print());
+
+		//then
+		verify(articleService, never()).getArticle(anyLong());
+		verify(articleService).increaseHits(1L);
+
+		resultActions
+				.andExpect(status().isNotModified()) // 304
+				.andExpect(header().string(HttpHeaders.ETAG, meta.toWeakETag()))
+				.andExpect(content().string(""));
+	}
+
+	@Test
+	@DisplayName("전체 게시물 조회 요청/응답 - 304, If-None-Match 가 현재 ETag 와 같으면 목록을 조회하지 않음")
+	void getArticles_304() throws Exception {
+		//given
+		final ArticleDto.ListMeta listMeta = ArticleDto.ListMeta.builder().articleCount(2).maxId(2L).minId(1L).lastUpdateDate(LocalDateTime.of(2021, 11, 11, 11, 11)).build();
+		when(articleService.getArticlesMeta(any(), anyInt())).thenReturn(listMeta);
+
+		//when
+		final ResultActions resultActions = mockMvc.perform(get("/articles")
+						.header(HttpHeaders.IF_NONE_MATCH, listMeta.toETag()))
+				.andDo(print());
+
+		//then
+		verify(articleService, never()).getArticles(any(), anyInt());
+
+		resultActions
+				.andExpect(status().isNotModified()) // 304
+				.andExpect(content().string(""));
+	}
+
 	@Test
 	@DisplayName("전체 게시물 조회 요청/응답 - 200, 조회 성공 시")
 	void getArticles_success() throws Exception {
 		//given
-		final Article article1 = mock(Article.class);
-		doReturn(1L).when(article1).getId();
-		doReturn("제목 1").when(article1).getTitle();
-		doReturn("내용 1").when(article1).getContent();
-		doReturn(LocalDateTime.now()).when(article1).getRegDate();
-		doReturn(LocalDateTime.now()).when(article1).getUpdateDate();
-
-		final Article article2 = mock(Article.class);
-		doReturn(2L).when(article2).getId();
-		doReturn("제목 2").when(article2).getTitle();
-		doReturn("내용 2").when(article2).getContent();
-		doReturn(LocalDateTime.now()).when(article2).getRegDate();
-		doReturn(LocalDateTime.now()).when(article2).getUpdateDate();
-
-		when(articleService.getArticles()).thenReturn(List.of(article1, article2));
+		final ArticleDto.Summary article1 = ArticleDto.Summary.builder()
+				.id(1L)
+				.title("제목 1")
+				.excerpt("내용 1")
+				.regDate(LocalDateTime.now())
+				.updateDate(LocalDateTime.now())
+				.build();
+
+		final ArticleDto.Summary article2 = ArticleDto.Summary.builder()
+				.id(2L)
+				.title("제목 2")
+				.excerpt("내용 2")
+				.regDate(LocalDateTime.now())
+				.updateDate(LocalDateTime.now())
+				.build();
+
+		when(articleService.getArticles(any(), anyInt())).thenReturn(CursorPage.of(List.of(article1, article2), 20, ArticleDto.Summary::getId));
 
 		//when
 		final ResultActions resultActions = requestGetAllArticles();
 
 		//then
-		verify(articleService, times(1)).getArticles();
+		verify(articleService, times(1)).getArticles(any(), anyInt());
+		verify(articleService, never()).getArticlesMeta(any(), anyInt()); // 조건부 요청이 아니면 변경 여부 확인용 조회 없음
 
 		resultActions
 				.andExpect(status().isOk()) // 200
@@ -251,11 +305,11 @@ class ArticleControllerMockTest {
 				.andExpect(jsonPath("body").isArray())
 				.andExpect(jsonPath("body.length()").value(2))
 				.andExpect(jsonPath("body.[0].title").value(article1.getTitle()))
-				.andExpect(jsonPath("body.[0].content").value(article1.getContent()))
+				.andExpect(jsonPath("body.[0].excerpt").value(article1.getExcerpt()))
 				.andExpect(jsonPath("body.[0].regDate").exists())
 				.andExpect(jsonPath("body.[0].updateDate").exists())
 				.andExpect(jsonPath("body.[1].title").value(article2.getTitle()))
-				.andExpect(jsonPath("body.[1].content").value(article2.getContent()))
+				.andExpect(jsonPath("body.[1].excerpt").value(article2.getExcerpt()))
 				.andExpect(jsonPath("body.[1].regDate").exists())
 				.andExpect(jsonPath("body.[1].updateDate").exists());
 	}
@@ -264,7 +318,7 @@ class ArticleControllerMockTest {
 	@DisplayName("전체 게시물 조회 요청/응답 - 200, 게시물이 하나도 존재하지 않을 경우")
 	void getArticles_nothingAtAll() throws Exception {
 		//given
-		when(articleService.getArticles()).thenReturn(Collections.emptyList()); // 비어있는 리스트 반환
+		when(articleService.getArticles(any(), anyInt())).thenReturn(CursorPage.of(Collections.<ArticleDto.Summary>emptyList(), 20, ArticleDto.Summary::getId)); // 비어있는 리스트 반환
 
 		//when
 		final ResultActions resultActions = requestGetAllArticles();
@@ -295,13 +349,13 @@ class ArticleControllerMockTest {
 		when(article.getRegDate()).thenReturn(regDate);
 		when(article.getUpdateDate()).thenReturn(updateDate);
 
-		when(articleService.updateArticle(anyLong(), any())).thenReturn(article);
+		when(articleService.updateArticle(anyLong(), any(), any())).thenReturn(article);
 
 		//when
 		final ResultActions resultActions = requestUpdateArticle(saveDto);
 
 		//then
-		verify(articleService, times(1)).updateArticle(anyLong(), any());
+		verify(articleService, times(1)).updateArticle(anyLong(), any(), any());
 
 		resultActions
 				.andExpect(status().isOk()) // 200
@@ -318,7 +372,7 @@ class ArticleControllerMockTest {
 	@DisplayName("[참고 1] 게시물 업데이트 요청/응답 - 200, 수정 성공 시")
 	void updateArticle_success_간단하게_메서드동작_목킹() throws Exception {
 		//given
-		when(articleService.updateArticle(anyLong(), any())).thenAnswer(invocation -> { // articleService.updateArticle 메서드 호출 시
+		when(articleService.updateArticle(anyLong(), any(), any())).thenAnswer(invocation -> { // articleService.updateArticle 메서드 호출 시
 			final ArticleDto.Save argument = invocation.getArgument(1, ArticleDto.Save.class); // 두번째 아규먼트인 any() 자리
 
 			final Article article = mock(Article.class);
@@ -343,7 +397,7 @@ class ArticleControllerMockTest {
 		final ResultActions resultActions = requestUpdateArticle(saveDto);
 
 		//then
-		verify(articleService, times(1)).updateArticle(anyLong(), any());
+		verify(articleService, times(1)).updateArticle(anyLong(), any(), any());
 
 		resultActions
 				.andExpect(status().isOk()) // 200
@@ -370,7 +424,7 @@ class ArticleControllerMockTest {
 		when(article.getRegDate()).thenReturn(createdAt);
 		when(article.getUpdateDate()).thenReturn(createdAt);
 
-		when(articleService.updateArticle(anyLong(), any())).thenAnswer(invocation -> { // articleService.updateArticle 메서드 호출 시
+		when(articleService.updateArticle(anyLong(), any(), any())).thenAnswer(invocation -> { // articleService.updateArticle 메서드 호출 시
 			final ArticleDto.Save argument = invocation.getArgument(1, ArticleDto.Save.class); // 두번째 아규먼트인 any() 자리
 
 			LocalDateTime updatedAt = LocalDateTime.now();
@@ -393,7 +447,7 @@ class ArticleControllerMockTest {
 		final ResultActions resultActions = requestUpdateArticle(saveDto);
 
 		//then
-		verify(articleService, times(1)).updateArticle(anyLong(), any());
+		verify(articleService, times(1)).updateArticle(anyLong(), any(), any());
 
 		resultActions
 				.andExpect(status().isOk()) // 200
@@ -409,6 +463,73 @@ class ArticleControllerMockTest {
 		assertThat(article.getRegDate()).isNotEqualTo(article.getUpdateDate());
 	}
 
+	@Test
+	@DisplayName("게시물 업데이트 요청/응답 - 200, If-Match 의 버전으로 수정하고 수정된 게시물의 ETag 응답")
+	void updateArticle_ifMatch() throws Exception {
+		//given
+		final ArticleDto.Save saveDto = ArticleDto.Save.builder().title("수정된 제목").content("수정된 내용").build();
+		final LocalDateTime updateDate = LocalDateTime.of(2021, 11, 11, 11, 11);
+		final Article article = Article.builder().id(1L).title(saveDto.getTitle()).content(saveDto.getContent()).regDate(updateDate).updateDate(updateDate).version(4L).build();
+		when(articleService.updateArticle(anyLong(), any(), any())).thenReturn(article);
+
+		//when
+		final ResultActions resultActions = mockMvc.perform(postForm("/articles/1/edit", saveDto)
+						.header(HttpHeaders.IF_MATCH, "\"1-3\"")
+						.contentType(MediaType.APPLICATION_FORM_URLENCODED))
+				.andDo(print());
+
+		//then
+		verify(articleService, times(1)).updateArticle(eq(1L), any(), eq(3L));
+
+		resultActions
+				.andExpect(status().isOk()) // 200
+				.andExpect(header().string(HttpHeaders.ETAG, "\"1-4\""))
+				.andExpect(jsonPath("body.version").value(4));
+	}
+
+	@Test
+	@DisplayName("게시물 업데이트 요청/응답 - 200, 게시물 조회 응답의 약한 ETag 를 If-Match 로 보내도 같은 버전으로 수정")
+	void updateArticle_ifMatch_weak() throws Exception {
+		//given
+		final ArticleDto.Save saveDto = ArticleDto.Save.builder().title("수정된 제목").content("수정된 내용").build();
+		final LocalDateTime updateDate = LocalDateTime.of(2021, 11, 11, 11, 11);
+		final Article article = Article.builder().id(1L).title(saveDto.getTitle()).content(saveDto.getContent()).regDate(updateDate).updateDate(updateDate).version(4L).build();
+		when(articleService.updateArticle(anyLong(), any(), any())).thenReturn(article);
+
+		//when
+		final ResultActions resultActions = mockMvc.perform(postForm("/articles/1/edit", saveDto)
+						.header(HttpHeaders.IF_MATCH, "W/\"1-3\"")
+						.contentType(MediaType.APPLICATION_FORM_URLENCODED))
+				.andDo(print());
+
+		//then
+		verify(articleService, times(1)).updateArticle(eq(1L), any(), eq(3L));
+
+		resultActions
+				.andExpect(status().isOk()) // 200
+				.andExpect(header().string(HttpHeaders.ETAG, "\"1-4\""));
+	}
+
+	@Test
+	@DisplayName("게시물 업데이트 요청/응답 - 412, If-Match 가 이 게시물의 ETag 형식이 아니면 서비스를 호출하지 않음")
+	void updateArticle_ifMatch_invalid() throws Exception {
+		//given
+		final ArticleDto.Save saveDto = ArticleDto.Save.builder().title("수정된 제목").content("수정된 내용").build();
+
+		//when
+		final ResultActions resultActions = mockMvc.perform(postForm("/articles/1/edit", saveDto)
+						.header(HttpHeaders.IF_MATCH, "\"2-3\"") // 다른 게시물의 ETag
+						.contentType(MediaType.APPLICATION_FORM_URLENCODED))
+				.andDo(print());
+
+		//then
+		verify(articleService, never()).updateArticle(anyLong(), any(), any());
+
+		resultActions
+				.andExpect(status().isPreconditionFailed()) // 412
+				.andExpect(jsonPath("code").value(ErrorCode.ARTICLE_PRECONDITION_FAILED.getCode()));
+	}
+
 	@Test
 	@DisplayName("게시물 업데이트 요청/응답 - 400, 입력값이 잘못되어 유효성 검사 실패 시")
 	void updateArticle_validation_fail() throws Exception {
@@ -423,7 +544,7 @@ class ArticleControllerMockTest {
 		final ResultActions resultActions = requestUpdateArticle(dto);
 
 		//then
-		verify(articleService, times(0)).updateArticle(anyLong(), any()); // 서비스 메서드까지 가지 않음
+		verify(articleService, times(0)).updateArticle(anyLong(), any(), any()); // 서비스 메서드까지 가지 않음
 
 		resultActions
 				.andExpect(status().isBadRequest()) // 400
@@ -4,20 +4,29 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tena.sbcommunity2021.articles.domain.Article;
 import com.tena.sbcommunity2021.articles.dto.ArticleDto;
+import com.tena.sbcommunity2021.articles.dto.ArticleDtoMapperImpl;
 import com.tena.sbcommunity2021.articles.exception.ArticleNotFoundException;
+import com.tena.sbcommunity2021.articles.service.ArticleBulkService;
+import com.tena.sbcommunity2021.articles.service.ArticleSearchService;
 import com.tena.sbcommunity2021.articles.service.ArticleService;
+import com.tena.sbcommunity2021.global.accesslog.AccessLogger;
+import com.tena.sbcommunity2021.global.auth.Authenticator;
+import com.tena.sbcommunity2021.global.auth.AuthorizationTable;
+import com.tena.sbcommunity2021.global.commons.CursorPage;
 import com.tena.sbcommunity2021.global.commons.ResponseData;
+import com.tena.sbcommunity2021.global.commons.UserAccount;
 import com.tena.sbcommunity2021.global.errors.ErrorCode;
+import com.tena.sbcommunity2021.global.metrics.HandlerMetrics;
+import com.tena.sbcommunity2021.global.ratelimit.RateLimiter;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.NameTokenizers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -27,6 +36,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static io.florianlopes.spring.test.web.servlet.request.MockMvcRequestBuilderUtils.postForm;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,7 +44,6 @@ import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
-import static org.modelmapper.config.Configuration.AccessLevel.PRIVATE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -42,6 +51,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @Slf4j
 @WebMvcTest(ArticleController.class)
+@Import(AuthorizationTable.class) // 핸들러 메서드의 @LoginRequired, @OwnerOnly 확인
 class ArticleControllerMockTestV2 {
 
 	@Autowired
@@ -53,14 +63,31 @@ class ArticleControllerMockTestV2 {
 	@MockBean
 	private ArticleService articleService;
 
+	@MockBean
+	private ArticleSearchService articleSearchService;
+
+	@MockBean
+	private ArticleBulkService articleBulkService;
+
+	@MockBean
+	private Authenticator authenticator;
+
+	@MockBean
+	private AccessLogger accessLogger;
+
+	@MockBean
+	private HandlerMetrics handlerMetrics;
+
+	@MockBean
+	private RateLimiter rateLimiter; // 사용하지 않음 (isEnabled = false)
+
 	@SpyBean
-	private ModelMapper modelMapper;
+	private ArticleDtoMapperImpl articleDtoMapper;
 
 	@BeforeEach
 	void setUp() {
-		modelMapper.getConfiguration()
-				.setDestinationNameTokenizer(NameTokenizers.UNDERSCORE)
-				.setSourceNameTokenizer(NameTokenizers.UNDERSCORE);
+		when(authenticator.getUserAccount(any())).thenReturn(UserAccount.of(1L, 3)); // 로그인한 사용자
+		when(articleService.findArticleMeta(anyLong())).thenReturn(Optional.of(ArticleDto.Meta.builder().id(Long.MAX_VALUE).accountId(1L).build())); // 본인이 작성한 게시물
 	}
 
 	@Test
@@ -81,13 +108,13 @@ class ArticleControllerMockTestV2 {
 				.updateDate(createdAt)
 				.build();
 
-		when(articleService.createArticle(any())).thenReturn(article);
+		when(articleService.createArticle(any(), any())).thenReturn(article);
 
 		//when
 		final ResultActions resultActions = requestCreateArticle(dto);
 
 		//then
-		verify(articleService, times(1)).createArticle(any());
+		verify(articleService, times(1)).createArticle(any(), any());
 		resultActions
 				.andExpect(status().isCreated()) // 201
 				.andExpect(content().string(containsString("게시물이 작성되었습니다.")))
@@ -110,13 +137,13 @@ class ArticleControllerMockTestV2 {
 				.content("내용")
 				.build();
 
-		when(articleService.createArticle(any())).thenThrow(DataIntegrityViolationException.class);
+		when(articleService.createArticle(any(), any())).thenThrow(DataIntegrityViolationException.class);
 
 		//when
 		final ResultActions resultActions = requestCreateArticle(dto);
 
 		//then
-		verify(articleService, times(1)).createArticle(any());
+		verify(articleService, times(1)).createArticle(any(), any());
 
 		resultActions
 				.andExpect(status().isBadRequest()) // 400
@@ -142,7 +169,7 @@ class ArticleControllerMockTestV2 {
 		final ResultActions resultActions = requestCreateArticle(dto);
 
 		//then
-		verify(articleService, times(0)).createArticle(any());
+		verify(articleService, times(0)).createArticle(any(), any());
 
 		resultActions
 				.andExpect(status().isBadRequest()) // 400
@@ -240,30 +267,31 @@ class ArticleControllerMockTestV2 {
 	void getArticles_success() throws Exception {
 		//given
 		final LocalDateTime createdAt1 = LocalDateTime.of(2021, 11, 11, 11, 11);
-		final Article article1 = Article.builder()
+		final ArticleDto.Summary article1 = ArticleDto.Summary.builder()
 				.title("제목 1")
-				.content("내용 1")
+				.excerpt("내용 1")
 				.id(1L)
 				.regDate(createdAt1)
 				.updateDate(createdAt1)
 				.build();
 
 		final LocalDateTime createdAt2 = createdAt1.plusYears(1).plusMonths(1).plusDays(1).plusHours(1).plusMinutes(1).plusSeconds(1);
-		final Article article2 = Article.builder()
+		final ArticleDto.Summary article2 = ArticleDto.Summary.builder()
 				.title("제목 2")
-				.content("내용 2")
+				.excerpt("내용 2")
 				.id(2L)
 				.regDate(createdAt1)
 				.updateDate(createdAt1)
 				.build();
 
-		when(articleService.getArticles()).thenReturn(List.of(article1, article2));
+		when(articleService.getArticles(any(), anyInt())).thenReturn(CursorPage.of(List.of(article1, article2), 20, ArticleDto.Summary::getId));
 
 		//when
 		final ResultActions resultActions = requestGetAllArticles();
 
 		//then
-		verify(articleService, times(1)).getArticles();
+		verify(articleService, times(1)).getArticles(any(), anyInt());
+		verify(articleService, never()).getArticlesMeta(any(), anyInt()); // 조건부 요청이 아니면 변경 여부 확인용 조회 없음
 
 		resultActions
 				.andExpect(status().isOk()) // 200
@@ -273,11 +301,11 @@ class ArticleControllerMockTestV2 {
 				.andExpect(jsonPath("body").isArray())
 				.andExpect(jsonPath("body.length()").value(2))
 				.andExpect(jsonPath("body.[0].title").value(article1.getTitle()))
-				.andExpect(jsonPath("body.[0].content").value(article1.getContent()))
+				.andExpect(jsonPath("body.[0].excerpt").value(article1.getExcerpt()))
 				.andExpect(jsonPath("body.[0].regDate").exists())
 				.andExpect(jsonPath("body.[0].updateDate").exists())
 				.andExpect(jsonPath("body.[1].title").value(article2.getTitle()))
-				.andExpect(jsonPath("body.[1].content").value(article2.getContent()))
+				.andExpect(jsonPath("body.[1].excerpt").value(article2.getExcerpt()))
 				.andExpect(jsonPath("body.[1].regDate").exists())
 				.andExpect(jsonPath("body.[1].updateDate").exists());
 
@@ -289,7 +317,7 @@ class ArticleControllerMockTestV2 {
 				.andExpect(jsonPath("$.body.length()").value(2)) // article1, article2
 				.andExpect(jsonPath("$.body.[0]").exists()) // article1
 				.andExpect(jsonPath("$.body.[0]").isMap())
-				.andExpect(jsonPath("$.body.[0].length()").value(5)) // id, title, content, regDate, updateDate
+				.andExpect(jsonPath("$.body.[0].length()").value(6)) // id, title, excerpt, regDate, updateDate, accountId
 				.andExpect(jsonPath("$.body.[1]").exists()) // article2
 				.andExpect(jsonPath("$.body.[1]").isMap())
 				.andExpect(jsonPath("$.body.[2]").doesNotExist())
@@ -300,7 +328,7 @@ class ArticleControllerMockTestV2 {
 
 		// 2. Deserialize JSON String to Object
 		// final ResponseData deserialized = objectMapper.readValue(json, ResponseData.class);
-		final ResponseData<List<ArticleDto.Response>> deserialized = objectMapper.readValue(json, new TypeReference<>() {}); // 타입 안정성을 위한 Super Type Token 사용
+		final ResponseData<List<ArticleDto.Summary>> deserialized = objectMapper.readValue(json, new TypeReference<>() {}); // 타입 안정성을 위한 Super Type Token 사용
 
 		log.info("deserialized : {}", deserialized);
 	}
@@ -309,7 +337,7 @@ class ArticleControllerMockTestV2 {
 	@DisplayName("전체 게시물 조회 요청/응답 - 200, 게시물이 하나도 존재하지 않을 경우")
 	void getArticles_nothingAtAll() throws Exception {
 		//given
-		when(articleService.getArticles()).thenReturn(Collections.emptyList()); // 비어있는 리스트 반환
+		when(articleService.getArticles(any(), anyInt())).thenReturn(CursorPage.of(Collections.<ArticleDto.Summary>emptyList(), 20, ArticleDto.Summary::getId)); // 비어있는 리스트 반환
 
 		//when
 		final ResultActions resultActions = requestGetAllArticles();
@@ -342,7 +370,7 @@ class ArticleControllerMockTestV2 {
 				.updateDate(updatedAt)
 				.build();
 
-		when(articleService.updateArticle(anyLong(), any())).thenAnswer(invocation -> {
+		when(articleService.updateArticle(anyLong(), any(), any())).thenAnswer(invocation -> {
 			article.setTitle(saveDto.getTitle());
 			article.setContent(saveDto.getContent());
 			article.setUpdateDate(saveDto.getUpdateDate());
@@ -353,8 +381,8 @@ class ArticleControllerMockTestV2 {
 		final ResultActions resultActions = requestUpdateArticle(saveDto);
 
 		//then
-		verify(articleService, times(1)).updateArticle(anyLong(), any());
-		verify(modelMapper, times(1)).map(any(), any());
+		verify(articleService, times(1)).updateArticle(anyLong(), any(), any());
+		verify(articleDtoMapper, times(1)).toResponse(any());
 
 		resultActions
 				.andExpect(status().isOk()) // 200
@@ -382,7 +410,7 @@ class ArticleControllerMockTestV2 {
 		final ResultActions resultActions = requestUpdateArticle(dto);
 
 		//then
-		verify(articleService, times(0)).updateArticle(anyLong(), any()); // 서비스 메서드까지 가지 않음
+		verify(articleService, times(0)).updateArticle(anyLong(), any(), any()); // 서비스 메서드까지 가지 않음
 
 		resultActions
 				.andExpect(status().isBadRequest()) // 400
@@ -3,6 +3,8 @@ package com.tena.sbcommunity2021.articles.web;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.tena.sbcommunity2021.articles.domain.Article;
 import com.tena.sbcommunity2021.articles.dto.ArticleDto;
+import com.tena.sbcommunity2021.global.auth.Authenticator;
+import com.tena.sbcommunity2021.global.commons.UserAccount;
 import com.tena.sbcommunity2021.global.commons.ResponseData;
 import com.tena.sbcommunity2021.global.errors.ErrorCode;
 import com.tena.sbcommunity2021.test.IntegrationTest;
@@ -12,7 +14,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
@@ -32,9 +36,12 @@ public class ArticleControllerTest extends IntegrationTest {
 
 	@Autowired ArticleSetup articleSetup;
 
+	private final MockHttpSession session = new MockHttpSession(); // 작성, 수정, 삭제는 로그인한 작성자만 가능
+
 	@BeforeEach
 	void setUp() {
 		articleSetup.deleteAllArticles();
+		session.setAttribute(Authenticator.SESSION_ATTRIBUTE, UserAccount.of(ArticleSetup.ACCOUNT_ID, 3));
 	}
 
 	@Test
@@ -92,7 +99,23 @@ public class ArticleControllerTest extends IntegrationTest {
 				.andExpect(jsonPath("errors[0].value").value(dto.getTitle()))
 				.andExpect(jsonPath("errors[0].reason").isNotEmpty());
 	}
-	
+
+	@Test
+	@DisplayName("신규 게시물 작성 요청/응답 - 400, 제목이 최대 길이(title CHAR(100))를 넘는 경우 작성 실패")
+	void createArticle_titleTooLong() throws Exception {
+		//given
+		final ArticleDto.Save dto = ArticleDto.Save.builder().title("가".repeat(Article.TITLE_MAX_LENGTH + 1)).content("내용").build();
+
+		//when
+		final ResultActions resultActions = requestCreateArticle(dto);
+
+		//then
+		resultActions
+				.andExpect(status().isBadRequest()) // 400
+				.andExpect(jsonPath("code").value(ErrorCode.INVALID_INPUT_VALUE.getCode()))
+				.andExpect(jsonPath("errors[0].field").value("title"));
+	}
+
 
 	@Test
 	@DisplayName("특정 게시물 하나 조회 요청/응답 - 200, 정상적으로 조회")
@@ -170,12 +193,13 @@ public class ArticleControllerTest extends IntegrationTest {
 				.andExpect(jsonPath("$.body.length()").value(2))
 				.andExpect(jsonPath("$.body.[0].id").value(article2.getId()))
 				.andExpect(jsonPath("$.body.[0].title").value(article2.getTitle()))
-				.andExpect(jsonPath("$.body.[0].content").value(article2.getContent()))
+				.andExpect(jsonPath("$.body.[0].excerpt").value(article2.getContent())) // 본문이 짧으면 요약 = 본문
 				.andExpect(jsonPath("$.body.[0].regDate").exists())
 				.andExpect(jsonPath("$.body.[0].updateDate").exists())
 				.andExpect(jsonPath("$.body.[1].id").value(article.getId()))
 				.andExpect(jsonPath("$.body.[1].title").value(article.getTitle()))
-				.andExpect(jsonPath("$.body.[1].content").value(article.getContent()))
+				.andExpect(jsonPath("$.body.[1].excerpt").value(article.getContent()))
+				.andExpect(jsonPath("$.body.[1].content").doesNotExist()) // 목록에는 본문 전체가 포함되지 않음
 				.andExpect(jsonPath("$.body.[1].regDate").exists())
 				.andExpect(jsonPath("$.body.[1].updateDate").exists())
 				.andReturn();
@@ -185,7 +209,7 @@ public class ArticleControllerTest extends IntegrationTest {
 		final String json = mvcResult.getResponse().getContentAsString();
 		// 2단계. Jackson 라이브러리의 ObjectMapper 를 사용해 역직렬화
 		// final ResponseData deserialized = objectMapper.readValue(json, ResponseData.class);
-		final ResponseData<List<ArticleDto.Response>> deserialized = objectMapper.readValue(json, new TypeReference<>() {}); // 타입 안정성을 위한 Super Type Token 사용
+		final ResponseData<List<ArticleDto.Summary>> deserialized = objectMapper.readValue(json, new TypeReference<>() {}); // 타입 안정성을 위한 Super Type Token 사용
 		// 결과 확인
 		log.info("deserialized : {}", deserialized);
 	}
@@ -206,6 +230,86 @@ public class ArticleControllerTest extends IntegrationTest {
 				.andExpect(jsonPath("$.body.length()").value(0));
 	}
 
+	@Test
+	@DisplayName("특정 게시물 하나 조회 요청/응답 - 304, 응답받은 ETag, Last-Modified 로 재요청하면 Not Modified")
+	void getArticle_304() throws Exception {
+		//given
+		final Article article = articleSetup.createArticle();
+		final MvcResult first = requestGetArticle(article.getId())
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+				.andReturn();
+
+		//when
+		final ResultActions byETag = mockMvc.perform(get("/articles/{id}", article.getId())
+				.header(HttpHeaders.IF_NONE_MATCH, first.getResponse().getHeader(HttpHeaders.ETAG)));
+		final ResultActions byLastModified = mockMvc.perform(get("/articles/{id}", article.getId())
+				.header(HttpHeaders.IF_MODIFIED_SINCE, first.getResponse().getHeader(HttpHeaders.LAST_MODIFIED)));
+
+		//then
+		byETag.andExpect(status().isNotModified()).andExpect(content().string(""));
+		byLastModified.andExpect(status().isNotModified()).andExpect(content().string(""));
+	}
+
+	@Test
+	@DisplayName("전체 게시물 조회 요청/응답 - 304, 목록이 바뀌지 않았으면 Not Modified, 게시물이 추가되면 200")
+	void getArticles_304() throws Exception {
+		//given
+		articleSetup.createArticle();
+		final String eTag = requestGetAllArticles()
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		//when, then
+		mockMvc.perform(get("/articles").header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified());
+
+		articleSetup.createArticle(); // 목록 변경
+
+		mockMvc.perform(get("/articles").header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.body.length()").value(2));
+	}
+
+	@Test
+	@DisplayName("게시물 목록 페이지 조회 요청/응답 - 304, 다음 페이지가 있는 페이지도 목록 응답의 ETag 로 Not Modified, 다음 게시물이 삭제되면 200")
+	void getArticles_304_page() throws Exception {
+		//given
+		final Article older = articleSetup.createArticle();
+		articleSetup.createArticle();
+		final String eTag = mockMvc.perform(get("/articles").param("size", "1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.nextCursor").exists())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		//when, then
+		mockMvc.perform(get("/articles").param("size", "1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified());
+
+		requestDeleteArticle(older.getId()).andExpect(status().isOk()); // 다음 페이지가 없어짐
+
+		mockMvc.perform(get("/articles").param("size", "1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.nextCursor").doesNotExist());
+	}
+
+	@Test
+	@DisplayName("게시물 검색 요청/응답 - 200, 시작 위치가 int 범위를 넘는 페이지 번호는 빈 페이지")
+	void searchArticles_hugePage() throws Exception {
+		//given
+		articleSetup.createArticle();
+
+		//when, then
+		mockMvc.perform(get("/articles/search")
+						.param("q", "제목")
+						.param("page", String.valueOf(Integer.MAX_VALUE))
+						.param("size", "20"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.body.articles").isEmpty())
+				.andExpect(jsonPath("$.body.page").value(Integer.MAX_VALUE / 20));
+	}
+
 	@Test
 	@DisplayName("기존 게시물 업데이트 요청/응답 - 200, 정상적으로 수정")
 	void updateArticle_success() throws Exception {
@@ -234,14 +338,13 @@ public class ArticleControllerTest extends IntegrationTest {
 				.andExpect(jsonPath("body.updateDate", not(jsonPath("body.regDate")))) //업데이트 후 updateDate 수정
 				.andReturn();
 
-		assertThat(article.getRegDate()).isNotEqualTo(article.getUpdateDate());
-
 		// for increasing coverage
 		final String json = mvcResult.getResponse().getContentAsString();
 		final ResponseData<ArticleDto.Response> deserialized = objectMapper.readValue(json, new TypeReference<>() {});
 		final ArticleDto.Response body = deserialized.getBody();
 
-		assertThat(body.getUpdateDate()).isNotEqualTo(body.getRegDate());
+		assertThat(body.getRegDate()).isEqualTo(article.getRegDate());
+		assertThat(body.getUpdateDate()).isEqualTo(updatedAt).isNotEqualTo(body.getRegDate()); // 요청한 수정일시로 변경
 	}
 
 	@Test
@@ -314,14 +417,14 @@ public class ArticleControllerTest extends IntegrationTest {
 	}
 
 	private ResultActions requestCreateArticle(ArticleDto.Save dto) throws Exception {
-		return mockMvc.perform(postForm("/articles/new", dto)
+		return mockMvc.perform(postForm("/articles/new", dto).session(session)
 						.contentType(MediaType.APPLICATION_FORM_URLENCODED)
 						.accept(MediaType.APPLICATION_JSON_UTF8))
 				.andDo(print());
 	}
 
 	private ResultActions requestUpdateArticle(Long id, ArticleDto.Save dto) throws Exception {
-		return mockMvc.perform(post("/articles/{id}/edit", id)
+		return mockMvc.perform(post("/articles/{id}/edit", id).session(session)
 						.param("title", dto.getTitle())
 						.param("content", dto.getContent())
 						.param("updateDate", String.valueOf(dto.getUpdateDate()))
@@ -331,7 +434,7 @@ public class ArticleControllerTest extends IntegrationTest {
 	}
 
 	private ResultActions requestDeleteArticle(Long id) throws Exception {
-		return mockMvc.perform(get("/articles/{id}/delete", id)
+		return mockMvc.perform(get("/articles/{id}/delete", id).session(session)
 						.accept(MediaType.APPLICATION_JSON_UTF8))
 				.andDo(print());
 	}
@@ -0,0 +1,115 @@
+package com.tena.sbcommunity2021.articles.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.tena.sbcommunity2021.test.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpSession;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 게시물 요청별 실행 구문 수 확인 (구문 수가 늘어나면 실패)
+ * - 테스트 프로필은 캐시를 사용하지 않으므로, 캐시가 없을 때의 구문 수 기준
+ */
+public class ArticleStatementBudgetTest extends IntegrationTest {
+
+	private final MockHttpSession session = new MockHttpSession();
+
+	private long articleId;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		mockMvc.perform(post("/accounts/new").session(session)
+				.param("username", "budget")
+				.param("password", "password1234")
+				.param("name", "name")
+				.param("nickname", "nickname")
+				.param("mobileNumber", "010-0000-0000")
+				.param("email", "budget@test.com"))
+				.andExpect(status().isCreated());
+
+		mockMvc.perform(post("/login").session(session)
+				.param("username", "budget")
+				.param("password", "password1234"))
+				.andExpect(jsonPath("resultCode").value("S-1"));
+
+		final String json = mockMvc.perform(post("/articles/new").session(session)
+				.param("title", "제목")
+				.param("content", "내용"))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+
+		articleId = objectMapper.readTree(json).path("body").path("id").asLong();
+	}
+
+	@Test
+	@DisplayName("게시물 작성 - INSERT 1개 (생성된 번호는 INSERT 결과로 받음)")
+	void createArticle() throws Exception {
+		statementCounter.expectAtMost(1, () -> mockMvc.perform(post("/articles/new").session(session)
+				.param("title", "제목")
+				.param("content", "내용"))
+				.andExpect(status().isCreated()));
+	}
+
+	@Test
+	@DisplayName("게시물 조회 - 1개 (변경 여부 확인용 조회 없이 ETag, Last-Modified 응답)")
+	void getArticle() throws Exception {
+		final List<String> statements = statementCounter.record(() -> mockMvc.perform(get("/articles/{id}", articleId))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andExpect(header().exists(HttpHeaders.LAST_MODIFIED)));
+
+		assertThat(statements).containsExactly("ArticleRepository.findById");
+	}
+
+	@Test
+	@DisplayName("게시물 조건부 조회 - 변경되지 않았으면 변경 여부 확인용 조회 1개로 304 응답")
+	void getArticle_notModified() throws Exception {
+		final String eTag = mockMvc.perform(get("/articles/{id}", articleId))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		final List<String> statements = statementCounter.record(() -> mockMvc.perform(get("/articles/{id}", articleId)
+				.header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified()));
+
+		assertThat(statements).containsExactly("ArticleRepository.findMetaById");
+	}
+
+	@Test
+	@DisplayName("게시물 목록 - 목록 조회 1개 (조건부 요청이 아니면 변경 여부 확인용 조회 없음)")
+	void getArticles() throws Exception {
+		final List<String> statements = statementCounter.record(() -> mockMvc.perform(get("/articles"))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG)));
+
+		assertThat(statements).containsExactly("ArticleRepository.findAllSummaries");
+	}
+
+	@Test
+	@DisplayName("게시물 수정 - 작성자 확인 + UPDATE + 수정된 게시물 조회 3개 (캐시된 게시물이 있으면 2개)")
+	void updateArticle() throws Exception {
+		final JsonNode response = objectMapper.readTree(statementCounter.expectAtMost(3, () -> mockMvc.perform(post("/articles/{id}/edit", articleId).session(session)
+				.param("title", "수정된 제목")
+				.param("content", "수정된 내용"))
+				.andExpect(status().isOk()))
+				.andReturn().getResponse().getContentAsString());
+
+		assertThat(response.path("body").path("title").asText()).isEqualTo("수정된 제목");
+	}
+
+	@Test
+	@DisplayName("게시물 삭제 - 작성자 확인 + DELETE 2개")
+	void deleteArticle() throws Exception {
+		statementCounter.expectAtMost(2, () -> mockMvc.perform(get("/articles/{id}/delete", articleId).session(session))
+				.andExpect(status().isOk()));
+	}
+
+}
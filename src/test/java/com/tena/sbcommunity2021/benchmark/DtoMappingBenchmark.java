@@ -0,0 +1,112 @@
+package com.tena.sbcommunity2021.benchmark;
+
+import com.tena.sbcommunity2021.accounts.domain.Account;
+import com.tena.sbcommunity2021.accounts.dto.AccountDto;
+import com.tena.sbcommunity2021.accounts.dto.AccountDtoMapper;
+import com.tena.sbcommunity2021.accounts.dto.AccountDtoMapperImpl;
+import com.tena.sbcommunity2021.articles.domain.Article;
+import com.tena.sbcommunity2021.articles.dto.ArticleDto;
+import com.tena.sbcommunity2021.articles.dto.ArticleDtoMapper;
+import com.tena.sbcommunity2021.articles.dto.ArticleDtoMapperImpl;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.NameTokenizers;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.modelmapper.config.Configuration.AccessLevel.PRIVATE;
+
+/**
+ * DTO 맵핑 성능 비교 : ModelMapper(런타임 리플렉션) vs MapStruct(컴파일 시점 생성 코드)
+ * - 게시물/회원 -> 응답 DTO 한 건, 게시물 목록(20건) 응답 DTO 변환, 작성 요청 DTO -> 게시물
+ * - ModelMapper 는 이전에 AppConfig 에서 사용하던 설정과 동일하게 구성
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+	private static final int LIST_SIZE = 20; // 게시물 목록 기본 페이지 크기
+
+	private ModelMapper modelMapper;
+	private final ArticleDtoMapper articleDtoMapper = new ArticleDtoMapperImpl();
+	private final AccountDtoMapper accountDtoMapper = new AccountDtoMapperImpl();
+
+	private Article article;
+	private List<Article> articles;
+	private Account account;
+	private ArticleDto.Save saveDto;
+
+	@Setup
+	public void setUp() {
+		modelMapper = new ModelMapper();
+		modelMapper.getConfiguration()
+				.setDestinationNameTokenizer(NameTokenizers.UNDERSCORE)
+				.setSourceNameTokenizer(NameTokenizers.UNDERSCORE)
+				.setFieldMatchingEnabled(true).setFieldAccessLevel(PRIVATE);
+
+		final LocalDateTime now = LocalDateTime.now();
+		article = Article.builder().id(1L).title("제목").content("내용".repeat(100)).regDate(now).updateDate(now).accountId(1L).hits(10).version(1).build();
+		articles = IntStream.rangeClosed(1, LIST_SIZE)
+				.mapToObj(i -> article.toBuilder().id((long) i).build())
+				.collect(Collectors.toList());
+		account = Account.builder().id(1L).username("user1").password("password").authLevel(3).name("이름").nickname("별명")
+				.mobileNumber("01012345678").email("user1@test.com").regDate(now).updateDate(now).build();
+		saveDto = ArticleDto.Save.builder().title("제목").content("내용").updateDate(now).build();
+	}
+
+	@Benchmark
+	public ArticleDto.Response articleResponse_modelMapper() {
+		return modelMapper.map(article, ArticleDto.Response.class);
+	}
+
+	@Benchmark
+	public ArticleDto.Response articleResponse_generated() {
+		return articleDtoMapper.toResponse(article);
+	}
+
+	@Benchmark
+	public List<ArticleDto.Response> articleResponseList_modelMapper() {
+		return articles.stream().map(each -> modelMapper.map(each, ArticleDto.Response.class)).collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public List<ArticleDto.Response> articleResponseList_generated() {
+		return articles.stream().map(articleDtoMapper::toResponse).collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public AccountDto.Response accountResponse_modelMapper() {
+		return modelMapper.map(account, AccountDto.Response.class);
+	}
+
+	@Benchmark
+	public AccountDto.Response accountResponse_generated() {
+		return accountDtoMapper.toResponse(account);
+	}
+
+	@Benchmark
+	public Article saveToArticle_modelMapper() {
+		return modelMapper.map(saveDto, Article.class);
+	}
+
+	@Benchmark
+	public Article saveToArticle_generated() {
+		return articleDtoMapper.toArticle(saveDto);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(DtoMappingBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
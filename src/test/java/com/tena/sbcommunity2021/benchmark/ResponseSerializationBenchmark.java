@@ -0,0 +1,73 @@
+package com.tena.sbcommunity2021.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.tena.sbcommunity2021.articles.dto.ArticleDto;
+import com.tena.sbcommunity2021.global.commons.ResponseData;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * 게시물 목록 응답(ResponseData<List<ArticleDto.Response>>) JSON 직렬화 성능 측정
+ * - 목록 크기 : 기본 페이지(20), 최대로 요청하는 페이지(100), 스트리밍 없이 한 번에 응답하는 경우(1000)
+ * - ObjectMapper 는 Spring Boot 와 같은 방식(Jackson2ObjectMapperBuilder)으로 생성
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+	@Param({"20", "100", "1000"})
+	private int listSize;
+
+	private ObjectMapper objectMapper;
+	private ObjectWriter responseWriter;
+	private ResponseData<List<ArticleDto.Response>> responseData;
+
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+		final LocalDateTime now = LocalDateTime.of(2021, 12, 12, 12, 12, 12);
+		final List<ArticleDto.Response> articles = LongStream.rangeClosed(1, listSize)
+				.mapToObj(id -> ArticleDto.Response.builder()
+						.id(id)
+						.title("게시물 제목 " + id)
+						.content("게시물 내용 ".repeat(50))
+						.regDate(now)
+						.updateDate(now)
+						.accountId(1L)
+						.hits(id * 10)
+						.version(1L)
+						.build())
+				.collect(Collectors.toList());
+
+		responseData = ResponseData.of("S-1", "게시물 목록입니다.", articles, 1000L);
+		responseWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+				.constructParametricType(ResponseData.class, objectMapper.getTypeFactory().constructCollectionType(List.class, ArticleDto.Response.class)));
+	}
+
+	@Benchmark
+	public byte[] serialize() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(responseData);
+	}
+
+	/**
+	 * 응답 타입을 미리 지정한 ObjectWriter 사용 (타입 확인 및 직렬화기 조회 생략)
+	 */
+	@Benchmark
+	public byte[] serialize_typedWriter() throws JsonProcessingException {
+		return responseWriter.writeValueAsBytes(responseData);
+	}
+
+}
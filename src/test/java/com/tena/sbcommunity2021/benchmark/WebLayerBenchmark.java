@@ -0,0 +1,104 @@
+package com.tena.sbcommunity2021.benchmark;
+
+import com.tena.sbcommunity2021.articles.dto.ArticleDto;
+import com.tena.sbcommunity2021.global.commons.ResponseData;
+import com.tena.sbcommunity2021.global.commons.utils.URLHelper;
+import com.tena.sbcommunity2021.global.errors.ErrorCode;
+import com.tena.sbcommunity2021.global.errors.ErrorResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 웹 계층 공통 코드 성능 측정
+ * - URLHelper : 인터셉터의 경로 패턴 확인, Context Path 제거
+ * - ResponseData.of : 모든 응답의 공통 포맷 생성
+ * - ErrorResponse : 예외 처리 시 오류 응답 생성
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WebLayerBenchmark {
+
+	private static final String[] EDIT_PATTERNS = {"/**/new", "/**/edit", "/**/delete"};
+
+	private MockHttpServletRequest request;
+	private MockHttpServletRequest requestWithContextPath;
+	private List<ErrorResponse.FieldError> fieldErrors;
+	private BindingResult bindingResult;
+
+	@Setup
+	public void setUp() {
+		request = new MockHttpServletRequest("GET", "/articles/1/edit");
+
+		requestWithContextPath = new MockHttpServletRequest("GET", "/sbc2021/articles/1/edit");
+		requestWithContextPath.setContextPath("/sbc2021");
+
+		fieldErrors = List.of(
+				ErrorResponse.FieldError.of("title", "", "제목을 입력해주세요.").get(0),
+				ErrorResponse.FieldError.of("content", "", "내용을 입력해주세요.").get(0));
+
+		bindingResult = new BeanPropertyBindingResult(new ArticleDto.Save(), "saveDto");
+		bindingResult.rejectValue("title", "NotBlank", "제목을 입력해주세요.");
+		bindingResult.rejectValue("content", "NotBlank", "내용을 입력해주세요.");
+	}
+
+	@Benchmark
+	public boolean hasPathPattern_match() {
+		return URLHelper.hasPathPattern("/articles/1/edit", EDIT_PATTERNS);
+	}
+
+	@Benchmark
+	public boolean hasPathPattern_noMatch() {
+		return URLHelper.hasPathPattern("/articles/1", EDIT_PATTERNS);
+	}
+
+	@Benchmark
+	public boolean hasPathPattern_request() {
+		return URLHelper.hasPathPattern(request, EDIT_PATTERNS);
+	}
+
+	@Benchmark
+	public String getRequestUri() {
+		return URLHelper.getRequestUri(request);
+	}
+
+	@Benchmark
+	public String getRequestUri_contextPath() {
+		return URLHelper.getRequestUri(requestWithContextPath);
+	}
+
+	@Benchmark
+	public ResponseData<String> responseData_of() {
+		return ResponseData.of("S-1", "1번 게시물입니다.", "body");
+	}
+
+	@Benchmark
+	public ResponseData<String> responseData_ofCursor() {
+		return ResponseData.of("S-1", "게시물 목록입니다.", "body", 1000L);
+	}
+
+	@Benchmark
+	public ResponseEntity<ErrorResponse> errorResponse() {
+		return ErrorResponse.toResponseEntity(ErrorCode.ARTICLE_NOT_FOUND);
+	}
+
+	@Benchmark
+	public ResponseEntity<ErrorResponse> errorResponse_fieldErrors() {
+		return ErrorResponse.toResponseEntity(ErrorCode.INVALID_INPUT_VALUE, fieldErrors);
+	}
+
+	@Benchmark
+	public ResponseEntity<ErrorResponse> errorResponse_bindingResult() {
+		return ErrorResponse.toResponseEntity(ErrorCode.INVALID_INPUT_VALUE, bindingResult); // 유효성 검사 실패 (@Valid)
+	}
+
+}
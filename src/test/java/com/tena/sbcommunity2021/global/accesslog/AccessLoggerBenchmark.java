@@ -0,0 +1,59 @@
+package com.tena.sbcommunity2021.global.accesslog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 접근 로그 기록 시 요청 스레드 부담 측정 (CommonInterceptor.afterCompletion 에서 실행, 목표 : 1μs 미만)
+ * - 기록 스레드가 저널 파일에 쓰는 동안 4개 스레드가 동시에 기록
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class AccessLoggerBenchmark {
+
+	private AccessLogger accessLogger;
+
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+
+	@Setup
+	public void setUp() throws IOException {
+		accessLogger = new AccessLogger(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(accessLogger, "enabled", true);
+		ReflectionTestUtils.setField(accessLogger, "directory", Files.createTempDirectory("access-log").toString());
+		ReflectionTestUtils.setField(accessLogger, "fileSize", DataSize.ofMegabytes(64));
+		ReflectionTestUtils.setField(accessLogger, "maxFiles", 2);
+		ReflectionTestUtils.setField(accessLogger, "bufferSize", 8192);
+		ReflectionTestUtils.setField(accessLogger, "sampleRate", 1.0);
+		ReflectionTestUtils.setField(accessLogger, "maskedParameters", new String[]{"password"});
+		accessLogger.start();
+
+		request = new MockHttpServletRequest("GET", "/articles");
+		request.setQueryString("cursor=1000&size=20");
+		response = new MockHttpServletResponse();
+	}
+
+	@TearDown
+	public void tearDown() throws InterruptedException {
+		accessLogger.stop();
+	}
+
+	@Benchmark
+	public void record() {
+		accessLogger.record(request, response, null, null, 0L);
+	}
+
+}
@@ -0,0 +1,180 @@
+package com.tena.sbcommunity2021.global.accesslog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.method.HandlerMethod;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccessLoggerTest {
+
+	@TempDir
+	Path directory;
+
+	private AccessLogger accessLogger;
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		if (accessLogger != null) {
+			accessLogger.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("요청 정보를 저널 파일에 기록하고, 판독기로 같은 값을 읽음 (민감한 파라미터는 마스킹, 클라이언트 IP 는 프록시가 추가한 주소)")
+	void record_read() throws Exception {
+		//given
+		accessLogger = start(1.0, DataSize.ofMegabytes(1));
+
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+		request.setQueryString("cursor=100&userPassword=1234&size=20");
+		request.addHeader("X-FORWARDED-FOR", "1.2.3.4, 10.0.0.1"); // 클라이언트가 보낸 값(1.2.3.4)은 무시하고 프록시가 추가한 주소 기록
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+		final HandlerMethod handler = new HandlerMethod(new TestController(), TestController.class.getMethod("getArticle"));
+
+		//when
+		accessLogger.record(request, response, handler, null, System.nanoTime());
+		accessLogger.stop(); // 남은 로그를 모두 기록한 후 파일을 닫음
+
+		//then
+		final List<AccessLogEntry> entries = readAll();
+		assertThat(entries).hasSize(1);
+
+		final AccessLogEntry entry = entries.get(0);
+		assertThat(entry.getMethod()).isEqualTo("GET");
+		assertThat(entry.getUri()).isEqualTo("/articles");
+		assertThat(entry.getQuery()).isEqualTo("cursor=100&userPassword=*****&size=20");
+		assertThat(entry.getHandler()).isEqualTo("TestController.getArticle");
+		assertThat(entry.getClientIp()).isEqualTo("10.0.0.1");
+		assertThat(entry.getStatus()).isEqualTo(200);
+		assertThat(entry.getException()).isEmpty();
+		assertThat(entry.toJson()).contains("\"query\":\"cursor=100&userPassword=*****&size=20\"");
+	}
+
+	@Test
+	@DisplayName("기록 비율이 0 이면 정상 응답은 기록하지 않고, 오류 응답과 예외만 기록")
+	void record_sampling() throws Exception {
+		//given
+		accessLogger = start(0.0, DataSize.ofMegabytes(1));
+
+		final MockHttpServletResponse ok = new MockHttpServletResponse();
+		final MockHttpServletResponse notFound = new MockHttpServletResponse();
+		notFound.setStatus(404);
+
+		//when
+		for (int i = 0; i < 100; i++) {
+			accessLogger.record(new MockHttpServletRequest("GET", "/articles/" + i), ok, null, null, System.nanoTime());
+		}
+		accessLogger.record(new MockHttpServletRequest("GET", "/articles/999"), notFound, null, null, System.nanoTime());
+		accessLogger.record(new MockHttpServletRequest("POST", "/articles"), ok, null, new IllegalStateException(), System.nanoTime());
+		accessLogger.stop();
+
+		//then
+		final List<AccessLogEntry> entries = readAll();
+		assertThat(entries).extracting(AccessLogEntry::getUri).containsExactly("/articles/999", "/articles");
+		assertThat(entries.get(1).getException()).isEqualTo(IllegalStateException.class.getName());
+	}
+
+	@Test
+	@DisplayName("파일이 가득 차면 새 파일로 교체하고, 보관 파일 수를 넘으면 오래된 파일부터 삭제")
+	void rotate() throws Exception {
+		//given
+		final AccessLogJournal journal = new AccessLogJournal(directory.resolve("rotate"), DataSize.ofKilobytes(64).toBytes(), 2);
+		final String uri = "/articles/" + "x".repeat(1000);
+
+		//when
+		for (int i = 0; i < 200; i++) { // 약 200KB, 64KB 파일 4개 분량
+			journal.append(AccessLogEntry.builder().timestamp(i).status(200).method("GET").uri(uri).build());
+		}
+		journal.close();
+
+		//then
+		final List<Path> files = AccessLogJournal.listFiles(directory.resolve("rotate"));
+		assertThat(files).hasSize(2);
+
+		final List<AccessLogEntry> entries = new ArrayList<>();
+		for (Path file : files) {
+			AccessLogReader.read(file, entries::add);
+		}
+		assertThat(entries).isNotEmpty();
+		assertThat(entries.get(entries.size() - 1).getTimestamp()).isEqualTo(199); // 마지막 레코드는 남아 있음
+	}
+
+	@Test
+	@DisplayName("버퍼가 가득 차면 요청 스레드는 기다리지 않고 버림")
+	void ringBuffer_full() {
+		//given
+		final AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(3); // 4로 올림
+
+		//when
+		for (int i = 0; i < 4; i++) {
+			final long sequence = ringBuffer.claim();
+			ringBuffer.get(sequence).uri = "/" + i;
+			ringBuffer.publish(sequence);
+		}
+
+		//then
+		assertThat(ringBuffer.capacity()).isEqualTo(4);
+		assertThat(ringBuffer.claim()).isEqualTo(-1);
+		assertThat(ringBuffer.getDropped()).isEqualTo(1);
+
+		final List<String> uris = new ArrayList<>();
+		assertThat(ringBuffer.drain(record -> uris.add(record.uri))).isEqualTo(4);
+		assertThat(uris).containsExactly("/0", "/1", "/2", "/3");
+		assertThat(ringBuffer.claim()).isEqualTo(4); // 비운 후에는 다시 할당
+	}
+
+	@Test
+	@DisplayName("저널 파일이 아니면 판독 실패")
+	void read_notJournal() throws Exception {
+		final Path file = Files.write(directory.resolve("access-other.journal"), "not a journal file".getBytes());
+
+		assertThatThrownBy(() -> AccessLogReader.read(file, entry -> {
+		})).hasMessageContaining("접근 로그 저널 파일이 아닙니다");
+	}
+
+	private AccessLogger start(double sampleRate, DataSize fileSize) {
+		final AccessLogger accessLogger = new AccessLogger(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(accessLogger, "enabled", true);
+		ReflectionTestUtils.setField(accessLogger, "directory", directory.toString());
+		ReflectionTestUtils.setField(accessLogger, "fileSize", fileSize);
+		ReflectionTestUtils.setField(accessLogger, "maxFiles", 10);
+		ReflectionTestUtils.setField(accessLogger, "bufferSize", 8192);
+		ReflectionTestUtils.setField(accessLogger, "sampleRate", sampleRate);
+		ReflectionTestUtils.setField(accessLogger, "maskedParameters", new String[]{"password", "pass", "pwd"});
+		ReflectionTestUtils.setField(accessLogger, "trustedProxies", 1);
+		accessLogger.start();
+		return accessLogger;
+	}
+
+	private List<AccessLogEntry> readAll() throws Exception {
+		final List<AccessLogEntry> entries = new ArrayList<>();
+
+		for (Path file : AccessLogReader.resolve(directory)) {
+			AccessLogReader.read(file, entries::add);
+		}
+
+		return entries;
+	}
+
+	static class TestController {
+
+		public void getArticle() {
+		}
+
+	}
+
+}
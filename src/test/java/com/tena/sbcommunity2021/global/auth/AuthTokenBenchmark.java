@@ -0,0 +1,52 @@
+package com.tena.sbcommunity2021.global.auth;
+
+import com.tena.sbcommunity2021.global.commons.UserAccount;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 검증 성능 측정 (토큰 모드에서 인증이 필요한 요청마다 실행)
+ * - 서명 검증(HMAC-SHA256)과 Base64 디코딩만 하므로 DB, 세션 조회 없이 마이크로초 이하여야 함
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthTokenBenchmark {
+
+	private AuthTokenService authTokenService;
+	private String token;
+	private String invalidToken;
+
+	@Setup
+	public void setUp() {
+		authTokenService = new AuthTokenService();
+		ReflectionTestUtils.setField(authTokenService, "secret", "benchmark-secret-0123456789-0123456789");
+		ReflectionTestUtils.setField(authTokenService, "ttl", Duration.ofHours(1));
+		authTokenService.init();
+
+		token = authTokenService.issue(UserAccount.of(1L, 3));
+		invalidToken = token + "x";
+	}
+
+	@Benchmark
+	public UserAccount verify() {
+		return authTokenService.verify(token);
+	}
+
+	@Benchmark
+	public UserAccount verify_invalid() {
+		return authTokenService.verify(invalidToken);
+	}
+
+	@Benchmark
+	public String issue() {
+		return authTokenService.issue(UserAccount.of(1L, 3));
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.tena.sbcommunity2021.global.auth;
+
+import com.tena.sbcommunity2021.global.commons.UserAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthTokenServiceTest {
+
+	private static final String SECRET = "test-secret-0123456789-0123456789";
+
+	private AuthTokenService authTokenService;
+
+	@BeforeEach
+	void setUp() {
+		authTokenService = create(SECRET, Duration.ofHours(1));
+	}
+
+	@Test
+	@DisplayName("발급한 토큰을 검증하면 회원 번호, 권한레벨을 그대로 읽음")
+	void issue_verify() {
+		final String token = authTokenService.issue(UserAccount.of(10L, 7));
+
+		final UserAccount userAccount = authTokenService.verify(token);
+
+		assertThat(userAccount).isEqualTo(UserAccount.of(10L, 7));
+		assertThat(token).matches("[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+"); // URL, 헤더에 그대로 사용
+	}
+
+	@Test
+	@DisplayName("내용을 바꾸거나 다른 키로 서명한 토큰은 검증 실패")
+	void verify_tampered() {
+		final String token = authTokenService.issue(UserAccount.of(10L, 3));
+		final String otherKeyToken = create("other-secret-0123456789-0123456789", Duration.ofHours(1)).issue(UserAccount.of(10L, 3));
+		final String payload = token.substring(0, token.indexOf('.'));
+		final String tampered = payload.substring(0, 5) + (payload.charAt(5) == 'A' ? 'B' : 'A') + token.substring(6);
+
+		assertThat(authTokenService.verify(tampered)).isNull();
+		assertThat(authTokenService.verify(otherKeyToken)).isNull();
+		assertThat(authTokenService.verify("not-a-token")).isNull();
+		assertThat(authTokenService.verify("!!!.???")).isNull();
+		assertThat(authTokenService.verify(null)).isNull();
+	}
+
+	@Test
+	@DisplayName("만료된 토큰은 검증 실패")
+	void verify_expired() {
+		final AuthTokenService expired = create(SECRET, Duration.ofSeconds(-1));
+
+		assertThat(expired.verify(expired.issue(UserAccount.of(10L, 3)))).isNull();
+	}
+
+	@Test
+	@DisplayName("폐기한 토큰은 만료 전이라도 검증 실패, 다른 토큰은 그대로 유효")
+	void revoke() {
+		final String token = authTokenService.issue(UserAccount.of(10L, 3));
+		final String other = authTokenService.issue(UserAccount.of(20L, 3));
+
+		assertThat(authTokenService.revoke(token)).isTrue();
+
+		assertThat(authTokenService.verify(token)).isNull();
+		assertThat(authTokenService.verify(other)).isNotNull();
+		assertThat(authTokenService.revoke(token)).isFalse(); // 이미 폐기된 토큰
+		assertThat(authTokenService.getRevokedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("secret 이 32바이트보다 짧으면 구동 실패, 없으면 임의로 생성")
+	void secret() {
+		assertThatThrownBy(() -> create("short", Duration.ofHours(1))).isInstanceOf(IllegalStateException.class);
+
+		final AuthTokenService generated = create("", Duration.ofHours(1));
+		assertThat(generated.isGeneratedSecret()).isTrue();
+		assertThat(generated.verify(generated.issue(UserAccount.of(1L, 3)))).isNotNull();
+	}
+
+	private static AuthTokenService create(String secret, Duration ttl) {
+		final AuthTokenService authTokenService = new AuthTokenService();
+		ReflectionTestUtils.setField(authTokenService, "secret", secret);
+		ReflectionTestUtils.setField(authTokenService, "ttl", ttl);
+		authTokenService.init();
+		return authTokenService;
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.tena.sbcommunity2021.global.auth;
+
+import com.tena.sbcommunity2021.accounts.web.AccountController;
+import com.tena.sbcommunity2021.articles.web.ArticleController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class AuthorizationTableTest {
+
+	private final AuthorizationTable authorizationTable = new AuthorizationTable();
+
+	@Test
+	@DisplayName("@OwnerOnly - 로그인 및 작성자 확인, 게시물 번호는 경로 변수 id")
+	void ownerOnly() {
+		final AuthorizationRule rule = authorizationTable.getRule(handlerMethod(ArticleController.class, "updateArticle"));
+
+		assertThat(rule.isLoginRequired()).isTrue();
+		assertThat(rule.isOwnerOnly()).isTrue();
+		assertThat(rule.getOwnerIdVariable()).isEqualTo("id");
+		assertThat(authorizationTable.getRule(handlerMethod(ArticleController.class, "deleteArticle")).isOwnerOnly()).isTrue();
+	}
+
+	@Test
+	@DisplayName("@LoginRequired - 로그인 여부만 확인")
+	void loginRequired() {
+		assertThat(authorizationTable.getRule(handlerMethod(ArticleController.class, "createArticle"))).isSameAs(AuthorizationRule.LOGIN_REQUIRED);
+		assertThat(authorizationTable.getRule(handlerMethod(ArticleController.class, "createArticles"))).isSameAs(AuthorizationRule.LOGIN_REQUIRED);
+		assertThat(authorizationTable.getRule(handlerMethod(ArticleController.class, "deleteArticles"))).isSameAs(AuthorizationRule.LOGIN_REQUIRED);
+	}
+
+	@Test
+	@DisplayName("지정하지 않으면 누구나 요청 가능 (조회, 회원가입)")
+	void publicHandler() {
+		assertThat(authorizationTable.getRule(handlerMethod(ArticleController.class, "getArticle"))).isSameAs(AuthorizationRule.PUBLIC);
+		assertThat(authorizationTable.getRule(handlerMethod(ArticleController.class, "getArticles"))).isSameAs(AuthorizationRule.PUBLIC);
+		assertThat(authorizationTable.getRule(handlerMethod(AccountController.class, "createAccount"))).isSameAs(AuthorizationRule.PUBLIC);
+	}
+
+	@Test
+	@DisplayName("컨트롤러 클래스에 @LoginRequired 를 지정하면 모든 핸들러 메서드에 적용")
+	void loginRequiredOnType() {
+		assertThat(authorizationTable.getRule(handlerMethod(MyPageController.class, "getMyPage"))).isSameAs(AuthorizationRule.LOGIN_REQUIRED);
+	}
+
+	@Test
+	@DisplayName("같은 핸들러 메서드는 처음 한 번만 생성한 권한을 재사용")
+	void cached() {
+		final AuthorizationRule first = authorizationTable.getRule(handlerMethod(ArticleController.class, "updateArticle"));
+		final AuthorizationRule second = authorizationTable.getRule(handlerMethod(ArticleController.class, "updateArticle"));
+
+		assertThat(second).isSameAs(first);
+	}
+
+	private static HandlerMethod handlerMethod(Class<?> controller, String methodName) {
+		return Arrays.stream(controller.getMethods())
+				.filter(method -> method.getName().equals(methodName))
+				.findFirst()
+				.map(method -> new HandlerMethod(mock(controller), method))
+				.orElseThrow();
+	}
+
+	@LoginRequired
+	static class MyPageController {
+
+		public void getMyPage() {
+		}
+
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.tena.sbcommunity2021.global.auth;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 해싱 비용별 성능 측정 (로그인, 회원 가입마다 한 번씩 실행)
+ * - 비용이 1 늘면 시간이 2배, 서버에서 목표 시간(보통 100ms 내외)에 맞는 비용을 app.auth.password.cost 로 설정
+ * - 서버에 맞는 비용만 확인 : main 실행 (인자 : 목표 시간(ms), 기본 100ms), 측정 전체 : mvn -P benchmark test -Dbenchmark.include=PasswordHasherBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordHasherBenchmark {
+
+	@Param({"8", "10", "12"})
+	private int cost;
+
+	private String hash;
+
+	@Setup
+	public void setUp() {
+		hash = BCrypt.hashpw("password1234", BCrypt.gensalt(cost));
+	}
+
+	@Benchmark
+	public String hash() {
+		return BCrypt.hashpw("password1234", BCrypt.gensalt(cost));
+	}
+
+	@Benchmark
+	public boolean matches() {
+		return BCrypt.checkpw("password1234", hash);
+	}
+
+	public static void main(String[] args) {
+		final Duration target = Duration.ofMillis(args.length > 0 ? Long.parseLong(args[0]) : 100);
+		final int cost = PasswordHasher.calibrateCost(target);
+
+		System.out.printf("목표 시간 %dms 이내 최대 비용 : app.auth.password.cost=%d%n", target.toMillis(), cost);
+	}
+
+}
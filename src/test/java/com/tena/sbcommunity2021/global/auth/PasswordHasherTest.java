@@ -0,0 +1,117 @@
+package com.tena.sbcommunity2021.global.auth;
+
+import com.tena.sbcommunity2021.global.errors.ErrorCode;
+import com.tena.sbcommunity2021.global.errors.exception.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+	private PasswordHasher passwordHasher;
+
+	@AfterEach
+	void tearDown() {
+		passwordHasher.stop();
+	}
+
+	@Test
+	@DisplayName("해싱한 비밀번호는 같은 비밀번호만 일치, 해싱할 때마다 salt 가 달라짐")
+	void hash_matches() {
+		passwordHasher = create(4, 1, 1);
+
+		final String hash = passwordHasher.hash("password1234");
+
+		assertThat(hash).hasSize(60).startsWith("$2a$04$");
+		assertThat(passwordHasher.hash("password1234")).isNotEqualTo(hash);
+		assertThat(passwordHasher.matches("password1234", hash)).isTrue();
+		assertThat(passwordHasher.matches("password12345", hash)).isFalse();
+		assertThat(passwordHasher.needsRehash(hash)).isFalse();
+	}
+
+	@Test
+	@DisplayName("해싱 비용이 바뀌면 기존 해시는 그대로 확인되고, 다시 해싱 대상")
+	void needsRehash_costChanged() {
+		passwordHasher = create(4, 1, 1);
+		final String hash = passwordHasher.hash("password1234");
+		passwordHasher.stop();
+
+		passwordHasher = create(5, 1, 1);
+
+		assertThat(passwordHasher.matches("password1234", hash)).isTrue();
+		assertThat(passwordHasher.needsRehash(hash)).isTrue();
+		assertThat(passwordHasher.needsRehash(passwordHasher.hash("password1234"))).isFalse();
+	}
+
+	@Test
+	@DisplayName("평문으로 저장된 비밀번호(해싱 도입 전 가입)는 그대로 비교하고, 다시 해싱 대상")
+	void matches_legacyPlainText() {
+		passwordHasher = create(4, 1, 1);
+
+		assertThat(passwordHasher.matches("admin", "admin")).isTrue();
+		assertThat(passwordHasher.matches("admin1", "admin")).isFalse();
+		assertThat(passwordHasher.matches(null, "admin")).isFalse();
+		assertThat(passwordHasher.needsRehash("admin")).isTrue();
+	}
+
+	@Test
+	@DisplayName("해싱 대기열이 가득 차면 기다리지 않고 ACCOUNT_PASSWORD_HASHING_BUSY 예외")
+	void hash_busy() throws Exception {
+		passwordHasher = create(4, 1, 1);
+		final CountDownLatch release = new CountDownLatch(1);
+
+		try {
+			passwordHasher.getExecutor().execute(() -> await(release)); // 처리 중
+			passwordHasher.getExecutor().execute(() -> await(release)); // 대기 중
+
+			assertThatThrownBy(() -> passwordHasher.hash("password1234"))
+					.isInstanceOf(CustomException.class)
+					.extracting("errorCode").isEqualTo(ErrorCode.ACCOUNT_PASSWORD_HASHING_BUSY);
+		} finally {
+			release.countDown();
+		}
+
+		while (passwordHasher.getExecutor().getCompletedTaskCount() < 2) { // 막아둔 작업이 끝날 때까지
+			Thread.sleep(1);
+		}
+
+		assertThat(passwordHasher.matches("password1234", passwordHasher.hash("password1234"))).isTrue(); // 대기열이 비면 다시 처리
+	}
+
+	@Test
+	@DisplayName("목표 시간 안에 해싱할 수 있는 가장 큰 비용 (목표 시간이 길수록 비용이 큼)")
+	void calibrateCost() {
+		passwordHasher = create(4, 1, 1);
+
+		assertThat(PasswordHasher.calibrateCost(Duration.ZERO)).isEqualTo(PasswordHasher.MIN_COST);
+		assertThat(PasswordHasher.calibrateCost(Duration.ofMillis(20))).isGreaterThanOrEqualTo(PasswordHasher.MIN_COST).isLessThan(PasswordHasher.MAX_COST);
+	}
+
+	private static PasswordHasher create(int cost, int threads, int queueCapacity) {
+		final PasswordHasher passwordHasher = new PasswordHasher(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(passwordHasher, "cost", cost);
+		ReflectionTestUtils.setField(passwordHasher, "threads", threads);
+		ReflectionTestUtils.setField(passwordHasher, "queueCapacity", queueCapacity);
+		ReflectionTestUtils.setField(passwordHasher, "timeout", Duration.ofSeconds(5));
+		passwordHasher.start();
+
+		return passwordHasher;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.tena.sbcommunity2021.global.auth;
+
+import com.tena.sbcommunity2021.test.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 토큰 모드 인증 (app.auth.mode=token)
+ */
+@TestPropertySource(properties = {
+		"app.auth.mode=token",
+		"app.auth.token.secret=test-secret-0123456789-0123456789"
+})
+public class TokenAuthenticationTest extends IntegrationTest {
+
+	private String token;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		mockMvc.perform(post("/accounts/new")
+				.param("username", "token")
+				.param("password", "password1234")
+				.param("name", "name")
+				.param("nickname", "nickname")
+				.param("mobileNumber", "010-0000-0000")
+				.param("email", "token@test.com"))
+				.andExpect(status().isCreated());
+
+		final String json = mockMvc.perform(post("/login")
+				.param("username", "token")
+				.param("password", "password1234"))
+				.andExpect(jsonPath("resultCode").value("S-1"))
+				.andExpect(jsonPath("body.tokenType").value("Bearer"))
+				.andExpect(jsonPath("body.expiresIn").value(3600))
+				.andReturn().getResponse().getContentAsString();
+
+		token = objectMapper.readTree(json).path("body").path("accessToken").asText();
+	}
+
+	@Test
+	@DisplayName("토큰으로 인증 - 세션을 만들지 않고, 회원을 조회하지 않음")
+	void authenticated() throws Exception {
+		final MvcResult mvcResult = statementCounter.expectAtMost(1, () -> mockMvc.perform(post("/articles/new")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+				.param("title", "제목")
+				.param("content", "내용"))
+				.andExpect(status().isCreated())
+				.andReturn());
+
+		assertThat(mvcResult.getRequest().getSession(false)).isNull();
+	}
+
+	@Test
+	@DisplayName("토큰이 없거나 유효하지 않으면 401")
+	void unauthorized() throws Exception {
+		mockMvc.perform(post("/articles/new")
+				.param("title", "제목")
+				.param("content", "내용"))
+				.andExpect(status().isUnauthorized());
+
+		mockMvc.perform(post("/articles/new")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token + "x") // 서명이 다른 토큰
+				.param("title", "제목")
+				.param("content", "내용"))
+				.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	@DisplayName("로그아웃한 토큰은 만료 전이라도 401")
+	void logout() throws Exception {
+		mockMvc.perform(post("/logout")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+				.andExpect(jsonPath("resultCode").value("S-2"));
+
+		mockMvc.perform(post("/articles/new")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+				.param("title", "제목")
+				.param("content", "내용"))
+				.andExpect(status().isUnauthorized());
+	}
+
+}
@@ -0,0 +1,96 @@
+package com.tena.sbcommunity2021.global.commons;
+
+import com.tena.sbcommunity2021.articles.domain.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestIdentityMapTest {
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	@DisplayName("같은 요청 안에서는 한 번만 조회하고, 같은 객체를 리턴")
+	void computeIfAbsent_loadsOncePerRequest() {
+		//given
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		final AtomicInteger loadCount = new AtomicInteger();
+
+		//when
+		final Article first = RequestIdentityMap.computeIfAbsent(Article.class, 1L, () -> load(loadCount, 1L));
+		final Article second = RequestIdentityMap.computeIfAbsent(Article.class, 1L, () -> load(loadCount, 1L));
+		final Article other = RequestIdentityMap.computeIfAbsent(Article.class, 2L, () -> load(loadCount, 2L));
+
+		//then
+		assertThat(loadCount.get()).isEqualTo(2);
+		assertThat(second).isSameAs(first);
+		assertThat(other.getId()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("새 요청에서는 이전 요청에서 조회한 객체를 재사용하지 않음")
+	void computeIfAbsent_notSharedAcrossRequests() {
+		//given
+		final AtomicInteger loadCount = new AtomicInteger();
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		RequestIdentityMap.computeIfAbsent(Article.class, 1L, () -> load(loadCount, 1L));
+
+		//when
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		RequestIdentityMap.computeIfAbsent(Article.class, 1L, () -> load(loadCount, 1L));
+
+		//then
+		assertThat(loadCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("요청 밖에서는 보관하지 않고 매번 조회")
+	void computeIfAbsent_outsideRequest() {
+		//given
+		final AtomicInteger loadCount = new AtomicInteger();
+
+		//when
+		RequestIdentityMap.computeIfAbsent(Article.class, 1L, () -> load(loadCount, 1L));
+		RequestIdentityMap.computeIfAbsent(Article.class, 1L, () -> load(loadCount, 1L));
+
+		//then
+		assertThat(loadCount.get()).isEqualTo(2);
+		assertThat(RequestIdentityMap.get(Article.class, 1L)).isNull();
+	}
+
+	@Test
+	@DisplayName("put 으로 교체하거나 evict 로 제거할 수 있음, null 은 보관하지 않음")
+	void put_and_evict() {
+		//given
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		final Article updated = Article.builder().id(1L).title("수정된 제목").build();
+
+		//when, then
+		RequestIdentityMap.put(Article.class, 1L, updated);
+		assertThat(RequestIdentityMap.get(Article.class, 1L)).isSameAs(updated);
+
+		RequestIdentityMap.evict(Article.class, 1L);
+		assertThat(RequestIdentityMap.get(Article.class, 1L)).isNull();
+
+		RequestIdentityMap.computeIfAbsent(Article.class, 2L, () -> null);
+		assertThat(RequestIdentityMap.get(Article.class, 2L)).isNull();
+	}
+
+	private Article load(AtomicInteger loadCount, Long id) {
+		loadCount.incrementAndGet();
+
+		return Article.builder().id(id).title("제목").content("내용").build();
+	}
+
+}
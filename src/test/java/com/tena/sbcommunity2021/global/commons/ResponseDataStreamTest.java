@@ -0,0 +1,58 @@
+package com.tena.sbcommunity2021.global.commons;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tena.sbcommunity2021.articles.dto.ArticleDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResponseDataStreamTest {
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	@Test
+	@DisplayName("스트리밍 출력 결과는 ResponseData 직렬화 결과와 동일")
+	void write_sameAsResponseData() throws Exception {
+		//given
+		final LocalDateTime regDate = LocalDateTime.of(2021, 11, 11, 11, 11);
+		final List<ArticleDto.Response> articles = List.of(
+				ArticleDto.Response.builder().id(2L).title("제목 2").content("내용 2").regDate(regDate).updateDate(regDate).accountId(1L).build(),
+				ArticleDto.Response.builder().id(1L).title("제목 1").content("내용 1").regDate(regDate).updateDate(regDate).accountId(1L).build());
+
+		//when
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ResponseDataStream<ArticleDto.Response> stream = ResponseDataStream.open(objectMapper, out, "S-1", "게시물 목록입니다.")) {
+			articles.forEach(stream::write);
+			stream.complete();
+		}
+
+		//then
+		final String expected = objectMapper.writeValueAsString(ResponseData.of("S-1", "게시물 목록입니다.", articles));
+
+		assertThat(objectMapper.readTree(out.toString(StandardCharsets.UTF_8))).isEqualTo(objectMapper.readTree(expected)); // 필드 순서(success, fail)는 JVM 에 따라 다를 수 있으므로 JSON 트리로 비교
+	}
+
+	@Test
+	@DisplayName("complete() 를 호출하지 않고 닫으면 끝맺음이 없는 JSON 이 출력됨 (중간 실패를 클라이언트가 인지)")
+	void close_withoutComplete_leavesJsonUnterminated() throws Exception {
+		//given
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		//when
+		try (ResponseDataStream<String> stream = ResponseDataStream.open(objectMapper, out, "S-1", "목록")) {
+			stream.write("항목");
+		}
+
+		//then
+		assertThrows(Exception.class, () -> objectMapper.readTree(out.toByteArray()));
+	}
+
+}
@@ -0,0 +1,38 @@
+package com.tena.sbcommunity2021.global.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientIpHelperTest {
+
+	@Test
+	@DisplayName("클라이언트 IP - 기본값(trusted-proxies=0)은 X-FORWARDED-FOR 헤더를 무시하고 접속한 주소 사용")
+	void getClientIp_default() {
+		assertThat(ClientIpHelper.getClientIp(request("10.0.0.1", "1.2.3.4"), 0)).isEqualTo("10.0.0.1");
+		assertThat(ClientIpHelper.getClientIp(request("10.0.0.1", null), 0)).isEqualTo("10.0.0.1");
+	}
+
+	@Test
+	@DisplayName("클라이언트 IP - 프록시가 N 개면 X-FORWARDED-FOR 헤더의 오른쪽에서 N 번째 주소 (클라이언트가 보낸 값은 무시)")
+	void getClientIp_trustedProxies() {
+		assertThat(ClientIpHelper.getClientIp(request("10.0.0.2", "203.0.113.7, 10.0.0.1"), 2)).isEqualTo("203.0.113.7");
+		assertThat(ClientIpHelper.getClientIp(request("10.0.0.2", "1.1.1.1, 2.2.2.2, 203.0.113.7, 10.0.0.1"), 2)).isEqualTo("203.0.113.7"); // 위조한 주소는 왼쪽에 남음
+		assertThat(ClientIpHelper.getClientIp(request("10.0.0.2", "203.0.113.7"), 2)).isEqualTo("203.0.113.7"); // 프록시 수보다 적으면 가장 왼쪽 주소
+		assertThat(ClientIpHelper.getClientIp(request("10.0.0.2", null), 2)).isEqualTo("10.0.0.2");
+	}
+
+	private MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setRemoteAddr(remoteAddr);
+
+		if (forwardedFor != null) {
+			request.addHeader("X-FORWARDED-FOR", forwardedFor);
+		}
+
+		return request;
+	}
+
+}
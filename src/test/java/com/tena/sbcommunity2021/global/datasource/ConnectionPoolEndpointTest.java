@@ -0,0 +1,39 @@
+package com.tena.sbcommunity2021.global.datasource;
+
+import com.tena.sbcommunity2021.test.IntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ConnectionPoolEndpointTest extends IntegrationTest {
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Test
+	@DisplayName("애플리케이션 DataSource 는 커넥션 사용 추적 DataSource 로 감싸짐")
+	void dataSourceIsTracked() {
+		assertThat(dataSource).isInstanceOf(ConnectionTrackingDataSource.class);
+	}
+
+	@Test
+	@DisplayName("커넥션 풀 상태 조회 - 풀별 커넥션 수, 반납되지 않은 커넥션, 누수 의심 보고, 핸들러별 점유 시간")
+	void connections() throws Exception {
+		mockMvc.perform(get("/actuator/connections"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.pools[0].name").value(notNullValue()))
+				.andExpect(jsonPath("$.pools[0].active").value(notNullValue()))
+				.andExpect(jsonPath("$.open").isArray())
+				.andExpect(jsonPath("$.leaks").isArray())
+				.andExpect(jsonPath("$.holdTimes").isArray());
+	}
+
+}
@@ -0,0 +1,147 @@
+package com.tena.sbcommunity2021.global.datasource;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionUsageTrackerTest {
+
+	private static final String FIND_BY_ID = "com.tena.sbcommunity2021.articles.repository.ArticleRepository.findById";
+
+	private SimpleMeterRegistry meterRegistry;
+	private ConnectionUsageTracker tracker;
+	private ConnectionTrackingDataSource dataSource;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		tracker = new ConnectionUsageTracker(meterRegistry);
+		ReflectionTestUtils.setField(tracker, "leakThreshold", 10000L);
+
+		final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("connectionUsageTracker", tracker);
+		final ObjectProvider<ConnectionUsageTracker> provider = beanFactory.getBeanProvider(ConnectionUsageTracker.class);
+
+		dataSource = new ConnectionTrackingDataSource(new DriverManagerDataSource("jdbc:h2:mem:tracker;DB_CLOSE_DELAY=-1", "sa", ""), provider);
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	@DisplayName("커넥션 점유 시간 - 요청을 처리한 핸들러 메서드별로 기록")
+	void holdTimeByHandler() throws Exception {
+		//given
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, new HandlerMethod(new SampleController(), SampleController.class.getMethod("getArticle")));
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		//when
+		try (Connection connection = dataSource.getConnection()) {
+			assertThat(tracker.getOpenLeases()).hasSize(1);
+			connection.createStatement().execute("SELECT 1");
+		}
+
+		//then
+		final Timer timer = meterRegistry.get(ConnectionUsageTracker.HOLD_TIMER).tag("handler", "SampleController.getArticle").timer();
+		assertThat(timer.count()).isEqualTo(1);
+		assertThat(tracker.getOpenLeases()).isEmpty();
+		assertThat(tracker.getHoldTimes()).extracting(holdTime -> holdTime.get("handler")).containsExactly("SampleController.getArticle");
+	}
+
+	@Test
+	@DisplayName("커넥션 점유 시간 - 요청 밖에서 가져온 커넥션은 핸들러 none 으로 기록, 여러 번 반납해도 한 번만 기록")
+	void holdTimeWithoutRequest() throws Exception {
+		//when
+		final Connection connection = dataSource.getConnection();
+		connection.close();
+		connection.close();
+
+		//then
+		assertThat(meterRegistry.get(ConnectionUsageTracker.HOLD_TIMER).tag("handler", ConnectionUsageTracker.NO_HANDLER).timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("누수 의심 - 기준 시간 이상 반납되지 않은 커넥션을 마지막 실행 구문과 함께 한 번만 보고")
+	void detectLeaks() throws Exception {
+		//given
+		ReflectionTestUtils.setField(tracker, "leakThreshold", 0L);
+
+		try (Connection ignored = dataSource.getConnection()) {
+			tracker.beginStatement(FIND_BY_ID);
+			tracker.endStatement();
+
+			//when
+			tracker.detectLeaks();
+			tracker.detectLeaks();
+
+			//then
+			assertThat(tracker.getLeakReports()).hasSize(1);
+			assertThat(tracker.getLeakReports().get(0).getStatement()).isEqualTo(FIND_BY_ID);
+			assertThat(tracker.getOpenLeases().get(0).get("statement")).isEqualTo(FIND_BY_ID);
+		}
+	}
+
+	@Test
+	@DisplayName("누수 의심 - 트랜잭션 밖에서 구문 실행 중에 가져온 커넥션도 구문 이름 기록")
+	void statementBeforeAcquire() throws Exception {
+		//given
+		ReflectionTestUtils.setField(tracker, "leakThreshold", 0L);
+		tracker.beginStatement(FIND_BY_ID);
+
+		//when
+		try (Connection ignored = dataSource.getConnection()) {
+			tracker.detectLeaks();
+		} finally {
+			tracker.endStatement();
+		}
+
+		//then
+		assertThat(tracker.getLeakReports()).extracting(ConnectionUsageTracker.LeakReport::getStatement).containsExactly(FIND_BY_ID);
+	}
+
+	@Test
+	@DisplayName("다른 스레드에서 반납한 커넥션도 가져온 스레드의 사용 중 목록에서 제거 (이후 구문이 반납된 커넥션에 기록되지 않음)")
+	void releaseFromOtherThread() throws Exception {
+		//given
+		final ConnectionUsageTracker.Lease lease = tracker.acquire();
+
+		//when
+		final Thread closer = new Thread(() -> tracker.release(lease));
+		closer.start();
+		closer.join();
+
+		tracker.beginStatement(FIND_BY_ID);
+		tracker.endStatement();
+
+		//then
+		assertThat(lease.getLastStatement()).isNull();
+		assertThat(tracker.getOpenLeases()).isEmpty();
+	}
+
+	static class SampleController {
+
+		public void getArticle() {
+		}
+
+	}
+
+}
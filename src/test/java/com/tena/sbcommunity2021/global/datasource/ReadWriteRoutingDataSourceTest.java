@@ -0,0 +1,152 @@
+package com.tena.sbcommunity2021.global.datasource;
+
+import com.tena.sbcommunity2021.global.configs.DataSourceConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 라우팅 테스트
+ * - 주 DB, 복제 DB 대신 각각 별도의 H2 메모리 DB 를 사용하고, DB 마다 자신의 이름을 저장해 두어 어느 DB 로 연결되었는지 확인
+ */
+class ReadWriteRoutingDataSourceTest {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(
+					DataSourceAutoConfiguration.class,
+					DataSourceTransactionManagerAutoConfiguration.class,
+					TransactionAutoConfiguration.class))
+			.withUserConfiguration(DataSourceConfig.class)
+			.withPropertyValues(
+					"spring.datasource.url=" + h2Url("primary"),
+					"app.datasource.routing.enabled=true",
+					"app.datasource.routing.replicas[0].url=" + h2Url("replica1"),
+					"app.datasource.routing.replicas[1].url=" + h2Url("replica2"));
+
+	@Test
+	@DisplayName("읽기 전용 트랜잭션은 복제 DB 로, 쓰기 트랜잭션과 트랜잭션 밖의 SQL 은 주 DB 로 연결")
+	void routeByReadOnly() {
+		contextRunner.run(context -> {
+			setUpDatabaseNames(context);
+
+			assertThat(context.getBean(DataSource.class)).isInstanceOf(LazyConnectionDataSourceProxy.class);
+			assertThat(databaseName(context, false)).isEqualTo("primary");
+			assertThat(databaseName(context, true)).startsWith("replica");
+			assertThat(new JdbcTemplate(context.getBean(DataSource.class)).queryForObject("SELECT name FROM db_name", String.class))
+					.isEqualTo("primary"); // 트랜잭션 없음
+		});
+	}
+
+	@Test
+	@DisplayName("라운드 로빈 - 읽기 전용 트랜잭션은 복제 DB 에 번갈아 연결")
+	void roundRobin() {
+		contextRunner.run(context -> {
+			setUpDatabaseNames(context);
+
+			final List<String> names = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				names.add(databaseName(context, true));
+			}
+
+			assertThat(names).containsExactly("replica1", "replica2", "replica1", "replica2");
+		});
+	}
+
+	@Test
+	@DisplayName("사용 중인 커넥션 최소 - 다른 복제 DB 가 사용 중이면 사용 중이지 않은 복제 DB 로 연결")
+	void leastConnections() {
+		contextRunner.withPropertyValues("app.datasource.routing.load-balance=least-connections").run(context -> {
+			setUpDatabaseNames(context);
+
+			final TransactionTemplate readOnly = transactionTemplate(context, true);
+			final JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+
+			// 첫 번째 읽기 트랜잭션이 커넥션을 사용하는 동안 시작한 읽기 트랜잭션은 항상 다른 복제 DB 로 연결
+			for (int i = 0; i < 3; i++) {
+				final List<String> names = readOnly.execute(outer -> {
+					final String first = jdbcTemplate.queryForObject("SELECT name FROM db_name", String.class);
+					return List.of(first, nestedReadOnly(context));
+				});
+
+				assertThat(names.get(0)).isNotEqualTo(names.get(1));
+			}
+		});
+	}
+
+	@Test
+	@DisplayName("설정하지 않으면 기본 DataSource 하나만 사용")
+	void disabled() {
+		new ApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+				.withUserConfiguration(DataSourceConfig.class)
+				.withPropertyValues("spring.datasource.url=" + h2Url("single"))
+				.run(context -> {
+					assertThat(context).doesNotHaveBean(ReadWriteRoutingDataSource.class);
+					assertThat(context).hasSingleBean(DataSource.class);
+				});
+	}
+
+	/**
+	 * 다른 스레드에서 읽기 전용 트랜잭션 실행 (바깥 트랜잭션의 커넥션을 사용 중인 상태)
+	 */
+	private String nestedReadOnly(ApplicationContext context) {
+		final String[] name = new String[1];
+		final Thread thread = new Thread(() -> name[0] = databaseName(context, true));
+		thread.start();
+
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		return name[0];
+	}
+
+	private String databaseName(ApplicationContext context, boolean readOnly) {
+		final JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+
+		return transactionTemplate(context, readOnly).execute(status -> jdbcTemplate.queryForObject("SELECT name FROM db_name", String.class));
+	}
+
+	private TransactionTemplate transactionTemplate(ApplicationContext context, boolean readOnly) {
+		final TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		transactionTemplate.setReadOnly(readOnly);
+
+		return transactionTemplate;
+	}
+
+	/**
+	 * DB 마다 자신의 이름 저장 (실제 환경에서는 주 DB 의 데이터가 복제 DB 로 복제됨)
+	 */
+	private void setUpDatabaseNames(ApplicationContext context) {
+		final ReadWriteRoutingDataSource routingDataSource = context.getBean(ReadWriteRoutingDataSource.class);
+
+		routingDataSource.getResolvedDataSources().forEach((key, dataSource) -> {
+			final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+			jdbcTemplate.execute("CREATE TABLE db_name (name VARCHAR(20))");
+			jdbcTemplate.update("INSERT INTO db_name VALUES (?)", String.valueOf(key).replace("-", ""));
+		});
+	}
+
+	private static String h2Url(String name) {
+		return "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.tena.sbcommunity2021.global.datasource;
+
+import com.tena.sbcommunity2021.test.IntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class StatementStatisticsEndpointTest extends IntegrationTest {
+
+	@Test
+	@DisplayName("구문별 실행 통계 조회 - 실행된 구문의 건수, 실행 시간, 행 수와 최근 느린 구문 보고")
+	void statements() throws Exception {
+		//given
+		mockMvc.perform(get("/articles"))
+				.andExpect(status().isOk());
+
+		//when, then
+		mockMvc.perform(get("/actuator/statements"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.statements[*].statement").value(hasItem("ArticleRepository.findAllSummaries")))
+				.andExpect(jsonPath("$.statements[0].count").isNumber())
+				.andExpect(jsonPath("$.statements[0].totalMillis").isNumber())
+				.andExpect(jsonPath("$.statements[0].totalRows").isNumber())
+				.andExpect(jsonPath("$.slow").isArray());
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.tena.sbcommunity2021.global.datasource;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StatementTimingInterceptorTest {
+
+	private static final String FIND_BY_ID = "com.tena.sbcommunity2021.articles.repository.ArticleRepository.findById";
+	private static final String SAVE = "com.tena.sbcommunity2021.accounts.repository.AccountRepository.save";
+
+	private final Configuration configuration = new Configuration();
+
+	private SimpleMeterRegistry meterRegistry;
+	private StatementTimingInterceptor interceptor;
+	private Executor executor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		interceptor = new StatementTimingInterceptor(meterRegistry);
+		ReflectionTestUtils.setField(interceptor, "threshold", 500L);
+		ReflectionTestUtils.setField(interceptor, "maskedParameters", new String[]{"password", "pass", "pwd"});
+
+		executor = mock(Executor.class);
+	}
+
+	@Test
+	@DisplayName("구문별로 실행 시간과 조회된 행 수를 기록")
+	void intercept_query() throws Throwable {
+		//given
+		final MappedStatement findById = mappedStatement(FIND_BY_ID, SqlCommandType.SELECT, "SELECT * FROM article WHERE id = ?", "id");
+		when(executor.query(any(), any(), any(), any())).thenReturn(List.of("article1", "article2"));
+
+		//when
+		interceptor.intercept(query(findById, 1L));
+		interceptor.intercept(query(findById, 2L));
+
+		//then
+		final Timer timer = meterRegistry.get(StatementTimingInterceptor.STATEMENT_TIMER).tag("statement", "ArticleRepository.findById").timer();
+		assertThat(timer.count()).isEqualTo(2);
+		assertThat(meterRegistry.get(StatementTimingInterceptor.ROWS_SUMMARY).summary().totalAmount()).isEqualTo(4);
+		assertThat(interceptor.getSlowReports()).isEmpty();
+
+		final Map<String, Object> statistics = interceptor.getStatistics().get(0);
+		assertThat(statistics).containsEntry("statement", "ArticleRepository.findById").containsEntry("count", 2L).containsEntry("totalRows", 4L);
+	}
+
+	@Test
+	@DisplayName("실행 시간이 기준 이상이면 SQL, 바인딩된 파라미터와 함께 보고 (민감한 파라미터는 마스킹)")
+	void intercept_slowStatement() throws Throwable {
+		//given
+		ReflectionTestUtils.setField(interceptor, "threshold", 0L); // 모든 구문을 느린 구문으로 보고
+
+		final MappedStatement save = mappedStatement(SAVE, SqlCommandType.INSERT,
+				"INSERT INTO account\n    SET username = ?,\n    `password` = ?", "username", "password");
+		when(executor.update(any(), any())).thenReturn(1);
+
+		//when
+		interceptor.intercept(update(save, Map.of("username", "user1", "password", "password1234")));
+
+		//then
+		final StatementTimingInterceptor.SlowStatementReport report = interceptor.getSlowReports().get(0);
+		assertThat(report.getStatement()).isEqualTo("AccountRepository.save");
+		assertThat(report.getRows()).isEqualTo(1);
+		assertThat(report.getSql()).isEqualTo("INSERT INTO account SET username = ?, `password` = ?");
+		assertThat(report.getParameters()).isEqualTo("[username=user1, password=*****]");
+		assertThat(meterRegistry.get(StatementTimingInterceptor.ROWS_SUMMARY).tag("statement", "AccountRepository.save").summary().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("구문 ID 의 짧은 이름 (매퍼 이름.구문 이름)")
+	void shortName() {
+		assertThat(StatementTimingInterceptor.shortName(FIND_BY_ID)).isEqualTo("ArticleRepository.findById");
+		assertThat(StatementTimingInterceptor.shortName("findById")).isEqualTo("findById");
+	}
+
+	private MappedStatement mappedStatement(String id, SqlCommandType commandType, String sql, String... properties) {
+		final List<ParameterMapping> parameterMappings = new ArrayList<>();
+
+		for (String property : properties) {
+			parameterMappings.add(new ParameterMapping.Builder(configuration, property, Object.class).build());
+		}
+
+		return new MappedStatement.Builder(configuration, id, new StaticSqlSource(configuration, sql, parameterMappings), commandType).build();
+	}
+
+	private Invocation query(MappedStatement mappedStatement, Object parameter) throws NoSuchMethodException {
+		final Method query = Executor.class.getMethod("query", MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class);
+		return new Invocation(executor, query, new Object[]{mappedStatement, parameter, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER});
+	}
+
+	private Invocation update(MappedStatement mappedStatement, Object parameter) throws NoSuchMethodException {
+		final Method update = Executor.class.getMethod("update", MappedStatement.class, Object.class);
+		return new Invocation(executor, update, new Object[]{mappedStatement, parameter});
+	}
+
+}
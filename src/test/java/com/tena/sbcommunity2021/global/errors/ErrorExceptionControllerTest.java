@@ -1,9 +1,12 @@
 package com.tena.sbcommunity2021.global.errors;
 
+import com.tena.sbcommunity2021.global.auth.Authenticator;
+import com.tena.sbcommunity2021.global.commons.UserAccount;
 import com.tena.sbcommunity2021.test.IntegrationTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.ResultActions;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,9 +44,12 @@ class ErrorExceptionControllerTest extends IntegrationTest {
     public void handleBindException_test() throws Exception {
         //given
 
+        final MockHttpSession session = new MockHttpSession(); // 게시물 작성은 로그인 후 가능 (권한 확인 후 바인딩)
+        session.setAttribute(Authenticator.SESSION_ATTRIBUTE, UserAccount.of(1L, 3));
+
         //when
         final ResultActions resultActions =
-                mockMvc.perform(get("/articles/new")
+                mockMvc.perform(get("/articles/new").session(session)
                                 .param("asdfasdf", "asdfkansldflaksdfnl")
                                 .contentType(MediaType.APPLICATION_JSON_UTF8))
                         .andDo(print());
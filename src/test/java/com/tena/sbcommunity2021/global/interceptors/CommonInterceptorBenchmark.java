@@ -0,0 +1,64 @@
+package com.tena.sbcommunity2021.global.interceptors;
+
+import com.tena.sbcommunity2021.global.accesslog.AccessLogger;
+import com.tena.sbcommunity2021.global.metrics.HandlerMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 파라미터 로그 문자열 생성 성능 측정 (DEBUG 레벨일 때 preHandle 에서 실행)
+ * - 파라미터 없음, 일반적인 목록 조회(2개), 게시물 작성(3개, 비밀번호 포함 회원가입은 마스킹 처리)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommonInterceptorBenchmark {
+
+	private CommonInterceptor commonInterceptor;
+
+	private MockHttpServletRequest noParameters;
+	private MockHttpServletRequest listParameters;
+	private MockHttpServletRequest signupParameters;
+
+	@Setup
+	public void setUp() {
+		final AccessLogger accessLogger = new AccessLogger(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(accessLogger, "maskedParameters", new String[]{"password", "pass", "pwd"});
+		commonInterceptor = new CommonInterceptor(accessLogger, new HandlerMetrics(new SimpleMeterRegistry()));
+
+		noParameters = new MockHttpServletRequest("GET", "/articles/1");
+
+		listParameters = new MockHttpServletRequest("GET", "/articles");
+		listParameters.addParameter("cursor", "1000");
+		listParameters.addParameter("size", "20");
+
+		signupParameters = new MockHttpServletRequest("POST", "/accounts/new");
+		signupParameters.addParameter("username", "user1");
+		signupParameters.addParameter("password", "password1234");
+		signupParameters.addParameter("email", "user1@test.com");
+		signupParameters.addHeader("X-FORWARDED-FOR", "10.0.0.1");
+	}
+
+	@Benchmark
+	public String getParameters_none() {
+		return commonInterceptor.getParameters(noParameters);
+	}
+
+	@Benchmark
+	public String getParameters_list() {
+		return commonInterceptor.getParameters(listParameters);
+	}
+
+	@Benchmark
+	public String getParameters_signup() {
+		return commonInterceptor.getParameters(signupParameters);
+	}
+
+}
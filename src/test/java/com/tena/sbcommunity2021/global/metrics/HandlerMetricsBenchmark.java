@@ -0,0 +1,69 @@
+package com.tena.sbcommunity2021.global.metrics;
+
+import com.tena.sbcommunity2021.global.errors.ErrorCode;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 핸들러 메서드별 지표 기록 성능 측정 (CommonInterceptor.afterCompletion 에서 요청마다 실행)
+ * - application.yml 과 같은 분포 설정(히스토그램, 백분위수)의 Prometheus 레지스트리 사용
+ * - 할당량 확인 : -prof gc 로 실행하면 gc.alloc.rate.norm 이 0 에 가까워야 함
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HandlerMetricsBenchmark {
+
+	private HandlerMetrics handlerMetrics;
+	private HandlerMethod handler;
+
+	private MockHttpServletRequest ok;
+	private MockHttpServletRequest notFound;
+
+	@Setup
+	public void setUp() throws NoSuchMethodException {
+		final PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+		meterRegistry.config().meterFilter(new MeterFilter() {
+			@Override
+			public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+				return DistributionStatisticConfig.builder()
+						.percentilesHistogram(true)
+						.percentiles(0.5, 0.95, 0.99)
+						.minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+						.maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+						.build()
+						.merge(config);
+			}
+		});
+
+		handlerMetrics = new HandlerMetrics(meterRegistry);
+		handler = new HandlerMethod(this, HandlerMetricsBenchmark.class.getMethod("record"));
+
+		ok = new MockHttpServletRequest("GET", "/articles/1");
+		notFound = new MockHttpServletRequest("GET", "/articles/1");
+		notFound.setAttribute(HandlerMetrics.ERROR_CODE_ATTRIBUTE, ErrorCode.ARTICLE_NOT_FOUND);
+	}
+
+	@Benchmark
+	public void record() {
+		handlerMetrics.record(ok, handler, null, System.nanoTime() - 1_000_000);
+	}
+
+	@Benchmark
+	public void record_error() {
+		handlerMetrics.record(notFound, handler, null, System.nanoTime() - 1_000_000);
+	}
+
+}
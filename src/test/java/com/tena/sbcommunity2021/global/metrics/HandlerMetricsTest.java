@@ -0,0 +1,90 @@
+package com.tena.sbcommunity2021.global.metrics;
+
+import com.tena.sbcommunity2021.global.errors.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HandlerMetricsTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private HandlerMetrics handlerMetrics;
+	private HandlerMethod getArticle;
+
+	@BeforeEach
+	void setUp() throws NoSuchMethodException {
+		meterRegistry = new SimpleMeterRegistry();
+		handlerMetrics = new HandlerMetrics(meterRegistry);
+		getArticle = new HandlerMethod(new TestController(), TestController.class.getMethod("getArticle"));
+	}
+
+	@Test
+	@DisplayName("핸들러 메서드별로 처리 시간과 건수를 기록")
+	void record() {
+		//given
+		final long startNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5);
+
+		//when
+		handlerMetrics.record(new MockHttpServletRequest(), getArticle, null, startNanos);
+		handlerMetrics.record(new MockHttpServletRequest(), getArticle, null, startNanos);
+
+		//then
+		final Timer timer = meterRegistry.get(HandlerMetrics.REQUEST_TIMER).tag("handler", "TestController.getArticle").timer();
+		assertThat(timer.count()).isEqualTo(2);
+		assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(10);
+		assertThat(meterRegistry.find(HandlerMetrics.ERROR_COUNTER).counters()).isEmpty(); // 오류가 없으면 오류 지표도 없음
+	}
+
+	@Test
+	@DisplayName("오류 응답은 ErrorCode 별로, 처리되지 않은 예외는 INTERNAL_SERVER_ERROR 로 집계")
+	void record_errors() {
+		//given
+		final MockHttpServletRequest notFound = new MockHttpServletRequest();
+		notFound.setAttribute(HandlerMetrics.ERROR_CODE_ATTRIBUTE, ErrorCode.ARTICLE_NOT_FOUND);
+
+		//when
+		handlerMetrics.record(notFound, getArticle, null, System.nanoTime());
+		handlerMetrics.record(notFound, getArticle, null, System.nanoTime());
+		handlerMetrics.record(new MockHttpServletRequest(), getArticle, new IllegalStateException(), System.nanoTime());
+
+		//then
+		final Counter notFoundCounter = meterRegistry.get(HandlerMetrics.ERROR_COUNTER)
+				.tags("handler", "TestController.getArticle", "code", "ARTICLE_NOT_FOUND", "status", "404").counter();
+		final Counter internalErrorCounter = meterRegistry.get(HandlerMetrics.ERROR_COUNTER)
+				.tags("handler", "TestController.getArticle", "code", "INTERNAL_SERVER_ERROR", "status", "500").counter();
+
+		assertThat(notFoundCounter.count()).isEqualTo(2);
+		assertThat(internalErrorCounter.count()).isEqualTo(1);
+		assertThat(meterRegistry.get(HandlerMetrics.REQUEST_TIMER).timer().count()).isEqualTo(3); // 오류 응답도 처리 시간에 포함
+	}
+
+	@Test
+	@DisplayName("같은 핸들러 메서드는 같은 지표를 재사용, 핸들러 메서드가 아니면 기록하지 않음")
+	void getMeters() {
+		final HandlerMetrics.HandlerMeters meters = handlerMetrics.getMeters(getArticle);
+
+		assertThat(handlerMetrics.getMeters(getArticle)).isSameAs(meters);
+		assertThat(meters.errorCounter(ErrorCode.FORBIDDEN)).isSameAs(meters.errorCounter(ErrorCode.FORBIDDEN));
+
+		handlerMetrics.record(new MockHttpServletRequest(), new Object(), null, System.nanoTime());
+		assertThat(meters.getTimer().count()).isZero();
+		assertThat(meterRegistry.find(HandlerMetrics.REQUEST_TIMER).timers()).hasSize(1);
+	}
+
+	static class TestController {
+
+		public void getArticle() {
+		}
+
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.tena.sbcommunity2021.global.metrics;
+
+import com.tena.sbcommunity2021.test.IntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMetrics // 테스트에서는 기본적으로 지표 노출(Prometheus 등)이 비활성화됨
+class PrometheusEndpointTest extends IntegrationTest {
+
+	@Test
+	@DisplayName("핸들러 메서드별 처리 시간 분포와 ErrorCode 별 오류 건수를 Prometheus 형식으로 노출")
+	void prometheus() throws Exception {
+		//given
+		mockMvc.perform(get("/articles/{id}", Long.MAX_VALUE))
+				.andExpect(status().isNotFound());
+
+		//when, then
+		mockMvc.perform(get("/actuator/prometheus"))
+				.andExpect(status().isOk())
+				.andExpect(content().string(containsString("app_http_handler_requests_seconds_bucket{handler=\"ArticleController.getArticle\"")))
+				.andExpect(content().string(containsString("app_http_handler_requests_seconds{handler=\"ArticleController.getArticle\",quantile=\"0.99\",}")))
+				.andExpect(content().string(containsString("app_http_handler_errors_total{code=\"ARTICLE_NOT_FOUND\",handler=\"ArticleController.getArticle\",status=\"404\",}")));
+	}
+
+}
@@ -0,0 +1,112 @@
+package com.tena.sbcommunity2021.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitRuleTest {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	@DisplayName("limit 건까지는 한 번에 허용하고, 넘으면 다음 요청이 허용될 때까지의 시간을 리턴")
+	void tryAcquire_burst() {
+		final RateLimitRule rule = create(3, Duration.ofSeconds(3)); // 1초에 1건씩 채워짐
+		final long now = -5 * SECOND; // System.nanoTime 은 음수일 수 있음
+
+		assertThat(rule.tryAcquire("127.0.0.1", now)).isZero();
+		assertThat(rule.tryAcquire("127.0.0.1", now)).isZero();
+		assertThat(rule.tryAcquire("127.0.0.1", now)).isZero();
+
+		assertThat(rule.tryAcquire("127.0.0.1", now)).isEqualTo(SECOND);
+		assertThat(rule.tryAcquire("127.0.0.1", now + SECOND / 2)).isEqualTo(SECOND / 2); // 거절된 요청은 버킷을 바꾸지 않음
+	}
+
+	@Test
+	@DisplayName("시간이 지난 만큼 다시 허용 (period 가 지나면 limit 건 모두)")
+	void tryAcquire_refill() {
+		final RateLimitRule rule = create(3, Duration.ofSeconds(3));
+		final long now = 0;
+
+		for (int i = 0; i < 3; i++) {
+			rule.tryAcquire(1L, now);
+		}
+
+		assertThat(rule.tryAcquire(1L, now + SECOND)).isZero();
+		assertThat(rule.tryAcquire(1L, now + SECOND)).isPositive();
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(rule.tryAcquire(1L, now + 5 * SECOND)).isZero();
+		}
+		assertThat(rule.tryAcquire(1L, now + 5 * SECOND)).isPositive();
+	}
+
+	@Test
+	@DisplayName("여러 건을 한 번에 차감하고, 남은 건수보다 많으면 일부만 허용하지 않고 거절")
+	void tryAcquire_permits() {
+		final RateLimitRule rule = create(10, Duration.ofSeconds(10)); // 1초에 1건씩 채워짐
+		final long now = 0;
+
+		assertThat(rule.tryAcquire(1L, now, 8)).isZero();
+		assertThat(rule.tryAcquire(1L, now, 3)).isEqualTo(SECOND); // 2건 남음, 거절된 요청은 버킷을 바꾸지 않음
+		assertThat(rule.tryAcquire(1L, now, 2)).isZero();
+		assertThat(rule.tryAcquire(1L, now + 10 * SECOND, 11)).isPositive(); // limit 보다 많으면 항상 거절
+	}
+
+	@Test
+	@DisplayName("키마다 따로 제한 (IP 문자열, 회원 번호)")
+	void tryAcquire_keys() {
+		final RateLimitRule rule = create(1, Duration.ofMinutes(1));
+
+		assertThat(rule.tryAcquire("127.0.0.1", 0)).isZero();
+		assertThat(rule.tryAcquire("127.0.0.1", 0)).isPositive();
+		assertThat(rule.tryAcquire("127.0.0.2", 0)).isZero();
+		assertThat(rule.tryAcquire(1L, 0)).isZero();
+		assertThat(rule.getKeyCount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("여러 스레드가 동시에 요청해도 정확히 limit 건만 허용 (락 없이 CAS 로 갱신)")
+	void tryAcquire_concurrent() throws InterruptedException {
+		final RateLimitRule rule = create(100, Duration.ofHours(1));
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		final CountDownLatch start = new CountDownLatch(1);
+		final AtomicInteger allowed = new AtomicInteger();
+		final long now = System.nanoTime();
+
+		for (int i = 0; i < 8; i++) {
+			executor.execute(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+
+				for (int j = 0; j < 50; j++) {
+					if (rule.tryAcquire("127.0.0.1", now) == 0) {
+						allowed.incrementAndGet();
+					}
+				}
+			});
+		}
+
+		start.countDown();
+		executor.shutdown();
+
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(allowed).hasValue(100);
+	}
+
+	private static RateLimitRule create(int limit, Duration period) {
+		return new RateLimitRule("test", "/test", RateLimitProperties.KeyType.IP, RateLimitProperties.Unit.REQUEST, limit, period, 1000);
+	}
+
+}
@@ -0,0 +1,144 @@
+package com.tena.sbcommunity2021.global.ratelimit;
+
+import com.tena.sbcommunity2021.test.IntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Collections;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 요청 수 제한 (app.rate-limit)
+ * - 앞단 프록시가 하나인 환경 (trusted-proxies=1, X-FORWARDED-FOR 의 마지막 주소가 프록시가 추가한 클라이언트 IP)
+ * - 테스트마다 다른 IP 로 요청해서 서로 영향을 주지 않음
+ */
+@TestPropertySource(properties = {
+		"app.rate-limit.enabled=true",
+		"app.trusted-proxies=1",
+		"app.rate-limit.rules[0].name=login",
+		"app.rate-limit.rules[0].path=/login",
+		"app.rate-limit.rules[0].key=ip",
+		"app.rate-limit.rules[0].limit=2",
+		"app.rate-limit.rules[0].period=1h",
+		"app.rate-limit.rules[1].name=article-create",
+		"app.rate-limit.rules[1].path=/articles/new",
+		"app.rate-limit.rules[1].key=account",
+		"app.rate-limit.rules[1].limit=1",
+		"app.rate-limit.rules[1].period=1h",
+		"app.rate-limit.rules[2].name=article-bulk-create",
+		"app.rate-limit.rules[2].path=/articles/bulk/new",
+		"app.rate-limit.rules[2].key=account",
+		"app.rate-limit.rules[2].unit=item",
+		"app.rate-limit.rules[2].limit=3",
+		"app.rate-limit.rules[2].period=1h"
+})
+public class RateLimitTest extends IntegrationTest {
+
+	@Test
+	@DisplayName("IP 별 제한을 넘으면 429 응답 (ErrorResponse, Retry-After 헤더), 다른 IP 는 그대로 허용")
+	void login_ip() throws Exception {
+		login("10.0.0.1").andExpect(jsonPath("resultCode").value("F-1"));
+		login("10.0.0.1").andExpect(jsonPath("resultCode").value("F-1"));
+
+		login("10.0.0.1")
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "1800"))
+				.andExpect(jsonPath("code").value("C-429"))
+				.andExpect(jsonPath("status").value(429));
+
+		login("10.0.0.2").andExpect(jsonPath("resultCode").value("F-1"));
+		login("10.0.0.1, 10.0.0.2").andExpect(jsonPath("resultCode").value("F-1")); // 프록시가 추가한 마지막 주소
+	}
+
+	@Test
+	@DisplayName("클라이언트가 X-FORWARDED-FOR 헤더에 임의의 주소를 보내도 새 버킷을 받지 못함 (프록시가 추가한 주소로 제한)")
+	void login_spoofedForwardedFor() throws Exception {
+		login("10.0.3.1").andExpect(jsonPath("resultCode").value("F-1"));
+		login("10.0.3.1").andExpect(jsonPath("resultCode").value("F-1"));
+
+		for (int i = 0; i < 3; i++) {
+			login("192.168.100." + i + ", 10.0.3.1").andExpect(status().isTooManyRequests()); // 클라이언트가 보낸 값은 프록시가 추가한 주소의 왼쪽에 남음
+		}
+	}
+
+	@Test
+	@DisplayName("제한 경로가 아닌 요청은 제한하지 않음")
+	void notLimited() throws Exception {
+		for (int i = 0; i < 5; i++) {
+			mockMvc.perform(get("/articles").header("X-FORWARDED-FOR", "10.0.1.1"))
+					.andExpect(status().isOk());
+		}
+	}
+
+	@Test
+	@DisplayName("회원 번호별 제한은 IP 가 바뀌어도 같은 회원이면 적용")
+	void createArticle_account() throws Exception {
+		final MockHttpSession session = signupAndLogin("ratelimit", "10.0.2.1");
+
+		createArticle(session, "10.0.2.1").andExpect(status().isCreated());
+		createArticle(session, "10.0.2.2").andExpect(status().isTooManyRequests());
+	}
+
+	@Test
+	@DisplayName("일괄 작성은 요청 수가 아니라 항목 수만큼 차감 (한 건씩 작성하는 제한과 별도)")
+	void createArticles_items() throws Exception {
+		final MockHttpSession session = signupAndLogin("ratelimitbulk", "10.0.4.1");
+
+		createArticles(session, 2).andExpect(status().isOk());
+
+		createArticles(session, 2)
+				.andExpect(status().isTooManyRequests())
+				.andExpect(jsonPath("code").value("C-429"));
+
+		createArticles(session, 1).andExpect(status().isOk()); // 남은 1건
+	}
+
+	private MockHttpSession signupAndLogin(String username, String forwardedFor) throws Exception {
+		final MockHttpSession session = new MockHttpSession();
+
+		mockMvc.perform(post("/accounts/new")
+				.param("username", username)
+				.param("password", "password1234")
+				.param("name", "name")
+				.param("nickname", "nickname")
+				.param("mobileNumber", "010-0000-0000")
+				.param("email", username + "@test.com"))
+				.andExpect(status().isCreated());
+
+		mockMvc.perform(post("/login").session(session).header("X-FORWARDED-FOR", forwardedFor)
+				.param("username", username)
+				.param("password", "password1234"))
+				.andExpect(jsonPath("resultCode").value("S-1"));
+
+		return session;
+	}
+
+	private ResultActions login(String forwardedFor) throws Exception {
+		return mockMvc.perform(post("/login").header("X-FORWARDED-FOR", forwardedFor)
+				.param("username", "unknown")
+				.param("password", "password1234"));
+	}
+
+	private ResultActions createArticles(MockHttpSession session, int count) throws Exception {
+		final String item = "{\"title\":\"제목\",\"content\":\"내용\"}";
+
+		return mockMvc.perform(post("/articles/bulk/new").session(session)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("[" + String.join(",", Collections.nCopies(count, item)) + "]"));
+	}
+
+	private ResultActions createArticle(MockHttpSession session, String forwardedFor) throws Exception {
+		return mockMvc.perform(post("/articles/new").session(session).header("X-FORWARDED-FOR", forwardedFor)
+				.param("title", "제목")
+				.param("content", "내용"));
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.tena.sbcommunity2021.global.ratelimit;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 수 제한 확인 성능 측정 (제한 경로의 요청마다 실행)
+ * - 같은 키에 여러 스레드가 몰리는 경우(CAS 경합)와 키가 많은 경우(캐시 조회) 모두 1마이크로초 내외여야 함 (DB 조회 한 번보다 훨씬 작음)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+	private static final int KEY_COUNT = 10_000;
+
+	private RateLimitRule rule;
+	private String[] keys;
+
+	@Setup
+	public void setUp() {
+		rule = new RateLimitRule("benchmark", "/login", RateLimitProperties.KeyType.IP, RateLimitProperties.Unit.REQUEST, 1_000_000, Duration.ofSeconds(1), 100_000);
+		keys = new String[KEY_COUNT];
+
+		for (int i = 0; i < KEY_COUNT; i++) {
+			keys[i] = "10.0." + (i / 256) + "." + (i % 256);
+		}
+	}
+
+	@Benchmark
+	public long tryAcquire_sameKey() {
+		return rule.tryAcquire(keys[0], System.nanoTime());
+	}
+
+	@Benchmark
+	public long tryAcquire_manyKeys() {
+		return rule.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)], System.nanoTime());
+	}
+
+}
@@ -0,0 +1,172 @@
+package com.tena.sbcommunity2021.global.session;
+
+import com.tena.sbcommunity2021.global.auth.Authenticator;
+import com.tena.sbcommunity2021.global.commons.UserAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcSessionRepositoryTest {
+
+	@Mock
+	private SessionRecordRepository sessionRecordRepository;
+
+	private JdbcSessionRepository sessionRepository;
+
+	@BeforeEach
+	void setUp() {
+		sessionRepository = new JdbcSessionRepository(sessionRecordRepository, Duration.ofMinutes(30),
+				Duration.ofSeconds(60), Duration.ofSeconds(10), 100, 2);
+	}
+
+	@Test
+	@DisplayName("로그인한 사용자는 회원 번호, 권한레벨 컬럼으로 저장하고, 다른 속성이 없으면 직렬화하지 않음")
+	void save_principal() {
+		//given
+		final JdbcSessionRepository.JdbcSession session = sessionRepository.createSession();
+		session.setAttribute(Authenticator.SESSION_ATTRIBUTE, UserAccount.of(10L, 7));
+
+		//when
+		sessionRepository.save(session);
+
+		//then
+		final ArgumentCaptor<SessionRecord> captor = ArgumentCaptor.forClass(SessionRecord.class);
+		verify(sessionRecordRepository).save(captor.capture());
+
+		final SessionRecord record = captor.getValue();
+		assertThat(record.getAccountId()).isEqualTo(10L);
+		assertThat(record.getAuthLevel()).isEqualTo(7);
+		assertThat(record.getAttributes()).isNull();
+		assertThat(record.getExpiryTime()).isEqualTo(record.getLastAccessTime() + Duration.ofMinutes(30).toMillis());
+	}
+
+	@Test
+	@DisplayName("저장한 세션은 DB 를 다시 조회하지 않고, 바뀐 내용이 없으면 저장하지 않음")
+	void findById_cached_noChange() {
+		//given
+		final JdbcSessionRepository.JdbcSession session = sessionRepository.createSession();
+		session.setAttribute(Authenticator.SESSION_ATTRIBUTE, UserAccount.of(10L, 3));
+		session.setAttribute("locale", "ko");
+		sessionRepository.save(session);
+
+		//when
+		final JdbcSessionRepository.JdbcSession found = sessionRepository.findById(session.getId());
+		found.setLastAccessedTime(found.getLastAccessedTime().plusSeconds(1)); // touch-interval 이내
+		sessionRepository.save(found);
+
+		//then
+		assertThat(found.<UserAccount>getAttribute(Authenticator.SESSION_ATTRIBUTE)).isEqualTo(UserAccount.of(10L, 3));
+		assertThat(found.<String>getAttribute("locale")).isEqualTo("ko");
+		verify(sessionRecordRepository, never()).findById(any());
+		verify(sessionRecordRepository, never()).update(any(), any());
+		verify(sessionRecordRepository, never()).updateLastAccessTime(any(), anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("touch-interval 이 지나면 접근일시만 갱신, 속성이 바뀌면 전체 수정")
+	void save_touch_changed() {
+		//given
+		final JdbcSessionRepository.JdbcSession session = sessionRepository.createSession();
+		sessionRepository.save(session);
+		when(sessionRecordRepository.updateLastAccessTime(any(), anyLong(), anyLong())).thenReturn(1);
+		when(sessionRecordRepository.update(any(), any())).thenReturn(1);
+
+		//when
+		final JdbcSessionRepository.JdbcSession touched = sessionRepository.findById(session.getId());
+		touched.setLastAccessedTime(touched.getLastAccessedTime().plusSeconds(61));
+		sessionRepository.save(touched);
+
+		final JdbcSessionRepository.JdbcSession changed = sessionRepository.findById(session.getId());
+		final String originalId = changed.getId();
+		changed.setAttribute(Authenticator.SESSION_ATTRIBUTE, UserAccount.of(10L, 3));
+		changed.changeSessionId(); // 로그인 시 세션 ID 변경
+		sessionRepository.save(changed);
+
+		//then
+		verify(sessionRecordRepository).updateLastAccessTime(eq(session.getId()), anyLong(), anyLong());
+		verify(sessionRecordRepository).update(eq(originalId), argThat(record -> record.getSessionId().equals(changed.getId()) && record.getAccountId() == 10L));
+	}
+
+	@Test
+	@DisplayName("다른 서버에서 삭제된 세션 - 수정된 행이 없으면 보관한 세션을 제거하고, 다시 조회하면 DB 를 확인해 없는 세션으로 처리")
+	void save_deletedByOtherServer() {
+		//given
+		final JdbcSessionRepository.JdbcSession session = sessionRepository.createSession();
+		session.setAttribute(Authenticator.SESSION_ATTRIBUTE, UserAccount.of(10L, 3));
+		sessionRepository.save(session);
+		when(sessionRecordRepository.updateLastAccessTime(any(), anyLong(), anyLong())).thenReturn(0); // 다른 서버에서 로그아웃
+		when(sessionRecordRepository.update(any(), any())).thenReturn(0);
+
+		//when
+		final JdbcSessionRepository.JdbcSession touched = sessionRepository.findById(session.getId());
+		touched.setLastAccessedTime(touched.getLastAccessedTime().plusSeconds(61));
+		sessionRepository.save(touched);
+
+		final JdbcSessionRepository.JdbcSession changed = sessionRepository.findById(session.getId());
+
+		//then
+		assertThat(changed).isNull();
+		verify(sessionRecordRepository).findById(session.getId());
+
+		// 속성이 바뀐 경우도 다시 저장하지 않음
+		touched.setAttribute("locale", "ko");
+		sessionRepository.save(touched);
+		verify(sessionRecordRepository).update(eq(session.getId()), any());
+		verify(sessionRecordRepository, times(1)).save(any()); // 처음 저장할 때만
+		assertThat(sessionRepository.findById(session.getId())).isNull();
+	}
+
+	@Test
+	@DisplayName("만료된 세션은 조회되지 않고 삭제")
+	void findById_expired() {
+		//given
+		final long now = System.currentTimeMillis();
+		final SessionRecord expired = SessionRecord.builder()
+				.sessionId("expired")
+				.creationTime(now - 7200_000)
+				.lastAccessTime(now - 3600_000)
+				.maxInactiveInterval(1800)
+				.expiryTime(now - 1800_000)
+				.build();
+		when(sessionRecordRepository.findById("expired")).thenReturn(Optional.of(expired));
+
+		//when
+		final JdbcSessionRepository.JdbcSession found = sessionRepository.findById("expired");
+
+		//then
+		assertThat(found).isNull();
+		verify(sessionRecordRepository).deleteById("expired");
+	}
+
+	@Test
+	@DisplayName("만료된 세션 정리 - 삭제된 수가 batch 크기보다 작을 때까지 나눠서 삭제")
+	void deleteExpiredSessions() {
+		when(sessionRecordRepository.deleteExpired(anyLong(), eq(2))).thenReturn(2, 2, 1);
+
+		assertThat(sessionRepository.deleteExpiredSessions()).isEqualTo(5);
+		verify(sessionRecordRepository, times(3)).deleteExpired(anyLong(), eq(2));
+	}
+
+	@Test
+	@DisplayName("새 세션의 기본 최대 비활성 시간은 설정값 (server.servlet.session.timeout)")
+	void createSession() {
+		final JdbcSessionRepository.JdbcSession session = sessionRepository.createSession();
+
+		assertThat(session.getMaxInactiveInterval()).isEqualTo(Duration.ofMinutes(30));
+		assertThat(session.getCreationTime()).isBeforeOrEqualTo(Instant.now());
+	}
+
+}
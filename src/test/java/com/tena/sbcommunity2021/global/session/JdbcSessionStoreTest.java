@@ -0,0 +1,87 @@
+package com.tena.sbcommunity2021.global.session;
+
+import com.tena.sbcommunity2021.test.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.servlet.http.Cookie;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * DB 세션 저장소 (app.session.store=jdbc)
+ */
+@TestPropertySource(properties = "app.session.store=jdbc")
+public class JdbcSessionStoreTest extends IntegrationTest {
+
+	@Autowired
+	SessionRecordRepository sessionRecordRepository;
+
+	private Cookie sessionCookie;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		mockMvc.perform(post("/accounts/new")
+				.param("username", "session")
+				.param("password", "password1234")
+				.param("name", "name")
+				.param("nickname", "nickname")
+				.param("mobileNumber", "010-0000-0000")
+				.param("email", "session@test.com"))
+				.andExpect(status().isCreated());
+
+		sessionCookie = mockMvc.perform(post("/login")
+				.param("username", "session")
+				.param("password", "password1234"))
+				.andExpect(jsonPath("resultCode").value("S-1"))
+				.andReturn().getResponse().getCookie("SESSION");
+	}
+
+	@Test
+	@DisplayName("로그인하면 세션 테이블에 회원 번호만 저장 (회원 정보 전체를 직렬화하지 않음)")
+	void login() {
+		final SessionRecord record = sessionRecordRepository.findById(sessionId()).orElseThrow();
+
+		assertThat(record.getAccountId()).isNotNull();
+		assertThat(record.getAuthLevel()).isEqualTo(3);
+		assertThat(record.getAttributes()).isNull();
+	}
+
+	@Test
+	@DisplayName("세션이 바뀌지 않은 요청은 세션 테이블을 조회, 저장하지 않음 (최근 확인한 세션은 메모리에서 확인)")
+	void authenticated() throws Exception {
+		final List<String> statements = statementCounter.record(() -> mockMvc.perform(post("/articles/new").cookie(sessionCookie)
+				.param("title", "제목")
+				.param("content", "내용"))
+				.andExpect(status().isCreated()));
+
+		assertThat(statements).containsExactly("ArticleRepository.save");
+	}
+
+	@Test
+	@DisplayName("로그아웃하면 세션 테이블에서 삭제")
+	void logout() throws Exception {
+		mockMvc.perform(post("/logout").cookie(sessionCookie))
+				.andExpect(jsonPath("resultCode").value("S-2"));
+
+		assertThat(sessionRecordRepository.findById(sessionId())).isEmpty();
+
+		mockMvc.perform(post("/articles/new").cookie(sessionCookie)
+				.param("title", "제목")
+				.param("content", "내용"))
+				.andExpect(status().isUnauthorized());
+	}
+
+	private String sessionId() {
+		return new String(Base64.getDecoder().decode(sessionCookie.getValue()), StandardCharsets.UTF_8); // 세션 쿠키 값은 Base64 로 인코딩된 세션 ID
+	}
+
+}
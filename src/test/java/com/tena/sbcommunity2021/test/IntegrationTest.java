@@ -2,7 +2,6 @@ package com.tena.sbcommunity2021.test;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Disabled;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -15,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
  * - 통합 테스트의 Base 클래스
  * - 모든 Bean 을 올리고 테스트 진행
  * - 요청부터 응답까지의 전체 플로우 테스트
+ * - 요청별 실행 구문 수는 statementCounter 로 확인
  */
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -30,6 +30,6 @@ public class IntegrationTest {
 	protected ObjectMapper objectMapper;
 
 	@Autowired
-	protected ModelMapper modelMapper;
+	protected StatementCounter statementCounter;
 
 }
\ No newline at end of file
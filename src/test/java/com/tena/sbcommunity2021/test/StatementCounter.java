@@ -0,0 +1,100 @@
+package com.tena.sbcommunity2021.test;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+/**
+ * 요청별 실행 구문 수 확인 (테스트용 MyBatis 플러그인)
+ * - 실제로 DB 에 보낸 구문만 기록 (StatementHandler.prepare, MyBatis 로컬 캐시로 처리된 조회는 제외)
+ * - 기록을 시작한 스레드의 구문만 기록 (MockMvc 요청은 테스트 스레드에서 처리되므로, 스케줄러 등 다른 스레드의 구문은 섞이지 않음)
+ * - 기록 시작 전에 MyBatis 로컬 캐시를 비움 (@Transactional 테스트에서는 요청들이 같은 SqlSession 을 쓰므로, 이전 요청의 조회 결과가 재사용되지 않도록)
+ *
+ * 사용법
+ * - statementCounter.expectAtMost(1, () -> mockMvc.perform(get("/articles/{id}", id)))
+ *   : 요청 처리 중 실행된 구문이 1개를 넘으면 실행된 구문 목록과 함께 실패
+ */
+@Profile("test")
+@Component
+@Intercepts(@Signature(type = StatementHandler.class, method = "prepare", args = {Connection.class, Integer.class}))
+@RequiredArgsConstructor
+public class StatementCounter implements Interceptor {
+
+	private final ObjectProvider<SqlSessionTemplate> sqlSessionTemplate; // 플러그인은 SqlSessionFactory 보다 먼저 생성되므로 사용할 때 조회
+
+	private final ThreadLocal<List<String>> recording = new ThreadLocal<>();
+
+	@Override
+	public Object intercept(Invocation invocation) throws Throwable {
+		final List<String> statements = recording.get();
+
+		if (statements != null) {
+			statements.add(statementId((StatementHandler) invocation.getTarget()));
+		}
+
+		return invocation.proceed();
+	}
+
+	/**
+	 * action 을 실행하는 동안 DB 에 보낸 구문 ID 목록 (실행 순서)
+	 */
+	public List<String> record(Callable<?> action) throws Exception {
+		final List<String> statements = new ArrayList<>();
+		sqlSessionTemplate.ifAvailable(SqlSessionTemplate::clearCache); // 현재 트랜잭션의 SqlSession 로컬 캐시
+		recording.set(statements);
+
+		try {
+			action.call();
+		} finally {
+			recording.remove();
+		}
+
+		return statements;
+	}
+
+	/**
+	 * action 을 실행하는 동안 DB 에 보낸 구문이 budget 개 이하인지 확인
+	 * @return action 의 실행 결과 (Ex. MockMvc 의 ResultActions)
+	 * @throws AssertionError 구문이 budget 개를 넘은 경우
+	 */
+	public <T> T expectAtMost(int budget, Callable<T> action) throws Exception {
+		final List<T> result = new ArrayList<>(1);
+		final List<String> statements = record(() -> result.add(action.call()));
+
+		if (statements.size() > budget) {
+			throw new AssertionError(String.format("실행 구문 수 초과 : 최대 %d개, 실제 %d개%n%s", budget, statements.size(),
+					statements.stream().map(statement -> " - " + statement).collect(Collectors.joining(System.lineSeparator()))));
+		}
+
+		return result.get(0);
+	}
+
+	/**
+	 * 구문 ID 의 짧은 이름 (Ex. ArticleRepository.findById), RoutingStatementHandler 가 감싼 실제 핸들러의 MappedStatement 에서 조회
+	 */
+	private static String statementId(StatementHandler statementHandler) {
+		final MetaObject metaObject = SystemMetaObject.forObject(statementHandler);
+		final String property = metaObject.hasGetter("delegate") ? "delegate.mappedStatement" : "mappedStatement";
+		final String id = ((MappedStatement) metaObject.getValue(property)).getId();
+
+		final int methodDot = id.lastIndexOf('.');
+		return id.substring(id.lastIndexOf('.', methodDot - 1) + 1);
+	}
+
+}
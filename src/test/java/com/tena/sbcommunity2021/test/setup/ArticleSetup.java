@@ -15,13 +15,15 @@ public class ArticleSetup {
 	@Autowired ArticleRepository articleRepository;
 	@Autowired ArticleService articleService;
 
+	public static final Long ACCOUNT_ID = 1L; // 작성자 회원 번호
+
 	public Article createArticle() {
 		final ArticleDto.Save dto = ArticleDto.Save.builder()
 				.title("제목")
 				.content("내용")
 				.build();
 
-		return articleService.createArticle(dto);
+		return articleService.createArticle(ACCOUNT_ID, dto);
 	}
 
 	public void deleteAllArticles() {
@@ -2,17 +2,20 @@
 INSERT INTO article
 SET regDate    = NOW(),
     updateDate = NOW(),
+    accountId  = 1,
     title      = '제목 1',
     content     = '내용 1';
 
 INSERT INTO article
 SET regDate    = NOW(),
     updateDate = NOW(),
+    accountId  = 1,
     title      = '제목 2',
     content     = '내용 2';
 
 INSERT INTO article
 SET regDate    = NOW(),
     updateDate = NOW(),
+    accountId  = 1,
     title      = '제목 3',
     content     = '내용 3';
\ No newline at end of file
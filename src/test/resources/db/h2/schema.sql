@@ -1,5 +1,23 @@
 -- H2 내장 인메모리 데이터베이스 사용 (테스트 시)
 
+-- # 계정 테이블 생성
+DROP TABLE IF EXISTS account;
+CREATE TABLE account
+(
+    id           INT(10) UNSIGNED    NOT NULL PRIMARY KEY AUTO_INCREMENT,
+    regDate      DATETIME            NOT NULL,
+    updateDate   DATETIME            NOT NULL,
+    username     CHAR(20) UNIQUE     NOT NULL,
+    `password`   CHAR(60)            NOT NULL,
+    authLevel    SMALLINT(2) UNSIGNED         DEFAULT 3,
+    `name`       CHAR(20)            NOT NULL,
+    nickname     CHAR(20)            NOT NULL,
+    mobileNumber CHAR(20)            NOT NULL,
+    email        CHAR(50) UNIQUE     NOT NULL,
+    delStatus    TINYINT(1) UNSIGNED NOT NULL DEFAULT 0,
+    delDate      DATETIME
+);
+
 -- # 게시물 테이블 생성
 DROP TABLE IF EXISTS article;
 CREATE TABLE article
@@ -7,6 +25,32 @@ CREATE TABLE article
     id         INT(10) UNSIGNED NOT NULL PRIMARY KEY AUTO_INCREMENT,
     regDate    DATETIME         NOT NULL,
     updateDate DATETIME         NOT NULL,
+    accountId  INT(10) UNSIGNED NOT NULL,
+    hits       INT(10) UNSIGNED NOT NULL DEFAULT 0,
+    version    INT(10) UNSIGNED NOT NULL DEFAULT 0,
     title      CHAR(100)        NOT NULL,
     content     TEXT             NOT NULL
 );
+
+-- # 게시물 번호 블록 할당용 테이블 (쓰기 지연 모드)
+DROP TABLE IF EXISTS article_id_sequence;
+CREATE TABLE article_id_sequence
+(
+    nextId INT(10) UNSIGNED NOT NULL
+);
+INSERT INTO article_id_sequence SET nextId = 1;
+
+-- # 세션 테이블 생성 (app.session.store=jdbc 인 경우 사용)
+DROP TABLE IF EXISTS http_session;
+CREATE TABLE http_session
+(
+    sessionId           CHAR(36)             NOT NULL PRIMARY KEY,
+    creationTime        BIGINT               NOT NULL,
+    lastAccessTime      BIGINT               NOT NULL,
+    maxInactiveInterval INT                  NOT NULL,
+    expiryTime          BIGINT               NOT NULL,
+    accountId           INT(10) UNSIGNED,
+    authLevel           SMALLINT(2) UNSIGNED,
+    attributes          BLOB
+);
+CREATE INDEX http_session_expiryTime ON http_session (expiryTime); -- 만료된 세션 정리